@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.search.entities.RoleEntity;
+import io.camunda.service.TenantServices.TenantDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Caches the users resolved by the {@link CamundaUserDetailsService}, keyed by username, such that
+ * repeated requests of the same user don't hit the search backend every time.
+ *
+ * <p>Only the resolved data is cached, never the {@link
+ * io.camunda.authentication.entity.CamundaUser} itself, as Spring erases its credentials after the
+ * authentication. Entries expire after the configured TTL, which bounds how long changes done on
+ * other nodes remain invisible; changes done through this node invalidate the cache as soon as the
+ * broker confirms them, see {@link UserCacheInvalidationListener}.
+ *
+ * <p>As changes only become visible in the search backend once they are exported, caching is
+ * paused for one TTL after an invalidation. Otherwise, a lookup racing with the export would cache
+ * the outdated user again.
+ */
+public final class CamundaUserCache {
+
+  private static final String METRIC_PREFIX = "camunda.authentication.user.cache";
+
+  /** The number of search calls the {@link CamundaUserDetailsService} needs to resolve a user. */
+  private static final int SEARCH_CALLS_PER_RESOLUTION = 4;
+
+  private final Cache<String, ResolvedUser> cache;
+  private final Counter avoidedSearchCalls;
+  private final long ttlNanos;
+  private volatile long pausedUntilNanos = System.nanoTime();
+
+  public CamundaUserCache(
+      final Duration ttl, final long maxSize, final MeterRegistry meterRegistry) {
+    ttlNanos = ttl.toNanos();
+    cache = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_PREFIX);
+    avoidedSearchCalls =
+        Counter.builder(METRIC_PREFIX + ".avoided.search.calls")
+            .description("Number of search calls avoided by resolving users from the cache")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Returns the cached user with the given name, or resolves and caches it if absent. Exceptions
+   * thrown by the resolver are propagated and nothing is cached.
+   */
+  public ResolvedUser get(final String username, final Function<String, ResolvedUser> resolver) {
+    if (System.nanoTime() - pausedUntilNanos < 0) {
+      return resolver.apply(username);
+    }
+
+    final var resolved = new boolean[1];
+    final var user =
+        cache.get(
+            username,
+            key -> {
+              resolved[0] = true;
+              return resolver.apply(key);
+            });
+
+    if (!resolved[0]) {
+      avoidedSearchCalls.increment(SEARCH_CALLS_PER_RESOLUTION);
+    }
+    return user;
+  }
+
+  /**
+   * Invalidates all cached users. Used whenever users, roles, tenants, groups or authorizations
+   * change, since a single change may affect any number of users.
+   */
+  public void invalidateAll() {
+    pausedUntilNanos = System.nanoTime() + ttlNanos;
+    cache.invalidateAll();
+  }
+
+  public record ResolvedUser(
+      Long userKey,
+      String name,
+      String username,
+      String password,
+      String email,
+      List<String> authorizedApplications,
+      List<RoleEntity> roles,
+      List<TenantDTO> tenants) {}
+}
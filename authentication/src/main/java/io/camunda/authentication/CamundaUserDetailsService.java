@@ -9,6 +9,7 @@ package io.camunda.authentication;
 
 import static io.camunda.authentication.entity.CamundaUser.CamundaUserBuilder.aCamundaUser;
 
+import io.camunda.authentication.CamundaUserCache.ResolvedUser;
 import io.camunda.search.query.RoleQuery;
 import io.camunda.search.query.SearchQueryBuilders;
 import io.camunda.service.AuthorizationServices;
@@ -28,20 +29,52 @@ public class CamundaUserDetailsService implements UserDetailsService {
   private final AuthorizationServices authorizationServices;
   private final RoleServices roleServices;
   private final TenantServices tenantServices;
+  private final CamundaUserCache userCache;
 
   public CamundaUserDetailsService(
       final UserServices userServices,
       final AuthorizationServices authorizationServices,
       final RoleServices roleServices,
       final TenantServices tenantServices) {
+    this(userServices, authorizationServices, roleServices, tenantServices, null);
+  }
+
+  /**
+   * @param userCache the cache of resolved users, or null to resolve the user on every call
+   */
+  public CamundaUserDetailsService(
+      final UserServices userServices,
+      final AuthorizationServices authorizationServices,
+      final RoleServices roleServices,
+      final TenantServices tenantServices,
+      final CamundaUserCache userCache) {
     this.userServices = userServices;
     this.authorizationServices = authorizationServices;
     this.roleServices = roleServices;
     this.tenantServices = tenantServices;
+    this.userCache = userCache;
   }
 
   @Override
   public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
+    final var user =
+        userCache != null ? userCache.get(username, this::resolveUser) : resolveUser(username);
+
+    // always build a new user, as its credentials are erased once the authentication completed
+    return aCamundaUser()
+        .withUserKey(user.userKey())
+        .withName(user.name())
+        .withUsername(user.username())
+        .withPassword(user.password())
+        .withEmail(user.email())
+        .withAuthorizedApplications(user.authorizedApplications())
+        .withRoles(user.roles())
+        .withTenants(user.tenants())
+        .withCanLogout(true)
+        .build();
+  }
+
+  private ResolvedUser resolveUser(final String username) {
     final var userQuery =
         SearchQueryBuilders.userSearchQuery(
             fn -> fn.filter(f -> f.username(username)).page(p -> p.size(1)));
@@ -66,16 +99,14 @@ public class CamundaUserDetailsService implements UserDetailsService {
                         entity.key(), entity.tenantId(), entity.name(), entity.description()))
             .toList();
 
-    return aCamundaUser()
-        .withUserKey(userKey)
-        .withName(storedUser.name())
-        .withUsername(storedUser.username())
-        .withPassword(storedUser.password())
-        .withEmail(storedUser.email())
-        .withAuthorizedApplications(authorizedApplications)
-        .withRoles(roles)
-        .withTenants(tenants)
-        .withCanLogout(true)
-        .build();
+    return new ResolvedUser(
+        userKey,
+        storedUser.name(),
+        storedUser.username(),
+        storedUser.password(),
+        storedUser.email(),
+        authorizedApplications,
+        roles,
+        tenants);
   }
 }
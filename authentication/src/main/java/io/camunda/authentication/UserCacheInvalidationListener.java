@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.authentication;
+
+import io.camunda.zeebe.broker.client.api.BrokerResponseListener;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Invalidates the {@link CamundaUserCache} whenever the broker confirms a command which changed
+ * users, roles, tenants, groups, mapping rules or authorizations, based on the value type of the
+ * written record. As it listens to the broker client, it catches every change done through this
+ * node, regardless of the API it was requested with.
+ */
+public final class UserCacheInvalidationListener implements BrokerResponseListener {
+
+  private static final Set<ValueType> IDENTITY_VALUE_TYPES =
+      EnumSet.of(
+          ValueType.USER,
+          ValueType.ROLE,
+          ValueType.TENANT,
+          ValueType.GROUP,
+          ValueType.MAPPING,
+          ValueType.AUTHORIZATION);
+
+  private final CamundaUserCache userCache;
+
+  public UserCacheInvalidationListener(final CamundaUserCache userCache) {
+    this.userCache = userCache;
+  }
+
+  @Override
+  public void onResponse(final BrokerRequest<?> request, final BrokerResponse<?> response) {
+    if (request instanceof final BrokerExecuteCommand<?> command
+        && IDENTITY_VALUE_TYPES.contains(command.getValueType())) {
+      userCache.invalidateAll();
+    }
+  }
+}
@@ -10,8 +10,10 @@ package io.camunda.authentication.config;
 import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
 import com.google.common.collect.Sets;
+import io.camunda.authentication.CamundaUserCache;
 import io.camunda.authentication.CamundaUserDetailsService;
 import io.camunda.authentication.ConditionalOnAuthenticationMethod;
+import io.camunda.authentication.UserCacheInvalidationListener;
 import io.camunda.authentication.filters.TenantRequestAttributeFilter;
 import io.camunda.authentication.handler.AuthFailureHandler;
 import io.camunda.authentication.handler.CustomMethodSecurityExpressionHandler;
@@ -22,6 +24,8 @@ import io.camunda.service.AuthorizationServices;
 import io.camunda.service.RoleServices;
 import io.camunda.service.TenantServices;
 import io.camunda.service.UserServices;
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Arrays;
@@ -91,15 +95,30 @@ public class WebSecurityConfig {
     return new CustomMethodSecurityExpressionHandler(authorizationServices);
   }
 
+  @Bean
+  @ConditionalOnAuthenticationMethod(AuthenticationMethod.BASIC)
+  public CamundaUserCache camundaUserCache(
+      final SecurityConfiguration securityConfiguration,
+      final MeterRegistry meterRegistry,
+      final BrokerClient brokerClient) {
+    final var basicCfg = securityConfiguration.getAuthentication().getBasic();
+    final var userCache =
+        new CamundaUserCache(
+            basicCfg.getUserCacheTtl(), basicCfg.getUserCacheMaxSize(), meterRegistry);
+    brokerClient.addResponseListener(new UserCacheInvalidationListener(userCache));
+    return userCache;
+  }
+
   @Bean
   @ConditionalOnAuthenticationMethod(AuthenticationMethod.BASIC)
   public CamundaUserDetailsService camundaUserDetailsService(
       final UserServices userServices,
       final AuthorizationServices authorizationServices,
       final RoleServices roleServices,
-      final TenantServices tenantServices) {
+      final TenantServices tenantServices,
+      final CamundaUserCache camundaUserCache) {
     return new CamundaUserDetailsService(
-        userServices, authorizationServices, roleServices, tenantServices);
+        userServices, authorizationServices, roleServices, tenantServices, camundaUserCache);
   }
 
   @Bean
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.authentication.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compresses the attributes serialized by another converter. Serialized security contexts are
+ * large and very redundant (class descriptors, tokens, claims), so this considerably reduces the
+ * size of the persistent sessions which are written and read.
+ *
+ * <p>Compressed values are prefixed with a marker byte, such that uncompressed values, e.g. small
+ * ones or those written by previous versions, can still be read. This relies on the wrapped
+ * converter never producing values starting with that marker, which holds for Java serialization,
+ * as its streams always start with {@code 0xACED}.
+ */
+public final class CompressingWebSessionAttributeConverter implements WebSessionAttributeConverter {
+
+  private static final byte DEFLATED_MARKER = 0x01;
+  private static final int MIN_COMPRESSIBLE_SIZE = 256;
+
+  private final WebSessionAttributeConverter delegate;
+
+  public CompressingWebSessionAttributeConverter(final WebSessionAttributeConverter delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Object deserialize(final byte[] value) {
+    if (value != null && value.length > 0 && value[0] == DEFLATED_MARKER) {
+      return delegate.deserialize(inflate(value));
+    }
+    return delegate.deserialize(value);
+  }
+
+  @Override
+  public byte[] serialize(final Object value) {
+    final var serialized = delegate.serialize(value);
+    if (serialized == null || serialized.length < MIN_COMPRESSIBLE_SIZE) {
+      return serialized;
+    }
+
+    final var deflated = deflate(serialized);
+    return deflated.length < serialized.length ? deflated : serialized;
+  }
+
+  private static byte[] deflate(final byte[] value) {
+    final var output = new ByteArrayOutputStream(value.length / 2);
+    output.write(DEFLATED_MARKER);
+    try (final var deflater = new DeflaterOutputStream(output)) {
+      deflater.write(value);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] inflate(final byte[] value) {
+    try (final var inflater =
+        new InflaterInputStream(new ByteArrayInputStream(value, 1, value.length - 1))) {
+      return inflater.readAllBytes();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -22,6 +22,7 @@ public class WebSession implements Session {
 
   private final MapSession delegate;
   private boolean changed;
+  private boolean lastAccessedTimeChanged;
   private boolean polling;
 
   public WebSession(final String sessionId) {
@@ -30,11 +31,20 @@ public class WebSession implements Session {
   }
 
   boolean isChanged() {
-    return changed;
+    return changed || lastAccessedTimeChanged;
+  }
+
+  /**
+   * @return true if the session was only touched, e.g. by a request, such that persisting it can be
+   *     deferred
+   */
+  boolean isOnlyLastAccessedTimeChanged() {
+    return !changed && lastAccessedTimeChanged;
   }
 
   void clearChangeFlag() {
     changed = false;
+    lastAccessedTimeChanged = false;
   }
 
   @Override
@@ -135,7 +145,7 @@ public class WebSession implements Session {
   public void setLastAccessedTime(final Instant lastAccessedTime) {
     if (!polling) {
       delegate.setLastAccessedTime(lastAccessedTime);
-      changed = true;
+      lastAccessedTimeChanged = true;
     }
   }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.authentication.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.camunda.search.entities.PersistentWebSessionEntity;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.session.MapSession;
+
+/**
+ * In-memory near-cache of persistent web sessions, such that not every request has to load and
+ * deserialize its session from the secondary storage.
+ *
+ * <p>Sessions are cached slightly shorter than their max inactive interval, so that an instance
+ * eventually picks up changes made by other instances, e.g. a logout. Sessions which are in use are
+ * revalidated more often, when their deferred last accessed time is written, see {@link
+ * WebSessionRepository#flushLastAccessedTimes()}.
+ */
+public class WebSessionCache {
+
+  public static final long DEFAULT_MAX_SIZE = 10_000;
+  static final Duration EXPIRATION_MARGIN = Duration.ofMinutes(1);
+
+  private final Cache<String, CachedWebSession> sessions;
+  private final Set<String> pendingLastAccessedTimes = ConcurrentHashMap.newKeySet();
+
+  public WebSessionCache(final long maxSize) {
+    sessions =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new WebSessionExpiry()).build();
+  }
+
+  public CachedWebSession get(final String sessionId) {
+    return sessions.getIfPresent(sessionId);
+  }
+
+  public void put(
+      final PersistentWebSessionEntity persistentWebSessionEntity,
+      final Map<String, Object> attributes) {
+    sessions.put(
+        persistentWebSessionEntity.id(),
+        new CachedWebSession(persistentWebSessionEntity, Map.copyOf(attributes)));
+    pendingLastAccessedTimes.remove(persistentWebSessionEntity.id());
+  }
+
+  /**
+   * Updates the last accessed time of the cached session, and remembers to persist it later.
+   *
+   * @return true if the session is cached and the update was deferred, false otherwise
+   */
+  public boolean deferLastAccessedTime(final String sessionId, final Instant lastAccessedTime) {
+    final var updated =
+        sessions
+            .asMap()
+            .computeIfPresent(
+                sessionId,
+                (id, cached) ->
+                    new CachedWebSession(
+                        withLastAccessedTime(cached.persistentWebSession(), lastAccessedTime),
+                        cached.attributes()));
+    if (updated == null) {
+      return false;
+    }
+
+    pendingLastAccessedTimes.add(sessionId);
+    return true;
+  }
+
+  /** Returns and forgets the ids of all sessions whose last accessed time was deferred. */
+  public List<String> drainPendingLastAccessedTimes() {
+    final var sessionIds = new ArrayList<String>(pendingLastAccessedTimes.size());
+    for (final var sessionId : pendingLastAccessedTimes) {
+      if (pendingLastAccessedTimes.remove(sessionId)) {
+        sessionIds.add(sessionId);
+      }
+    }
+    return sessionIds;
+  }
+
+  public void invalidate(final String sessionId) {
+    sessions.invalidate(sessionId);
+    pendingLastAccessedTimes.remove(sessionId);
+  }
+
+  static PersistentWebSessionEntity withLastAccessedTime(
+      final PersistentWebSessionEntity persistentWebSessionEntity, final Instant lastAccessedTime) {
+    return new PersistentWebSessionEntity(
+        persistentWebSessionEntity.id(),
+        persistentWebSessionEntity.creationTime(),
+        lastAccessedTime.toEpochMilli(),
+        persistentWebSessionEntity.maxInactiveIntervalInSeconds(),
+        persistentWebSessionEntity.attributes());
+  }
+
+  /**
+   * A persistent session as it was last read or written, together with its deserialized
+   * attributes. The attributes are shared between all requests of the session, like with {@link
+   * org.springframework.session.MapSessionRepository}.
+   */
+  public record CachedWebSession(
+      PersistentWebSessionEntity persistentWebSession, Map<String, Object> attributes) {}
+
+  private static final class WebSessionExpiry implements Expiry<String, CachedWebSession> {
+
+    @Override
+    public long expireAfterCreate(
+        final String sessionId, final CachedWebSession cached, final long currentTime) {
+      return timeToLive(cached);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        final String sessionId,
+        final CachedWebSession cached,
+        final long currentTime,
+        final long currentDuration) {
+      return timeToLive(cached);
+    }
+
+    @Override
+    public long expireAfterRead(
+        final String sessionId,
+        final CachedWebSession cached,
+        final long currentTime,
+        final long currentDuration) {
+      return currentDuration;
+    }
+
+    private long timeToLive(final CachedWebSession cached) {
+      final var maxInactiveInterval =
+          Optional.ofNullable(cached.persistentWebSession().maxInactiveIntervalInSeconds())
+              .map(Duration::ofSeconds)
+              .orElse(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL);
+      final var timeToLive = maxInactiveInterval.minus(EXPIRATION_MARGIN);
+      return timeToLive.isNegative() ? 0 : timeToLive.toNanos();
+    }
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.authentication.session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class WebSessionFlushTask implements Runnable {
+
+  public static final int FLUSH_LAST_ACCESSED_TIMES_DELAY = 1_000 * 10;
+  private static final Logger LOGGER = LoggerFactory.getLogger(WebSessionFlushTask.class);
+  private final WebSessionRepository webSessionRepository;
+
+  public WebSessionFlushTask(final WebSessionRepository webSessionRepository) {
+    this.webSessionRepository = webSessionRepository;
+  }
+
+  @Override
+  public void run() {
+    try {
+      webSessionRepository.flushLastAccessedTimes();
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to flush last accessed times of web sessions: {}", e.getMessage(), e);
+    }
+  }
+}
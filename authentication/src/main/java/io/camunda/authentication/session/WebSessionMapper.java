@@ -43,25 +43,37 @@ public class WebSessionMapper {
   public WebSession fromPersistentWebSession(
       final PersistentWebSessionEntity persistentWebSessionEntity) {
     try {
-      final var sessionId = persistentWebSessionEntity.id();
-      final var creationTime = persistentWebSessionEntity.creationTime();
-      final var lastAccessedTime = persistentWebSessionEntity.lastAccessedTime();
-      final var maxInactiveIntervalInSeconds =
-          persistentWebSessionEntity.maxInactiveIntervalInSeconds();
       final var attributes = deserializeSessionAttributes(persistentWebSessionEntity);
-
-      final var webSession = new WebSession(sessionId);
-      webSession.setCreationTime(toInstant(creationTime));
-      webSession.setLastAccessedTime(toInstant(lastAccessedTime));
-      webSession.setMaxInactiveInterval(toDuration(maxInactiveIntervalInSeconds));
-      attributes.forEach(webSession::setAttribute);
-      return webSession;
+      return fromPersistentWebSession(persistentWebSessionEntity, attributes);
     } catch (final Exception e) {
       LOGGER.error("The persistent session could not be restored.", e);
       return null;
     }
   }
 
+  /**
+   * Restores a web session from the given persistent session, using already deserialized
+   * attributes instead of the serialized ones of the persistent session.
+   */
+  public WebSession fromPersistentWebSession(
+      final PersistentWebSessionEntity persistentWebSessionEntity,
+      final Map<String, Object> attributes) {
+    final var sessionId = persistentWebSessionEntity.id();
+    final var creationTime = persistentWebSessionEntity.creationTime();
+    final var lastAccessedTime = persistentWebSessionEntity.lastAccessedTime();
+    final var maxInactiveIntervalInSeconds =
+        persistentWebSessionEntity.maxInactiveIntervalInSeconds();
+
+    final var webSession = new WebSession(sessionId);
+    webSession.setCreationTime(toInstant(creationTime));
+    webSession.setLastAccessedTime(toInstant(lastAccessedTime));
+    webSession.setMaxInactiveInterval(toDuration(maxInactiveIntervalInSeconds));
+    attributes.forEach(webSession::setAttribute);
+    // the restored session matches the persistent one, so only later changes need to be saved
+    webSession.clearChangeFlag();
+    return webSession;
+  }
+
   private Map<String, byte[]> serializeSessionAttributes(final WebSession webSession) {
     final var serializedAttributes = new HashMap<String, byte[]>();
     final var attributeNames = webSession.getAttributeNames();
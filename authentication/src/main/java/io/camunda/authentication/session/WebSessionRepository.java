@@ -7,11 +7,18 @@
  */
 package io.camunda.authentication.session;
 
+import com.google.common.util.concurrent.Striped;
+import io.camunda.authentication.session.WebSessionCache.CachedWebSession;
 import io.camunda.search.clients.PersistentWebSessionClient;
 import io.camunda.search.entities.PersistentWebSessionEntity;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.locks.Lock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.session.SessionRepository;
@@ -20,18 +27,35 @@ public class WebSessionRepository implements SessionRepository<WebSession> {
 
   public static final Logger LOGGER = LoggerFactory.getLogger(WebSessionRepository.class);
   private static final String POLLING_HEADER = "x-is-polling";
+  private static final int LOCK_STRIPES = 64;
 
   private final PersistentWebSessionClient persistentWebSessionClient;
   private final WebSessionMapper webSessionMapper;
   private final HttpServletRequest request;
+  private final WebSessionCache webSessionCache;
+  // serializes writes of the same session, such that deferred writes never overwrite newer ones
+  private final Striped<Lock> writeLocks = Striped.lock(LOCK_STRIPES);
 
   public WebSessionRepository(
       final PersistentWebSessionClient persistentWebSessionClient,
       final WebSessionMapper webSessionMapper,
       final HttpServletRequest request) {
+    this(
+        persistentWebSessionClient,
+        webSessionMapper,
+        request,
+        new WebSessionCache(WebSessionCache.DEFAULT_MAX_SIZE));
+  }
+
+  public WebSessionRepository(
+      final PersistentWebSessionClient persistentWebSessionClient,
+      final WebSessionMapper webSessionMapper,
+      final HttpServletRequest request,
+      final WebSessionCache webSessionCache) {
     this.persistentWebSessionClient = persistentWebSessionClient;
     this.webSessionMapper = webSessionMapper;
     this.request = request;
+    this.webSessionCache = webSessionCache;
   }
 
   @Override
@@ -60,7 +84,6 @@ public class WebSessionRepository implements SessionRepository<WebSession> {
     LOGGER.debug("Retrieve session {}", id);
     return Optional.ofNullable(id)
         .filter(this::isSessionIdNotEmpty)
-        .map(persistentWebSessionClient::getPersistentWebSession)
         .map(this::getWebSessionIfNotExpired)
         .orElse(null);
   }
@@ -70,7 +93,34 @@ public class WebSessionRepository implements SessionRepository<WebSession> {
     LOGGER.debug("Delete session {}", id);
     Optional.ofNullable(id)
         .filter(this::isSessionIdNotEmpty)
-        .ifPresent(persistentWebSessionClient::deletePersistentWebSession);
+        .ifPresent(
+            sessionId -> {
+              final var lock = writeLocks.get(sessionId);
+              lock.lock();
+              try {
+                webSessionCache.invalidate(sessionId);
+                persistentWebSessionClient.deletePersistentWebSession(sessionId);
+              } finally {
+                lock.unlock();
+              }
+            });
+  }
+
+  /**
+   * Writes the deferred last accessed times of all sessions which were used since the last flush.
+   * Each session is read again before writing, to not resurrect sessions which were deleted by
+   * another instance in the meantime, and to drop cached sessions which were changed elsewhere.
+   */
+  public void flushLastAccessedTimes() {
+    for (final var sessionId : webSessionCache.drainPendingLastAccessedTimes()) {
+      final var lock = writeLocks.get(sessionId);
+      lock.lock();
+      try {
+        flushLastAccessedTime(sessionId);
+      } finally {
+        lock.unlock();
+      }
+    }
   }
 
   public void deleteExpiredWebSessions() {
@@ -97,12 +147,55 @@ public class WebSessionRepository implements SessionRepository<WebSession> {
   }
 
   private void saveWebSessionIfChanged(final WebSession webSession) {
-    if (webSession.isChanged()) {
-      LOGGER.debug("Web Session {} changed, save in storage.", webSession);
-      Optional.of(webSession)
-          .map(webSessionMapper::toPersistentWebSession)
-          .ifPresent(persistentWebSessionClient::upsertPersistentWebSession);
+    if (!webSession.isChanged()) {
+      return;
+    }
+
+    if (webSession.isOnlyLastAccessedTimeChanged()
+        && webSessionCache.deferLastAccessedTime(
+            webSession.getId(), webSession.getLastAccessedTime())) {
+      LOGGER.trace("Web Session {} accessed, defer saving in storage.", webSession);
+      webSession.clearChangeFlag();
+      return;
+    }
+
+    LOGGER.debug("Web Session {} changed, save in storage.", webSession);
+    final var persistentWebSession = webSessionMapper.toPersistentWebSession(webSession);
+    final var lock = writeLocks.get(webSession.getId());
+    lock.lock();
+    try {
+      persistentWebSessionClient.upsertPersistentWebSession(persistentWebSession);
+      webSessionCache.put(persistentWebSession, getAttributes(webSession));
+    } finally {
+      lock.unlock();
     }
+    webSession.clearChangeFlag();
+  }
+
+  private void flushLastAccessedTime(final String sessionId) {
+    final var cached = webSessionCache.get(sessionId);
+    if (cached == null) {
+      return;
+    }
+
+    final var stored = persistentWebSessionClient.getPersistentWebSession(sessionId);
+    if (stored == null) {
+      LOGGER.debug("Web Session {} was deleted, drop it from the cache.", sessionId);
+      webSessionCache.invalidate(sessionId);
+      return;
+    }
+
+    if (!haveSameAttributes(stored, cached.persistentWebSession())) {
+      // changed by another instance; restore it from the storage on the next request
+      webSessionCache.invalidate(sessionId);
+    }
+
+    final var lastAccessedTime =
+        Math.max(
+            Optional.ofNullable(stored.lastAccessedTime()).orElse(0L),
+            Optional.ofNullable(cached.persistentWebSession().lastAccessedTime()).orElse(0L));
+    persistentWebSessionClient.upsertPersistentWebSession(
+        WebSessionCache.withLastAccessedTime(stored, Instant.ofEpochMilli(lastAccessedTime)));
   }
 
   private Optional<WebSession> toWebSession(
@@ -110,9 +203,25 @@ public class WebSessionRepository implements SessionRepository<WebSession> {
     return Optional.of(persistentWebSessionEntity).map(webSessionMapper::fromPersistentWebSession);
   }
 
-  private WebSession getWebSessionIfNotExpired(
-      final PersistentWebSessionEntity persistentWebSessionEntity) {
-    final var webSession = toWebSession(persistentWebSessionEntity).orElse(null);
+  private WebSession getWebSessionIfNotExpired(final String sessionId) {
+    final WebSession webSession;
+    final CachedWebSession cached = webSessionCache.get(sessionId);
+    if (cached != null) {
+      webSession =
+          webSessionMapper.fromPersistentWebSession(
+              cached.persistentWebSession(), cached.attributes());
+    } else {
+      final var persistentWebSessionEntity =
+          persistentWebSessionClient.getPersistentWebSession(sessionId);
+      if (persistentWebSessionEntity == null) {
+        return null;
+      }
+      webSession = toWebSession(persistentWebSessionEntity).orElse(null);
+      if (webSession != null) {
+        webSessionCache.put(persistentWebSessionEntity, getAttributes(webSession));
+      }
+    }
+
     if (webSession != null && !webSession.shouldBeDeleted()) {
       webSession.setPolling(isPollingRequest(request));
       return webSession;
@@ -120,11 +229,32 @@ public class WebSessionRepository implements SessionRepository<WebSession> {
       // if session is expired (or has no valid authentication),
       // or the web session could not be restored,
       // then immediately delete the persistent session
-      deleteById(persistentWebSessionEntity.id());
+      deleteById(sessionId);
       return null;
     }
   }
 
+  private Map<String, Object> getAttributes(final WebSession webSession) {
+    final var attributes = new HashMap<String, Object>();
+    webSession
+        .getAttributeNames()
+        .forEach(name -> attributes.put(name, webSession.getAttribute(name)));
+    return attributes;
+  }
+
+  private boolean haveSameAttributes(
+      final PersistentWebSessionEntity left, final PersistentWebSessionEntity right) {
+    final Map<String, byte[]> leftAttributes =
+        Optional.ofNullable(left.attributes()).orElse(Map.of());
+    final Map<String, byte[]> rightAttributes =
+        Optional.ofNullable(right.attributes()).orElse(Map.of());
+    if (!leftAttributes.keySet().equals(rightAttributes.keySet())) {
+      return false;
+    }
+    return leftAttributes.entrySet().stream()
+        .allMatch(e -> Arrays.equals(e.getValue(), rightAttributes.get(e.getKey())));
+  }
+
   private boolean isPollingRequest(final HttpServletRequest request) {
     boolean isPollingRequest = false;
     try {
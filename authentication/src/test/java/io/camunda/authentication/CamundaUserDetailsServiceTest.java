@@ -10,6 +10,8 @@ package io.camunda.authentication;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.authentication.entity.CamundaUser;
@@ -21,6 +23,8 @@ import io.camunda.service.AuthorizationServices;
 import io.camunda.service.RoleServices;
 import io.camunda.service.TenantServices;
 import io.camunda.service.UserServices;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
@@ -88,4 +92,65 @@ public class CamundaUserDetailsServiceTest {
     assertThatThrownBy(() -> userDetailsService.loadUserByUsername(TEST_USER_ID))
         .isInstanceOf(UsernameNotFoundException.class);
   }
+
+  @Test
+  public void testUserDetailsIsLoadedFromCache() {
+    // given
+    final var meterRegistry = new SimpleMeterRegistry();
+    final var cachingUserDetailsService =
+        new CamundaUserDetailsService(
+            userService,
+            authorizationServices,
+            roleServices,
+            tenantServices,
+            new CamundaUserCache(Duration.ofMinutes(1), 10, meterRegistry));
+    when(userService.search(any()))
+        .thenReturn(
+            new SearchQueryResult<>(
+                1,
+                List.of(new UserEntity(100L, TEST_USER_ID, "Foo Bar", "email@tested", "password1")),
+                null,
+                null));
+
+    // when
+    final var first = (CamundaUser) cachingUserDetailsService.loadUserByUsername(TEST_USER_ID);
+    first.eraseCredentials();
+    final var second = (CamundaUser) cachingUserDetailsService.loadUserByUsername(TEST_USER_ID);
+
+    // then
+    verify(userService, times(1)).search(any());
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getPassword()).isEqualTo("password1");
+    assertThat(
+            meterRegistry
+                .get("camunda.authentication.user.cache.avoided.search.calls")
+                .counter()
+                .count())
+        .isEqualTo(4);
+  }
+
+  @Test
+  public void testUserDetailsIsResolvedAgainAfterInvalidation() {
+    // given
+    final var userCache = new CamundaUserCache(Duration.ofMinutes(1), 10, new SimpleMeterRegistry());
+    final var cachingUserDetailsService =
+        new CamundaUserDetailsService(
+            userService, authorizationServices, roleServices, tenantServices, userCache);
+    when(userService.search(any()))
+        .thenReturn(
+            new SearchQueryResult<>(
+                1,
+                List.of(new UserEntity(100L, TEST_USER_ID, "Foo Bar", "email@tested", "password1")),
+                null,
+                null));
+    cachingUserDetailsService.loadUserByUsername(TEST_USER_ID);
+
+    // when
+    userCache.invalidateAll();
+    cachingUserDetailsService.loadUserByUsername(TEST_USER_ID);
+    cachingUserDetailsService.loadUserByUsername(TEST_USER_ID);
+
+    // then - caching is paused after an invalidation, until the change is exported
+    verify(userService, times(3)).search(any());
+  }
 }
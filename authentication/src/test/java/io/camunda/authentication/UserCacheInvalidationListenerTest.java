@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.authentication.CamundaUserCache.ResolvedUser;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UserCacheInvalidationListenerTest {
+
+  private static final String USERNAME = "username1";
+
+  private final AtomicInteger resolutions = new AtomicInteger();
+  private CamundaUserCache userCache;
+  private UserCacheInvalidationListener listener;
+
+  @Before
+  public void setup() {
+    userCache = new CamundaUserCache(Duration.ofMinutes(1), 10, new SimpleMeterRegistry());
+    listener = new UserCacheInvalidationListener(userCache);
+    resolveUser();
+  }
+
+  @Test
+  public void shouldInvalidateCacheOnIdentityRecord() {
+    // when
+    listener.onResponse(commandOf(ValueType.ROLE), new BrokerResponse<>(new Object()));
+    resolveUser();
+
+    // then
+    assertThat(resolutions).hasValue(2);
+  }
+
+  @Test
+  public void shouldNotInvalidateCacheOnOtherRecords() {
+    // when
+    listener.onResponse(commandOf(ValueType.JOB), new BrokerResponse<>(new Object()));
+    resolveUser();
+
+    // then
+    assertThat(resolutions).hasValue(1);
+  }
+
+  private void resolveUser() {
+    userCache.get(
+        USERNAME,
+        username -> {
+          resolutions.incrementAndGet();
+          return new ResolvedUser(
+              1L, "Foo Bar", username, "password", "email", List.of(), List.of(), List.of());
+        });
+  }
+
+  private static BrokerExecuteCommand<?> commandOf(final ValueType valueType) {
+    final BrokerExecuteCommand<?> command = mock(BrokerExecuteCommand.class);
+    when(command.getValueType()).thenReturn(valueType);
+    return command;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.authentication.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.authentication.session.WebSessionMapper.SpringBasedWebSessionAttributeConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.GenericConversionService;
+
+class CompressingWebSessionAttributeConverterTest {
+
+  private final WebSessionAttributeConverter uncompressed =
+      new SpringBasedWebSessionAttributeConverter(new GenericConversionService());
+  private final WebSessionAttributeConverter converter =
+      new CompressingWebSessionAttributeConverter(uncompressed);
+
+  @Test
+  void shouldCompressLargeAttributes() {
+    // given
+    final var value = "camunda".repeat(200);
+
+    // when
+    final var serialized = converter.serialize(value);
+
+    // then
+    assertThat(serialized).hasSizeLessThan(uncompressed.serialize(value).length);
+    assertThat(converter.deserialize(serialized)).isEqualTo(value);
+  }
+
+  @Test
+  void shouldNotCompressSmallAttributes() {
+    // given
+    final var value = "camunda";
+
+    // when
+    final var serialized = converter.serialize(value);
+
+    // then
+    assertThat(serialized).isEqualTo(uncompressed.serialize(value));
+    assertThat(converter.deserialize(serialized)).isEqualTo(value);
+  }
+
+  @Test
+  void shouldReadUncompressedAttributes() {
+    // given
+    final var value = "camunda".repeat(200);
+
+    // when
+    final var deserialized = converter.deserialize(uncompressed.serialize(value));
+
+    // then
+    assertThat(deserialized).isEqualTo(value);
+  }
+}
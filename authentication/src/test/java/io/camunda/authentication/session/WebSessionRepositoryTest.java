@@ -135,6 +135,70 @@ class WebSessionRepositoryTest {
     assertThat(persistentWebSessionClient.getAllPersistentWebSessions()).isEmpty();
   }
 
+  @Test
+  void shouldDeferSavingLastAccessedTime() {
+    // given
+    final var webSession = webSessionRepository.createSession();
+    webSession.setLastAccessedTime(Instant.now().minusSeconds(60));
+    webSessionRepository.save(webSession);
+    final var lastAccessedTime = Instant.ofEpochMilli(System.currentTimeMillis());
+
+    // when
+    final var foundSession = webSessionRepository.findById(webSession.getId());
+    foundSession.setLastAccessedTime(lastAccessedTime);
+    webSessionRepository.save(foundSession);
+
+    // then
+    assertThat(
+            persistentWebSessionClient
+                .getPersistentWebSession(webSession.getId())
+                .lastAccessedTime())
+        .isEqualTo(webSession.getLastAccessedTime().toEpochMilli());
+    assertThat(webSessionRepository.findById(webSession.getId()).getLastAccessedTime())
+        .isEqualTo(lastAccessedTime);
+  }
+
+  @Test
+  void shouldFlushDeferredLastAccessedTime() {
+    // given
+    final var webSession = webSessionRepository.createSession();
+    webSession.setLastAccessedTime(Instant.now().minusSeconds(60));
+    webSessionRepository.save(webSession);
+    final var lastAccessedTime = Instant.ofEpochMilli(System.currentTimeMillis());
+    final var foundSession = webSessionRepository.findById(webSession.getId());
+    foundSession.setLastAccessedTime(lastAccessedTime);
+    webSessionRepository.save(foundSession);
+
+    // when
+    webSessionRepository.flushLastAccessedTimes();
+
+    // then
+    assertThat(
+            persistentWebSessionClient
+                .getPersistentWebSession(webSession.getId())
+                .lastAccessedTime())
+        .isEqualTo(lastAccessedTime.toEpochMilli());
+  }
+
+  @Test
+  void shouldNotResurrectSessionDeletedElsewhereOnFlush() {
+    // given
+    final var webSession = webSessionRepository.createSession();
+    webSession.setLastAccessedTime(Instant.now().minusSeconds(60));
+    webSessionRepository.save(webSession);
+    final var foundSession = webSessionRepository.findById(webSession.getId());
+    foundSession.setLastAccessedTime(Instant.now());
+    webSessionRepository.save(foundSession);
+
+    // when - deleted by another instance, e.g. on logout
+    persistentWebSessionClient.deletePersistentWebSession(webSession.getId());
+    webSessionRepository.flushLastAccessedTimes();
+
+    // then
+    assertThat(persistentWebSessionClient.getPersistentWebSession(webSession.getId())).isNull();
+    assertThat(webSessionRepository.findById(webSession.getId())).isNull();
+  }
+
   static final class PersistentWebSessionClientStub implements PersistentWebSessionClient {
 
     private final Map<String, PersistentWebSessionEntity> persistentWebSessions;
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.api.command;
+
+import io.camunda.client.api.response.CompleteJobsResponse;
+import java.util.Map;
+
+public interface CompleteJobsCommandStep1
+    extends CommandWithCommunicationApiStep<CompleteJobsCommandStep1> {
+
+  /**
+   * Add a job to complete without variables.
+   *
+   * @param jobKey the key which identifies the job
+   * @return the builder for this command. Call {@link #send()} to complete the command and send
+   *     it to the broker.
+   */
+  CompleteJobsCommandStep2 addJob(long jobKey);
+
+  /**
+   * Add a job to complete with the given variables.
+   *
+   * @param jobKey the key which identifies the job
+   * @param variables the variables (JSON) as String
+   * @return the builder for this command. Call {@link #send()} to complete the command and send
+   *     it to the broker.
+   */
+  CompleteJobsCommandStep2 addJob(long jobKey, String variables);
+
+  /**
+   * Add a job to complete with the given variables.
+   *
+   * @param jobKey the key which identifies the job
+   * @param variables the variables as map
+   * @return the builder for this command. Call {@link #send()} to complete the command and send
+   *     it to the broker.
+   */
+  CompleteJobsCommandStep2 addJob(long jobKey, Map<String, Object> variables);
+
+  interface CompleteJobsCommandStep2
+      extends CompleteJobsCommandStep1, FinalCommandStep<CompleteJobsResponse> {}
+}
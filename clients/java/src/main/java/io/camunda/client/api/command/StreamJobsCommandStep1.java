@@ -64,6 +64,23 @@ public interface StreamJobsCommandStep1 {
      */
     StreamJobsCommandStep3 timeout(Duration timeout);
 
+    /**
+     * Set the maximum number of jobs which are pushed to this stream without being completed,
+     * failed, or having an error thrown yet, i.e. the capacity of the consumer.
+     *
+     * <p>The gateway prefers streams with more remaining capacity when pushing jobs, and pushes no
+     * jobs to a stream which has no capacity left; these jobs can then be activated by other
+     * streams or by polling. The capacity is given back as jobs are completed, failed, or an error
+     * is thrown for them, or once their timeout passed.
+     *
+     * <p>If not set, or set to 0, the number of jobs pushed to this stream is not limited.
+     *
+     * @param maxJobsActive the maximum number of jobs in flight for this stream
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    StreamJobsCommandStep3 maxJobsActive(int maxJobsActive);
+
     /**
      * Set the name of the job worker.
      *
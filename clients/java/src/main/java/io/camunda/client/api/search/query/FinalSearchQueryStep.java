@@ -23,4 +23,12 @@ public interface FinalSearchQueryStep<T> extends FinalCommandStep<SearchQueryRes
 
   @Override
   FinalSearchQueryStep<T> requestTimeout(Duration requestTimeout);
+
+  /**
+   * Iterates over all items matching the query instead of a single page, fetching further pages
+   * with {@code searchAfter} as the items are consumed.
+   *
+   * @return an iterable over all matching items
+   */
+  SearchQueryIterable<T> iterate();
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.api.search.query;
+
+import java.util.stream.Stream;
+
+/**
+ * All items matching a search query, fetched lazily page by page. Each page after the first one is
+ * requested with the {@code searchAfter} values of the previous page, and is already requested
+ * while the items of the previous page are being consumed.
+ *
+ * <pre>
+ * camundaClient
+ *  .newIncidentQuery()
+ *  .filter(f -&gt; f.processInstanceKey(processInstanceKey))
+ *  .iterate()
+ *  .pageSize(500)
+ *  .stream()
+ *  .forEach(incident -&gt; ...);
+ * </pre>
+ *
+ * <p>Any {@code page} set on the query itself is ignored. Every call to {@link #iterator()} or
+ * {@link #stream()} runs the query again from the first page.
+ *
+ * @param <T> the type of the items
+ */
+public interface SearchQueryIterable<T> extends Iterable<T> {
+
+  /** The page size used if none is set. */
+  int DEFAULT_PAGE_SIZE = 100;
+
+  /**
+   * Sets the number of items fetched with each request.
+   *
+   * @param pageSize the number of items per page; must be greater than 0
+   * @return this iterable
+   */
+  SearchQueryIterable<T> pageSize(int pageSize);
+
+  /**
+   * Sets whether the total number of matching items is counted. Counting can be expensive for
+   * large result sets, so it is disabled by default. If enabled, only the first page is counted;
+   * the total is available through {@link SearchQueryIterator#totalItems()}.
+   *
+   * @param countTotalItems true to count the matching items
+   * @return this iterable
+   */
+  SearchQueryIterable<T> countTotalItems(boolean countTotalItems);
+
+  @Override
+  SearchQueryIterator<T> iterator();
+
+  /**
+   * @return a sequential stream over all matching items
+   */
+  Stream<T> stream();
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.api.search.query;
+
+import io.camunda.client.api.command.ClientException;
+import java.util.Iterator;
+
+/**
+ * An iterator over all items matching a search query. Requests fail with a {@link
+ * ClientException}, which is thrown by {@link #hasNext()} or {@link #next()}.
+ *
+ * @param <T> the type of the items
+ */
+public interface SearchQueryIterator<T> extends Iterator<T> {
+
+  /**
+   * @return the total number of items matching the query, or null if the items are not counted
+   *     (see {@link SearchQueryIterable#countTotalItems(boolean)}) or the first page was not
+   *     fetched yet
+   */
+  Long totalItems();
+}
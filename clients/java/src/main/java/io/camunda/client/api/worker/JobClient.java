@@ -19,6 +19,7 @@ import io.camunda.client.api.CamundaFuture;
 import io.camunda.client.api.ExperimentalApi;
 import io.camunda.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.client.api.command.FailJobCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
@@ -74,6 +75,26 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(ActivatedJob job);
 
+  /**
+   * Command to complete multiple jobs with a single request.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(jobKey1, variables)
+   *  .addJob(jobKey2)
+   *  .send();
+   * </pre>
+   *
+   * <p>The completions of all jobs of the same partition are written as a single batch, which is
+   * cheaper than sending one command per job. A job which cannot be completed does not prevent the
+   * completion of the other jobs; it is reported in the {@link
+   * io.camunda.client.api.response.CompleteJobsResponse#getFailedJobs() response} instead.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
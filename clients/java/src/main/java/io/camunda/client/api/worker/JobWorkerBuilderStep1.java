@@ -242,6 +242,24 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Collects the completions of the jobs handled by this worker, i.e. the complete commands
+     * created from the {@link JobClient} passed to the {@link JobHandler}, and sends them as a
+     * single batch request at the latest after the given linger time. This reduces the number of
+     * requests and log writes when many jobs are completed in a short time, at the cost of delaying
+     * each completion by up to the linger time.
+     *
+     * <p>Only completions sent via gRPC are batched. If the gateway does not support batch
+     * completions, the jobs are completed one by one.
+     *
+     * <p>Batching is disabled by default.
+     *
+     * @param linger the maximum time a completion is held back to be batched with others; must be
+     *     positive
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 completionBatchLinger(final Duration linger);
+
     /**
      * Open the worker and start to work on available tasks.
      *
@@ -33,6 +33,7 @@ import io.camunda.client.api.command.ClientException;
 import io.camunda.client.api.command.ClockPinCommandStep1;
 import io.camunda.client.api.command.ClockResetCommandStep1;
 import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.client.api.command.CompleteUserTaskCommandStep1;
 import io.camunda.client.api.command.CorrelateMessageCommandStep1;
 import io.camunda.client.api.command.CreateAuthorizationCommandStep1;
@@ -926,6 +927,11 @@ public final class CamundaClientImpl implements CamundaClient {
     return newCompleteCommand(job.getKey());
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return jobClient.newCompleteJobsCommand();
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return jobClient.newFailCommand(jobKey);
@@ -28,6 +28,7 @@ import io.camunda.client.impl.RetriableClientFutureImpl;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
 import io.camunda.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.client.impl.worker.JobCompletionBatcher;
 import io.camunda.client.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
@@ -61,6 +62,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultCorrections.Builder
       correctionsGrpc;
   private io.camunda.client.protocol.rest.JobResultCorrections correctionsRest;
+  private final JobCompletionBatcher completionBatcher;
 
   public CompleteJobCommandImpl(
       final GatewayStub asyncStub,
@@ -70,6 +72,30 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
       final Predicate<StatusCode> retryPredicate,
       final HttpClient httpClient,
       final boolean preferRestOverGrpc) {
+    this(
+        asyncStub,
+        jsonMapper,
+        key,
+        requestTimeout,
+        retryPredicate,
+        httpClient,
+        preferRestOverGrpc,
+        null);
+  }
+
+  /**
+   * @param completionBatcher if not null, the gRPC request is sent as part of a batch of job
+   *     completions by this batcher
+   */
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final HttpClient httpClient,
+      final boolean preferRestOverGrpc,
+      final JobCompletionBatcher completionBatcher) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
@@ -82,6 +108,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
     useRest = preferRestOverGrpc;
     jobKey = key;
     this.jsonMapper = jsonMapper;
+    this.completionBatcher = completionBatcher;
   }
 
   @Override
@@ -299,6 +326,11 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private void sendGrpcRequest(
       final CompleteJobRequest request,
       final StreamObserver<GatewayOuterClass.CompleteJobResponse> streamObserver) {
+    if (completionBatcher != null) {
+      completionBatcher.complete(request, streamObserver);
+      return;
+    }
+
     asyncStub
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .completeJob(request, streamObserver);
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.command;
+
+import io.camunda.client.CredentialsProvider.StatusCode;
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.JsonMapper;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1.CompleteJobsCommandStep2;
+import io.camunda.client.api.command.FinalCommandStep;
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.impl.RetriableClientFutureImpl;
+import io.camunda.client.impl.http.HttpCamundaFuture;
+import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.response.CompleteJobsResponseImpl;
+import io.camunda.client.protocol.rest.JobBatchCompletionItem;
+import io.camunda.client.protocol.rest.JobBatchCompletionRequest;
+import io.camunda.client.protocol.rest.JobBatchCompletionResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.hc.client5.http.config.RequestConfig;
+
+public final class CompleteJobsCommandImpl implements CompleteJobsCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final Predicate<StatusCode> retryPredicate;
+  private final CompleteJobBatchRequest.Builder grpcRequestObjectBuilder;
+  private final HttpClient httpClient;
+  private final RequestConfig.Builder httpRequestConfig;
+  private final JobBatchCompletionRequest httpRequestObject;
+  private Duration requestTimeout;
+  private boolean useRest;
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final HttpClient httpClient,
+      final boolean preferRestOverGrpc) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.retryPredicate = retryPredicate;
+    this.httpClient = httpClient;
+    grpcRequestObjectBuilder = CompleteJobBatchRequest.newBuilder();
+    httpRequestConfig = httpClient.newRequestConfig();
+    httpRequestObject = new JobBatchCompletionRequest();
+    useRest = preferRestOverGrpc;
+    requestTimeout(requestTimeout);
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 addJob(final long jobKey) {
+    grpcRequestObjectBuilder.addJobs(CompleteJobRequest.newBuilder().setJobKey(jobKey));
+    httpRequestObject.addJobsItem(new JobBatchCompletionItem().jobKey(jobKey));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 addJob(final long jobKey, final String variables) {
+    final String json = jsonMapper.validateJson("variables", variables);
+    grpcRequestObjectBuilder.addJobs(
+        CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables(json));
+    httpRequestObject.addJobsItem(
+        new JobBatchCompletionItem().jobKey(jobKey).variables(jsonMapper.fromJsonAsMap(json)));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 addJob(final long jobKey, final Map<String, Object> variables) {
+    final String json = jsonMapper.toJson(variables);
+    grpcRequestObjectBuilder.addJobs(
+        CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables(json));
+    httpRequestObject.addJobsItem(new JobBatchCompletionItem().jobKey(jobKey).variables(variables));
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<CompleteJobsResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    httpRequestConfig.setResponseTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  @Override
+  public CamundaFuture<CompleteJobsResponse> send() {
+    if (useRest) {
+      return sendRestRequest();
+    } else {
+      return sendGrpcRequest();
+    }
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 useRest() {
+    useRest = true;
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 useGrpc() {
+    useRest = false;
+    return this;
+  }
+
+  private CamundaFuture<CompleteJobsResponse> sendRestRequest() {
+    final HttpCamundaFuture<CompleteJobsResponse> result = new HttpCamundaFuture<>();
+    httpClient.post(
+        "/jobs/completion",
+        jsonMapper.toJson(httpRequestObject),
+        httpRequestConfig.build(),
+        JobBatchCompletionResponse.class,
+        CompleteJobsResponseImpl::new,
+        result);
+    return result;
+  }
+
+  private CamundaFuture<CompleteJobsResponse> sendGrpcRequest() {
+    final CompleteJobBatchRequest request = grpcRequestObjectBuilder.build();
+
+    final RetriableClientFutureImpl<
+            CompleteJobsResponse, GatewayOuterClass.CompleteJobBatchResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CompleteJobsResponseImpl::new,
+                retryPredicate,
+                streamObserver -> sendGrpcRequest(request, streamObserver));
+
+    sendGrpcRequest(request, future);
+    return future;
+  }
+
+  private void sendGrpcRequest(
+      final CompleteJobBatchRequest request,
+      final StreamObserver<GatewayOuterClass.CompleteJobBatchResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobBatch(request, streamObserver);
+  }
+}
@@ -30,8 +30,13 @@ import io.camunda.client.impl.response.ActivatedJobImpl;
 import io.camunda.client.impl.response.StreamJobsResponseImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJobBatch;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest.Builder;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.Arrays;
@@ -54,6 +59,10 @@ public final class StreamJobsCommandImpl
   private Consumer<ActivatedJob> consumer;
   private Duration requestTimeout;
 
+  // jobs are streamed in batches until the gateway turns out not to support it; the command may be
+  // sent again, e.g. by the job worker when the stream is recreated, so this is kept across sends
+  private volatile boolean streamBatches = true;
+
   private final Set<String> defaultTenantIds;
   private final Set<String> customTenantIds;
 
@@ -109,7 +118,11 @@ public final class StreamJobsCommandImpl
       stub = stub.withDeadlineAfter(requestTimeout.toNanos(), TimeUnit.NANOSECONDS);
     }
 
-    stub.streamActivatedJobs(request, observer);
+    if (streamBatches) {
+      stub.streamActivatedJobBatches(request, new JobBatchObserver(request, observer));
+    } else {
+      stub.streamActivatedJobs(request, observer);
+    }
   }
 
   @Override
@@ -131,6 +144,12 @@ public final class StreamJobsCommandImpl
     return this;
   }
 
+  @Override
+  public StreamJobsCommandStep3 maxJobsActive(final int maxJobsActive) {
+    builder.setMaxJobsActive(maxJobsActive);
+    return this;
+  }
+
   @Override
   public StreamJobsCommandStep3 workerName(final String workerName) {
     builder.setWorker(workerName);
@@ -170,4 +189,54 @@ public final class StreamJobsCommandImpl
     final ActivatedJobImpl mappedJob = new ActivatedJobImpl(jsonMapper, job);
     consumer.accept(mappedJob);
   }
+
+  /**
+   * Forwards each job of the streamed batches to the given observer, as if they were streamed one
+   * by one. If the gateway does not support streaming batches, the stream is opened again with the
+   * observer, without batches.
+   */
+  private final class JobBatchObserver
+      implements ClientResponseObserver<StreamActivatedJobsRequest, ActivatedJobBatch> {
+
+    private final StreamActivatedJobsRequest request;
+    private final StreamObserver<GatewayOuterClass.ActivatedJob> delegate;
+
+    private JobBatchObserver(
+        final StreamActivatedJobsRequest request,
+        final StreamObserver<GatewayOuterClass.ActivatedJob> delegate) {
+      this.request = request;
+      this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void beforeStart(
+        final ClientCallStreamObserver<StreamActivatedJobsRequest> requestStream) {
+      // lets the delegate cancel the call, e.g. when the stream is closed
+      if (delegate instanceof ClientResponseObserver) {
+        ((ClientResponseObserver) delegate).beforeStart(requestStream);
+      }
+    }
+
+    @Override
+    public void onNext(final ActivatedJobBatch batch) {
+      batch.getJobsList().forEach(delegate::onNext);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      if (Status.fromThrowable(throwable).getCode() == Code.UNIMPLEMENTED) {
+        streamBatches = false;
+        send(request, delegate);
+        return;
+      }
+
+      delegate.onError(throwable);
+    }
+
+    @Override
+    public void onCompleted() {
+      delegate.onCompleted();
+    }
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.response;
+
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.protocol.rest.JobBatchCompletionResponse;
+import io.camunda.client.protocol.rest.JobCompletionFailureDetail;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCompletionResult;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CompleteJobsResponseImpl implements CompleteJobsResponse {
+
+  private final List<Long> completedJobs = new ArrayList<>();
+  private final List<FailedJob> failedJobs = new ArrayList<>();
+
+  public CompleteJobsResponseImpl(final CompleteJobBatchResponse response) {
+    for (final JobCompletionResult result : response.getResultsList()) {
+      if (result.getCode() == Status.Code.OK.value()) {
+        completedJobs.add(result.getJobKey());
+      } else {
+        failedJobs.add(new FailedJobImpl(result.getJobKey(), result.getMessage()));
+      }
+    }
+  }
+
+  public CompleteJobsResponseImpl(final JobBatchCompletionResponse response) {
+    if (response.getCompletedJobs() != null) {
+      completedJobs.addAll(response.getCompletedJobs());
+    }
+    if (response.getFailedJobs() != null) {
+      for (final JobCompletionFailureDetail failure : response.getFailedJobs()) {
+        failedJobs.add(new FailedJobImpl(failure.getJobKey(), failure.getDetail()));
+      }
+    }
+  }
+
+  @Override
+  public List<Long> getCompletedJobs() {
+    return completedJobs;
+  }
+
+  @Override
+  public List<FailedJob> getFailedJobs() {
+    return failedJobs;
+  }
+
+  private static final class FailedJobImpl implements FailedJob {
+
+    private final long jobKey;
+    private final String message;
+
+    private FailedJobImpl(final long jobKey, final String message) {
+      this.jobKey = jobKey;
+      this.message = message;
+    }
+
+    @Override
+    public long getJobKey() {
+      return jobKey;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
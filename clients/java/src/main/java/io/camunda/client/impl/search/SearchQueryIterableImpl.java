@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.search;
+
+import static io.camunda.client.impl.command.ArgumentUtil.ensureGreaterThan;
+
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.search.query.SearchQueryIterable;
+import io.camunda.client.api.search.query.SearchQueryIterator;
+import io.camunda.client.api.search.response.SearchQueryResponse;
+import io.camunda.client.api.search.response.SearchResponsePage;
+import io.camunda.client.protocol.rest.SearchQueryCountModeEnum;
+import io.camunda.client.protocol.rest.SearchQueryPageRequest;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pages through the results of a search query with {@code searchAfter}. The next page is requested
+ * as soon as the previous one arrived, so it is usually available by the time the items of the
+ * previous page are consumed. Only the first page is counted, and only if requested; all further
+ * pages are requested with {@link SearchQueryCountModeEnum#NONE}.
+ *
+ * <p>The server may return fewer items than requested, e.g. if the page size exceeds its maximum,
+ * so only an empty page marks the end of the results.
+ */
+public final class SearchQueryIterableImpl<T> implements SearchQueryIterable<T> {
+
+  private final Function<SearchQueryPageRequest, CamundaFuture<SearchQueryResponse<T>>>
+      pageFetcher;
+  private int pageSize = DEFAULT_PAGE_SIZE;
+  private boolean countTotalItems;
+
+  /**
+   * @param pageFetcher sends the query with the given page; it must not keep a reference to the
+   *     page once it returns
+   */
+  public SearchQueryIterableImpl(
+      final Function<SearchQueryPageRequest, CamundaFuture<SearchQueryResponse<T>>> pageFetcher) {
+    this.pageFetcher = pageFetcher;
+  }
+
+  @Override
+  public SearchQueryIterable<T> pageSize(final int pageSize) {
+    ensureGreaterThan("pageSize", pageSize, 0);
+    this.pageSize = pageSize;
+    return this;
+  }
+
+  @Override
+  public SearchQueryIterable<T> countTotalItems(final boolean countTotalItems) {
+    this.countTotalItems = countTotalItems;
+    return this;
+  }
+
+  @Override
+  public SearchQueryIterator<T> iterator() {
+    return new PageIterator(pageSize, countTotalItems);
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  private final class PageIterator implements SearchQueryIterator<T> {
+
+    private final int pageSize;
+    private final boolean countTotalItems;
+    private CamundaFuture<SearchQueryResponse<T>> nextPage;
+    private Iterator<T> items = Collections.emptyIterator();
+    private Long totalItems;
+
+    private PageIterator(final int pageSize, final boolean countTotalItems) {
+      this.pageSize = pageSize;
+      this.countTotalItems = countTotalItems;
+      nextPage = fetch(null, countTotalItems);
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!items.hasNext()) {
+        if (nextPage == null) {
+          return false;
+        }
+
+        final CamundaFuture<SearchQueryResponse<T>> pending = nextPage;
+        nextPage = null;
+        onPage(pending.join());
+      }
+
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return items.next();
+    }
+
+    @Override
+    public Long totalItems() {
+      return totalItems;
+    }
+
+    private void onPage(final SearchQueryResponse<T> response) {
+      final List<T> pageItems =
+          response.items() == null ? Collections.emptyList() : response.items();
+      final SearchResponsePage page = response.page();
+      if (countTotalItems && totalItems == null && page != null) {
+        totalItems = page.totalItems();
+      }
+
+      // a page which is not full is not necessarily the last one, as the server may cap the limit
+      final List<Object> lastSortValues = page == null ? null : page.lastSortValues();
+      if (!pageItems.isEmpty() && lastSortValues != null && !lastSortValues.isEmpty()) {
+        nextPage = fetch(lastSortValues, false);
+      }
+
+      items = pageItems.iterator();
+    }
+
+    private CamundaFuture<SearchQueryResponse<T>> fetch(
+        final List<Object> searchAfter, final boolean count) {
+      final SearchQueryPageRequest page =
+          new SearchQueryPageRequest()
+              .limit(pageSize)
+              .searchAfter(searchAfter)
+              .countMode(count ? SearchQueryCountModeEnum.EXACT : SearchQueryCountModeEnum.NONE);
+      return pageFetcher.apply(page);
+    }
+  }
+}
@@ -25,11 +25,13 @@ import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.DecisionDefinitionFilter;
 import io.camunda.client.api.search.query.DecisionDefinitionQuery;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.response.DecisionDefinition;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.sort.DecisionDefinitionSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequest;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchResponseMapper;
@@ -110,11 +112,28 @@ public class DecisionDefinitionQueryImpl
 
   @Override
   public CamundaFuture<SearchQueryResponse<DecisionDefinition>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<DecisionDefinition> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new DecisionDefinitionSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private CamundaFuture<SearchQueryResponse<DecisionDefinition>> send(
+      final DecisionDefinitionSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<DecisionDefinition>> result =
         new HttpCamundaFuture<>();
     httpClient.post(
         "/decision-definitions/search",
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         DecisionDefinitionSearchQueryResult.class,
         SearchResponseMapper::toDecisionDefinitionSearchResponse,
@@ -25,11 +25,13 @@ import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.DecisionInstanceFilter;
 import io.camunda.client.api.search.query.DecisionInstanceQuery;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.response.DecisionInstance;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.sort.DecisionInstanceSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequest;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchResponseMapper;
@@ -109,11 +111,28 @@ public class DecisionInstanceQueryImpl
 
   @Override
   public CamundaFuture<SearchQueryResponse<DecisionInstance>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<DecisionInstance> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new DecisionInstanceSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private CamundaFuture<SearchQueryResponse<DecisionInstance>> send(
+      final DecisionInstanceSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<DecisionInstance>> result =
         new HttpCamundaFuture<>();
     httpClient.post(
         "/decision-instances/search",
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         DecisionInstanceSearchQueryResult.class,
         resp -> SearchResponseMapper.toDecisionInstanceSearchResponse(resp, jsonMapper),
@@ -24,11 +24,13 @@ import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.DecisionRequirementsFilter;
 import io.camunda.client.api.search.query.DecisionRequirementsQuery;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.response.DecisionRequirements;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.sort.DecisionRequirementsSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchRequestPageImpl;
 import io.camunda.client.impl.search.SearchResponseMapper;
@@ -66,11 +68,28 @@ public class DecisionRequirementsQueryImpl
 
   @Override
   public HttpCamundaFuture<SearchQueryResponse<DecisionRequirements>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<DecisionRequirements> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new DecisionRequirementsSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private HttpCamundaFuture<SearchQueryResponse<DecisionRequirements>> send(
+      final DecisionRequirementsSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<DecisionRequirements>> result =
         new HttpCamundaFuture<>();
     httpClient.post(
         "/decision-requirements/search",
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         DecisionRequirementsSearchQueryResult.class,
         SearchResponseMapper::toDecisionRequirementsSearchResponse,
@@ -25,11 +25,13 @@ import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.FlownodeInstanceFilter;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
 import io.camunda.client.api.search.query.FlownodeInstanceQuery;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.response.FlowNodeInstance;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.sort.FlownodeInstanceSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchRequestPageImpl;
 import io.camunda.client.impl.search.SearchResponseMapper;
@@ -67,11 +69,28 @@ public class FlowNodeInstanceQueryImpl
 
   @Override
   public CamundaFuture<SearchQueryResponse<FlowNodeInstance>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<FlowNodeInstance> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new FlowNodeInstanceSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private CamundaFuture<SearchQueryResponse<FlowNodeInstance>> send(
+      final FlowNodeInstanceSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<FlowNodeInstance>> result =
         new HttpCamundaFuture<>();
     httpClient.post(
         "/flownode-instances/search",
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         FlowNodeInstanceSearchQueryResult.class,
         SearchResponseMapper::toFlowNodeInstanceSearchResponse,
@@ -25,11 +25,13 @@ import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.IncidentFilter;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
 import io.camunda.client.api.search.query.IncidentQuery;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.response.Incident;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.sort.IncidentSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequest;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchRequestPageImpl;
@@ -68,10 +70,27 @@ public class IncidentQueryImpl
 
   @Override
   public CamundaFuture<SearchQueryResponse<Incident>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<Incident> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new IncidentSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private CamundaFuture<SearchQueryResponse<Incident>> send(
+      final IncidentSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<Incident>> result = new HttpCamundaFuture<>();
     httpClient.post(
         "/incidents/search",
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         IncidentSearchQueryResult.class,
         SearchResponseMapper::toIncidentSearchResponse,
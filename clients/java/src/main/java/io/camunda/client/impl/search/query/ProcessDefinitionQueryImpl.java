@@ -25,11 +25,13 @@ import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.ProcessDefinitionFilter;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
 import io.camunda.client.api.search.query.ProcessDefinitionQuery;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.response.ProcessDefinition;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.sort.ProcessDefinitionSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequest;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchResponseMapper;
@@ -68,11 +70,28 @@ public class ProcessDefinitionQueryImpl
 
   @Override
   public CamundaFuture<SearchQueryResponse<ProcessDefinition>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<ProcessDefinition> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new ProcessDefinitionSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private CamundaFuture<SearchQueryResponse<ProcessDefinition>> send(
+      final ProcessDefinitionSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<ProcessDefinition>> result =
         new HttpCamundaFuture<>();
     httpClient.post(
         "/process-definitions/search",
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         ProcessDefinitionSearchQueryResult.class,
         SearchResponseMapper::toProcessDefinitionSearchResponse,
@@ -25,11 +25,13 @@ import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.ProcessInstanceFilter;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
 import io.camunda.client.api.search.query.ProcessInstanceQuery;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.response.ProcessInstance;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.sort.ProcessInstanceSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequest;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchResponseMapper;
@@ -68,11 +70,28 @@ public class ProcessInstanceQueryImpl
 
   @Override
   public CamundaFuture<SearchQueryResponse<ProcessInstance>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<ProcessInstance> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new ProcessInstanceSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private CamundaFuture<SearchQueryResponse<ProcessInstance>> send(
+      final ProcessInstanceSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<ProcessInstance>> result =
         new HttpCamundaFuture<>();
     httpClient.post(
         "/process-instances/search",
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         ProcessInstanceSearchQueryResult.class,
         SearchResponseMapper::toProcessInstanceSearchResponse,
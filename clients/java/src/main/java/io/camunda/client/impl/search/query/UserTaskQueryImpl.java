@@ -23,12 +23,14 @@ import io.camunda.client.api.JsonMapper;
 import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.UserTaskFilter;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.query.UserTaskQuery;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.response.UserTask;
 import io.camunda.client.api.search.sort.UserTaskSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchRequestPageImpl;
 import io.camunda.client.impl.search.SearchResponseMapper;
@@ -66,10 +68,27 @@ public class UserTaskQueryImpl
 
   @Override
   public HttpCamundaFuture<SearchQueryResponse<UserTask>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<UserTask> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new UserTaskSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private HttpCamundaFuture<SearchQueryResponse<UserTask>> send(
+      final UserTaskSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<UserTask>> result = new HttpCamundaFuture<>();
     httpClient.post(
         "/user-tasks/search",
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         UserTaskSearchQueryResult.class,
         SearchResponseMapper::toUserTaskSearchResponse,
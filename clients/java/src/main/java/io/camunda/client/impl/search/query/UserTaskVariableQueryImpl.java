@@ -24,12 +24,14 @@ import io.camunda.client.api.JsonMapper;
 import io.camunda.client.api.search.SearchRequestPage;
 import io.camunda.client.api.search.filter.UserTaskVariableFilter;
 import io.camunda.client.api.search.query.FinalSearchQueryStep;
+import io.camunda.client.api.search.query.SearchQueryIterable;
 import io.camunda.client.api.search.query.UserTaskVariableQuery;
 import io.camunda.client.api.search.response.SearchQueryResponse;
 import io.camunda.client.api.search.response.Variable;
 import io.camunda.client.api.search.sort.VariableSort;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.search.SearchQueryIterableImpl;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
 import io.camunda.client.impl.search.SearchRequestPageImpl;
 import io.camunda.client.impl.search.SearchResponseMapper;
@@ -70,10 +72,27 @@ public class UserTaskVariableQueryImpl
 
   @Override
   public CamundaFuture<SearchQueryResponse<Variable>> send() {
+    return send(request);
+  }
+
+  @Override
+  public SearchQueryIterable<Variable> iterate() {
+    // the page is set on a copy, such that the page of this query is left untouched
+    return new SearchQueryIterableImpl<>(
+        page ->
+            send(
+                new UserTaskVariableSearchQueryRequest()
+                    .filter(request.getFilter())
+                    .sort(request.getSort())
+                    .page(page)));
+  }
+
+  private CamundaFuture<SearchQueryResponse<Variable>> send(
+      final UserTaskVariableSearchQueryRequest searchRequest) {
     final HttpCamundaFuture<SearchQueryResponse<Variable>> result = new HttpCamundaFuture<>();
     httpClient.post(
         String.format("/user-tasks/%d/variables/search", userTaskKey),
-        jsonMapper.toJson(request),
+        jsonMapper.toJson(searchRequest),
         httpRequestConfig.build(),
         VariableSearchQueryResult.class,
         SearchResponseMapper::toVariableSearchResponse,
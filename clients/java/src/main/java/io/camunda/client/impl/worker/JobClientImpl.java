@@ -20,6 +20,7 @@ import io.camunda.client.CredentialsProvider.StatusCode;
 import io.camunda.client.api.JsonMapper;
 import io.camunda.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.client.api.command.FailJobCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1;
 import io.camunda.client.api.command.ThrowErrorCommandStep1;
@@ -27,11 +28,14 @@ import io.camunda.client.api.response.ActivatedJob;
 import io.camunda.client.api.worker.JobClient;
 import io.camunda.client.impl.command.ActivateJobsCommandImpl;
 import io.camunda.client.impl.command.CompleteJobCommandImpl;
+import io.camunda.client.impl.command.CompleteJobsCommandImpl;
 import io.camunda.client.impl.command.FailJobCommandImpl;
 import io.camunda.client.impl.command.StreamJobsCommandImpl;
 import io.camunda.client.impl.command.ThrowErrorCommandImpl;
 import io.camunda.client.impl.http.HttpClient;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
 public final class JobClientImpl implements JobClient {
@@ -41,6 +45,7 @@ public final class JobClientImpl implements JobClient {
   private final CamundaClientConfiguration config;
   private final JsonMapper jsonMapper;
   private final Predicate<StatusCode> retryPredicate;
+  private final JobCompletionBatcher completionBatcher;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
@@ -48,11 +53,41 @@ public final class JobClientImpl implements JobClient {
       final CamundaClientConfiguration config,
       final JsonMapper jsonMapper,
       final Predicate<StatusCode> retryPredicate) {
+    this(asyncStub, httpClient, config, jsonMapper, retryPredicate, null);
+  }
+
+  private JobClientImpl(
+      final GatewayStub asyncStub,
+      final HttpClient httpClient,
+      final CamundaClientConfiguration config,
+      final JsonMapper jsonMapper,
+      final Predicate<StatusCode> retryPredicate,
+      final JobCompletionBatcher completionBatcher) {
     this.asyncStub = asyncStub;
     this.httpClient = httpClient;
     this.config = config;
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
+    this.completionBatcher = completionBatcher;
+  }
+
+  /**
+   * Creates a batcher which sends the collected job completions at the latest {@code linger} after
+   * the first one was collected. Use {@link #withCompletionBatcher(JobCompletionBatcher)} to
+   * complete jobs through it.
+   */
+  public JobCompletionBatcher newCompletionBatcher(
+      final ScheduledExecutorService executor, final Duration linger) {
+    return new JobCompletionBatcher(asyncStub, executor, linger, config.getDefaultRequestTimeout());
+  }
+
+  /**
+   * @return a job client which sends the gRPC complete commands it creates through the given
+   *     batcher
+   */
+  public JobClientImpl withCompletionBatcher(final JobCompletionBatcher completionBatcher) {
+    return new JobClientImpl(
+        asyncStub, httpClient, config, jsonMapper, retryPredicate, completionBatcher);
   }
 
   @Override
@@ -64,7 +99,8 @@ public final class JobClientImpl implements JobClient {
         config.getDefaultRequestTimeout(),
         retryPredicate,
         httpClient,
-        config.preferRestOverGrpc());
+        config.preferRestOverGrpc(),
+        completionBatcher);
   }
 
   @Override
@@ -72,6 +108,17 @@ public final class JobClientImpl implements JobClient {
     return newCompleteCommand(job.getKey());
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return new CompleteJobsCommandImpl(
+        asyncStub,
+        jsonMapper,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        httpClient,
+        config.preferRestOverGrpc());
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return new FailJobCommandImpl(
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCompletionResult;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the completions of the jobs handled by a worker, and sends them to the gateway as a
+ * single {@code CompleteJobBatch} request, at the latest {@code linger} after the first completion
+ * was collected. Each completion is still answered individually, so for the caller it behaves like
+ * a regular {@code CompleteJob} request.
+ *
+ * <p>If the gateway does not support batch completions, every job is completed with its own request
+ * from then on.
+ */
+public final class JobCompletionBatcher implements Closeable {
+
+  static final int MAX_BATCH_SIZE = 100;
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService executor;
+  private final Duration linger;
+  private final Duration requestTimeout;
+
+  private final Object lock = new Object();
+  private List<PendingCompletion> pending = new ArrayList<>();
+  private ScheduledFuture<?> scheduledFlush;
+  private volatile boolean isBatchingSupported = true;
+
+  public JobCompletionBatcher(
+      final GatewayStub asyncStub,
+      final ScheduledExecutorService executor,
+      final Duration linger,
+      final Duration requestTimeout) {
+    this.asyncStub = asyncStub;
+    this.executor = executor;
+    this.linger = linger;
+    this.requestTimeout = requestTimeout;
+  }
+
+  public void complete(
+      final CompleteJobRequest request, final StreamObserver<CompleteJobResponse> observer) {
+    if (!isBatchingSupported) {
+      completeSingle(request, observer);
+      return;
+    }
+
+    final List<PendingCompletion> batch;
+    synchronized (lock) {
+      pending.add(new PendingCompletion(request, observer));
+      if (pending.size() < MAX_BATCH_SIZE && scheduleFlush()) {
+        return;
+      }
+
+      batch = drain();
+    }
+
+    send(batch);
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+
+  void flush() {
+    final List<PendingCompletion> batch;
+    synchronized (lock) {
+      batch = drain();
+    }
+
+    if (!batch.isEmpty()) {
+      send(batch);
+    }
+  }
+
+  private boolean scheduleFlush() {
+    if (scheduledFlush != null) {
+      return true;
+    }
+
+    try {
+      scheduledFlush = executor.schedule(this::flush, linger.toMillis(), TimeUnit.MILLISECONDS);
+      return true;
+    } catch (final RejectedExecutionException e) {
+      // the worker is shutting down; send the completion right away instead of losing it
+      return false;
+    }
+  }
+
+  private List<PendingCompletion> drain() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    final List<PendingCompletion> batch = pending;
+    pending = new ArrayList<>();
+    return batch;
+  }
+
+  private void send(final List<PendingCompletion> batch) {
+    final CompleteJobBatchRequest.Builder request = CompleteJobBatchRequest.newBuilder();
+    batch.forEach(completion -> request.addJobs(completion.request));
+
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobBatch(request.build(), new BatchObserver(batch));
+  }
+
+  private void completeSingle(
+      final CompleteJobRequest request, final StreamObserver<CompleteJobResponse> observer) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJob(request, observer);
+  }
+
+  private static final class PendingCompletion {
+
+    private final CompleteJobRequest request;
+    private final StreamObserver<CompleteJobResponse> observer;
+
+    private PendingCompletion(
+        final CompleteJobRequest request, final StreamObserver<CompleteJobResponse> observer) {
+      this.request = request;
+      this.observer = observer;
+    }
+  }
+
+  private final class BatchObserver implements StreamObserver<CompleteJobBatchResponse> {
+
+    private final List<PendingCompletion> batch;
+
+    private BatchObserver(final List<PendingCompletion> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void onNext(final CompleteJobBatchResponse response) {
+      // the gateway reports the results in the order of the jobs in the request
+      for (int i = 0; i < batch.size(); i++) {
+        final StreamObserver<CompleteJobResponse> observer = batch.get(i).observer;
+        if (i >= response.getResultsCount()) {
+          observer.onError(
+              Status.INTERNAL
+                  .withDescription("Expected a result for each job, but got none for this job")
+                  .asRuntimeException());
+          continue;
+        }
+
+        final JobCompletionResult result = response.getResults(i);
+        if (result.getCode() == Code.OK.value()) {
+          observer.onNext(CompleteJobResponse.getDefaultInstance());
+          observer.onCompleted();
+        } else {
+          observer.onError(
+              Status.fromCodeValue(result.getCode())
+                  .withDescription(result.getMessage())
+                  .asRuntimeException());
+        }
+      }
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      if (Status.fromThrowable(error).getCode() == Code.UNIMPLEMENTED) {
+        isBatchingSupported = false;
+        batch.forEach(completion -> completeSingle(completion.request, completion.observer));
+      } else {
+        batch.forEach(completion -> completion.observer.onError(error));
+      }
+    }
+
+    @Override
+    public void onCompleted() {}
+  }
+}
@@ -60,6 +60,7 @@ public final class JobWorkerBuilderImpl
   private boolean enableStreaming;
   private Duration streamingTimeout;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
+  private Duration completionBatchLinger;
 
   public JobWorkerBuilderImpl(
       final CamundaClientConfiguration configuration,
@@ -164,6 +165,12 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 completionBatchLinger(final Duration linger) {
+    completionBatchLinger = linger;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -173,7 +180,8 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactoryImpl(jobClient, handler);
+    final JobRunnableFactory jobRunnableFactory =
+        new JobRunnableFactoryImpl(newHandlerJobClient(), handler);
     final JobPoller jobPoller =
         new JobPollerImpl(
             jobClient,
@@ -199,6 +207,7 @@ public final class JobWorkerBuilderImpl
               timeout,
               fetchVariables,
               getTenantIds(),
+              maxJobsActive,
               streamingTimeout,
               backoffSupplier,
               executorService);
@@ -241,6 +250,19 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  private JobClient newHandlerJobClient() {
+    if (completionBatchLinger == null || !(jobClient instanceof JobClientImpl)) {
+      return jobClient;
+    }
+
+    ensurePositive("completionBatchLinger", completionBatchLinger);
+    final JobClientImpl jobClientImpl = (JobClientImpl) jobClient;
+    final JobCompletionBatcher completionBatcher =
+        jobClientImpl.newCompletionBatcher(executorService, completionBatchLinger);
+    closeables.add(completionBatcher);
+    return jobClientImpl.withCompletionBatcher(completionBatcher);
+  }
+
   private List<String> getTenantIds() {
     return customTenantIds.isEmpty() ? defaultTenantIds : customTenantIds;
   }
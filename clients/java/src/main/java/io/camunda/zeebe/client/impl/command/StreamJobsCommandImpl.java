@@ -131,6 +131,12 @@ public final class StreamJobsCommandImpl
     return this;
   }
 
+  @Override
+  public StreamJobsCommandStep3 maxJobsActive(final int maxJobsActive) {
+    builder.setMaxJobsActive(maxJobsActive);
+    return this;
+  }
+
   @Override
   public StreamJobsCommandStep3 workerName(final String workerName) {
     builder.setWorker(workerName);
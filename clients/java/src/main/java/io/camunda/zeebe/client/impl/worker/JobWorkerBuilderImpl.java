@@ -199,6 +199,7 @@ public final class JobWorkerBuilderImpl
               timeout,
               fetchVariables,
               getTenantIds(),
+              maxJobsActive,
               streamingTimeout,
               backoffSupplier,
               executorService);
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.command.ClientException;
+import io.camunda.client.api.search.query.SearchQueryIterator;
+import io.camunda.client.api.search.response.SearchQueryResponse;
+import io.camunda.client.impl.http.HttpCamundaFuture;
+import io.camunda.client.impl.search.response.SearchQueryResponseImpl;
+import io.camunda.client.impl.search.response.SearchResponsePageImpl;
+import io.camunda.client.protocol.rest.SearchQueryCountModeEnum;
+import io.camunda.client.protocol.rest.SearchQueryPageRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class SearchQueryIterableImplTest {
+
+  private final List<SearchQueryPageRequest> requests = new ArrayList<>();
+
+  @Test
+  void shouldFetchPagesWithSearchAfter() {
+    // given
+    final SearchQueryIterableImpl<Integer> iterable =
+        new SearchQueryIterableImpl<>(page -> respond(page, 5));
+
+    // when
+    final List<Integer> items = iterable.pageSize(2).stream().collect(Collectors.toList());
+
+    // then
+    assertThat(items).containsExactly(0, 1, 2, 3, 4);
+    assertThat(requests)
+        .extracting(SearchQueryPageRequest::getLimit)
+        .containsExactly(2, 2, 2, 2);
+    assertThat(requests.get(0).getSearchAfter()).isNull();
+    assertThat(requests.get(1).getSearchAfter()).containsExactly(1);
+    assertThat(requests.get(2).getSearchAfter()).containsExactly(3);
+    assertThat(requests.get(3).getSearchAfter()).containsExactly(4);
+  }
+
+  @Test
+  void shouldPrefetchNextPageBeforeCurrentPageIsConsumed() {
+    // given
+    final SearchQueryIterator<Integer> iterator =
+        new SearchQueryIterableImpl<Integer>(page -> respond(page, 10)).pageSize(3).iterator();
+
+    // when
+    iterator.next();
+
+    // then
+    assertThat(requests).hasSize(2);
+  }
+
+  @Test
+  void shouldStopAtEmptyPage() {
+    // given
+    final SearchQueryIterableImpl<Integer> iterable =
+        new SearchQueryIterableImpl<>(page -> respond(page, 4));
+
+    // when
+    final long count = iterable.pageSize(2).stream().count();
+
+    // then
+    assertThat(count).isEqualTo(4);
+    // the last page cannot tell whether there are more items, so one empty page is fetched
+    assertThat(requests).hasSize(3);
+  }
+
+  @Test
+  void shouldContinueAfterPartialPageIfServerCapsLimit() {
+    // given
+    final SearchQueryIterableImpl<Integer> iterable =
+        new SearchQueryIterableImpl<>(page -> respond(page, 5, 2));
+
+    // when
+    final List<Integer> items = iterable.pageSize(4).stream().collect(Collectors.toList());
+
+    // then
+    assertThat(items).containsExactly(0, 1, 2, 3, 4);
+    assertThat(requests).hasSize(4);
+  }
+
+  @Test
+  void shouldCountOnlyFirstPageIfRequested() {
+    // given
+    final SearchQueryIterator<Integer> iterator =
+        new SearchQueryIterableImpl<Integer>(page -> respond(page, 5))
+            .pageSize(2)
+            .countTotalItems(true)
+            .iterator();
+
+    // when
+    iterator.forEachRemaining(item -> {});
+
+    // then
+    assertThat(iterator.totalItems()).isEqualTo(5L);
+    assertThat(requests)
+        .extracting(SearchQueryPageRequest::getCountMode)
+        .containsExactly(
+            SearchQueryCountModeEnum.EXACT,
+            SearchQueryCountModeEnum.NONE,
+            SearchQueryCountModeEnum.NONE,
+            SearchQueryCountModeEnum.NONE);
+  }
+
+  @Test
+  void shouldNotCountByDefault() {
+    // given
+    final SearchQueryIterator<Integer> iterator =
+        new SearchQueryIterableImpl<Integer>(page -> respond(page, 1)).iterator();
+
+    // when
+    iterator.forEachRemaining(item -> {});
+
+    // then
+    assertThat(iterator.totalItems()).isNull();
+    assertThat(requests)
+        .extracting(SearchQueryPageRequest::getCountMode)
+        .containsOnly(SearchQueryCountModeEnum.NONE);
+  }
+
+  @Test
+  void shouldThrowIfPageRequestFails() {
+    // given
+    final SearchQueryIterator<Integer> iterator =
+        new SearchQueryIterableImpl<Integer>(
+                page -> {
+                  final HttpCamundaFuture<SearchQueryResponse<Integer>> future =
+                      new HttpCamundaFuture<>();
+                  future.completeExceptionally(new IllegalStateException("failed"));
+                  return future;
+                })
+            .iterator();
+
+    // when - then
+    assertThatThrownBy(iterator::hasNext).isInstanceOf(ClientException.class);
+  }
+
+  @Test
+  void shouldRejectNonPositivePageSize() {
+    // given
+    final SearchQueryIterableImpl<Integer> iterable =
+        new SearchQueryIterableImpl<>(page -> respond(page, 1));
+
+    // when - then
+    assertThatThrownBy(() -> iterable.pageSize(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /** Responds with the next items of the range [0, totalItems), sorted by their value. */
+  private CamundaFuture<SearchQueryResponse<Integer>> respond(
+      final SearchQueryPageRequest page, final int totalItems) {
+    return respond(page, totalItems, Integer.MAX_VALUE);
+  }
+
+  /** Same as {@link #respond(SearchQueryPageRequest, int)}, but returns at most maxLimit items. */
+  private CamundaFuture<SearchQueryResponse<Integer>> respond(
+      final SearchQueryPageRequest page, final int totalItems, final int maxLimit) {
+    requests.add(page);
+    final int from =
+        page.getSearchAfter() == null ? 0 : ((Integer) page.getSearchAfter().get(0)) + 1;
+    final int limit = Math.min(page.getLimit(), maxLimit);
+    final List<Integer> items =
+        IntStream.range(from, Math.min(from + limit, totalItems))
+            .boxed()
+            .collect(Collectors.toList());
+    final List<Object> lastSortValues =
+        items.isEmpty()
+            ? Collections.emptyList()
+            : Collections.singletonList(items.get(items.size() - 1));
+
+    final HttpCamundaFuture<SearchQueryResponse<Integer>> future = new HttpCamundaFuture<>();
+    future.complete(
+        new SearchQueryResponseImpl<>(
+            items, new SearchResponsePageImpl(totalItems, null, lastSortValues)));
+    return future;
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobCompletionBatcherTest {
+
+  private static final Duration LINGER = Duration.ofMillis(50);
+
+  @Rule public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+  private final List<CompleteJobBatchRequest> batchRequests = new CopyOnWriteArrayList<>();
+  private final List<CompleteJobRequest> singleRequests = new CopyOnWriteArrayList<>();
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldSendCompletionsWithinLingerAsOneBatch() throws IOException {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(new BatchingGateway(-1));
+
+    // when
+    final RecordingObserver first = complete(batcher, 1);
+    final RecordingObserver second = complete(batcher, 2);
+
+    // then
+    assertThat(first.result).succeedsWithin(5, TimeUnit.SECONDS);
+    assertThat(second.result).succeedsWithin(5, TimeUnit.SECONDS);
+    assertThat(batchRequests).hasSize(1);
+    assertThat(batchRequests.get(0).getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldFailOnlyTheRejectedCompletion() throws IOException {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(new BatchingGateway(2));
+
+    // when
+    final RecordingObserver first = complete(batcher, 1);
+    final RecordingObserver second = complete(batcher, 2);
+
+    // then
+    assertThat(first.result).succeedsWithin(5, TimeUnit.SECONDS);
+    assertThat(second.result)
+        .failsWithin(5, TimeUnit.SECONDS)
+        .withThrowableOfType(Exception.class)
+        .satisfies(
+            e -> assertThat(Status.fromThrowable(e).getCode()).isEqualTo(Status.Code.NOT_FOUND));
+  }
+
+  @Test
+  public void shouldSendFullBatchWithoutWaitingForLinger() throws IOException {
+    // given
+    final JobCompletionBatcher batcher =
+        new JobCompletionBatcher(
+            GatewayGrpc.newStub(startGateway(new BatchingGateway(-1))),
+            executor,
+            Duration.ofHours(1),
+            Duration.ofSeconds(10));
+
+    // when
+    for (int i = 0; i < JobCompletionBatcher.MAX_BATCH_SIZE; i++) {
+      complete(batcher, i);
+    }
+
+    // then
+    assertThat(batchRequests).hasSize(1);
+    assertThat(batchRequests.get(0).getJobsCount()).isEqualTo(JobCompletionBatcher.MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldCompleteJobsOneByOneIfBatchingIsUnsupported() throws IOException {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(new LegacyGateway());
+
+    // when
+    final RecordingObserver first = complete(batcher, 1);
+    final RecordingObserver second = complete(batcher, 2);
+
+    // then
+    assertThat(first.result).succeedsWithin(5, TimeUnit.SECONDS);
+    assertThat(second.result).succeedsWithin(5, TimeUnit.SECONDS);
+    assertThat(singleRequests)
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactlyInAnyOrder(1L, 2L);
+  }
+
+  private JobCompletionBatcher newBatcher(final GatewayImplBase gateway) throws IOException {
+    return new JobCompletionBatcher(
+        GatewayGrpc.newStub(startGateway(gateway)), executor, LINGER, Duration.ofSeconds(10));
+  }
+
+  private ManagedChannel startGateway(final GatewayImplBase gateway) throws IOException {
+    final String serverName = InProcessServerBuilder.generateName();
+    grpcCleanup.register(
+        InProcessServerBuilder.forName(serverName)
+            .directExecutor()
+            .addService(gateway)
+            .build()
+            .start());
+    return grpcCleanup.register(
+        InProcessChannelBuilder.forName(serverName).directExecutor().build());
+  }
+
+  private RecordingObserver complete(final JobCompletionBatcher batcher, final long jobKey) {
+    final RecordingObserver observer = new RecordingObserver();
+    batcher.complete(CompleteJobRequest.newBuilder().setJobKey(jobKey).build(), observer);
+    return observer;
+  }
+
+  private static final class RecordingObserver implements StreamObserver<CompleteJobResponse> {
+    private final CompletableFuture<CompleteJobResponse> result = new CompletableFuture<>();
+
+    @Override
+    public void onNext(final CompleteJobResponse value) {
+      result.complete(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      result.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {}
+  }
+
+  private final class BatchingGateway extends GatewayImplBase {
+    private final long rejectedJobKey;
+
+    private BatchingGateway(final long rejectedJobKey) {
+      this.rejectedJobKey = rejectedJobKey;
+    }
+
+    @Override
+    public void completeJobBatch(
+        final CompleteJobBatchRequest request,
+        final StreamObserver<CompleteJobBatchResponse> responseObserver) {
+      batchRequests.add(request);
+      final CompleteJobBatchResponse.Builder response = CompleteJobBatchResponse.newBuilder();
+      for (final CompleteJobRequest job : request.getJobsList()) {
+        final int code =
+            job.getJobKey() == rejectedJobKey
+                ? Status.Code.NOT_FOUND.value()
+                : Status.Code.OK.value();
+        response.addResultsBuilder().setJobKey(job.getJobKey()).setCode(code);
+      }
+      responseObserver.onNext(response.build());
+      responseObserver.onCompleted();
+    }
+  }
+
+  private final class LegacyGateway extends GatewayImplBase {
+
+    @Override
+    public void completeJob(
+        final CompleteJobRequest request,
+        final StreamObserver<CompleteJobResponse> responseObserver) {
+      singleRequests.add(request);
+      responseObserver.onNext(CompleteJobResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+    }
+  }
+}
@@ -27,6 +27,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJobBatch;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
@@ -176,6 +177,50 @@ final class JobStreamImplTest {
     assertThat(service.streams).isEmpty();
   }
 
+  @Test
+  void shouldForwardJobBatchesToConsumer() {
+    // given
+    service.streamBatches = true;
+    final List<ActivatedJob> jobs = new ArrayList<>();
+    jobStreamer.openStreamer(jobs::add);
+
+    // when
+    service.pushJobBatch(2);
+    service.pushJobBatch(1);
+
+    // then
+    assertThat(jobs).hasSize(3).extracting(ActivatedJob::getKey).containsExactly(0L, 1L, 2L);
+    assertThat(service.requests).as("did not fall back to single jobs").isEmpty();
+  }
+
+  @Test
+  void shouldCancelBatchStreamOnClose() {
+    // given
+    service.streamBatches = true;
+    jobStreamer.openStreamer(ignored -> {});
+
+    // when
+    final ServerCallStreamObserver<ActivatedJobBatch> registeredStream = service.lastBatchStream;
+    jobStreamer.close();
+
+    // then
+    assertThat(registeredStream.isCancelled()).isTrue();
+  }
+
+  @Test
+  void shouldFallBackToSingleJobsIfGatewayDoesNotStreamBatches() {
+    // given
+    final List<ActivatedJob> jobs = new ArrayList<>();
+    jobStreamer.openStreamer(jobs::add);
+
+    // when
+    service.pushJob();
+
+    // then
+    assertThat(service.batchRequests).hasSize(1);
+    assertThat(jobs).hasSize(1);
+  }
+
   private JobStreamerImpl createStreamer() {
     return new JobStreamerImpl(
         client,
@@ -184,6 +229,7 @@ final class JobStreamImplTest {
         Duration.ofSeconds(10),
         Arrays.asList("foo", "bar"),
         Arrays.asList("test-tenant"),
+        32,
         Duration.ofHours(8),
         ignored -> 10_000L,
         scheduler);
@@ -194,8 +240,24 @@ final class JobStreamImplTest {
     private final Map<
             StreamActivatedJobsRequest, ServerCallStreamObserver<GatewayOuterClass.ActivatedJob>>
         streams = new HashMap<>();
+    private final List<StreamActivatedJobsRequest> batchRequests = new ArrayList<>();
+    private boolean streamBatches;
+    private ServerCallStreamObserver<ActivatedJobBatch> lastBatchStream;
     private int keyGenerator;
 
+    @Override
+    public void streamActivatedJobBatches(
+        final StreamActivatedJobsRequest request,
+        final StreamObserver<ActivatedJobBatch> responseObserver) {
+      batchRequests.add(request);
+      if (!streamBatches) {
+        super.streamActivatedJobBatches(request, responseObserver);
+        return;
+      }
+
+      lastBatchStream = (ServerCallStreamObserver<ActivatedJobBatch>) responseObserver;
+    }
+
     @Override
     public void streamActivatedJobs(
         final StreamActivatedJobsRequest request,
@@ -221,20 +283,31 @@ final class JobStreamImplTest {
     private void pushJob() {
       final StreamActivatedJobsRequest request = lastRequest();
       final StreamObserver<GatewayOuterClass.ActivatedJob> stream = streams.get(request);
+      stream.onNext(newJob(request));
+    }
+
+    private void pushJobBatch(final int count) {
+      final StreamActivatedJobsRequest request = batchRequests.get(batchRequests.size() - 1);
+      final ActivatedJobBatch.Builder batch = ActivatedJobBatch.newBuilder();
+      for (int i = 0; i < count; i++) {
+        batch.addJobs(newJob(request));
+      }
+
+      lastBatchStream.onNext(batch.build());
+    }
+
+    private GatewayOuterClass.ActivatedJob newJob(final StreamActivatedJobsRequest request) {
       final Map<String, String> variables = new HashMap<>();
       request.getFetchVariableList().forEach(key -> variables.put(key, "value"));
 
-      final GatewayOuterClass.ActivatedJob job =
-          GatewayOuterClass.ActivatedJob.newBuilder()
-              .setType(request.getType())
-              .setDeadline(System.currentTimeMillis() + request.getTimeout())
-              .setWorker(request.getWorker())
-              .setVariables(JsonUtil.toJson(variables))
-              .setTenantId("test-tenant")
-              .setKey(keyGenerator++)
-              .build();
-
-      stream.onNext(job);
+      return GatewayOuterClass.ActivatedJob.newBuilder()
+          .setType(request.getType())
+          .setDeadline(System.currentTimeMillis() + request.getTimeout())
+          .setWorker(request.getWorker())
+          .setVariables(JsonUtil.toJson(variables))
+          .setTenantId("test-tenant")
+          .setKey(keyGenerator++)
+          .build();
     }
   }
 }
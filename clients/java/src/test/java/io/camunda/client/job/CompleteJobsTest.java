@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.api.response.CompleteJobsResponse.FailedJob;
+import io.camunda.client.util.ClientTest;
+import io.camunda.client.util.JsonUtil;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.grpc.Status;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    final CompleteJobsResponse response =
+        client
+            .newCompleteJobsCommand()
+            .addJob(12)
+            .addJob(13, json)
+            .addJob(14, Collections.singletonMap("key", "val"))
+            .send()
+            .join();
+
+    // then
+    final CompleteJobBatchRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(12L, 13L, 14L);
+    assertThat(request.getJobs(0).getVariables()).isEmpty();
+    JsonUtil.assertEquality(request.getJobs(1).getVariables(), json);
+    JsonUtil.assertEquality(request.getJobs(2).getVariables(), json);
+    assertThat(response.getCompletedJobs()).containsExactly(12L, 13L, 14L);
+    assertThat(response.getFailedJobs()).isEmpty();
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReportFailedJobs() {
+    // given
+    gatewayService.addRequestHandler(
+        CompleteJobBatchRequest.class,
+        request -> {
+          final CompleteJobBatchResponse.Builder response = CompleteJobBatchResponse.newBuilder();
+          response.addResultsBuilder().setJobKey(12);
+          response
+              .addResultsBuilder()
+              .setJobKey(13)
+              .setCode(Status.Code.NOT_FOUND.value())
+              .setMessage("no such job");
+          return response.build();
+        });
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().addJob(12).addJob(13).send().join();
+
+    // then
+    assertThat(response.getCompletedJobs()).containsExactly(12L);
+    assertThat(response.getFailedJobs())
+        .extracting(FailedJob::getJobKey, FailedJob::getMessage)
+        .containsExactly(tuple(13L, "no such job"));
+  }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import io.camunda.client.api.search.query.ProcessInstanceQuery;
 import io.camunda.client.api.search.response.ProcessInstanceState;
 import io.camunda.client.impl.search.SearchQuerySortRequest;
 import io.camunda.client.impl.search.SearchQuerySortRequestMapper;
@@ -264,6 +265,34 @@ public class QueryProcessInstanceTest extends ClientRestTest {
     assertThat(pageRequest.getSearchAfter()).isEqualTo(Collections.singletonList("a"));
   }
 
+  @Test
+  public void shouldNotOverwritePageOfQueryWhenIterating() {
+    // given
+    gatewayService.onProcessInstanceSearchRequest(
+        new ProcessInstanceSearchQueryResult()
+            .items(Collections.emptyList())
+            .page(new SearchQueryPageResponse().totalItems(0L)));
+    final ProcessInstanceQuery query =
+        client
+            .newProcessInstanceQuery()
+            .filter(f -> f.processInstanceKey(123L))
+            .page(p -> p.limit(5));
+
+    // when
+    query.iterate().pageSize(10).stream().count();
+    final ProcessInstanceSearchQueryRequest iterateRequest =
+        gatewayService.getLastRequest(ProcessInstanceSearchQueryRequest.class);
+    query.send().join();
+
+    // then
+    assertThat(iterateRequest.getFilter().getProcessInstanceKey().get$Eq()).isEqualTo(123L);
+    assertThat(iterateRequest.getPage().getLimit()).isEqualTo(10);
+    final ProcessInstanceSearchQueryRequest request =
+        gatewayService.getLastRequest(ProcessInstanceSearchQueryRequest.class);
+    assertThat(request.getFilter().getProcessInstanceKey().get$Eq()).isEqualTo(123L);
+    assertThat(request.getPage().getLimit()).isEqualTo(5);
+  }
+
   @Test
   public void shouldConvertProcessInstanceState() {
 
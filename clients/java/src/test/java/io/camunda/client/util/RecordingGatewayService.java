@@ -26,6 +26,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRespon
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
@@ -116,6 +118,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobBatchRequest.class,
+        r -> {
+          final CompleteJobBatchResponse.Builder response = CompleteJobBatchResponse.newBuilder();
+          r.getJobsList().forEach(job -> response.addResultsBuilder().setJobKey(job.getJobKey()));
+          return response.build();
+        });
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
@@ -325,6 +334,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobBatch(
+      final CompleteJobBatchRequest request,
+      final StreamObserver<CompleteJobBatchResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
@@ -39,6 +39,8 @@ public class RestGatewayPaths {
       REST_API_PATH + "/decision-definitions/evaluation";
   private static final String URL_CREATE_PROCESS_INSTANCE = REST_API_PATH + "/process-instances";
   private static final String URL_DEPLOYMENTS_URL = REST_API_PATH + "/deployments";
+  private static final String URL_PROCESS_INSTANCE_SEARCH =
+      REST_API_PATH + "/process-instances/search";
 
   /**
    * @return the topology request URL
@@ -137,4 +139,8 @@ public class RestGatewayPaths {
   public static String getDeploymentsUrl() {
     return URL_DEPLOYMENTS_URL;
   }
+
+  public static String getProcessInstanceSearchUrl() {
+    return URL_PROCESS_INSTANCE_SEARCH;
+  }
 }
@@ -24,6 +24,7 @@ import io.camunda.client.protocol.rest.DeploymentResult;
 import io.camunda.client.protocol.rest.EvaluateDecisionResult;
 import io.camunda.client.protocol.rest.JobActivationResult;
 import io.camunda.client.protocol.rest.ProblemDetail;
+import io.camunda.client.protocol.rest.ProcessInstanceSearchQueryResult;
 import io.camunda.client.protocol.rest.TopologyResponse;
 import java.util.List;
 import java.util.function.Supplier;
@@ -87,6 +88,14 @@ public class RestGatewayService {
                 .willReturn(WireMock.okJson(JSON_MAPPER.toJson(response))));
   }
 
+  public void onProcessInstanceSearchRequest(final ProcessInstanceSearchQueryResult response) {
+    mockInfo
+        .getWireMock()
+        .register(
+            WireMock.post(RestGatewayPaths.getProcessInstanceSearchUrl())
+                .willReturn(WireMock.okJson(JSON_MAPPER.toJson(response))));
+  }
+
   /**
    * Fetch the last request that was served and convert it to the request target type.
    *
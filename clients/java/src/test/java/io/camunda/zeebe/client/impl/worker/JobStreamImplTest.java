@@ -184,6 +184,7 @@ final class JobStreamImplTest {
         Duration.ofSeconds(10),
         Arrays.asList("foo", "bar"),
         Arrays.asList("test-tenant"),
+        32,
         Duration.ofHours(8),
         ignored -> 10_000L,
         scheduler);
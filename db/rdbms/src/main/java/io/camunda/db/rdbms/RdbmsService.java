@@ -23,6 +23,7 @@ import io.camunda.db.rdbms.read.service.TenantReader;
 import io.camunda.db.rdbms.read.service.UserReader;
 import io.camunda.db.rdbms.read.service.UserTaskReader;
 import io.camunda.db.rdbms.read.service.VariableReader;
+import io.camunda.db.rdbms.write.HistoryCleanupConfig;
 import io.camunda.db.rdbms.write.RdbmsWriter;
 import io.camunda.db.rdbms.write.RdbmsWriterFactory;
 
@@ -155,4 +156,13 @@ public class RdbmsService {
   public RdbmsWriter createWriter(final long partitionId, final int queueSize) {
     return rdbmsWriterFactory.createWriter(partitionId, queueSize);
   }
+
+  public RdbmsWriter createWriter(
+      final long partitionId,
+      final int queueSize,
+      final boolean asyncFlush,
+      final HistoryCleanupConfig historyCleanupConfig) {
+    return rdbmsWriterFactory.createWriter(
+        partitionId, queueSize, asyncFlush, historyCleanupConfig);
+  }
 }
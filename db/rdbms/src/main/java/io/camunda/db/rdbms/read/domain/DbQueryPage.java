@@ -10,7 +10,16 @@ package io.camunda.db.rdbms.read.domain;
 import io.camunda.search.sort.SortOrder;
 import java.util.List;
 
-public record DbQueryPage(Integer size, Integer from, List<KeySetPagination> keySetPagination) {
+/**
+ * @param countLimit the number of rows up to which hits are counted, or null to count all of them
+ */
+public record DbQueryPage(
+    Integer size, Integer from, List<KeySetPagination> keySetPagination, Integer countLimit) {
+
+  public DbQueryPage(
+      final Integer size, final Integer from, final List<KeySetPagination> keySetPagination) {
+    this(size, from, keySetPagination, null);
+  }
 
   public record KeySetPagination(List<KeySetPaginationFieldEntry> entries) {}
 
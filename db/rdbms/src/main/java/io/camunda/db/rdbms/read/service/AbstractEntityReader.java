@@ -17,6 +17,7 @@ import io.camunda.db.rdbms.read.domain.DbQuerySorting;
 import io.camunda.db.rdbms.read.domain.DbQuerySorting.SortingEntry;
 import io.camunda.db.rdbms.sql.columns.SearchColumn;
 import io.camunda.search.page.SearchQueryPage;
+import io.camunda.search.page.SearchQueryPage.CountMode;
 import io.camunda.search.query.SearchQueryResult;
 import io.camunda.search.sort.SortOption;
 import io.camunda.search.sort.SortOption.FieldSorting;
@@ -26,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 abstract class AbstractEntityReader<T> {
 
@@ -66,7 +68,10 @@ abstract class AbstractEntityReader<T> {
       keySetPagination = createKeySetPagination(sort, page);
     }
 
-    return new DbQueryPage(page.size(), page.from(), keySetPagination);
+    // count one more than the limit, to know whether there are more hits than reported
+    final Integer countLimit =
+        page.countMode() == CountMode.CAPPED ? SearchQueryPage.COUNT_LIMIT + 1 : null;
+    return new DbQueryPage(page.size(), page.from(), keySetPagination, countLimit);
   }
 
   /**
@@ -119,10 +124,46 @@ abstract class AbstractEntityReader<T> {
     return keySetPagination;
   }
 
+  /**
+   * Runs the given count query unless the page's count mode skips counting.
+   *
+   * @return the number of hits, capped at {@link DbQueryPage#countLimit()}, or null if not counted
+   */
+  protected static Long countHits(final SearchQueryPage page, final Supplier<Long> countQuery) {
+    return page.countMode() == CountMode.NONE ? null : countQuery.get();
+  }
+
+  /**
+   * Builds the result of a query whose hits were counted according to the page's count mode, see
+   * {@link #countHits(SearchQueryPage, Supplier)}.
+   */
   protected final SearchQueryResult<T> buildSearchQueryResult(
-      final long totalHits, final List<T> hits, final DbQuerySorting<T> dbSort) {
+      final SearchQueryPage page,
+      final Long totalHits,
+      final List<T> hits,
+      final DbQuerySorting<T> dbSort) {
+    if (totalHits == null) {
+      final boolean isKeySetPaging = page.searchAfter() != null || page.searchBefore() != null;
+      final long skippedHits = isKeySetPaging ? 0 : page.from();
+      return buildSearchQueryResult(
+          skippedHits + hits.size(), hits.size() >= page.size(), hits, dbSort);
+    }
+
+    if (page.countMode() == CountMode.CAPPED && totalHits > SearchQueryPage.COUNT_LIMIT) {
+      return buildSearchQueryResult(SearchQueryPage.COUNT_LIMIT, true, hits, dbSort);
+    }
+
+    return buildSearchQueryResult(totalHits, false, hits, dbSort);
+  }
+
+  private SearchQueryResult<T> buildSearchQueryResult(
+      final long totalHits,
+      final boolean hasMoreTotalItems,
+      final List<T> hits,
+      final DbQuerySorting<T> dbSort) {
     return new SearchQueryResult.Builder<T>()
         .total(totalHits)
+        .hasMoreTotalItems(hasMoreTotalItems)
         .items(hits)
         .firstSortValues(extractFirstSortValues(hits, dbSort))
         .lastSortValues(extractLastSortValues(hits, dbSort))
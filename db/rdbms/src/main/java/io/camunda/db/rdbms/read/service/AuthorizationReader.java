@@ -53,9 +53,9 @@ public class AuthorizationReader extends AbstractEntityReader<AuthorizationEntit
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for authorizations with filter {}", dbQuery);
-    final var totalHits = authorizationMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> authorizationMapper.count(dbQuery));
     final var hits = authorizationMapper.search(dbQuery).stream().map(this::map).toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 
   private AuthorizationEntity map(final AuthorizationDbModel model) {
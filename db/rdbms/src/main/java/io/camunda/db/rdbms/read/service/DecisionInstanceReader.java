@@ -56,10 +56,10 @@ public class DecisionInstanceReader extends AbstractEntityReader<DecisionInstanc
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for process instance with filter {}", dbQuery);
-    final var totalHits = decisionInstanceMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> decisionInstanceMapper.count(dbQuery));
     final var hits = enhanceEntities(decisionInstanceMapper.search(dbQuery), query.resultConfig());
 
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 
   /**
@@ -51,8 +51,8 @@ public class DecisionRequirementsReader extends AbstractEntityReader<DecisionReq
                     .resultConfig(query.resultConfig()));
 
     LOG.trace("[RDBMS DB] Search for decision requirements with filter {}", dbQuery);
-    final var totalHits = decisionRequirementsMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> decisionRequirementsMapper.count(dbQuery));
     final var hits = decisionRequirementsMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 }
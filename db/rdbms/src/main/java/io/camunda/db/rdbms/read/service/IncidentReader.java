@@ -40,8 +40,8 @@ public class IncidentReader extends AbstractEntityReader<IncidentEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for incident with filter {}", dbQuery);
-    final var totalHits = incidentMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> incidentMapper.count(dbQuery));
     final var hits = incidentMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 }
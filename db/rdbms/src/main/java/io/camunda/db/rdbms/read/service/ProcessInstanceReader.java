@@ -40,8 +40,8 @@ public class ProcessInstanceReader extends AbstractEntityReader<ProcessInstanceE
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for process instance with filter {}", dbQuery);
-    final var totalHits = processInstanceMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> processInstanceMapper.count(dbQuery));
     final var hits = processInstanceMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 }
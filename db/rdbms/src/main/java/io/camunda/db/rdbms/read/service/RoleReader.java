@@ -43,9 +43,9 @@ public class RoleReader extends AbstractEntityReader<RoleEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for roles with filter {}", dbQuery);
-    final var totalHits = roleMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> roleMapper.count(dbQuery));
     final var hits = roleMapper.search(dbQuery).stream().map(this::map).toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 
   private RoleEntity map(final RoleDbModel model) {
@@ -41,9 +41,9 @@ public class TenantReader extends AbstractEntityReader<TenantEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for tenants with filter {}", dbQuery);
-    final var totalHits = tenantMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> tenantMapper.count(dbQuery));
     final var hits = tenantMapper.search(dbQuery).stream().map(this::map).toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 
   private TenantEntity map(final TenantDbModel model) {
@@ -40,8 +40,8 @@ public class UserReader extends AbstractEntityReader<UserEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for users with filter {}", dbQuery);
-    final var totalHits = processDefinitionMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> processDefinitionMapper.count(dbQuery));
     final var hits = processDefinitionMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 }
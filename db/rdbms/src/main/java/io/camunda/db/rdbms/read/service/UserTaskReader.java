@@ -43,9 +43,9 @@ public class UserTaskReader extends AbstractEntityReader<UserTaskEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for users with filter {}", dbQuery);
-    final var totalHits = userTaskMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> userTaskMapper.count(dbQuery));
     final var hits =
         userTaskMapper.search(dbQuery).stream().map(UserTaskEntityMapper::toEntity).toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 }
@@ -47,9 +47,9 @@ public class VariableReader extends AbstractEntityReader<VariableEntity> {
         VariableDbQuery.of(
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
     LOG.trace("[RDBMS DB] Search for variables with filter {}", query);
-    final var totalHits = variableMapper.count(dbQuery);
+    final var totalHits = countHits(query.page(), () -> variableMapper.count(dbQuery));
     final var hits = variableMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), totalHits, hits, dbSort);
   }
 
   public record SearchResult(List<VariableEntity> hits, Integer total) {}
@@ -21,6 +21,8 @@ public interface FlowNodeInstanceMapper {
 
   void updateIncident(UpdateIncidentDto dto);
 
+  int deleteByProcessInstanceKeys(List<Long> processInstanceKeys);
+
   Long count(FlowNodeInstanceDbQuery filter);
 
   List<FlowNodeInstanceEntity> search(FlowNodeInstanceDbQuery filter);
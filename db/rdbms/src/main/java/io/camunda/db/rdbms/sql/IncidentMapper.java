@@ -18,6 +18,8 @@ public interface IncidentMapper {
 
   void updateState(IncidentStateDto dto);
 
+  int deleteByProcessInstanceKeys(List<Long> processInstanceKeys);
+
   IncidentEntity findOne(Long incidentKey);
 
   Long count(IncidentDbQuery filter);
@@ -7,6 +7,7 @@
  */
 package io.camunda.db.rdbms.sql;
 
+import io.camunda.db.rdbms.read.domain.DbQueryPage;
 import io.camunda.db.rdbms.read.domain.ProcessInstanceDbQuery;
 import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
 import io.camunda.search.entities.ProcessInstanceEntity;
@@ -23,6 +24,14 @@ public interface ProcessInstanceMapper {
 
   void decrementIncidentCount(Long processInstanceKey);
 
+  void updateHistoryCleanupDate(HistoryCleanupDateDto dto);
+
+  List<Long> selectExpiredProcessInstanceKeys(HistoryCleanupDto dto);
+
+  Long countExpiredProcessInstances(HistoryCleanupDto dto);
+
+  int deleteByKeys(List<Long> processInstanceKeys);
+
   ProcessInstanceEntity findOne(Long processInstanceKey);
 
   Long count(ProcessInstanceDbQuery filter);
@@ -33,4 +42,16 @@ public interface ProcessInstanceMapper {
       long processInstanceKey,
       ProcessInstanceEntity.ProcessInstanceState state,
       OffsetDateTime endDate) {}
+
+  record HistoryCleanupDateDto(long processInstanceKey, OffsetDateTime historyCleanupDate) {}
+
+  /**
+   * Selects the process instances of a single partition, whose history cleanup date is before the
+   * given cleanup date.
+   */
+  record HistoryCleanupDto(
+      OffsetDateTime cleanupDate,
+      long minProcessInstanceKey,
+      long maxProcessInstanceKey,
+      DbQueryPage page) {}
 }
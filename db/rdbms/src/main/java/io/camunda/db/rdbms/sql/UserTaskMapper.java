@@ -25,6 +25,12 @@ public interface UserTaskMapper {
 
   void deleteCandidateGroups(Long key);
 
+  int deleteCandidateUsersByProcessInstanceKeys(List<Long> processInstanceKeys);
+
+  int deleteCandidateGroupsByProcessInstanceKeys(List<Long> processInstanceKeys);
+
+  int deleteByProcessInstanceKeys(List<Long> processInstanceKeys);
+
   Long count(UserTaskDbQuery filter);
 
   List<UserTaskDbModel> search(UserTaskDbQuery filter);
@@ -18,6 +18,8 @@ public interface VariableMapper {
 
   void update(VariableDbModel variable);
 
+  int deleteByProcessInstanceKeys(List<Long> processInstanceKeys);
+
   Long count(VariableDbQuery filter);
 
   List<VariableEntity> search(VariableDbQuery filter);
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write;
+
+import java.time.Duration;
+
+/**
+ * Configures how long the history of finished process instances is kept and how fast it is
+ * deleted afterward.
+ *
+ * @param historyTTL the time after which a finished process instance and its related data are
+ *     deleted
+ * @param cleanupBatchSize the maximum number of process instances deleted in one transaction
+ * @param minCleanupInterval the interval of the cleanup while there is a backlog of expired
+ *     process instances
+ * @param maxCleanupInterval the interval up to which the cleanup backs off while there is nothing
+ *     to delete
+ */
+public record HistoryCleanupConfig(
+    Duration historyTTL,
+    int cleanupBatchSize,
+    Duration minCleanupInterval,
+    Duration maxCleanupInterval) {
+
+  public static final Duration DEFAULT_HISTORY_TTL = Duration.ofDays(30);
+  public static final int DEFAULT_CLEANUP_BATCH_SIZE = 1000;
+  public static final Duration DEFAULT_MIN_CLEANUP_INTERVAL = Duration.ofSeconds(1);
+  public static final Duration DEFAULT_MAX_CLEANUP_INTERVAL = Duration.ofMinutes(5);
+
+  public static final HistoryCleanupConfig DEFAULT =
+      new HistoryCleanupConfig(
+          DEFAULT_HISTORY_TTL,
+          DEFAULT_CLEANUP_BATCH_SIZE,
+          DEFAULT_MIN_CLEANUP_INTERVAL,
+          DEFAULT_MAX_CLEANUP_INTERVAL);
+
+  /** Oracle doesn't support more than 1000 expressions in an IN list */
+  private static final int MAX_CLEANUP_BATCH_SIZE = 1000;
+
+  public HistoryCleanupConfig {
+    if (cleanupBatchSize < 1 || cleanupBatchSize > MAX_CLEANUP_BATCH_SIZE) {
+      throw new IllegalArgumentException(
+          "Expected cleanupBatchSize to be between 1 and %d, but was %d"
+              .formatted(MAX_CLEANUP_BATCH_SIZE, cleanupBatchSize));
+    }
+    if (!minCleanupInterval.isPositive() || maxCleanupInterval.compareTo(minCleanupInterval) < 0) {
+      throw new IllegalArgumentException(
+          "Expected minCleanupInterval to be positive and not greater than maxCleanupInterval, but was %s and %s"
+              .formatted(minCleanupInterval, maxCleanupInterval));
+    }
+  }
+
+  /** @return true if finished process instances are deleted at all */
+  public boolean isEnabled() {
+    return historyTTL.isPositive();
+  }
+}
@@ -18,6 +18,7 @@ import io.camunda.db.rdbms.write.service.ExporterPositionService;
 import io.camunda.db.rdbms.write.service.FlowNodeInstanceWriter;
 import io.camunda.db.rdbms.write.service.FormWriter;
 import io.camunda.db.rdbms.write.service.GroupWriter;
+import io.camunda.db.rdbms.write.service.HistoryCleanupService;
 import io.camunda.db.rdbms.write.service.IncidentWriter;
 import io.camunda.db.rdbms.write.service.MappingWriter;
 import io.camunda.db.rdbms.write.service.ProcessDefinitionWriter;
@@ -28,6 +29,7 @@ import io.camunda.db.rdbms.write.service.TenantWriter;
 import io.camunda.db.rdbms.write.service.UserTaskWriter;
 import io.camunda.db.rdbms.write.service.UserWriter;
 import io.camunda.db.rdbms.write.service.VariableWriter;
+import org.apache.ibatis.session.SqlSessionFactory;
 
 public class RdbmsWriter {
 
@@ -50,12 +52,17 @@ public class RdbmsWriter {
   private final UserTaskWriter userTaskWriter;
   private final FormWriter formWriter;
   private final MappingWriter mappingWriter;
+  private final HistoryCleanupService historyCleanupService;
 
   public RdbmsWriter(
+      final SqlSessionFactory sqlSessionFactory,
+      final long partitionId,
       final ExecutionQueue executionQueue,
       final ExporterPositionService exporterPositionService,
       final PurgeMapper purgeMapper,
-      final VendorDatabaseProperties vendorDatabaseProperties) {
+      final VendorDatabaseProperties vendorDatabaseProperties,
+      final HistoryCleanupConfig historyCleanupConfig,
+      final RdbmsWriterMetrics metrics) {
     this.executionQueue = executionQueue;
     this.exporterPositionService = exporterPositionService;
     rdbmsPurger = new RdbmsPurger(purgeMapper);
@@ -75,6 +82,9 @@ public class RdbmsWriter {
     userTaskWriter = new UserTaskWriter(executionQueue);
     formWriter = new FormWriter(executionQueue);
     mappingWriter = new MappingWriter(executionQueue);
+    historyCleanupService =
+        new HistoryCleanupService(
+            sqlSessionFactory, processInstanceWriter, historyCleanupConfig, metrics, partitionId);
   }
 
   public AuthorizationWriter getAuthorizationWriter() {
@@ -145,6 +155,10 @@ public class RdbmsWriter {
     return exporterPositionService;
   }
 
+  public HistoryCleanupService getHistoryCleanupService() {
+    return historyCleanupService;
+  }
+
   public RdbmsPurger getRdbmsPurger() {
     return rdbmsPurger;
   }
@@ -156,4 +170,8 @@ public class RdbmsWriter {
   public void flush() {
     executionQueue.flush();
   }
+
+  public void close() {
+    executionQueue.close();
+  }
 }
@@ -12,6 +12,8 @@ import io.camunda.db.rdbms.sql.ExporterPositionMapper;
 import io.camunda.db.rdbms.sql.PurgeMapper;
 import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
 import io.camunda.db.rdbms.write.service.ExporterPositionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.ibatis.session.SqlSessionFactory;
 
 public class RdbmsWriterFactory {
@@ -36,12 +38,34 @@ public class RdbmsWriterFactory {
   }
 
   public RdbmsWriter createWriter(final long partitionId, final int queueSize) {
+    return createWriter(partitionId, queueSize, false, HistoryCleanupConfig.DEFAULT);
+  }
+
+  /**
+   * @param asyncFlush if true, the statements of a flush are executed on a separate thread, while
+   *     the exporter keeps filling the queue for the next flush
+   */
+  public RdbmsWriter createWriter(
+      final long partitionId,
+      final int queueSize,
+      final boolean asyncFlush,
+      final HistoryCleanupConfig historyCleanupConfig) {
+    final ExecutorService flushExecutor =
+        asyncFlush
+            ? Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("rdbms-exporter-flush-" + partitionId).daemon().factory())
+            : null;
     final var executionQueue =
-        new DefaultExecutionQueue(sqlSessionFactory, partitionId, queueSize, metrics);
+        new DefaultExecutionQueue(
+            sqlSessionFactory, partitionId, queueSize, metrics, flushExecutor);
     return new RdbmsWriter(
+        sqlSessionFactory,
+        partitionId,
         executionQueue,
         new ExporterPositionService(executionQueue, exporterPositionMapper),
         purgeMapper,
-        vendorDatabaseProperties);
+        vendorDatabaseProperties,
+        historyCleanupConfig,
+        metrics);
   }
 }
@@ -10,11 +10,15 @@ package io.camunda.db.rdbms.write;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Timer.ResourceSample;
 import io.micrometer.core.instrument.Timer.Sample;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class RdbmsWriterMetrics {
 
@@ -22,6 +26,7 @@ public class RdbmsWriterMetrics {
 
   private final MeterRegistry meterRegistry;
   private final Timer flushLatency;
+  private final Map<Long, AtomicLong> historyCleanupBacklog = new ConcurrentHashMap<>();
   private Sample flushLatencyMeasurement;
 
   public RdbmsWriterMetrics(final MeterRegistry meterRegistry) {
@@ -90,6 +95,55 @@ public class RdbmsWriterMetrics {
         .record(1.0 - 1.0 / batchCount);
   }
 
+  public void recordStatementBatch(
+      final String statementId, final int batchSize, final Duration duration) {
+    DistributionSummary.builder(meterName("statement.batch.size"))
+        .tags("statementId", statementId)
+        .description("Number of statements sent to the database in a single JDBC batch")
+        .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000)
+        .register(meterRegistry)
+        .record(batchSize);
+
+    Timer.builder(meterName("statement.flush.duration"))
+        .tags("statementId", statementId)
+        .description("Time to send a single JDBC batch of statements to the database")
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofMillis(1))
+        .register(meterRegistry)
+        .record(duration);
+  }
+
+  public ResourceSample measureHistoryCleanupDuration() {
+    return Timer.resource(meterRegistry, meterName("history.cleanup.duration.seconds"))
+        .description("Duration of a single history cleanup run in seconds")
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofMillis(10));
+  }
+
+  public void recordHistoryCleanupDeletedRows(final String tableName, final int numRows) {
+    Counter.builder(meterName("history.cleanup.deleted.rows"))
+        .tags("table", tableName)
+        .description("Number of rows deleted by the history cleanup")
+        .register(meterRegistry)
+        .increment(numRows);
+  }
+
+  public void recordHistoryCleanupBacklog(final long partitionId, final long backlog) {
+    historyCleanupBacklog
+        .computeIfAbsent(
+            partitionId,
+            id -> {
+              final var value = new AtomicLong();
+              Gauge.builder(meterName("history.cleanup.backlog"), value, AtomicLong::get)
+                  .tags("partitionId", String.valueOf(id))
+                  .description(
+                      "Number of expired process instances which are not yet deleted, capped at the count limit")
+                  .register(meterRegistry);
+              return value;
+            })
+        .set(backlog);
+  }
+
   public void startFlushLatencyMeasurement() {
     flushLatencyMeasurement = Timer.start(meterRegistry);
   }
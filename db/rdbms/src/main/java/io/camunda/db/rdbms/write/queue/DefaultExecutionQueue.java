@@ -8,19 +8,34 @@
 package io.camunda.db.rdbms.write.queue;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Collects the statements of the exporter and executes them in a single transaction on flush.
+ * Statements are grouped by context type and statement, such that each group is sent as one JDBC
+ * batch.
+ *
+ * <p>If a flush executor is given, {@link #flushAsync()} executes the collected statements on it,
+ * while new statements are collected for the next flush. At most one flush is in flight; the next
+ * flush waits for it to complete. If an asynchronous flush fails, its statements are put back in
+ * front of the queue and executed again with the next flush.
+ */
 public class DefaultExecutionQueue implements ExecutionQueue {
 
   private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutionQueue.class);
@@ -36,15 +51,34 @@ public class DefaultExecutionQueue implements ExecutionQueue {
 
   private final RdbmsWriterMetrics metrics;
 
+  /** executes asynchronous flushes, or null if flushes are always executed by the caller */
+  private final ExecutorService flushExecutor;
+
+  /** the asynchronous flush which is in flight, guarded by the queue */
+  private InFlightFlush inFlightFlush;
+
+  /** true while the pre flush listeners add their items, guarded by the queue */
+  private boolean draining;
+
   public DefaultExecutionQueue(
       final SqlSessionFactory sessionFactory,
       final long partitionId,
       final int queueFlushLimit,
       final RdbmsWriterMetrics metrics) {
+    this(sessionFactory, partitionId, queueFlushLimit, metrics, null);
+  }
+
+  public DefaultExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final RdbmsWriterMetrics metrics,
+      final ExecutorService flushExecutor) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
     this.metrics = metrics;
+    this.flushExecutor = flushExecutor;
   }
 
   @Override
@@ -72,35 +106,56 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   }
 
   /**
-   * Performs flush on the queue.
+   * Performs flush on the queue, after waiting for the asynchronous flush in flight.
    *
    * @return number of flushed items
    */
   @Override
   public int flush() {
     synchronized (queue) {
+      awaitInFlightFlush();
       if (queue.isEmpty()) {
         LOG.debug(
             "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
             partitionId);
         return 0;
       }
-      try (final var ignored = metrics.measureFlushDuration()) {
-        final int numFlushedElements = doFLush();
-        metrics.stopFlushLatencyMeasurement();
-        metrics.recordBulkSize(numFlushedElements);
-
-        return numFlushedElements;
-      } catch (final Exception e) {
-        metrics.recordFailedFlush();
-        throw e;
+
+      return executeFlush(drainQueue());
+    }
+  }
+
+  /**
+   * Starts a flush on the flush executor and returns without waiting for it. Falls back to {@link
+   * #flush()} if there is no flush executor, or if the previous asynchronous flush failed.
+   *
+   * @return a future which is completed with the number of flushed items
+   */
+  @Override
+  public CompletableFuture<Integer> flushAsync() {
+    synchronized (queue) {
+      if (flushExecutor == null || awaitInFlightFlush()) {
+        return CompletableFuture.completedFuture(flush());
+      }
+      if (queue.isEmpty()) {
+        LOG.debug(
+            "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
+            partitionId);
+        return CompletableFuture.completedFuture(0);
       }
+
+      final var items = drainQueue();
+      final var future =
+          CompletableFuture.supplyAsync(() -> executeFlush(items), flushExecutor);
+      inFlightFlush = new InFlightFlush(items, future);
+      return future;
     }
   }
 
   /**
    * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * queueItem will be replaced with a new, combined queueItem. Items of a flush in flight are not
+   * considered.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger... combiners) {
@@ -125,44 +180,100 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
-  private int doFLush() {
+  @Override
+  public void close() {
+    synchronized (queue) {
+      awaitInFlightFlush();
+    }
+    if (flushExecutor != null) {
+      flushExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Waits for the asynchronous flush in flight, if any. If it failed, its items are put back in
+   * front of the queue.
+   *
+   * @return true if the flush in flight failed
+   */
+  private boolean awaitInFlightFlush() {
+    if (inFlightFlush == null) {
+      return false;
+    }
+
+    final var flush = inFlightFlush;
+    inFlightFlush = null;
+    try {
+      flush.future().join();
+      return false;
+    } catch (final CompletionException e) {
+      LOG.warn(
+          "[RDBMS ExecutionQueue, Partition {}] Asynchronous flush failed, retrying {} items",
+          partitionId,
+          flush.items().size(),
+          e.getCause());
+      queue.addAll(0, flush.items());
+      return true;
+    }
+  }
+
+  /**
+   * Notifies the pre flush listeners and removes all items from the queue. Items which the
+   * listeners add to the queue, like the exporter position, are part of this flush and committed
+   * in the same transaction as the data.
+   */
+  private List<QueueItem> drainQueue() {
+    if (!preFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
+      draining = true;
+      try {
+        preFlushListeners.forEach(PreFlushListener::onPreFlush);
+      } finally {
+        draining = false;
+      }
+    }
+
+    final var items = new ArrayList<>(queue);
+    queue.clear();
+    metrics.stopFlushLatencyMeasurement();
+    return items;
+  }
+
+  private int executeFlush(final List<QueueItem> items) {
+    try (final var ignored = metrics.measureFlushDuration()) {
+      final int numFlushedElements = doFlush(items);
+      metrics.recordBulkSize(numFlushedElements);
+
+      return numFlushedElements;
+    } catch (final Exception e) {
+      metrics.recordFailedFlush();
+      throw e;
+    }
+  }
+
+  private int doFlush(final List<QueueItem> items) {
     LOG.debug(
         "[RDBMS ExecutionQueue, Partition {}] Flushing execution queue with {} items",
         partitionId,
-        queue.size());
+        items.size());
 
     final var startMillis = System.currentTimeMillis();
     final var session =
         sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
 
-    var flushedElements = 0;
-    final var items = new ArrayList<>(queue);
     items.sort(Comparator.comparing(QueueItem::contextType).thenComparing(QueueItem::statementId));
 
     try {
-      for (final var entry : items) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-        session.update(entry.statementId(), entry.parameter());
-        queue.remove();
-        flushedElements++;
-      }
-
-      if (!preFlushListeners.isEmpty()) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
-        preFlushListeners.forEach(PreFlushListener::onPreFlush);
-      }
-
-      final var batchResult = session.flushStatements();
-      for (final BatchResult singleBatchResult : batchResult) {
-        if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)) {
-          LOG.error(
-              "[RDBMS ExecutionQueue, Partition {}] Some statements with ID {} were not executed successfully",
-              partitionId,
-              singleBatchResult.getMappedStatement().getId());
+      int groupStart = 0;
+      while (groupStart < items.size()) {
+        final var statementId = items.get(groupStart).statementId();
+        int groupEnd = groupStart;
+        while (groupEnd < items.size() && items.get(groupEnd).statementId().equals(statementId)) {
+          groupEnd++;
         }
-        metrics.recordExecutedStatement(
-            singleBatchResult.getMappedStatement().getId(),
-            singleBatchResult.getParameterObjects().size());
+
+        flushStatementGroup(session, statementId, items.subList(groupStart, groupEnd));
+        groupStart = groupEnd;
       }
 
       session.commit();
@@ -173,10 +284,10 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       LOG.debug(
           "[RDBMS ExecutionQueue, Partition {}] Commit queue with {} entries in {}ms",
           partitionId,
-          flushedElements,
+          items.size(),
           System.currentTimeMillis() - startMillis);
 
-      return flushedElements;
+      return items.size();
     } catch (final Exception e) {
       LOG.error("[RDBMS ExecutionQueue, Partition {}] Error while executing queue", partitionId, e);
       session.rollback();
@@ -187,6 +298,31 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  /** Sends all items of the same statement to the database as one JDBC batch. */
+  private void flushStatementGroup(
+      final SqlSession session, final String statementId, final List<QueueItem> items) {
+    final var startNanos = System.nanoTime();
+    for (final var entry : items) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
+      session.update(entry.statementId(), entry.parameter());
+    }
+
+    final var batchResult = session.flushStatements();
+    metrics.recordStatementBatch(
+        statementId, items.size(), Duration.ofNanos(System.nanoTime() - startNanos));
+    for (final BatchResult singleBatchResult : batchResult) {
+      if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)) {
+        LOG.error(
+            "[RDBMS ExecutionQueue, Partition {}] Some statements with ID {} were not executed successfully",
+            partitionId,
+            singleBatchResult.getMappedStatement().getId());
+      }
+      metrics.recordExecutedStatement(
+          singleBatchResult.getMappedStatement().getId(),
+          singleBatchResult.getParameterObjects().size());
+    }
+  }
+
   LinkedList<QueueItem> getQueue() {
     return queue;
   }
@@ -196,13 +332,19 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       // no limits, exporter must take care of it
       return;
     }
+    if (draining) {
+      // the items of the pre flush listeners are part of the flush which is about to start
+      return;
+    }
 
     LOG.trace(
         "[RDBMS ExecutionQueue, Partition {}] Checking if queue is flushed. Queue size: {}",
         partitionId,
         queue.size());
     if (queue.size() >= queueFlushLimit) {
-      flush();
+      flushAsync();
     }
   }
+
+  private record InFlightFlush(List<QueueItem> items, CompletableFuture<Integer> future) {}
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ExecutionQueue {
 
   void executeInQueue(QueueItem entry);
@@ -17,5 +19,18 @@ public interface ExecutionQueue {
 
   int flush();
 
+  /**
+   * Flushes the queue without waiting for the statements to be executed, if supported. New items
+   * can be added to the queue while the flush is in flight.
+   *
+   * @return a future which is completed with the number of flushed items
+   */
+  default CompletableFuture<Integer> flushAsync() {
+    return CompletableFuture.completedFuture(flush());
+  }
+
   boolean tryMergeWithExistingQueueItem(QueueItemMerger... combiners);
+
+  /** Waits for a flush in flight and releases the resources of the queue. */
+  default void close() {}
 }
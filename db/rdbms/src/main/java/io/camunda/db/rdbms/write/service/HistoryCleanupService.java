@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.service;
+
+import io.camunda.db.rdbms.read.domain.DbQueryPage;
+import io.camunda.db.rdbms.sql.ProcessInstanceMapper.HistoryCleanupDto;
+import io.camunda.db.rdbms.write.HistoryCleanupConfig;
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes the history of finished process instances after their time to live has expired.
+ *
+ * <p>When a process instance finishes, it is marked with a history cleanup date. The cleanup
+ * periodically selects a chunk of process instances of its own partition whose cleanup date has
+ * passed, and deletes them together with their flow node instances, variables, incidents and user
+ * tasks in a single transaction. While there is a backlog of expired process instances, the cleanup
+ * runs in the minimum interval, otherwise it backs off up to the maximum interval.
+ */
+public class HistoryCleanupService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HistoryCleanupService.class);
+
+  /** Zeebe keys carry the partition id in their upper bits, see Protocol#encodePartitionId */
+  private static final int PARTITION_KEY_BITS = 51;
+
+  private static final int BACKLOG_COUNT_LIMIT = 10_000;
+
+  private static final String SELECT_EXPIRED_STATEMENT =
+      "io.camunda.db.rdbms.sql.ProcessInstanceMapper.selectExpiredProcessInstanceKeys";
+  private static final String COUNT_EXPIRED_STATEMENT =
+      "io.camunda.db.rdbms.sql.ProcessInstanceMapper.countExpiredProcessInstances";
+
+  /** The rows related to the process instances are deleted first, the process instances last */
+  private static final List<CleanupStatement> CLEANUP_STATEMENTS =
+      List.of(
+          new CleanupStatement(
+              "FLOW_NODE_INSTANCE",
+              "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.deleteByProcessInstanceKeys"),
+          new CleanupStatement(
+              "VARIABLE", "io.camunda.db.rdbms.sql.VariableMapper.deleteByProcessInstanceKeys"),
+          new CleanupStatement(
+              "INCIDENT", "io.camunda.db.rdbms.sql.IncidentMapper.deleteByProcessInstanceKeys"),
+          new CleanupStatement(
+              "CANDIDATE_USER",
+              "io.camunda.db.rdbms.sql.UserTaskMapper.deleteCandidateUsersByProcessInstanceKeys"),
+          new CleanupStatement(
+              "CANDIDATE_GROUP",
+              "io.camunda.db.rdbms.sql.UserTaskMapper.deleteCandidateGroupsByProcessInstanceKeys"),
+          new CleanupStatement(
+              "USER_TASK", "io.camunda.db.rdbms.sql.UserTaskMapper.deleteByProcessInstanceKeys"),
+          new CleanupStatement(
+              "PROCESS_INSTANCE", "io.camunda.db.rdbms.sql.ProcessInstanceMapper.deleteByKeys"));
+
+  private final SqlSessionFactory sessionFactory;
+  private final ProcessInstanceWriter processInstanceWriter;
+  private final HistoryCleanupConfig config;
+  private final RdbmsWriterMetrics metrics;
+  private final long partitionId;
+  private final long minProcessInstanceKey;
+  private final long maxProcessInstanceKey;
+
+  private Duration currentCleanupInterval;
+
+  public HistoryCleanupService(
+      final SqlSessionFactory sessionFactory,
+      final ProcessInstanceWriter processInstanceWriter,
+      final HistoryCleanupConfig config,
+      final RdbmsWriterMetrics metrics,
+      final long partitionId) {
+    this.sessionFactory = sessionFactory;
+    this.processInstanceWriter = processInstanceWriter;
+    this.config = config;
+    this.metrics = metrics;
+    this.partitionId = partitionId;
+    minProcessInstanceKey = partitionId << PARTITION_KEY_BITS;
+    final long nextPartitionKey = (partitionId + 1) << PARTITION_KEY_BITS;
+    maxProcessInstanceKey =
+        nextPartitionKey > minProcessInstanceKey ? nextPartitionKey : Long.MAX_VALUE;
+    currentCleanupInterval = config.minCleanupInterval();
+  }
+
+  public boolean isEnabled() {
+    return config.isEnabled();
+  }
+
+  public Duration getCurrentCleanupInterval() {
+    return currentCleanupInterval;
+  }
+
+  public void scheduleProcessForHistoryCleanup(
+      final long processInstanceKey, final OffsetDateTime endDate) {
+    if (isEnabled()) {
+      processInstanceWriter.scheduleForHistoryCleanup(
+          processInstanceKey, endDate.plus(config.historyTTL()));
+    }
+  }
+
+  /**
+   * Deletes one chunk of process instances whose history cleanup date is before the given date,
+   * including their related data.
+   *
+   * @return the delay after which the cleanup should run again
+   */
+  public Duration cleanupHistory(final OffsetDateTime cleanupDate) {
+    final var page = new DbQueryPage(config.cleanupBatchSize(), 0, List.of(), BACKLOG_COUNT_LIMIT);
+    final var dto =
+        new HistoryCleanupDto(cleanupDate, minProcessInstanceKey, maxProcessInstanceKey, page);
+
+    try (final var ignored = metrics.measureHistoryCleanupDuration();
+        final var session = sessionFactory.openSession()) {
+      final List<Long> processInstanceKeys = session.selectList(SELECT_EXPIRED_STATEMENT, dto);
+      if (processInstanceKeys.isEmpty()) {
+        metrics.recordHistoryCleanupBacklog(partitionId, 0);
+        return backOff();
+      }
+
+      final Map<String, Integer> deletedRows = new LinkedHashMap<>();
+      for (final var statement : CLEANUP_STATEMENTS) {
+        deletedRows.put(
+            statement.tableName(), session.delete(statement.statementId(), processInstanceKeys));
+      }
+      session.commit();
+      deletedRows.forEach(metrics::recordHistoryCleanupDeletedRows);
+      LOG.debug(
+          "[RDBMS History Cleanup, Partition {}] Deleted rows of {} process instances: {}",
+          partitionId,
+          processInstanceKeys.size(),
+          deletedRows);
+
+      if (processInstanceKeys.size() < config.cleanupBatchSize()) {
+        metrics.recordHistoryCleanupBacklog(partitionId, 0);
+        return backOff();
+      }
+
+      // the chunk was full, so there are likely more expired process instances
+      final Long backlog = session.selectOne(COUNT_EXPIRED_STATEMENT, dto);
+      metrics.recordHistoryCleanupBacklog(partitionId, backlog);
+      currentCleanupInterval = config.minCleanupInterval();
+      return currentCleanupInterval;
+    }
+  }
+
+  private Duration backOff() {
+    final var doubledInterval = currentCleanupInterval.multipliedBy(2);
+    currentCleanupInterval =
+        doubledInterval.compareTo(config.maxCleanupInterval()) > 0
+            ? config.maxCleanupInterval()
+            : doubledInterval;
+    return currentCleanupInterval;
+  }
+
+  private record CleanupStatement(String tableName, String statementId) {}
+}
@@ -8,6 +8,7 @@
 package io.camunda.db.rdbms.write.service;
 
 import io.camunda.db.rdbms.sql.ProcessInstanceMapper.EndProcessInstanceDto;
+import io.camunda.db.rdbms.sql.ProcessInstanceMapper.HistoryCleanupDateDto;
 import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
 import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel.ProcessInstanceDbModelBuilder;
 import io.camunda.db.rdbms.write.queue.ContextType;
@@ -50,6 +51,15 @@ public class ProcessInstanceWriter {
     }
   }
 
+  public void scheduleForHistoryCleanup(final long key, final OffsetDateTime historyCleanupDate) {
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            key,
+            "io.camunda.db.rdbms.sql.ProcessInstanceMapper.updateHistoryCleanupDate",
+            new HistoryCleanupDateDto(key, historyCleanupDate)));
+  }
+
   public void createIncident(final long key) {
     final boolean wasMerged = mergeToQueue(key, b -> b.numIncidents(b.numIncidents() + 1));
 
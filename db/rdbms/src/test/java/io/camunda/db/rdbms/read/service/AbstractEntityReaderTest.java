@@ -19,6 +19,7 @@ import io.camunda.db.rdbms.read.domain.DbQuerySorting.SortingEntry;
 import io.camunda.db.rdbms.sql.columns.ProcessInstanceSearchColumn;
 import io.camunda.search.entities.ProcessInstanceEntity;
 import io.camunda.search.page.SearchQueryPage;
+import io.camunda.search.page.SearchQueryPage.CountMode;
 import io.camunda.search.sort.ProcessInstanceSort;
 import io.camunda.search.sort.SortOption.FieldSorting;
 import io.camunda.search.sort.SortOrder;
@@ -186,4 +187,43 @@ class AbstractEntityReaderTest {
                 "PROCESS_DEFINITION_NAME", Operator.EQUALS, "Test Process"),
             new KeySetPaginationFieldEntry("PROCESS_INSTANCE_KEY", Operator.LOWER, 42L));
   }
+
+  @Test
+  void convertWithCappedCountMode() {
+    final DbQuerySorting<ProcessInstanceEntity> sort =
+        DbQuerySorting.of(
+            b -> b.addEntry(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.ASC));
+    final SearchQueryPage page = new SearchQueryPage(0, 10, null, null, CountMode.CAPPED);
+
+    final DbQueryPage result = AbstractEntityReader.convertPaging(sort, page);
+
+    assertThat(result.countLimit()).isEqualTo(SearchQueryPage.COUNT_LIMIT + 1);
+  }
+
+  @Test
+  void shouldCapTotalHits() {
+    final var reader = new ProcessInstanceReader(null);
+    final SearchQueryPage page = new SearchQueryPage(0, 10, null, null, CountMode.CAPPED);
+
+    final var result =
+        reader.buildSearchQueryResult(
+            page, SearchQueryPage.COUNT_LIMIT + 1L, List.of(), DbQuerySorting.of(b -> b));
+
+    assertThat(result.total()).isEqualTo(SearchQueryPage.COUNT_LIMIT);
+    assertThat(result.hasMoreTotalItems()).isTrue();
+  }
+
+  @Test
+  void shouldEstimateTotalHitsWithoutCount() {
+    final var reader = new ProcessInstanceReader(null);
+    final SearchQueryPage page = new SearchQueryPage(20, 2, null, null, CountMode.NONE);
+    final List<ProcessInstanceEntity> hits =
+        List.of(
+            Mockito.mock(ProcessInstanceEntity.class), Mockito.mock(ProcessInstanceEntity.class));
+
+    final var result = reader.buildSearchQueryResult(page, null, hits, DbQuerySorting.of(b -> b));
+
+    assertThat(result.total()).isEqualTo(22);
+    assertThat(result.hasMoreTotalItems()).isTrue();
+  }
 }
@@ -11,11 +11,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -77,10 +81,104 @@ class DefaultExecutionQueueTest {
         .openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
     verify(session).update("statement1", "parameter1");
     verify(session).update("statement2", "parameter2");
-    verify(session).flushStatements();
+    // one JDBC batch per statement
+    verify(session, times(5)).flushStatements();
+    verify(session).commit();
+  }
+
+  @Test
+  public void whenFlushIsCalledItemsOfSameStatementAreBatchedTogether() {
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 2L, "statement1", "parameter2"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 3L, "statement2", "parameter3"));
+
+    // when
+    executionQueue.flush();
+
+    verify(session, times(2)).flushStatements();
+    verify(metrics).recordStatementBatch(Mockito.eq("statement1"), Mockito.eq(2), Mockito.any());
+    verify(metrics).recordStatementBatch(Mockito.eq("statement2"), Mockito.eq(1), Mockito.any());
     verify(session).commit();
   }
 
+  @Test
+  public void whenFlushIsAsyncNewItemsAreCollectedForNextFlush() {
+    executionQueue =
+        new DefaultExecutionQueue(
+            sqlSessionFactory, 1, 0, metrics, Executors.newSingleThreadExecutor());
+    final var preFlushListener = mock(PreFlushListener.class);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPreFlushListener(preFlushListener);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1"));
+
+    // when
+    final var flushed = executionQueue.flushAsync();
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 2L, "statement2", "parameter2"));
+
+    // then
+    assertThat(flushed.join()).isOne();
+    verify(preFlushListener).onPreFlush();
+    verify(postFlushListener).onPostFlush();
+    verify(session).update("statement1", "parameter1");
+    verify(session, never()).update("statement2", "parameter2");
+    assertThat(executionQueue.getQueue()).hasSize(1);
+
+    executionQueue.close();
+  }
+
+  @Test
+  public void whenFlushIsCalledItemsOfPreFlushListenersAreFlushedInSameTransaction() {
+    executionQueue.registerPreFlushListener(
+        () ->
+            executionQueue.executeInQueue(
+                new QueueItem(ContextType.EXPORTER_POSITION, 1L, "position", "parameter2")));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1"));
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(2);
+    final var inOrder = Mockito.inOrder(session);
+    inOrder.verify(session).update("position", "parameter2");
+    inOrder.verify(session).update("statement1", "parameter1");
+    inOrder.verify(session).commit();
+    verify(session).commit();
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void whenAsyncFlushFailsItemsAreFlushedAgain() {
+    executionQueue =
+        new DefaultExecutionQueue(
+            sqlSessionFactory, 1, 0, metrics, Executors.newSingleThreadExecutor());
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1"));
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e).thenReturn(List.of());
+
+    // when
+    final var failedFlush = executionQueue.flushAsync();
+    assertThatThrownBy(failedFlush::join).isInstanceOf(CompletionException.class).hasCause(e);
+    final var retriedItems = executionQueue.flush();
+
+    // then
+    assertThat(retriedItems).isOne();
+    verify(session, times(2)).update("statement1", "parameter1");
+    verify(session).rollback();
+    verify(session).commit();
+    assertThat(executionQueue.getQueue()).isEmpty();
+
+    executionQueue.close();
+  }
+
   @Test
   public void whenFlushIsCalledFlushShouldHappen() {
     final var item1 = new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1");
@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.db.rdbms.sql.ProcessInstanceMapper.HistoryCleanupDto;
+import io.camunda.db.rdbms.write.HistoryCleanupConfig;
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class HistoryCleanupServiceTest {
+
+  private static final OffsetDateTime NOW = OffsetDateTime.now();
+  private static final long PARTITION_ID = 2L;
+  private static final HistoryCleanupConfig CONFIG =
+      new HistoryCleanupConfig(Duration.ofDays(1), 2, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+  private SqlSession session;
+  private ProcessInstanceWriter processInstanceWriter;
+  private SimpleMeterRegistry meterRegistry;
+  private HistoryCleanupService service;
+
+  @BeforeEach
+  void setUp() {
+    session = mock(SqlSession.class);
+    final var sessionFactory = mock(SqlSessionFactory.class);
+    when(sessionFactory.openSession()).thenReturn(session);
+    processInstanceWriter = mock(ProcessInstanceWriter.class);
+    meterRegistry = new SimpleMeterRegistry();
+    service =
+        new HistoryCleanupService(
+            sessionFactory,
+            processInstanceWriter,
+            CONFIG,
+            new RdbmsWriterMetrics(meterRegistry),
+            PARTITION_ID);
+  }
+
+  @Test
+  void shouldScheduleFinishedProcessInstanceForCleanup() {
+    service.scheduleProcessForHistoryCleanup(1L, NOW);
+
+    verify(processInstanceWriter).scheduleForHistoryCleanup(1L, NOW.plusDays(1));
+  }
+
+  @Test
+  void shouldNotScheduleProcessInstanceWhenDisabled() {
+    final var disabledConfig =
+        new HistoryCleanupConfig(Duration.ZERO, 2, Duration.ofSeconds(1), Duration.ofSeconds(5));
+    final var disabledService =
+        new HistoryCleanupService(
+            mock(SqlSessionFactory.class),
+            processInstanceWriter,
+            disabledConfig,
+            new RdbmsWriterMetrics(meterRegistry),
+            PARTITION_ID);
+
+    disabledService.scheduleProcessForHistoryCleanup(1L, NOW);
+
+    assertThat(disabledService.isEnabled()).isFalse();
+    verify(processInstanceWriter, never()).scheduleForHistoryCleanup(anyLong(), any());
+  }
+
+  @Test
+  void shouldSelectExpiredProcessInstancesOfOwnPartition() {
+    service.cleanupHistory(NOW);
+
+    final var dtoCaptor = ArgumentCaptor.forClass(HistoryCleanupDto.class);
+    verify(session).selectList(anyString(), dtoCaptor.capture());
+    final var dto = dtoCaptor.getValue();
+    assertThat(dto.cleanupDate()).isEqualTo(NOW);
+    assertThat(dto.minProcessInstanceKey()).isEqualTo(PARTITION_ID << 51);
+    assertThat(dto.maxProcessInstanceKey()).isEqualTo((PARTITION_ID + 1) << 51);
+    assertThat(dto.page().size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldDeleteRelatedRowsBeforeProcessInstances() {
+    final List<Long> keys = List.of(1L);
+    when(session.<Long>selectList(anyString(), any())).thenReturn(keys);
+    when(session.delete(anyString(), eq(keys))).thenReturn(1);
+
+    service.cleanupHistory(NOW);
+
+    final var inOrder = inOrder(session);
+    inOrder
+        .verify(session)
+        .delete("io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.deleteByProcessInstanceKeys", keys);
+    inOrder
+        .verify(session)
+        .delete("io.camunda.db.rdbms.sql.UserTaskMapper.deleteByProcessInstanceKeys", keys);
+    inOrder
+        .verify(session)
+        .delete("io.camunda.db.rdbms.sql.ProcessInstanceMapper.deleteByKeys", keys);
+    inOrder.verify(session).commit();
+    assertThat(
+            meterRegistry
+                .get("zeebe.rdbms.exporter.history.cleanup.deleted.rows")
+                .tag("table", "PROCESS_INSTANCE")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldRunAgainInMinIntervalWhileThereIsBacklog() {
+    when(session.<Long>selectList(anyString(), any())).thenReturn(List.of(1L, 2L));
+    when(session.selectOne(anyString(), any())).thenReturn(5L);
+
+    final var nextInterval = service.cleanupHistory(NOW);
+
+    assertThat(nextInterval).isEqualTo(Duration.ofSeconds(1));
+    assertThat(meterRegistry.get("zeebe.rdbms.exporter.history.cleanup.backlog").gauge().value())
+        .isEqualTo(5);
+  }
+
+  @Test
+  void shouldBackOffUpToMaxIntervalWhenNothingIsExpired() {
+    when(session.<Long>selectList(anyString(), any())).thenReturn(List.of());
+
+    final var firstInterval = service.cleanupHistory(NOW);
+    final var secondInterval = service.cleanupHistory(NOW);
+    final var thirdInterval = service.cleanupHistory(NOW);
+
+    assertThat(firstInterval).isEqualTo(Duration.ofSeconds(2));
+    assertThat(secondInterval).isEqualTo(Duration.ofSeconds(4));
+    assertThat(thirdInterval).isEqualTo(Duration.ofSeconds(5));
+    verify(session, never()).delete(anyString(), any());
+  }
+}
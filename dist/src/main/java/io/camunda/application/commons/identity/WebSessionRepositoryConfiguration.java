@@ -7,8 +7,11 @@
  */
 package io.camunda.application.commons.identity;
 
+import io.camunda.authentication.session.CompressingWebSessionAttributeConverter;
 import io.camunda.authentication.session.ConditionalOnPersistentWebSessionEnabled;
+import io.camunda.authentication.session.WebSessionCache;
 import io.camunda.authentication.session.WebSessionDeletionTask;
+import io.camunda.authentication.session.WebSessionFlushTask;
 import io.camunda.authentication.session.WebSessionMapper;
 import io.camunda.authentication.session.WebSessionMapper.SpringBasedWebSessionAttributeConverter;
 import io.camunda.authentication.session.WebSessionRepository;
@@ -66,9 +69,14 @@ public class WebSessionRepositoryConfiguration {
       final PersistentWebSessionClient persistentWebSessionClient,
       final HttpServletRequest request) {
     final var webSessionAttributeConverter =
-        new SpringBasedWebSessionAttributeConverter(conversionService);
+        new CompressingWebSessionAttributeConverter(
+            new SpringBasedWebSessionAttributeConverter(conversionService));
     final var webSessionMapper = new WebSessionMapper(webSessionAttributeConverter);
-    return new WebSessionRepository(persistentWebSessionClient, webSessionMapper, request);
+    return new WebSessionRepository(
+        persistentWebSessionClient,
+        webSessionMapper,
+        request,
+        new WebSessionCache(WebSessionCache.DEFAULT_MAX_SIZE));
   }
 
   @Bean("persistentWebSessionDeletionTaskExecutor")
@@ -82,6 +90,13 @@ public class WebSessionRepositoryConfiguration {
             WebSessionDeletionTask.DELETE_EXPIRED_SESSIONS_DELAY),
         WebSessionDeletionTask.DELETE_EXPIRED_SESSIONS_DELAY,
         TimeUnit.MILLISECONDS);
+    executor.schedule(
+        new SelfSchedulingTask(
+            executor,
+            new WebSessionFlushTask(webSessionRepository),
+            WebSessionFlushTask.FLUSH_LAST_ACCESSED_TIMES_DELAY),
+        WebSessionFlushTask.FLUSH_LAST_ACCESSED_TIMES_DELAY,
+        TimeUnit.MILLISECONDS);
     return executor;
   }
 
@@ -10,6 +10,7 @@ package io.camunda.application.commons.job;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.gateway.impl.configuration.LongPollingCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
@@ -48,6 +49,12 @@ public class JobHandlerConfiguration {
     return JobActivationRequestResponseObserver::new;
   }
 
+  /** Shared with the gRPC gateway, such that jobs finished via REST release their stream credit. */
+  @Bean
+  public JobFinishedNotifier jobFinishedNotifier() {
+    return new JobFinishedNotifier();
+  }
+
   @Bean
   public ActivateJobsHandler<JobActivationResponse> activateJobsHandler() {
     final var handler = buildActivateJobsHandler(brokerClient);
@@ -55,6 +55,7 @@ import io.camunda.service.VariableServices;
 import io.camunda.service.security.SecurityContextProvider;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled;
 import org.springframework.context.annotation.Bean;
@@ -78,8 +79,10 @@ public class CamundaServicesConfiguration {
   public JobServices<JobActivationResponse> jobServices(
       final BrokerClient brokerClient,
       final SecurityContextProvider securityContextProvider,
-      final ActivateJobsHandler<JobActivationResponse> activateJobsHandler) {
-    return new JobServices<>(brokerClient, securityContextProvider, activateJobsHandler, null);
+      final ActivateJobsHandler<JobActivationResponse> activateJobsHandler,
+      final JobFinishedNotifier jobFinishedNotifier) {
+    return new JobServices<>(
+        brokerClient, securityContextProvider, activateJobsHandler, jobFinishedNotifier, null);
   }
 
   @Bean
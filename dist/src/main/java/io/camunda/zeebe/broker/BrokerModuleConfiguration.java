@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
 import io.camunda.zeebe.broker.system.SystemContext;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.FileUtil;
@@ -56,6 +57,7 @@ public class BrokerModuleConfiguration implements CloseableSilently {
   private final MeterRegistry meterRegistry;
   private final SecurityConfiguration securityConfiguration;
   private final UserServices userServices;
+  private final JobFinishedNotifier jobFinishedNotifier;
   private final PasswordEncoder passwordEncoder;
 
   private Broker broker;
@@ -73,6 +75,8 @@ public class BrokerModuleConfiguration implements CloseableSilently {
       final SecurityConfiguration securityConfiguration,
       // The UserServices class is not available if you want to start-up the Standalone Broker
       @Autowired(required = false) final UserServices userServices,
+      // the notifier is only available if the REST API is enabled
+      @Autowired(required = false) final JobFinishedNotifier jobFinishedNotifier,
       final PasswordEncoder passwordEncoder) {
     this.configuration = configuration;
     this.identityConfiguration = identityConfiguration;
@@ -84,6 +88,7 @@ public class BrokerModuleConfiguration implements CloseableSilently {
     this.meterRegistry = meterRegistry;
     this.securityConfiguration = securityConfiguration;
     this.userServices = userServices;
+    this.jobFinishedNotifier = jobFinishedNotifier;
     this.passwordEncoder = passwordEncoder;
   }
 
@@ -114,6 +119,9 @@ public class BrokerModuleConfiguration implements CloseableSilently {
             passwordEncoder);
     springBrokerBridge.registerShutdownHelper(
         errorCode -> shutdownHelper.initiateShutdown(errorCode));
+    if (jobFinishedNotifier != null) {
+      springBrokerBridge.registerJobFinishedNotifier(jobFinishedNotifier);
+    }
     broker =
         new Broker(systemContext, springBrokerBridge, Collections.emptyList(), exporterRepository);
 
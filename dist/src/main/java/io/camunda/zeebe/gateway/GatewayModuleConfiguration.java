@@ -15,10 +15,12 @@ import io.camunda.service.UserServices;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.SpringGatewayBridge;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.impl.stream.JobStreamClient;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.VersionUtil;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
@@ -60,6 +62,7 @@ public class GatewayModuleConfiguration implements CloseableSilently {
   private final AtomixCluster atomixCluster;
   private final BrokerClient brokerClient;
   private final JobStreamClient jobStreamClient;
+  private final JobFinishedNotifier jobFinishedNotifier;
   private final UserServices userServices;
   private final PasswordEncoder passwordEncoder;
 
@@ -75,6 +78,8 @@ public class GatewayModuleConfiguration implements CloseableSilently {
       final AtomixCluster atomixCluster,
       final BrokerClient brokerClient,
       final JobStreamClient jobStreamClient,
+      // the notifier is only available if the REST API is enabled
+      @Autowired(required = false) final JobFinishedNotifier jobFinishedNotifier,
       @Autowired(required = false) final UserServices userServices,
       final PasswordEncoder passwordEncoder) {
     this.configuration = configuration;
@@ -85,6 +90,8 @@ public class GatewayModuleConfiguration implements CloseableSilently {
     this.atomixCluster = atomixCluster;
     this.brokerClient = brokerClient;
     this.jobStreamClient = jobStreamClient;
+    this.jobFinishedNotifier =
+        Objects.requireNonNullElseGet(jobFinishedNotifier, JobFinishedNotifier::new);
     this.userServices = userServices;
     this.passwordEncoder = passwordEncoder;
   }
@@ -111,6 +118,7 @@ public class GatewayModuleConfiguration implements CloseableSilently {
             brokerClient,
             actorScheduler,
             jobStreamClient.streamer(),
+            jobFinishedNotifier,
             userServices,
             passwordEncoder);
     springGatewayBridge.registerGatewayStatusSupplier(gateway::getStatus);
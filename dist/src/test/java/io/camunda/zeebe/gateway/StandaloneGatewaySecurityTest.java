@@ -220,6 +220,7 @@ final class StandaloneGatewaySecurityTest {
         brokerClient,
         jobStreamClient,
         null,
+        null,
         null);
   }
 }
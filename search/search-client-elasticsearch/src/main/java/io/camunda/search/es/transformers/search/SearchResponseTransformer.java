@@ -10,6 +10,7 @@ package io.camunda.search.es.transformers.search;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
 import io.camunda.search.clients.core.SearchQueryHit;
 import io.camunda.search.clients.core.SearchQueryResponse;
 import io.camunda.search.es.transformers.ElasticsearchTransformer;
@@ -32,12 +33,15 @@ public final class SearchResponseTransformer<T>
 
     final var total = hits.total();
     final var totalHits = of(total);
+    // the search engine stops counting once it tracked enough hits, e.g. 10,000 by default
+    final var hasMoreTotalHits = total != null && total.relation() == TotalHitsRelation.Gte;
 
     final var sourceHits = hits.hits();
     final var transformedHits = of(sourceHits);
 
     return new SearchQueryResponse.Builder<T>()
         .totalHits(totalHits)
+        .hasMoreTotalHits(hasMoreTotalHits)
         .scrollId(scrollId)
         .hits(transformedHits)
         .build();
@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.opensearch.client.opensearch.core.search.TotalHits;
+import org.opensearch.client.opensearch.core.search.TotalHitsRelation;
 
 public final class SearchResponseTransformer<T>
     extends OpensearchTransformer<SearchResponse<T>, SearchQueryResponse<T>> {
@@ -32,12 +33,15 @@ public final class SearchResponseTransformer<T>
 
     final var total = hits.total();
     final var totalHits = of(total);
+    // the search engine stops counting once it tracked enough hits, e.g. 10,000 by default
+    final var hasMoreTotalHits = total != null && total.relation() == TotalHitsRelation.Gte;
 
     final var sourceHits = hits.hits();
     final var transformedHits = of(sourceHits);
 
     return new SearchQueryResponse.Builder<T>()
         .totalHits(totalHits)
+        .hasMoreTotalHits(hasMoreTotalHits)
         .scrollId(scrollId)
         .hits(transformedHits)
         .build();
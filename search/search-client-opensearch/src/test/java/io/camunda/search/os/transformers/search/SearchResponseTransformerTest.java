@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.os.transformers.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.search.os.transformers.OpensearchTransformers;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.TotalHitsRelation;
+
+class SearchResponseTransformerTest {
+
+  private final SearchResponseTransformer<Object> transformer =
+      new SearchResponseTransformer<>(new OpensearchTransformers());
+
+  @Test
+  void shouldReportMoreTotalHitsIfNotCountedExactly() {
+    // given
+    final var response = searchResponse(10_000, TotalHitsRelation.Gte);
+
+    // when
+    final var result = transformer.apply(response);
+
+    // then
+    assertThat(result.totalHits()).isEqualTo(10_000);
+    assertThat(result.hasMoreTotalHits()).isTrue();
+  }
+
+  @Test
+  void shouldNotReportMoreTotalHitsIfCountedExactly() {
+    // given
+    final var response = searchResponse(42, TotalHitsRelation.Eq);
+
+    // when
+    final var result = transformer.apply(response);
+
+    // then
+    assertThat(result.totalHits()).isEqualTo(42);
+    assertThat(result.hasMoreTotalHits()).isFalse();
+  }
+
+  private SearchResponse<Object> searchResponse(
+      final long totalHits, final TotalHitsRelation relation) {
+    return new SearchResponse.Builder<Object>()
+        .took(1)
+        .timedOut(false)
+        .shards(s -> s.total(1).successful(1).failed(0))
+        .hits(h -> h.total(t -> t.value(totalHits).relation(relation)).hits(List.of()))
+        .build();
+  }
+}
@@ -13,8 +13,19 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
+/**
+ * @param totalHits the total number of hits matching the query; a lower bound if {@code
+ *     hasMoreTotalHits} is set
+ * @param hasMoreTotalHits true if more hits than {@code totalHits} may match the query, because the
+ *     search engine stopped counting them
+ */
 public final record SearchQueryResponse<T>(
-    long totalHits, String scrollId, List<SearchQueryHit<T>> hits) {
+    long totalHits, boolean hasMoreTotalHits, String scrollId, List<SearchQueryHit<T>> hits) {
+
+  public SearchQueryResponse(
+      final long totalHits, final String scrollId, final List<SearchQueryHit<T>> hits) {
+    this(totalHits, false, scrollId, hits);
+  }
 
   public static <T> SearchQueryResponse<T> of(
       final Function<Builder<T>, ObjectBuilder<SearchQueryResponse<T>>> fn) {
@@ -24,6 +35,7 @@ public final record SearchQueryResponse<T>(
   public static final class Builder<T> implements ObjectBuilder<SearchQueryResponse<T>> {
 
     private long totalHits;
+    private boolean hasMoreTotalHits;
     private String scrollId;
     private List<SearchQueryHit<T>> hits;
 
@@ -32,6 +44,11 @@ public final record SearchQueryResponse<T>(
       return this;
     }
 
+    public Builder<T> hasMoreTotalHits(final boolean value) {
+      hasMoreTotalHits = value;
+      return this;
+    }
+
     public Builder<T> scrollId(final String value) {
       scrollId = value;
       return this;
@@ -45,7 +62,10 @@ public final record SearchQueryResponse<T>(
     @Override
     public SearchQueryResponse<T> build() {
       return new SearchQueryResponse<T>(
-          totalHits, scrollId, Objects.requireNonNullElse(hits, Collections.emptyList()));
+          totalHits,
+          hasMoreTotalHits,
+          scrollId,
+          Objects.requireNonNullElse(hits, Collections.emptyList()));
     }
   }
 }
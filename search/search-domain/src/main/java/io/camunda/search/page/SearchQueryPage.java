@@ -11,13 +11,28 @@ import io.camunda.util.ObjectBuilder;
 import java.util.function.Function;
 
 public record SearchQueryPage(
-    Integer from, Integer size, Object[] searchAfter, Object[] searchBefore) {
+    Integer from,
+    Integer size,
+    Object[] searchAfter,
+    Object[] searchBefore,
+    CountMode countMode) {
 
   public static final Integer DEFAULT_FROM = 0;
   public static final Integer DEFAULT_SIZE = 100;
 
+  /** The number of hits up to which they are counted with {@link CountMode#CAPPED}. */
+  public static final int COUNT_LIMIT = 10_000;
+
   public static final SearchQueryPage DEFAULT = new Builder().build();
 
+  public SearchQueryPage(
+      final Integer from,
+      final Integer size,
+      final Object[] searchAfter,
+      final Object[] searchBefore) {
+    this(from, size, searchAfter, searchBefore, CountMode.EXACT);
+  }
+
   public boolean isNextPage() {
     return searchAfter != null || !isPreviousPage();
   }
@@ -41,6 +56,7 @@ public record SearchQueryPage(
         .size(size)
         .searchAfter(searchAfter)
         .searchBefore(searchBefore)
+        .countMode(countMode)
         .build();
   }
 
@@ -54,6 +70,7 @@ public record SearchQueryPage(
     private Integer size = DEFAULT_SIZE;
     private Object[] searchAfter;
     private Object[] searchBefore;
+    private CountMode countMode = CountMode.EXACT;
 
     public Builder from(final Integer value) {
       from = value;
@@ -75,11 +92,34 @@ public record SearchQueryPage(
       return this;
     }
 
+    public Builder countMode(final CountMode value) {
+      countMode = value;
+      return this;
+    }
+
     @Override
     public SearchQueryPage build() {
       final var sanitizedFrom = (from == null) ? DEFAULT_FROM : Math.max(0, from);
       final var sanitizedSize = (size == null) ? DEFAULT_SIZE : Math.max(0, size);
-      return new SearchQueryPage(sanitizedFrom, sanitizedSize, searchAfter, searchBefore);
+      final var sanitizedCountMode = (countMode == null) ? CountMode.EXACT : countMode;
+      return new SearchQueryPage(
+          sanitizedFrom, sanitizedSize, searchAfter, searchBefore, sanitizedCountMode);
     }
   }
+
+  /** Defines how the total number of hits matching a search query is determined. */
+  public enum CountMode {
+    /** Counts all hits. */
+    EXACT,
+    /**
+     * Counts hits up to {@link #COUNT_LIMIT}; if there are more, the total is reported as the limit
+     * and marked as a lower bound.
+     */
+    CAPPED,
+    /**
+     * Does not count hits at all; the total is reported as the number of hits up to and including
+     * the returned page, and marked as a lower bound if the page is full.
+     */
+    NONE
+  }
 }
@@ -12,12 +12,31 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * @param total the total number of hits matching the query; a lower bound if {@code
+ *     hasMoreTotalItems} is set
+ * @param hasMoreTotalItems true if more hits than {@code total} may match the query, because they
+ *     were not counted exactly
+ */
 public record SearchQueryResult<T>(
-    long total, List<T> items, Object[] firstSortValues, Object[] lastSortValues) {
+    long total,
+    boolean hasMoreTotalItems,
+    List<T> items,
+    Object[] firstSortValues,
+    Object[] lastSortValues) {
+
+  public SearchQueryResult(
+      final long total,
+      final List<T> items,
+      final Object[] firstSortValues,
+      final Object[] lastSortValues) {
+    this(total, false, items, firstSortValues, lastSortValues);
+  }
 
   public static final class Builder<T> implements ObjectBuilder<SearchQueryResult<T>> {
 
     private long total;
+    private boolean hasMoreTotalItems;
     private List<T> items;
     private Object[] firstSortValues;
     private Object[] lastSortValues;
@@ -27,6 +46,11 @@ public record SearchQueryResult<T>(
       return this;
     }
 
+    public Builder<T> hasMoreTotalItems(final boolean value) {
+      hasMoreTotalItems = value;
+      return this;
+    }
+
     public Builder<T> items(final List<T> values) {
       items = values;
       return this;
@@ -46,6 +70,7 @@ public record SearchQueryResult<T>(
     public SearchQueryResult<T> build() {
       return new SearchQueryResult<T>(
           total,
+          hasMoreTotalItems,
           Objects.requireNonNullElse(items, Collections.emptyList()),
           firstSortValues,
           lastSortValues);
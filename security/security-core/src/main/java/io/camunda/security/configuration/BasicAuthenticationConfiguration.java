@@ -7,9 +7,22 @@
  */
 package io.camunda.security.configuration;
 
+import java.time.Duration;
+
 public class BasicAuthenticationConfiguration {
+  private static final Duration DEFAULT_USER_CACHE_TTL = Duration.ofSeconds(30);
+  private static final int DEFAULT_USER_CACHE_MAX_SIZE = 10_000;
+
   private boolean allowUnauthenticatedApiAccess = true;
 
+  /**
+   * How long a resolved user, with its roles, tenants and authorized applications, is cached. A
+   * zero duration disables the cache.
+   */
+  private Duration userCacheTtl = DEFAULT_USER_CACHE_TTL;
+
+  private int userCacheMaxSize = DEFAULT_USER_CACHE_MAX_SIZE;
+
   public boolean getAllowUnauthenticatedApiAccess() {
     return allowUnauthenticatedApiAccess;
   }
@@ -17,4 +30,20 @@ public class BasicAuthenticationConfiguration {
   public void setAllowUnauthenticatedApiAccess(final boolean value) {
     allowUnauthenticatedApiAccess = value;
   }
+
+  public Duration getUserCacheTtl() {
+    return userCacheTtl;
+  }
+
+  public void setUserCacheTtl(final Duration userCacheTtl) {
+    this.userCacheTtl = userCacheTtl;
+  }
+
+  public int getUserCacheMaxSize() {
+    return userCacheMaxSize;
+  }
+
+  public void setUserCacheMaxSize(final int userCacheMaxSize) {
+    this.userCacheMaxSize = userCacheMaxSize;
+  }
 }
@@ -16,6 +16,10 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletion;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.impl.job.ResponseObserver;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobResult;
@@ -27,20 +31,27 @@ import java.util.function.Consumer;
 public final class JobServices<T> extends ApiServices<JobServices<T>> {
 
   private final ActivateJobsHandler<T> activateJobsHandler;
+  private final JobFinishedNotifier jobFinishedNotifier;
 
   public JobServices(
       final BrokerClient brokerClient,
       final SecurityContextProvider securityContextProvider,
       final ActivateJobsHandler<T> activateJobsHandler,
+      final JobFinishedNotifier jobFinishedNotifier,
       final Authentication authentication) {
     super(brokerClient, securityContextProvider, authentication);
     this.activateJobsHandler = activateJobsHandler;
+    this.jobFinishedNotifier = jobFinishedNotifier;
   }
 
   @Override
   public JobServices<T> withAuthentication(final Authentication authentication) {
     return new JobServices<>(
-        brokerClient, securityContextProvider, activateJobsHandler, authentication);
+        brokerClient,
+        securityContextProvider,
+        activateJobsHandler,
+        jobFinishedNotifier,
+        authentication);
   }
 
   public void activateJobs(
@@ -69,6 +80,7 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
         new BrokerFailJobRequest(jobKey, retries, retryBackOff)
             .setVariables(getDocumentOrEmpty(variables))
             .setErrorMessage(errorMessage);
+    jobFinishedNotifier.onJobFinished(jobKey);
     return sendBrokerRequest(request);
   }
 
@@ -81,15 +93,34 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
         new BrokerThrowErrorRequest(jobKey, errorCode)
             .setErrorMessage(errorMessage)
             .setVariables(getDocumentOrEmpty(variables));
+    jobFinishedNotifier.onJobFinished(jobKey);
     return sendBrokerRequest(request);
   }
 
   public CompletableFuture<JobRecord> completeJob(
       final long jobKey, final Map<String, Object> variables, final JobResult result) {
+    jobFinishedNotifier.onJobFinished(jobKey);
     return sendBrokerRequest(
         new BrokerCompleteJobRequest(jobKey, getDocumentOrEmpty(variables), result));
   }
 
+  /**
+   * Completes all given jobs, writing the completions of each partition as a single batch. The
+   * returned future is never completed exceptionally; failures are reported per job instead.
+   */
+  public CompletableFuture<List<JobCompletionResult>> completeJobs(
+      final List<JobCompletionItem> items) {
+    final var jobs =
+        items.stream()
+            .map(
+                item ->
+                    new JobCompletion(
+                        item.jobKey(), getDocumentOrEmpty(item.variables()), item.result()))
+            .toList();
+    jobs.forEach(job -> jobFinishedNotifier.onJobFinished(job.jobKey()));
+    return new CompleteJobsHandler(brokerClient).completeJobs(jobs, authentication.claims());
+  }
+
   public CompletableFuture<JobRecord> updateJob(
       final long jobKey, final UpdateJobChangeset changeset) {
     return sendBrokerRequest(
@@ -105,5 +136,7 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
       List<String> fetchVariable,
       long requestTimeout) {}
 
+  public record JobCompletionItem(long jobKey, Map<String, Object> variables, JobResult result) {}
+
   public record UpdateJobChangeset(Integer retries, Long timeout) {}
 }
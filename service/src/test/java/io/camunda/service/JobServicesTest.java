@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.camunda.security.auth.Authentication;
+import io.camunda.service.security.SecurityContextProvider;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobResult;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public final class JobServicesTest {
+
+  private final List<Long> finishedJobs = new CopyOnWriteArrayList<>();
+  private JobServices<Object> services;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void before() {
+    final var jobFinishedNotifier = new JobFinishedNotifier();
+    jobFinishedNotifier.addListener(finishedJobs::add);
+    services =
+        new JobServices<>(
+            new StubbedBrokerClient(),
+            mock(SecurityContextProvider.class),
+            mock(ActivateJobsHandler.class),
+            jobFinishedNotifier,
+            Authentication.of(builder -> builder.user("foo")));
+  }
+
+  @Test
+  public void shouldNotifyJobFinishedOnComplete() {
+    // when
+    services.completeJob(1L, Map.of(), new JobResult());
+
+    // then - the job stream this job was pushed to gets its credit back
+    assertThat(finishedJobs).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotifyJobFinishedOnFail() {
+    // when
+    services.failJob(2L, 3, "failed", 0L, Map.of());
+
+    // then
+    assertThat(finishedJobs).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldNotifyJobFinishedOnError() {
+    // when
+    services.errorJob(3L, "error", "thrown", Map.of());
+
+    // then
+    assertThat(finishedJobs).containsExactly(3L);
+  }
+
+  @Test
+  public void shouldNotNotifyJobFinishedOnUpdate() {
+    // when
+    services.updateJob(4L, new JobServices.UpdateJobChangeset(3, null));
+
+    // then
+    assertThat(finishedJobs).isEmpty();
+  }
+}
@@ -11,6 +11,13 @@ public class FeatureFlagProperties {
 
   private Boolean processPublicEndpoints = true;
 
+  /**
+   * If enabled, task variable filters of created tasks are evaluated by the search engine as part
+   * of the task query, using the variable documents joined to the tasks, instead of collecting all
+   * matching process instance and task ids in Tasklist first.
+   */
+  private Boolean variableFilterInQuery = false;
+
   public Boolean getProcessPublicEndpoints() {
     return processPublicEndpoints;
   }
@@ -19,4 +26,13 @@ public class FeatureFlagProperties {
     this.processPublicEndpoints = processPublicEndpoints;
     return this;
   }
+
+  public Boolean getVariableFilterInQuery() {
+    return variableFilterInQuery;
+  }
+
+  public FeatureFlagProperties setVariableFilterInQuery(final Boolean variableFilterInQuery) {
+    this.variableFilterInQuery = variableFilterInQuery;
+    return this;
+  }
 }
@@ -16,11 +16,14 @@ import static io.camunda.tasklist.util.ElasticsearchUtil.mapSearchHits;
 import static java.util.stream.Collectors.toList;
 import static org.elasticsearch.action.support.WriteRequest.RefreshPolicy.WAIT_UNTIL;
 import static org.elasticsearch.index.query.QueryBuilders.*;
+import static org.elasticsearch.join.query.JoinQueryBuilders.hasChildQuery;
+import static org.elasticsearch.join.query.JoinQueryBuilders.hasParentQuery;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.data.conditionals.ElasticSearchCondition;
 import io.camunda.tasklist.exceptions.NotFoundException;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
+import io.camunda.tasklist.property.TasklistProperties;
 import io.camunda.tasklist.queries.Sort;
 import io.camunda.tasklist.queries.TaskByVariables;
 import io.camunda.tasklist.queries.TaskOrderBy;
@@ -36,9 +39,12 @@ import io.camunda.tasklist.views.TaskSearchView;
 import io.camunda.webapps.schema.descriptors.tasklist.template.SnapshotTaskVariableTemplate;
 import io.camunda.webapps.schema.descriptors.tasklist.template.TaskTemplate;
 import io.camunda.webapps.schema.entities.tasklist.TaskEntity;
+import io.camunda.webapps.schema.entities.tasklist.TaskJoinRelationship.TaskJoinRelationshipType;
 import io.camunda.webapps.schema.entities.tasklist.TaskState;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -51,6 +57,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.lucene.search.join.ScoreMode;
 import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
@@ -89,6 +96,10 @@ public class TaskStoreElasticSearch implements TaskStore {
           TaskState.CREATED, TaskTemplate.CREATION_TIME,
           TaskState.COMPLETED, TaskTemplate.COMPLETION_TIME,
           TaskState.CANCELED, TaskTemplate.COMPLETION_TIME);
+  private static final long NULL_DATE_ASC =
+      LocalDate.of(2099, 12, 31).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+  private static final long NULL_DATE_DESC =
+      LocalDate.of(1900, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
 
   @Autowired
   @Qualifier("tasklistEsClient")
@@ -102,6 +113,8 @@ public class TaskStoreElasticSearch implements TaskStore {
 
   @Autowired private VariableStore variableStoreElasticSearch;
 
+  @Autowired private TasklistProperties tasklistProperties;
+
   @Autowired
   @Qualifier("tasklistSnapshotTaskVariableTemplate")
   private SnapshotTaskVariableTemplate taskVariableTemplate;
@@ -381,15 +394,20 @@ public class TaskStoreElasticSearch implements TaskStore {
 
   private List<TaskSearchView> queryTasks(final TaskQuery query, final String taskId) {
     List<String> tasksIds = null;
+    QueryBuilder variablesQ = null;
     if (query.getTaskVariables() != null && query.getTaskVariables().length > 0) {
-      tasksIds = getTasksContainsVarNameAndValue(query.getTaskVariables());
-      if (tasksIds.isEmpty()) {
-        return new ArrayList<>();
+      if (isVariableFilterInQuery()) {
+        variablesQ = buildVariablesQuery(query);
+      } else {
+        tasksIds = getTasksContainsVarNameAndValue(query.getTaskVariables());
+        if (tasksIds.isEmpty()) {
+          return new ArrayList<>();
+        }
       }
     }
 
     if (taskId != null && !taskId.isEmpty()) {
-      if (query.getTaskVariables() != null && query.getTaskVariables().length > 0) {
+      if (tasksIds != null) {
         tasksIds = tasksIds.stream().filter(id -> !id.equals(taskId)).collect(toList());
         if (tasksIds.isEmpty()) {
           return new ArrayList<>();
@@ -400,7 +418,7 @@ public class TaskStoreElasticSearch implements TaskStore {
       }
     }
 
-    final QueryBuilder esQuery = buildQuery(query, tasksIds);
+    final QueryBuilder esQuery = buildQuery(query, tasksIds, variablesQ);
     // TODO #104 define list of fields
 
     // TODO we can play around with query type here (2nd parameter), e.g. when we select for only
@@ -462,7 +480,8 @@ public class TaskStoreElasticSearch implements TaskStore {
     }
   }
 
-  private QueryBuilder buildQuery(final TaskQuery query, final List<String> taskIds) {
+  private QueryBuilder buildQuery(
+      final TaskQuery query, final List<String> taskIds, final QueryBuilder variablesQ) {
     QueryBuilder stateQ = boolQuery().mustNot(termQuery(TaskTemplate.STATE, TaskState.CANCELED));
     if (query.getState() != null) {
       stateQ = termQuery(TaskTemplate.STATE, query.getState());
@@ -579,7 +598,8 @@ public class TaskStoreElasticSearch implements TaskStore {
             followUpQ,
             dueDateQ,
             implementationQ,
-            priorityQ);
+            priorityQ,
+            variablesQ);
     if (jointQ == null) {
       jointQ = matchAllQuery();
     }
@@ -635,7 +655,7 @@ public class TaskStoreElasticSearch implements TaskStore {
                 : orderBy.getOrder().equals(Sort.DESC) ? SortOrder.ASC : SortOrder.DESC;
 
         if (!orderBy.getField().equals(TaskSortFields.priority)) {
-          searchSourceBuilder.sort(applyDateSortScript(orderBy.getOrder(), field, sortOrder));
+          searchSourceBuilder.sort(applyDateSort(orderBy.getOrder(), field, sortOrder));
         } else {
           searchSourceBuilder.sort(
               mapNullInSort(
@@ -667,30 +687,15 @@ public class TaskStoreElasticSearch implements TaskStore {
     }
   }
 
-  private SortBuilder<?> applyDateSortScript(
+  /**
+   * Sorts by a date field, substituting missing dates such that tasks without the date come last
+   * in the requested order. Uses the field's doc values directly with a fixed missing value instead
+   * of a script, which would have to be evaluated for every matching task.
+   */
+  private SortBuilder<?> applyDateSort(
       final Sort sorting, final String field, final SortOrder sortOrder) {
-    final String nullDate;
-    if (sorting.equals(Sort.ASC)) {
-      nullDate = "2099-12-31";
-    } else {
-      nullDate = "1900-01-01";
-    }
-    final Script script =
-        new Script(
-            "def sf = new SimpleDateFormat(\"yyyy-MM-dd\"); "
-                + "def nullDate=sf.parse('"
-                + nullDate
-                + "');"
-                + "if(doc['"
-                + field
-                + "'].size() == 0){"
-                + "nullDate.getTime().toString()"
-                + "}else{"
-                + "doc['"
-                + field
-                + "'].value.getMillis().toString()"
-                + "}");
-    return SortBuilders.scriptSort(script, ScriptSortType.STRING).order(sortOrder);
+    final long nullDate = sorting.equals(Sort.ASC) ? NULL_DATE_ASC : NULL_DATE_DESC;
+    return SortBuilders.fieldSort(field).order(sortOrder).missing(String.valueOf(nullDate));
   }
 
   private void updateTask(final String taskId, final Map<String, Object> updateFields) {
@@ -738,6 +743,69 @@ public class TaskStoreElasticSearch implements TaskStore {
         .collect(Collectors.toList());
   }
 
+  private boolean isVariableFilterInQuery() {
+    return Boolean.TRUE.equals(tasklistProperties.getFeatureFlag().getVariableFilterInQuery());
+  }
+
+  /**
+   * Builds a query matching the tasks which have all the given variables. For created tasks, the
+   * variables visible to a task are resolved in the query itself: a local variable of the task
+   * shadows a process variable with the same name. Completed tasks are matched by their snapshot
+   * variables, which live in another index and are therefore only looked up when the query does
+   * not restrict the result to created tasks.
+   */
+  private QueryBuilder buildVariablesQuery(final TaskQuery query) {
+    final BoolQueryBuilder createdQ =
+        boolQuery().filter(termQuery(TaskTemplate.STATE, TaskState.CREATED));
+    for (final TaskByVariables variable : query.getTaskVariables()) {
+      createdQ.filter(buildVisibleVariableQuery(variable.getName(), variable.getValue()));
+    }
+
+    if (query.getState() == TaskState.CREATED) {
+      return createdQ;
+    }
+
+    final List<String> completedTaskIds =
+        getTasksIdsCompletedWithMatchingVars(
+            Arrays.stream(query.getTaskVariables()).map(TaskByVariables::getName).toList(),
+            Arrays.stream(query.getTaskVariables()).map(TaskByVariables::getValue).toList());
+    if (completedTaskIds.isEmpty()) {
+      return createdQ;
+    }
+
+    return boolQuery()
+        .should(createdQ)
+        .should(termsQuery(TaskTemplate.KEY, completedTaskIds))
+        .minimumShouldMatch(1);
+  }
+
+  private QueryBuilder buildVisibleVariableQuery(final String name, final String value) {
+    final QueryBuilder variableQ =
+        boolQuery()
+            .filter(termQuery(TaskTemplate.VARIABLE_NAME, name))
+            .filter(termQuery(TaskTemplate.VARIABLE_VALUE, value));
+
+    final QueryBuilder localVariableQ =
+        hasChildQuery(TaskJoinRelationshipType.LOCAL_VARIABLE.getType(), variableQ, ScoreMode.None);
+    final QueryBuilder processVariableQ =
+        boolQuery()
+            .filter(
+                hasParentQuery(
+                    TaskJoinRelationshipType.PROCESS.getType(),
+                    hasChildQuery(
+                        TaskJoinRelationshipType.PROCESS_VARIABLE.getType(),
+                        variableQ,
+                        ScoreMode.None),
+                    false))
+            .mustNot(
+                hasChildQuery(
+                    TaskJoinRelationshipType.LOCAL_VARIABLE.getType(),
+                    termQuery(TaskTemplate.VARIABLE_NAME, name),
+                    ScoreMode.None));
+
+    return boolQuery().should(localVariableQ).should(processVariableQ).minimumShouldMatch(1);
+  }
+
   private List<String> getTasksIdsCompletedWithMatchingVars(
       final List<String> varNames, final List<String> varValues) {
     final List<Set<String>> tasksIdsMatchingAllVars = new ArrayList<>();
@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.data.conditionals.OpenSearchCondition;
 import io.camunda.tasklist.exceptions.NotFoundException;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
+import io.camunda.tasklist.property.TasklistProperties;
 import io.camunda.tasklist.queries.Sort;
 import io.camunda.tasklist.queries.TaskByVariables;
 import io.camunda.tasklist.queries.TaskOrderBy;
@@ -33,9 +34,12 @@ import io.camunda.webapps.schema.descriptors.tasklist.template.SnapshotTaskVaria
 import io.camunda.webapps.schema.descriptors.tasklist.template.TaskTemplate;
 import io.camunda.webapps.schema.entities.tasklist.SnapshotTaskVariableEntity;
 import io.camunda.webapps.schema.entities.tasklist.TaskEntity;
+import io.camunda.webapps.schema.entities.tasklist.TaskJoinRelationship.TaskJoinRelationshipType;
 import io.camunda.webapps.schema.entities.tasklist.TaskState;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -58,6 +62,8 @@ import org.opensearch.client.opensearch._types.ScriptSortType;
 import org.opensearch.client.opensearch._types.SortOptions;
 import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
+import org.opensearch.client.opensearch._types.query_dsl.ChildScoreMode;
 import org.opensearch.client.opensearch._types.query_dsl.MatchAllQuery;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.Query.Builder;
@@ -83,6 +89,10 @@ public class TaskStoreOpenSearch implements TaskStore {
           TaskState.CREATED, TaskTemplate.CREATION_TIME,
           TaskState.COMPLETED, TaskTemplate.COMPLETION_TIME,
           TaskState.CANCELED, TaskTemplate.COMPLETION_TIME);
+  private static final long NULL_DATE_ASC =
+      LocalDate.of(2099, 12, 31).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+  private static final long NULL_DATE_DESC =
+      LocalDate.of(1900, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
 
   @Autowired
   @Qualifier("tasklistOsClient")
@@ -104,6 +114,8 @@ public class TaskStoreOpenSearch implements TaskStore {
 
   @Autowired private TaskVariableSearchUtil taskVariableSearchUtil;
 
+  @Autowired private TasklistProperties tasklistProperties;
+
   @Override
   public TaskEntity getTask(final String id) {
     try {
@@ -335,15 +347,20 @@ public class TaskStoreOpenSearch implements TaskStore {
 
   private List<TaskSearchView> queryTasks(final TaskQuery query, final String taskId) {
     List<String> tasksIds = null;
+    Query.Builder variablesQ = null;
     if (query.getTaskVariables() != null && query.getTaskVariables().length > 0) {
-      tasksIds = getTasksContainsVarNameAndValue(query.getTaskVariables());
-      if (tasksIds.isEmpty()) {
-        return new ArrayList<>();
+      if (isVariableFilterInQuery()) {
+        variablesQ = buildVariablesQuery(query);
+      } else {
+        tasksIds = getTasksContainsVarNameAndValue(query.getTaskVariables());
+        if (tasksIds.isEmpty()) {
+          return new ArrayList<>();
+        }
       }
     }
 
     if (taskId != null && !taskId.isEmpty()) {
-      if (query.getTaskVariables() != null && query.getTaskVariables().length > 0) {
+      if (tasksIds != null) {
         tasksIds = tasksIds.stream().filter(id -> !id.equals(taskId)).collect(toList());
         if (tasksIds.isEmpty()) {
           return new ArrayList<>();
@@ -354,7 +371,7 @@ public class TaskStoreOpenSearch implements TaskStore {
       }
     }
 
-    final Query.Builder esQuery = buildQuery(query, tasksIds);
+    final Query.Builder esQuery = buildQuery(query, tasksIds, variablesQ);
     // TODO #104 define list of fields
 
     // TODO we can play around with query type here (2nd parameter), e.g. when we select for only
@@ -442,7 +459,8 @@ public class TaskStoreOpenSearch implements TaskStore {
     }
   }
 
-  private Query.Builder buildQuery(final TaskQuery query, final List<String> taskIds) {
+  private Query.Builder buildQuery(
+      final TaskQuery query, final List<String> taskIds, final Query.Builder variablesQ) {
     final Query.Builder stateQ = new Query.Builder();
     stateQ.bool(
         b ->
@@ -625,7 +643,8 @@ public class TaskStoreOpenSearch implements TaskStore {
             followUpQ,
             dueDateQ,
             implementationQ,
-            priorityQ);
+            priorityQ,
+            variablesQ);
 
     if (jointQ == null) {
       jointQ.matchAll(new MatchAllQuery.Builder().build());
@@ -734,7 +753,7 @@ public class TaskStoreOpenSearch implements TaskStore {
                 : orderBy.getOrder().equals(Sort.DESC) ? SortOrder.Asc : SortOrder.Desc;
 
         if (!orderBy.getField().equals(TaskSortFields.priority)) {
-          searchRequestBuilder.sort(applyDateSortScript(orderBy.getOrder(), field, sortOrder));
+          searchRequestBuilder.sort(applyDateSort(orderBy.getOrder(), field, sortOrder));
         } else {
           searchRequestBuilder.sort(
               mapNullInSort(
@@ -783,35 +802,15 @@ public class TaskStoreOpenSearch implements TaskStore {
     }
   }
 
-  private Function<SortOptions.Builder, ObjectBuilder<SortOptions>> applyDateSortScript(
+  /**
+   * Sorts by a date field, substituting missing dates such that tasks without the date come last
+   * in the requested order. Uses the field's doc values directly with a fixed missing value instead
+   * of a script, which would have to be evaluated for every matching task.
+   */
+  private Function<SortOptions.Builder, ObjectBuilder<SortOptions>> applyDateSort(
       final Sort sorting, final String field, final SortOrder sortOrder) {
-    final String nullDate;
-    if (sorting.equals(Sort.ASC)) {
-      nullDate = "2099-12-31";
-    } else {
-      nullDate = "1900-01-01";
-    }
-    final Script.Builder scriptBuilder = new Script.Builder();
-    scriptBuilder.inline(
-        in ->
-            in.source(
-                "def sf = new SimpleDateFormat(\"yyyy-MM-dd\"); "
-                    + "def nullDate=sf.parse('"
-                    + nullDate
-                    + "');"
-                    + "if(doc['"
-                    + field
-                    + "'].size() == 0){"
-                    + "nullDate.getTime().toString()"
-                    + "}else{"
-                    + "doc['"
-                    + field
-                    + "'].value.getMillis().toString()"
-                    + "}"));
-    return s ->
-        s.script(
-            script ->
-                script.script(scriptBuilder.build()).order(sortOrder).type(ScriptSortType.String));
+    final long nullDate = sorting.equals(Sort.ASC) ? NULL_DATE_ASC : NULL_DATE_DESC;
+    return s -> s.field(f -> f.field(field).order(sortOrder).missing(FieldValue.of(nullDate)));
   }
 
   private void updateTask(final String taskId, final Map<String, Object> updateFields) {
@@ -866,6 +865,100 @@ public class TaskStoreOpenSearch implements TaskStore {
     }
   }
 
+  private boolean isVariableFilterInQuery() {
+    return Boolean.TRUE.equals(tasklistProperties.getFeatureFlag().getVariableFilterInQuery());
+  }
+
+  /**
+   * Builds a query matching the tasks which have all the given variables. For created tasks, the
+   * variables visible to a task are resolved in the query itself: a local variable of the task
+   * shadows a process variable with the same name. Completed tasks are matched by their snapshot
+   * variables, which live in another index and are therefore only looked up when the query does
+   * not restrict the result to created tasks.
+   */
+  private Query.Builder buildVariablesQuery(final TaskQuery query) {
+    final BoolQuery.Builder createdQ =
+        new BoolQuery.Builder()
+            .filter(
+                f ->
+                    f.term(
+                        t ->
+                            t.field(TaskTemplate.STATE)
+                                .value(FieldValue.of(TaskState.CREATED.name()))));
+    for (final TaskByVariables variable : query.getTaskVariables()) {
+      createdQ.filter(buildVisibleVariableQuery(variable.getName(), variable.getValue()));
+    }
+
+    final Query.Builder result = new Query.Builder();
+    if (query.getState() == TaskState.CREATED) {
+      result.bool(createdQ.build());
+      return result;
+    }
+
+    final List<String> completedTaskIds =
+        getTasksIdsCompletedWithMatchingVars(
+            Arrays.stream(query.getTaskVariables()).map(TaskByVariables::getName).toList(),
+            Arrays.stream(query.getTaskVariables()).map(TaskByVariables::getValue).toList());
+    if (completedTaskIds.isEmpty()) {
+      result.bool(createdQ.build());
+      return result;
+    }
+
+    final var terms = completedTaskIds.stream().map(FieldValue::of).toList();
+    result.bool(
+        b ->
+            b.should(s -> s.bool(createdQ.build()))
+                .should(s -> s.terms(t -> t.field(TaskTemplate.KEY).terms(v -> v.value(terms))))
+                .minimumShouldMatch("1"));
+    return result;
+  }
+
+  private Query buildVisibleVariableQuery(final String name, final String value) {
+    final Query nameQ =
+        new Query.Builder()
+            .term(t -> t.field(TaskTemplate.VARIABLE_NAME).value(FieldValue.of(name)))
+            .build();
+    final Query variableQ =
+        new Query.Builder()
+            .bool(
+                b ->
+                    b.filter(nameQ)
+                        .filter(
+                            f ->
+                                f.term(
+                                    t ->
+                                        t.field(TaskTemplate.VARIABLE_VALUE)
+                                            .value(FieldValue.of(value)))))
+            .build();
+
+    final Query localVariableQ = hasChildQuery(TaskJoinRelationshipType.LOCAL_VARIABLE, variableQ);
+    final Query processVariableQ =
+        new Query.Builder()
+            .bool(
+                b ->
+                    b.filter(
+                            f ->
+                                f.hasParent(
+                                    hp ->
+                                        hp.parentType(TaskJoinRelationshipType.PROCESS.getType())
+                                            .query(
+                                                hasChildQuery(
+                                                    TaskJoinRelationshipType.PROCESS_VARIABLE,
+                                                    variableQ))))
+                        .mustNot(hasChildQuery(TaskJoinRelationshipType.LOCAL_VARIABLE, nameQ)))
+            .build();
+
+    return new Query.Builder()
+        .bool(b -> b.should(localVariableQ).should(processVariableQ).minimumShouldMatch("1"))
+        .build();
+  }
+
+  private Query hasChildQuery(final TaskJoinRelationshipType type, final Query query) {
+    return new Query.Builder()
+        .hasChild(hc -> hc.type(type.getType()).query(query).scoreMode(ChildScoreMode.None))
+        .build();
+  }
+
   private List<String> getTasksIdsCompletedWithMatchingVars(
       final List<String> varNames, final List<String> varValues) {
 
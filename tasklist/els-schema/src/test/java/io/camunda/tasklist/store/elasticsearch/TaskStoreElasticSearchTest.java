@@ -19,7 +19,12 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.CommonUtils;
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.queries.Sort;
+import io.camunda.tasklist.queries.TaskByVariables;
+import io.camunda.tasklist.queries.TaskOrderBy;
 import io.camunda.tasklist.queries.TaskQuery;
+import io.camunda.tasklist.queries.TaskSortFields;
 import io.camunda.tasklist.tenant.TenantAwareElasticsearchClient;
 import io.camunda.tasklist.views.TaskSearchView;
 import io.camunda.webapps.schema.descriptors.tasklist.template.TaskTemplate;
@@ -32,6 +37,8 @@ import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.SortOrder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -54,6 +61,8 @@ class TaskStoreElasticSearchTest {
 
   @Spy private ObjectMapper objectMapper = CommonUtils.OBJECT_MAPPER;
 
+  @Spy private TasklistProperties tasklistProperties = new TasklistProperties();
+
   @InjectMocks private TaskStoreElasticSearch instance;
 
   @ParameterizedTest
@@ -123,6 +132,67 @@ class TaskStoreElasticSearchTest {
     assertThat(result).hasSize(1);
   }
 
+  @Test
+  void shouldFilterCreatedTasksByVariablesInQuery() throws IOException {
+    // given
+    tasklistProperties.getFeatureFlag().setVariableFilterInQuery(true);
+    final TaskQuery taskQuery =
+        new TaskQuery()
+            .setPageSize(50)
+            .setState(TaskState.CREATED)
+            .setTaskVariables(
+                new TaskByVariables[] {
+                  new TaskByVariables().setName("foo").setValue("\"bar\"").setOperator("eq")
+                });
+
+    final SearchResponse mockedResponse = mock();
+    when(tenantAwareClient.search(searchRequestCaptor.capture())).thenReturn(mockedResponse);
+
+    final SearchHits mockedHints = mock();
+    when(mockedResponse.getHits()).thenReturn(mockedHints);
+    when(mockedHints.getHits()).thenReturn(new SearchHit[0]);
+
+    // when
+    final List<TaskSearchView> result = instance.getTasks(taskQuery);
+
+    // then - the variables are resolved by the single task query
+    assertThat(result).isEmpty();
+    verify(tenantAwareClient).search(any());
+    assertThat(searchRequestCaptor.getValue().source().query().toString())
+        .contains("has_child", "has_parent", "localVariable", "\"variable\"");
+  }
+
+  @Test
+  void shouldSortByDateFieldWithMissingValue() throws IOException {
+    // given
+    final TaskQuery taskQuery =
+        new TaskQuery()
+            .setPageSize(50)
+            .setState(TaskState.CREATED)
+            .setSort(new TaskOrderBy[] {new TaskOrderBy(TaskSortFields.dueDate, Sort.ASC)});
+
+    final SearchResponse mockedResponse = mock();
+    when(tenantAwareClient.search(searchRequestCaptor.capture())).thenReturn(mockedResponse);
+
+    final SearchHits mockedHints = mock();
+    when(mockedResponse.getHits()).thenReturn(mockedHints);
+    when(mockedHints.getHits()).thenReturn(new SearchHit[0]);
+
+    // when
+    instance.getTasks(taskQuery);
+
+    // then - tasks without due date are sorted as if due on 2099-12-31
+    assertThat(searchRequestCaptor.getValue().source().sorts())
+        .first()
+        .isInstanceOfSatisfying(
+            FieldSortBuilder.class,
+            sort -> {
+              assertThat(sort.getFieldName()).isEqualTo(TaskTemplate.DUE_DATE);
+              assertThat(sort.order()).isEqualTo(SortOrder.ASC);
+              assertThat(sort.missing()).isEqualTo("4102358400000");
+            });
+  }
+
   private static String getTaskExampleAsString(TaskState taskState) {
     return "{\n"
         + "  \"id\": \"123456789\",\n"
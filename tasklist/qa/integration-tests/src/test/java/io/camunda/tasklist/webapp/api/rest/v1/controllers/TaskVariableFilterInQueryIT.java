@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.webapp.api.rest.v1.controllers;
+
+import static io.camunda.tasklist.util.assertions.CustomAssertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.tasklist.queries.TaskByVariables;
+import io.camunda.tasklist.util.MockMvcHelper;
+import io.camunda.tasklist.util.TasklistZeebeIntegrationTest;
+import io.camunda.tasklist.webapp.api.rest.v1.entities.TaskSearchResponse;
+import io.camunda.tasklist.webapp.dto.TaskQueryDTO;
+import io.camunda.tasklist.webapp.security.TasklistURIs;
+import io.camunda.webapps.schema.entities.tasklist.TaskState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Runs against Elasticsearch by default and against OpenSearch with the docker-os profile, such
+ * that both implementations of the variable filter are covered.
+ */
+public class TaskVariableFilterInQueryIT extends TasklistZeebeIntegrationTest {
+
+  private static final String VARIABLE_NAME = "shadowed";
+
+  @Autowired private WebApplicationContext context;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  private MockMvcHelper mockMvcHelper;
+  private String localVariableTaskId;
+  private String processVariableTaskId;
+
+  @DynamicPropertySource
+  static void registerProperties(final DynamicPropertyRegistry registry) {
+    registry.add("camunda.tasklist.featureFlag.variableFilterInQuery", () -> true);
+  }
+
+  @BeforeEach
+  public void setUp() {
+    mockMvcHelper =
+        new MockMvcHelper(MockMvcBuilders.webAppContextSetup(context).build(), objectMapper);
+
+    // a task whose local variable shadows the process variable of the same name
+    localVariableTaskId =
+        tester
+            .createAndDeploySimpleProcess(
+                "localVariableProcess",
+                "localVariableTask",
+                t -> t.zeebeInputExpression("\"local\"", VARIABLE_NAME))
+            .processIsDeployed()
+            .then()
+            .startProcessInstance("localVariableProcess", "{\"shadowed\": \"process\"}")
+            .then()
+            .taskIsCreated("localVariableTask")
+            .taskVariableExists(VARIABLE_NAME)
+            .getTaskId();
+
+    // a task which only sees the process variable
+    processVariableTaskId =
+        tester
+            .createAndDeploySimpleProcess("processVariableProcess", "processVariableTask")
+            .processIsDeployed()
+            .then()
+            .startProcessInstance("processVariableProcess", "{\"shadowed\": \"process\"}")
+            .then()
+            .taskIsCreated("processVariableTask")
+            .getTaskId();
+  }
+
+  @Test
+  public void shouldMatchLocalVariable() {
+    // when
+    final var result = searchCreatedTasksByVariable("\"local\"");
+
+    // then
+    assertThat(result)
+        .hasOkHttpStatus()
+        .extractingListContent(objectMapper, TaskSearchResponse.class)
+        .extracting(TaskSearchResponse::getId)
+        .containsExactly(localVariableTaskId);
+  }
+
+  @Test
+  public void shouldNotMatchProcessVariableShadowedByLocalVariable() {
+    // when
+    final var result = searchCreatedTasksByVariable("\"process\"");
+
+    // then
+    assertThat(result)
+        .hasOkHttpStatus()
+        .extractingListContent(objectMapper, TaskSearchResponse.class)
+        .extracting(TaskSearchResponse::getId)
+        .containsExactly(processVariableTaskId);
+  }
+
+  private MockHttpServletResponse searchCreatedTasksByVariable(final String value) {
+    final var searchQuery =
+        new TaskQueryDTO()
+            .setState(TaskState.CREATED)
+            .setTaskVariables(
+                new TaskByVariables[] {
+                  new TaskByVariables().setName(VARIABLE_NAME).setValue(value).setOperator("eq")
+                });
+    return mockMvcHelper.doRequest(post(TasklistURIs.TASKS_URL_V1.concat("/search")), searchQuery);
+  }
+}
@@ -20,11 +20,14 @@ import io.atomix.utils.config.Config;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /** Messaging configuration. */
 public class MessagingConfig implements Config {
-  private final int connectionPoolSize = 8;
+  private final Map<TrafficClass, TrafficClassConfig> trafficClasses =
+      new EnumMap<>(TrafficClass.class);
   private List<String> interfaces = new ArrayList<>();
   private Integer port;
   private Duration shutdownQuietPeriod = Duration.ofMillis(20);
@@ -39,6 +42,14 @@ public class MessagingConfig implements Config {
   private int socketReceiveBuffer = 1024 * 1024;
   private Duration heartbeatTimeout = Duration.ofSeconds(15);
   private Duration heartbeatInterval = Duration.ofSeconds(5);
+  private Duration maxFlushDelay = Duration.ZERO;
+  private int maxFlushBytes = 64 * 1024;
+
+  public MessagingConfig() {
+    for (final TrafficClass trafficClass : TrafficClass.values()) {
+      trafficClasses.put(trafficClass, TrafficClassConfig.defaults(trafficClass));
+    }
+  }
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -81,12 +92,33 @@ public class MessagingConfig implements Config {
   }
 
   /**
-   * Returns the connection pool size.
+   * Returns the connection pool size, i.e. the number of connections to each member summed over
+   * all traffic classes.
    *
    * @return the connection pool size
    */
   public int getConnectionPoolSize() {
-    return connectionPoolSize;
+    return trafficClasses.values().stream().mapToInt(TrafficClassConfig::getConnections).sum();
+  }
+
+  /**
+   * @return the configuration of each traffic class
+   */
+  public Map<TrafficClass, TrafficClassConfig> getTrafficClasses() {
+    return trafficClasses;
+  }
+
+  /**
+   * Sets the configuration of the given traffic class, replacing its defaults.
+   *
+   * @param trafficClass the traffic class to configure
+   * @param config the configuration of the traffic class
+   * @return this config for chaining
+   */
+  public MessagingConfig setTrafficClass(
+      final TrafficClass trafficClass, final TrafficClassConfig config) {
+    trafficClasses.put(trafficClass, config);
+    return this;
   }
 
   /**
@@ -308,6 +340,39 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  /**
+   * Sets the maximum time a flush of written messages is deferred, in order to send multiple
+   * messages with a single flush. With a delay of zero, messages are only coalesced with messages
+   * which were already queued for the same connection, which adds no latency.
+   *
+   * @param maxFlushDelay the maximum delay of a flush
+   * @return this config for chaining
+   */
+  public MessagingConfig setMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+    return this;
+  }
+
+  public int getMaxFlushBytes() {
+    return maxFlushBytes;
+  }
+
+  /**
+   * Sets the amount of pending bytes after which a connection is flushed immediately, without
+   * waiting for further messages to coalesce. Setting it to 0 flushes every message on its own.
+   *
+   * @param maxFlushBytes the maximum amount of bytes to hold back before flushing
+   * @return this config for chaining
+   */
+  public MessagingConfig setMaxFlushBytes(final int maxFlushBytes) {
+    this.maxFlushBytes = maxFlushBytes;
+    return this;
+  }
+
   public enum CompressionAlgorithm {
     GZIP,
     NONE,
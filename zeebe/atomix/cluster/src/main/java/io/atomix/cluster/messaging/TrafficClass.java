@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging;
+
+/**
+ * Classes of traffic between two members, which are sent over dedicated connections such that
+ * large transfers don't delay latency critical messages (head-of-line blocking).
+ */
+public enum TrafficClass {
+  /**
+   * Latency critical messages, e.g. Raft polls and votes, gossip and gateway requests. Messages
+   * which don't match any class are sent as control traffic.
+   */
+  CONTROL,
+  /**
+   * Raft log replication, i.e. append requests. This includes Raft heartbeats, which are empty
+   * append requests, so they share the connections with the log replication to the same follower.
+   */
+  REPLICATION,
+  /** Large or bursty transfers, e.g. snapshot chunks and inter-partition commands. */
+  BULK
+}
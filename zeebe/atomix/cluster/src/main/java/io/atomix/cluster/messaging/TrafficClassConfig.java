@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging;
+
+import io.atomix.utils.config.Config;
+import java.util.List;
+
+/** Configuration of the connections used for a single {@link TrafficClass}. */
+public class TrafficClassConfig implements Config {
+
+  private List<String> subjectPatterns;
+  private int connections;
+  private int writeBufferLowWaterMark;
+  private int writeBufferHighWaterMark;
+
+  public TrafficClassConfig() {
+    this(List.of(), 1, 32 * 1024, 64 * 1024);
+  }
+
+  private TrafficClassConfig(
+      final List<String> subjectPatterns,
+      final int connections,
+      final int writeBufferLowWaterMark,
+      final int writeBufferHighWaterMark) {
+    this.subjectPatterns = subjectPatterns;
+    this.connections = connections;
+    this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+  }
+
+  /**
+   * Returns the default configuration of the given traffic class. Control traffic is kept on few
+   * connections with small write buffers, such that a slow receiver is detected early, while
+   * replication and bulk traffic get larger write buffers to keep the connections saturated.
+   *
+   * @param trafficClass the traffic class to configure
+   * @return a new configuration with the defaults of the traffic class
+   */
+  public static TrafficClassConfig defaults(final TrafficClass trafficClass) {
+    return switch (trafficClass) {
+      case CONTROL -> new TrafficClassConfig(List.of(), 2, 32 * 1024, 64 * 1024);
+      case REPLICATION ->
+          new TrafficClassConfig(List.of(".*-append(-versioned)?"), 4, 320 * 1024, 640 * 1024);
+      case BULK ->
+          new TrafficClassConfig(
+              List.of(".*-install", "inter-partition-.*"), 2, 320 * 1024, 640 * 1024);
+    };
+  }
+
+  public List<String> getSubjectPatterns() {
+    return subjectPatterns;
+  }
+
+  /**
+   * Sets the regular expressions of the message subjects which belong to this traffic class. A
+   * subject must match a pattern completely.
+   *
+   * @param subjectPatterns the patterns of the subjects of this traffic class
+   * @return this config for chaining
+   */
+  public TrafficClassConfig setSubjectPatterns(final List<String> subjectPatterns) {
+    this.subjectPatterns = subjectPatterns;
+    return this;
+  }
+
+  public int getConnections() {
+    return connections;
+  }
+
+  /**
+   * Sets the number of connections to each member which are dedicated to this traffic class.
+   * Subjects are distributed over these connections by their hash.
+   *
+   * @param connections the number of connections, at least 1
+   * @return this config for chaining
+   * @throws IllegalArgumentException if the number of connections is less than 1
+   */
+  public TrafficClassConfig setConnections(final int connections) {
+    if (connections < 1) {
+      throw new IllegalArgumentException(
+          "Expected at least one connection per traffic class, but got " + connections);
+    }
+    this.connections = connections;
+    return this;
+  }
+
+  public int getWriteBufferLowWaterMark() {
+    return writeBufferLowWaterMark;
+  }
+
+  public TrafficClassConfig setWriteBufferLowWaterMark(final int writeBufferLowWaterMark) {
+    this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    return this;
+  }
+
+  public int getWriteBufferHighWaterMark() {
+    return writeBufferHighWaterMark;
+  }
+
+  /**
+   * Sets the amount of pending outbound bytes after which a connection of this class is marked as
+   * not writable. It is marked as writable again once the pending bytes drop below the low water
+   * mark.
+   *
+   * @param writeBufferHighWaterMark the high water mark in bytes
+   * @return this config for chaining
+   */
+  public TrafficClassConfig setWriteBufferHighWaterMark(final int writeBufferHighWaterMark) {
+    this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "TrafficClassConfig{"
+        + "subjectPatterns="
+        + subjectPatterns
+        + ", connections="
+        + connections
+        + ", writeBufferLowWaterMark="
+        + writeBufferLowWaterMark
+        + ", writeBufferHighWaterMark="
+        + writeBufferHighWaterMark
+        + '}';
+  }
+}
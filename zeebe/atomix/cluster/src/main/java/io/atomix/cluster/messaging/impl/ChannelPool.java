@@ -18,6 +18,7 @@ package io.atomix.cluster.messaging.impl;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import io.atomix.cluster.messaging.TrafficClass;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.util.collection.Tuple;
 import io.netty.channel.Channel;
@@ -26,22 +27,29 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Internal Netty channel pool. */
+/**
+ * Internal Netty channel pool. Each traffic class has a dedicated range of channels per member, see
+ * {@link TrafficLanes}.
+ */
 class ChannelPool {
   private static final Logger LOGGER = LoggerFactory.getLogger(ChannelPool.class);
 
-  private final Function<Address, CompletableFuture<Channel>> factory;
+  private final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory;
+  private final TrafficLanes lanes;
   private final int size;
   private final Map<Tuple<Address, InetAddress>, List<CompletableFuture<Channel>>> channels =
       Maps.newConcurrentMap();
 
-  ChannelPool(final Function<Address, CompletableFuture<Channel>> factory, final int size) {
+  ChannelPool(
+      final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory,
+      final TrafficLanes lanes) {
     this.factory = factory;
-    this.size = size;
+    this.lanes = lanes;
+    size = lanes.size();
   }
 
   /**
@@ -69,16 +77,6 @@ class ChannelPool {
         });
   }
 
-  /**
-   * Returns the channel offset for the given message type.
-   *
-   * @param messageType the message type for which to return the channel offset
-   * @return the channel offset for the given message type
-   */
-  private int getChannelOffset(final String messageType) {
-    return Math.abs(messageType.hashCode() % size);
-  }
-
   /**
    * Gets or creates a pooled channel to the given address for the given message type.
    *
@@ -90,7 +88,8 @@ class ChannelPool {
     final InetAddress inetAddress = address.getAddress();
 
     final List<CompletableFuture<Channel>> channelPool = getChannelPool(address, inetAddress);
-    final int offset = getChannelOffset(messageType);
+    final TrafficLanes.Lane lane = lanes.laneFor(messageType);
+    final int offset = lane.channelOffset(messageType);
 
     CompletableFuture<Channel> channelFuture = channelPool.get(offset);
     if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
@@ -98,7 +97,7 @@ class ChannelPool {
         channelFuture = channelPool.get(offset);
         if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
           LOGGER.debug("Connecting to {}", address);
-          channelFuture = factory.apply(address);
+          channelFuture = factory.apply(address, lane.trafficClass());
           final var finalFuture = channelFuture;
           channelFuture.whenComplete(
               (channel, error) -> {
@@ -135,7 +134,7 @@ class ChannelPool {
                 if (currentFuture == finalFuture) {
                   channelPool.set(offset, null);
                 } else if (currentFuture == null) {
-                  currentFuture = factory.apply(address);
+                  currentFuture = factory.apply(address, lane.trafficClass());
                   currentFuture.whenComplete(this::logConnection);
                   channelPool.set(offset, currentFuture);
                 }
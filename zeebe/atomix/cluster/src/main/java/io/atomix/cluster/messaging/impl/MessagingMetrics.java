@@ -7,11 +7,12 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.TrafficClass;
 import io.camunda.zeebe.util.CloseableSilently;
 
 public interface MessagingMetrics {
 
-  CloseableSilently startRequestTimer(String name);
+  CloseableSilently startRequestTimer(String name, TrafficClass trafficClass);
 
   void observeRequestSize(String to, String name, int requestSizeInBytes);
 
@@ -26,4 +27,12 @@ public interface MessagingMetrics {
   void incInFlightRequests(String address, String topic);
 
   void decInFlightRequests(String address, String topic);
+
+  /**
+   * Observes a flush of a channel, which sent all messages written since the previous flush.
+   *
+   * @param messageCount the number of messages sent with this flush
+   * @param byteCount the number of (encoded) bytes sent with this flush
+   */
+  void observeFlush(int messageCount, long byteCount);
 }
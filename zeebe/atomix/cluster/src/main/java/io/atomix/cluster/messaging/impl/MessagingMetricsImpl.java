@@ -7,6 +7,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.TrafficClass;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
@@ -28,6 +29,14 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_TOPIC)
           .register();
 
+  private static final Histogram TRAFFIC_CLASS_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_traffic_class_latency")
+          .help("The time it takes to retrieve a response for a request, per traffic class")
+          .labelNames("trafficClass")
+          .register();
+
   private static final Histogram REQUEST_SIZE_IN_KB =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -60,10 +69,30 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Histogram MESSAGES_PER_FLUSH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_messages_per_flush")
+          .help("The number of messages which have been sent with a single channel flush")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
+  private static final Histogram BYTES_PER_FLUSH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_bytes_per_flush")
+          .help("The number of bytes which have been sent with a single channel flush")
+          .exponentialBuckets(64, 4, 10)
+          .register();
+
   @Override
-  public CloseableSilently startRequestTimer(final String name) {
+  public CloseableSilently startRequestTimer(final String name, final TrafficClass trafficClass) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
-    return timer::close;
+    final var trafficClassTimer = TRAFFIC_CLASS_LATENCY.labels(trafficClass.name()).startTimer();
+    return () -> {
+      timer.close();
+      trafficClassTimer.close();
+    };
   }
 
   @Override
@@ -100,4 +129,10 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void observeFlush(final int messageCount, final long byteCount) {
+    MESSAGES_PER_FLUSH.observe(messageCount);
+    BYTES_PER_FLUSH.observe(byteCount);
+  }
 }
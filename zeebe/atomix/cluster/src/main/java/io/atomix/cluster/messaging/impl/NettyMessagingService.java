@@ -26,6 +26,8 @@ import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.cluster.messaging.TrafficClass;
+import io.atomix.cluster.messaging.TrafficClassConfig;
 import io.atomix.utils.concurrent.OrderedFuture;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.util.StringUtil;
@@ -169,7 +171,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     this.protocolVersion = protocolVersion;
     this.config = verifyHeartbeatConfig(config);
     // pool of client connections
-    channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
+    channelPool = new ChannelPool(this::openChannel, new TrafficLanes(config.getTrafficClasses()));
     this.actorSchedulerName = actorSchedulerName;
 
     initAddresses(config);
@@ -791,24 +793,42 @@ public final class NettyMessagingService implements ManagedMessagingService {
    * @return a future to be completed once the channel has been opened and the handshake is complete
    */
   private CompletableFuture<Channel> openChannel(final Address address) {
-    return bootstrapClient(address);
+    return openChannel(address, TrafficClass.CONTROL);
+  }
+
+  /**
+   * Opens a new Netty channel to the given address, dedicated to the given traffic class.
+   *
+   * @param address the address to which to open the channel
+   * @param trafficClass the traffic class which is sent over the channel
+   * @return a future to be completed once the channel has been opened and the handshake is complete
+   */
+  private CompletableFuture<Channel> openChannel(
+      final Address address, final TrafficClass trafficClass) {
+    return bootstrapClient(address, trafficClass);
   }
 
   /**
    * Bootstraps a new channel to the given address.
    *
    * @param address the address to which to connect
+   * @param trafficClass the traffic class which is sent over the channel
    * @return a future to be completed with the connected channel
    */
-  private CompletableFuture<Channel> bootstrapClient(final Address address) {
+  private CompletableFuture<Channel> bootstrapClient(
+      final Address address, final TrafficClass trafficClass) {
     final CompletableFuture<Channel> future = new OrderedFuture<>();
     final InetSocketAddress socketAddress = address.socketAddress();
+    final TrafficClassConfig trafficClassConfig = config.getTrafficClasses().get(trafficClass);
 
     final Bootstrap bootstrap = new Bootstrap();
+    bootstrap.attr(TrafficLanes.TRAFFIC_CLASS, trafficClass);
     bootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
     bootstrap.option(
         ChannelOption.WRITE_BUFFER_WATER_MARK,
-        new WriteBufferWaterMark(10 * 32 * 1024, 10 * 64 * 1024));
+        new WriteBufferWaterMark(
+            trafficClassConfig.getWriteBufferLowWaterMark(),
+            trafficClassConfig.getWriteBufferHighWaterMark()));
     bootstrap.option(ChannelOption.SO_RCVBUF, config.getSocketReceiveBuffer());
     bootstrap.option(ChannelOption.SO_SNDBUF, config.getSocketSendBuffer());
     bootstrap.option(ChannelOption.SO_KEEPALIVE, true);
@@ -1058,6 +1078,12 @@ public final class NettyMessagingService implements ManagedMessagingService {
         final boolean isClient) {
       final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
       context.pipeline().remove(this);
+      context
+          .pipeline()
+          .addLast(
+              "writeCoalescing",
+              new WriteCoalescingHandler(
+                  config.getMaxFlushDelay(), config.getMaxFlushBytes(), messagingMetrics));
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
 
@@ -75,7 +75,8 @@ final class RemoteClientConnection extends AbstractClientConnection {
     final String subject = message.subject();
     messagingMetrics.countRequestResponse(toAddress, subject);
     messagingMetrics.incInFlightRequests(toAddress, subject);
-    final var timer = messagingMetrics.startRequestTimer(subject);
+    final var timer =
+        messagingMetrics.startRequestTimer(subject, TrafficLanes.trafficClassOf(channel));
     final byte[] payload = message.payload();
     messagingMetrics.observeRequestSize(toAddress, subject, payload == null ? 0 : payload.length);
 
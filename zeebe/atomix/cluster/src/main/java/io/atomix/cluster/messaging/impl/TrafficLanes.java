@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.TrafficClass;
+import io.atomix.cluster.messaging.TrafficClassConfig;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Maps message subjects to their {@link TrafficClass}, and each traffic class to a dedicated range
+ * of connections in the {@link ChannelPool}.
+ *
+ * <p>Subjects are matched against the patterns of each class in declaration order of {@link
+ * TrafficClass}; subjects which don't match any pattern are {@link TrafficClass#CONTROL} traffic.
+ * As the set of subjects is small, the result is cached per subject.
+ */
+final class TrafficLanes {
+
+  /** Attribute which holds the traffic class of a pooled client channel. */
+  static final AttributeKey<TrafficClass> TRAFFIC_CLASS = AttributeKey.valueOf("trafficClass");
+
+  private final Map<TrafficClass, Lane> lanes = new EnumMap<>(TrafficClass.class);
+  private final List<SubjectPattern> patterns = new ArrayList<>();
+  private final Map<String, Lane> lanesBySubject = new ConcurrentHashMap<>();
+  private final int size;
+
+  TrafficLanes(final Map<TrafficClass, TrafficClassConfig> trafficClasses) {
+    int firstChannel = 0;
+    for (final TrafficClass trafficClass : TrafficClass.values()) {
+      final var config = trafficClasses.get(trafficClass);
+      final var lane = new Lane(trafficClass, firstChannel, config.getConnections());
+      lanes.put(trafficClass, lane);
+      firstChannel += lane.connections();
+
+      for (final String pattern : config.getSubjectPatterns()) {
+        patterns.add(new SubjectPattern(Pattern.compile(pattern), lane));
+      }
+    }
+
+    size = firstChannel;
+  }
+
+  /**
+   * @return the total number of connections to a single member over all lanes
+   */
+  int size() {
+    return size;
+  }
+
+  Lane laneFor(final String subject) {
+    return lanesBySubject.computeIfAbsent(subject, this::classify);
+  }
+
+  /**
+   * Returns the traffic class of the given channel, which is {@link TrafficClass#CONTROL} for
+   * channels which are not pooled.
+   */
+  static TrafficClass trafficClassOf(final Channel channel) {
+    if (!channel.hasAttr(TRAFFIC_CLASS)) {
+      return TrafficClass.CONTROL;
+    }
+
+    final var trafficClass = channel.attr(TRAFFIC_CLASS).get();
+    return trafficClass != null ? trafficClass : TrafficClass.CONTROL;
+  }
+
+  private Lane classify(final String subject) {
+    for (final SubjectPattern pattern : patterns) {
+      if (pattern.pattern().matcher(subject).matches()) {
+        return pattern.lane();
+      }
+    }
+
+    return lanes.get(TrafficClass.CONTROL);
+  }
+
+  /** A range of connections in the channel pool dedicated to a single traffic class. */
+  record Lane(TrafficClass trafficClass, int firstChannel, int connections) {
+
+    /**
+     * @return the offset of the channel in the pool which the given subject is sent over
+     */
+    int channelOffset(final String subject) {
+      return firstChannel + Math.abs(subject.hashCode() % connections);
+    }
+  }
+
+  private record SubjectPattern(Pattern pattern, Lane lane) {}
+}
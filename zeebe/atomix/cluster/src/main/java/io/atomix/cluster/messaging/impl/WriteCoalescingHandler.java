@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.time.Duration;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the flushes of a channel, such that multiple messages written in a short time are
+ * sent with a single flush (and thus fewer syscalls and larger TCP segments) instead of one flush
+ * per message.
+ *
+ * <p>A flush request is deferred until either the pending bytes exceed {@code maxBytes}, or the
+ * {@code maxDelay} elapsed. With a delay of zero, the flush is executed as the next task of the
+ * channel's event loop, which coalesces all messages which were queued on the event loop in the
+ * meantime without adding any latency. A {@code maxBytes} of zero disables the coalescing.
+ *
+ * <p>The handler must be placed after the encoder (towards the head of the pipeline), such that it
+ * sees the encoded messages and can count their size.
+ */
+final class WriteCoalescingHandler extends ChannelDuplexHandler {
+
+  private final long maxDelayNanos;
+  private final long maxBytes;
+  private final MessagingMetrics metrics;
+
+  private int pendingMessages;
+  private long pendingBytes;
+  private boolean flushScheduled;
+  private Future<?> scheduledFlush;
+
+  WriteCoalescingHandler(
+      final Duration maxDelay, final long maxBytes, final MessagingMetrics metrics) {
+    maxDelayNanos = maxDelay.toNanos();
+    this.maxBytes = maxBytes;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise)
+      throws Exception {
+    pendingMessages++;
+    if (msg instanceof final ByteBuf buffer) {
+      pendingBytes += buffer.readableBytes();
+    } else if (msg instanceof final ByteBufHolder holder) {
+      pendingBytes += holder.content().readableBytes();
+    }
+
+    ctx.write(msg, promise);
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext ctx) throws Exception {
+    if (pendingBytes >= maxBytes || !ctx.channel().isWritable()) {
+      flushNow(ctx);
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      if (maxDelayNanos <= 0) {
+        ctx.executor().execute(() -> flushIfScheduled(ctx));
+      } else {
+        scheduledFlush =
+            ctx.executor()
+                .schedule(() -> flushIfScheduled(ctx), maxDelayNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  @Override
+  public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+    // once the outbound buffer is full, holding back the flush only delays the inevitable
+    if (!ctx.channel().isWritable()) {
+      flushNow(ctx);
+    }
+    super.channelWritabilityChanged(ctx);
+  }
+
+  @Override
+  public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause)
+      throws Exception {
+    flushNow(ctx);
+    super.exceptionCaught(ctx, cause);
+  }
+
+  @Override
+  public void disconnect(final ChannelHandlerContext ctx, final ChannelPromise promise)
+      throws Exception {
+    flushNow(ctx);
+    super.disconnect(ctx, promise);
+  }
+
+  @Override
+  public void close(final ChannelHandlerContext ctx, final ChannelPromise promise)
+      throws Exception {
+    flushNow(ctx);
+    super.close(ctx, promise);
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext ctx) throws Exception {
+    flushNow(ctx);
+  }
+
+  private void flushIfScheduled(final ChannelHandlerContext ctx) {
+    if (flushScheduled) {
+      flushNow(ctx);
+    }
+  }
+
+  private void flushNow(final ChannelHandlerContext ctx) {
+    flushScheduled = false;
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    if (pendingMessages > 0) {
+      metrics.observeFlush(pendingMessages, pendingBytes);
+      pendingMessages = 0;
+      pendingBytes = 0;
+    }
+
+    ctx.flush();
+  }
+}
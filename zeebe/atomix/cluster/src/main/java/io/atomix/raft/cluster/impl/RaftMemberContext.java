@@ -35,6 +35,7 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -48,7 +49,8 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private boolean installAborted;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +60,12 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    // a window of less than one chunk would stall snapshot replication
+    this.maxInstallsPerMember = Math.max(1, maxInstallsPerMember);
   }
 
   /** Resets the member state. */
@@ -74,7 +79,8 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    installAborted = false;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -89,6 +95,7 @@ public final class RaftMemberContext {
     open = false;
     member.close();
     closeReader();
+    setSnapshotChunkReader(null);
   }
 
   public boolean isOpen() {
@@ -226,22 +233,67 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. Up to
+   * {@code maxInstallsPerMember} install requests may be in flight at the same time, unless the
+   * current snapshot replication was aborted; then all outstanding requests have to complete first.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    if (!open) {
+      return false;
+    }
+    return installAborted ? inFlightInstallCount == 0 : inFlightInstallCount < maxInstallsPerMember;
+  }
+
+  /**
+   * Returns whether there are install requests to the member for which no response was received
+   * yet.
+   *
+   * @return Indicates whether any install request is in flight.
+   */
+  public boolean hasInFlightInstalls() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
+  }
+
+  /**
+   * Completes an install request to the member.
+   *
+   * @return false if the snapshot replication was aborted after the request was sent, in which case
+   *     the response is stale and must be ignored
+   */
+  public boolean completeInstall() {
+    final boolean stale = installAborted;
+    inFlightInstallCount = Math.max(0, inFlightInstallCount - 1);
+    if (inFlightInstallCount == 0) {
+      installAborted = false;
+    }
+    return !stale;
   }
 
-  /** Completes an install request to the member. */
-  public void completeInstall() {
-    installing = false;
+  /**
+   * Aborts the current snapshot replication. Responses to the install requests which are still in
+   * flight are ignored, and no new install request can be sent until all of them have completed.
+   */
+  public void abortInstall() {
+    if (inFlightInstallCount > 0) {
+      installAborted = true;
+    }
+  }
+
+  /**
+   * Returns whether the current snapshot replication was aborted while install requests were in
+   * flight, such that chunks which are still being read must not be sent anymore.
+   *
+   * @return Indicates whether the snapshot replication was aborted.
+   */
+  public boolean isInstallAborted() {
+    return installAborted;
   }
 
   /**
@@ -277,7 +329,8 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
+        .add("installAborted", installAborted)
         .add("failures", failures)
         .toString();
   }
@@ -459,6 +512,9 @@ public final class RaftMemberContext {
   }
 
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
+    if (this.snapshotChunkReader != null) {
+      this.snapshotChunkReader.close();
+    }
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
@@ -133,6 +133,8 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private final RaftRoleMetrics raftRoleMetrics;
   private final RaftReplicationMetrics replicationMetrics;
   private final MetaStore meta;
+  private final Supplier<ThreadContext> snapshotReaderContextFactory;
+  private ThreadContext snapshotReaderContext;
   private final RaftLog raftLog;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final LogCompactor logCompactor;
@@ -225,6 +227,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
             () ->
                 createThreadContext(
                     "raft-log", partitionId, threadContextFactory, localMemberId.id()));
+    snapshotReaderContextFactory =
+        () ->
+            createThreadContext(
+                "raft-snapshot-reader", partitionId, threadContextFactory, localMemberId.id());
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -430,6 +436,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getSnapshotReplicationWindow() {
+    return partitionConfig.getSnapshotReplicationWindow();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -870,6 +880,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     }
 
     // close thread contexts
+    if (snapshotReaderContext != null) {
+      snapshotReaderContext.close();
+    }
     threadContext.close();
   }
 
@@ -1154,6 +1167,20 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return threadContext;
   }
 
+  /**
+   * Returns the context on which snapshot chunks are read when replicating a snapshot, such that
+   * reading them does not block the raft thread. It is created when it is first needed, as most
+   * replicas never replicate a snapshot. Must only be called from the raft thread.
+   *
+   * @return the snapshot reader context
+   */
+  public ThreadContext getSnapshotReaderContext() {
+    if (snapshotReaderContext == null) {
+      snapshotReaderContext = snapshotReaderContextFactory.get();
+    }
+    return snapshotReaderContext;
+  }
+
   /**
    * Returns a boolean indicating whether this server is the current leader.
    *
@@ -17,6 +17,7 @@ package io.atomix.raft.metrics;
 
 import static io.atomix.raft.metrics.SnapshotReplicationMetricsDoc.*;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Objects;
@@ -26,6 +27,9 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
 
   private final AtomicLong count;
   private final AtomicLong duration;
+  private final Counter sentBytes;
+  private final Counter sentChunks;
+  private final Counter receivedBytes;
 
   public SnapshotReplicationMetrics(final String partitionName, final MeterRegistry meterRegistry) {
     super(partitionName);
@@ -42,6 +46,24 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
         .description(DURATION.getDescription())
         .tags(PARTITION_GROUP_NAME_LABEL, partitionGroupName)
         .register(meterRegistry);
+
+    sentBytes =
+        Counter.builder(SENT_BYTES.getName())
+            .description(SENT_BYTES.getDescription())
+            .baseUnit(SENT_BYTES.getBaseUnit())
+            .tags(PARTITION_GROUP_NAME_LABEL, partitionGroupName)
+            .register(meterRegistry);
+    sentChunks =
+        Counter.builder(SENT_CHUNKS.getName())
+            .description(SENT_CHUNKS.getDescription())
+            .tags(PARTITION_GROUP_NAME_LABEL, partitionGroupName)
+            .register(meterRegistry);
+    receivedBytes =
+        Counter.builder(RECEIVED_BYTES.getName())
+            .description(RECEIVED_BYTES.getDescription())
+            .baseUnit(RECEIVED_BYTES.getBaseUnit())
+            .tags(PARTITION_GROUP_NAME_LABEL, partitionGroupName)
+            .register(meterRegistry);
   }
 
   public void incrementCount() {
@@ -59,4 +81,15 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     duration.set(durationMillis);
   }
+
+  /** Records a snapshot chunk of the given size which was sent to a follower. */
+  public void observeChunkSent(final int bytes) {
+    sentChunks.increment();
+    sentBytes.increment(bytes);
+  }
+
+  /** Records a snapshot chunk of the given size which was received from the leader. */
+  public void observeChunkReceived(final int bytes) {
+    receivedBytes.increment(bytes);
+  }
 }
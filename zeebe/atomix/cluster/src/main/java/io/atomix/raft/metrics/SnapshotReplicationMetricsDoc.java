@@ -58,6 +58,82 @@ public enum SnapshotReplicationMetricsDoc implements ExtendedMeterDocumentation
       return "ms";
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Total number of snapshot bytes sent by the leader to its followers */
+  SENT_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.sent.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total number of snapshot bytes sent by the leader to its followers";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Total number of snapshot chunks sent by the leader to its followers */
+  SENT_CHUNKS {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.sent.chunks";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total number of snapshot chunks sent by the leader to its followers";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Total number of snapshot bytes received and applied by a follower */
+  RECEIVED_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.received.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total number of snapshot bytes received and applied by a follower";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
@@ -30,6 +30,7 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_SNAPSHOT_REPLICATION_WINDOW = 1;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -41,6 +42,7 @@ public class RaftPartitionConfig {
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private int snapshotReplicationWindow = DEFAULT_SNAPSHOT_REPLICATION_WINDOW;
   private RaftStorageConfig storageConfig;
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
@@ -193,6 +195,26 @@ public class RaftPartitionConfig {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  /**
+   * Returns the maximum number of snapshot chunks which the leader sends to a single follower
+   * without having received a response for them.
+   *
+   * @return the maximum number of in-flight snapshot chunks per follower
+   */
+  public int getSnapshotReplicationWindow() {
+    return snapshotReplicationWindow;
+  }
+
+  /**
+   * Sets the maximum number of in-flight snapshot chunks per follower. With a value of 1, the
+   * leader waits for the response of each chunk before sending the next one.
+   *
+   * @param snapshotReplicationWindow the maximum number of in-flight snapshot chunks per follower
+   */
+  public void setSnapshotReplicationWindow(final int snapshotReplicationWindow) {
+    this.snapshotReplicationWindow = snapshotReplicationWindow;
+  }
+
   public RaftStorageConfig getStorageConfig() {
     return storageConfig;
   }
@@ -236,6 +258,8 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", snapshotReplicationWindow="
+        + snapshotReplicationWindow
         + '}';
   }
 }
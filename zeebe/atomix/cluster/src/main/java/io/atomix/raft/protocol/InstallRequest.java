@@ -24,6 +24,9 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -58,6 +61,8 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the chunks which were not sent, because the receiver can reuse its own (null if none)
+  private final ArrayList<String> reusedChunks;
 
   public InstallRequest(
       final long currentTerm,
@@ -70,6 +75,32 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer data,
       final boolean initial,
       final boolean complete) {
+    this(
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        null);
+  }
+
+  public InstallRequest(
+      final long currentTerm,
+      final MemberId leader,
+      final long index,
+      final long term,
+      final int version,
+      final ByteBuffer chunkId,
+      final ByteBuffer nextChunkId,
+      final ByteBuffer data,
+      final boolean initial,
+      final boolean complete,
+      final ArrayList<String> reusedChunks) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +111,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedChunks = reusedChunks;
   }
 
   /**
@@ -170,10 +202,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the names of the chunks which the leader did not send, because the receiver offered to
+   * reuse identical chunks of its own snapshot. Only set on the last chunk of a snapshot.
+   *
+   * @return the names of the reused chunks; never null
+   */
+  public List<String> reusedChunks() {
+    return reusedChunks == null ? List.of() : reusedChunks;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedChunks());
   }
 
   @Override
@@ -194,7 +246,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedChunks(), that.reusedChunks());
   }
 
   @Override
@@ -212,6 +265,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedChunks", reusedChunks().size())
         .toString();
   }
 
@@ -233,6 +287,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private ArrayList<String> reusedChunks;
 
     /**
      * Sets the request current term.
@@ -346,6 +401,18 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the chunks which were not sent, because the receiver can reuse its own.
+     *
+     * @param reusedChunks the names of the reused chunks
+     * @return the request builder
+     */
+    public Builder withReusedChunks(final Collection<String> reusedChunks) {
+      // empty lists are not sent at all, which keeps the request compatible with older versions
+      this.reusedChunks = reusedChunks.isEmpty() ? null : new ArrayList<>(reusedChunks);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +420,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reusedChunks);
     }
 
     @Override
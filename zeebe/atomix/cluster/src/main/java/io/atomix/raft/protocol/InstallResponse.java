@@ -20,33 +20,55 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * first chunk of a snapshot may offer chunks which the receiver already has, such that the leader
+ * can skip them.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the chunks the receiver can reuse, by name and checksum (null if none)
+  protected HashMap<String, Long> reusableChunks;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> reusableChunks) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusableChunks = reusableChunks;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * @return the chunks which the receiver can reuse, by name and checksum; never null
+   */
+  public Map<String, Long> reusableChunks() {
+    return reusableChunks == null ? Map.of() : reusableChunks;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusableChunks", reusableChunks().size())
         .toString();
   }
 
@@ -62,17 +84,24 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> reusableChunks;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusableChunks);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusableChunks(final Map<String, Long> reusableChunks) {
+      // empty maps are not sent at all, which keeps the response compatible with older versions
+      this.reusableChunks = reusableChunks.isEmpty() ? null : new HashMap<>(reusableChunks);
+      return this;
+    }
   }
 }
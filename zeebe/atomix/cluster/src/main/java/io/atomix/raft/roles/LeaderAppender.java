@@ -27,6 +27,7 @@ import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.LeaderMetrics;
+import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
@@ -48,10 +49,13 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
@@ -71,6 +75,7 @@ final class LeaderAppender {
   private boolean open = true;
 
   private final LeaderMetrics metrics;
+  private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private final long leaderTime;
   private final long leaderIndex;
   private final long electionTimeout;
@@ -86,6 +91,7 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName(), raft.getMeterRegistry());
+    snapshotReplicationMetrics = leader.getSnapshotReplicationMetrics();
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
@@ -379,10 +385,23 @@ final class LeaderAppender {
     appendEntries(member);
   }
 
-  /** Builds an install request for the given member. */
-  private Optional<InstallRequest> buildInstallRequest(
+  /**
+   * Builds an install request for the given member. If no install request is in flight, the chunk
+   * is read from the member's next expected chunk on; otherwise the reader simply continues after
+   * the last chunk sent, which pipelines up to the configured snapshot replication window.
+   *
+   * <p>The chunk is read on the snapshot reader context, so the returned future completes once it
+   * was read, and the raft thread is not blocked by reading it.
+   */
+  private Optional<CompletableFuture<InstallRequest>> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
+      if (member.hasInFlightInstalls()) {
+        // chunks of the previous snapshot are still in flight; wait for them before starting over
+        member.abortInstall();
+        return Optional.empty();
+      }
+
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
         member.setSnapshotChunkReader(snapshotChunkReader);
@@ -399,12 +418,18 @@ final class LeaderAppender {
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+    final boolean pipelined = member.hasInFlightInstalls();
 
     try {
       // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
       // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
+      // always, unless previous chunks are still in flight and we pipeline the next one.
+      if (pipelined) {
+        if (!reader.hasNext()) {
+          // all remaining chunks are in flight
+          return Optional.empty();
+        }
+      } else if (member.getNextSnapshotChunk() != null) {
         reader.seek(member.getNextSnapshotChunk());
       } else {
         // member.getNextSnapshotChunk is null when it is the first chunk.
@@ -415,26 +440,37 @@ final class LeaderAppender {
         return Optional.empty();
       }
       final ByteBuffer currentChunkId = reader.nextId();
-      final SnapshotChunk chunk = reader.next();
-
-      // Create the install request, indicating whether this is the last chunk of data based on
-      // the number of bytes remaining in the buffer.
+      final boolean initial = !pipelined && member.getNextSnapshotChunk() == null;
+      // the chunk is serialized while it is read, as its content is only valid until the next read
+      final CompletableFuture<ByteBuffer> data =
+          reader.nextAsync(
+              raft.getSnapshotReaderContext(),
+              chunk -> new SnapshotChunkImpl(chunk).toByteBuffer());
+
+      // the reader already advanced, so the rest of the request is known before the chunk is read
+      final boolean complete = !reader.hasNext();
+      final ByteBuffer nextChunkId = reader.nextId();
+      // the follower has to take over the skipped chunks before it persists the snapshot
+      final Set<String> reusedChunks = complete ? reader.skippedChunks() : Set.of();
       final DefaultRaftMember leader = raft.getLeader();
-
-      final InstallRequest request =
-          InstallRequest.builder()
-              .withCurrentTerm(raft.getTerm())
-              .withLeader(leader.memberId())
-              .withIndex(persistedSnapshot.getIndex())
-              .withTerm(persistedSnapshot.getTerm())
-              .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
-              .withComplete(!reader.hasNext())
-              .withNextChunkId(reader.nextId())
-              .build();
-      return Optional.of(request);
+      final long term = raft.getTerm();
+
+      return Optional.of(
+          data.thenApply(
+              chunk ->
+                  InstallRequest.builder()
+                      .withCurrentTerm(term)
+                      .withLeader(leader.memberId())
+                      .withIndex(persistedSnapshot.getIndex())
+                      .withTerm(persistedSnapshot.getTerm())
+                      .withVersion(persistedSnapshot.version())
+                      .withData(chunk)
+                      .withChunkId(currentChunkId)
+                      .withInitial(initial)
+                      .withComplete(complete)
+                      .withNextChunkId(nextChunkId)
+                      .withReusedChunks(reusedChunks)
+                      .build()));
     } catch (final UncheckedIOException e) {
       log.warn(
           "Expected to send next chunk of Snapshot {} to {}. But could not read SnapshotChunk. Snapshot may have been deleted. Will retry.",
@@ -444,25 +480,83 @@ final class LeaderAppender {
       // If snapshot was deleted, a new reader should be created with the new snapshot
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+      member.abortInstall();
       return Optional.empty();
     }
   }
 
-  /** Connects to the member and sends a snapshot request. */
-  private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
+  /**
+   * Sends the install request once its chunk was read. The install counts as in flight while the
+   * chunk is read, such that the snapshot replication window also bounds the pending reads.
+   */
+  private void sendInstallRequest(
+      final RaftMemberContext member,
+      final PersistedSnapshot persistedSnapshot,
+      final CompletableFuture<InstallRequest> installRequest) {
     // Start the install to the member.
     member.startInstall();
 
+    installRequest.whenCompleteAsync(
+        (request, error) -> {
+          if (!open) {
+            return;
+          }
+
+          if (error != null) {
+            handleChunkReadFailure(member, persistedSnapshot, error);
+          } else if (member.isInstallAborted()) {
+            // an earlier chunk failed while this one was read, so the follower would reject it
+            member.completeInstall();
+            if (!member.hasInFlightInstalls()) {
+              appendEntries(member);
+            }
+          } else {
+            sendInstallRequest(member, request);
+          }
+        },
+        raft.getThreadContext());
+  }
+
+  /** Handles a failure to read the next snapshot chunk of an install request. */
+  private void handleChunkReadFailure(
+      final RaftMemberContext member,
+      final PersistedSnapshot persistedSnapshot,
+      final Throwable error) {
+    log.warn(
+        "Expected to send next chunk of Snapshot {} to {}. But could not read SnapshotChunk. Snapshot may have been deleted. Will retry.",
+        persistedSnapshot.getId(),
+        member.getMember().memberId(),
+        error);
+    // If snapshot was deleted, a new reader should be created with the new snapshot
+    member.setNextSnapshotIndex(0);
+    member.setNextSnapshotChunkId(null);
+    member.abortInstall();
+    member.completeInstall();
+  }
+
+  /** Connects to the member and sends a snapshot request. */
+  private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     final long timestamp = System.currentTimeMillis();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
+    snapshotReplicationMetrics.observeChunkSent(request.data().remaining());
     raft.getProtocol()
         .install(member.getMember().memberId(), request)
         .whenCompleteAsync(
             (response, error) -> {
               if (open) {
-                // Complete the install to the member.
-                member.completeInstall();
+                // Complete the install to the member. If the replication was aborted in the
+                // meantime, the response belongs to a stream of chunks that is restarted anyway.
+                if (!member.completeInstall()) {
+                  log.trace(
+                      "Ignoring stale install response {} from {}",
+                      response,
+                      member.getMember().memberId());
+                  if (!member.hasInFlightInstalls()) {
+                    appendEntries(member);
+                  }
+                  return;
+                }
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
@@ -489,6 +583,9 @@ final class LeaderAppender {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
     }
+    // chunks sent after the failed one would be rejected by the follower, which expects them in
+    // order, so wait for them and resend from the last acknowledged chunk
+    member.abortInstall();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -506,6 +603,9 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    if (!request.complete() && !response.reusableChunks().isEmpty()) {
+      skipReusableChunks(member, request, response.reusableChunks());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -523,6 +623,41 @@ final class LeaderAppender {
     appendEntries(member);
   }
 
+  /**
+   * Skips the chunks of the snapshot which the follower offered to reuse from its own latest
+   * snapshot, as long as they are identical to ours. Snapshot files are immutable, so most of them
+   * are usually shared between consecutive snapshots.
+   */
+  private void skipReusableChunks(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final Map<String, Long> reusableChunks) {
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (persistedSnapshot == null
+        || persistedSnapshot.getIndex() != request.index()
+        || member.getNextSnapshotIndex() != request.index()) {
+      return;
+    }
+
+    final var checksums = persistedSnapshot.getChecksums().getChecksums();
+    final var identicalChunks = new HashSet<String>();
+    reusableChunks.forEach(
+        (chunkName, checksum) -> {
+          if (checksum.equals(checksums.get(chunkName))) {
+            identicalChunks.add(chunkName);
+          }
+        });
+
+    final var reader = member.getSnapshotChunkReader();
+    reader.skip(identicalChunks);
+    log.debug(
+        "Skipping {} of {} chunks of snapshot {} for {}, which it can reuse",
+        reader.skippedChunks().size(),
+        checksums.size(),
+        persistedSnapshot.getId(),
+        member.getMember().memberId());
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -537,6 +672,7 @@ final class LeaderAppender {
 
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
+    member.abortInstall();
   }
 
   /**
@@ -913,8 +1049,15 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // fill the member's snapshot replication window; with a window of one, this sends a single
+    // chunk and the next one is sent when its response arrives
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, persistedSnapshot, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
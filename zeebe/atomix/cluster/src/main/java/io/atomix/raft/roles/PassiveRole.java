@@ -61,6 +61,7 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -86,6 +87,10 @@ public class PassiveRole extends InactiveRole {
     snapshotReplicationMetrics.setCount(0);
   }
 
+  SnapshotReplicationMetrics getSnapshotReplicationMetrics() {
+    return snapshotReplicationMetrics;
+  }
+
   @Override
   public CompletableFuture<RaftRole> start() {
     return super.start()
@@ -165,6 +170,7 @@ public class PassiveRole extends InactiveRole {
     }
 
     // Process the request
+    Map<String, Long> reusableChunks = Map.of();
 
     // If there is no pending snapshot, create a new snapshot.
     if (pendingSnapshot == null) {
@@ -201,6 +207,7 @@ public class PassiveRole extends InactiveRole {
       }
 
       log.info("Started receiving new snapshot {} from {}", pendingSnapshot, request.leader());
+      reusableChunks = collectReusableChunks();
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
       snapshotReplicationMetrics.incrementCount();
 
@@ -227,6 +234,7 @@ public class PassiveRole extends InactiveRole {
                       RaftError.Type.APPLICATION_ERROR, "Failed to write pending snapshot chunk")
                   .build()));
     }
+    snapshotReplicationMetrics.observeChunkReceived(request.data().remaining());
 
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
     // snapshot offset.
@@ -235,6 +243,9 @@ public class PassiveRole extends InactiveRole {
       final PersistedSnapshot persistedSnapshot;
       log.debug("Committing snapshot {}", pendingSnapshot);
       try {
+        // take over the files which the leader skipped, because we offered our own copies
+        pendingSnapshot.reuse(request.reusedChunks()).join();
+
         // Reset before committing to prevent the edge case where the system crashes after
         // committing the snapshot, and restart with a snapshot and invalid log.
         resetLogOnReceivingSnapshot(pendingSnapshot.index());
@@ -271,9 +282,22 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withReusableChunks(reusableChunks)
                 .build()));
   }
 
+  private Map<String, Long> collectReusableChunks() {
+    try {
+      final var reusableChunks = pendingSnapshot.reusableChunks().join();
+      log.debug("Offering {} chunks of the latest snapshot for reuse", reusableChunks.size());
+      return reusableChunks;
+    } catch (final Exception e) {
+      // the snapshot can still be received in full
+      log.warn("Failed to collect reusable chunks for snapshot {}", pendingSnapshot, e);
+      return Map.of();
+    }
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -11,23 +11,26 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.TrafficClass;
 import io.atomix.utils.net.Address;
 import io.netty.channel.Channel;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import org.junit.jupiter.api.Test;
 
 class ChannelPoolTest {
   private static final String MESSAGE_TYPE = "test";
-  private final Function<Address, CompletableFuture<Channel>> factory =
-      a -> {
+  private final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory =
+      (a, trafficClass) -> {
         final var channel = mock(Channel.class);
         when(channel.isActive()).thenReturn(true);
         return CompletableFuture.completedFuture(channel);
       };
-  private final ChannelPool channelPool = new ChannelPool(factory, 8);
+  private final ChannelPool channelPool =
+      new ChannelPool(factory, new TrafficLanes(new MessagingConfig().getTrafficClasses()));
 
   @Test
   void shouldNotUseOldChannelWhenIPChanged() throws UnknownHostException {
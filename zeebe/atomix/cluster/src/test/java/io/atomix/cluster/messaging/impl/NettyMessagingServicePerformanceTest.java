@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the round trips between two messaging services when many requests are in flight on the
+ * same connection, as when a leader replicates to its followers. Compares flushing every message
+ * ({@code maxFlushBytes} of zero) with coalescing the flushes on the next event loop task, which
+ * is the default ({@code maxFlushDelay} of zero).
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NettyMessagingServicePerformanceTest {
+  private static final String SUBJECT = "benchmark";
+  private static final int BURST_SIZE = 100;
+  private static final byte[] PAYLOAD = new byte[512];
+
+  @Param({"0", "65536"})
+  public int maxFlushBytes;
+
+  private NettyMessagingService sender;
+  private NettyMessagingService receiver;
+
+  @Setup
+  public void setup() {
+    sender = newMessagingService();
+    receiver = newMessagingService();
+    CompletableFuture.allOf(sender.start(), receiver.start()).join();
+    receiver.registerHandler(
+        SUBJECT, (address, payload) -> payload, MoreExecutors.directExecutor());
+  }
+
+  @TearDown
+  public void tearDown() {
+    CompletableFuture.allOf(sender.stop(), receiver.stop()).join();
+  }
+
+  @JMHTest("sendBurst")
+  void shouldSendBurstWithoutCoalescing(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 500;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("maxFlushBytes", "0")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("sendBurst")
+  void shouldSendBurstWithCoalescing(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 1_000;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("maxFlushBytes", "65536")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public void sendBurst() {
+    final var responses = new CompletableFuture<?>[BURST_SIZE];
+    for (int i = 0; i < BURST_SIZE; i++) {
+      responses[i] = sender.sendAndReceive(receiver.address(), SUBJECT, PAYLOAD, true);
+    }
+    CompletableFuture.allOf(responses).join();
+  }
+
+  private NettyMessagingService newMessagingService() {
+    final var config =
+        new MessagingConfig().setMaxFlushDelay(Duration.ZERO).setMaxFlushBytes(maxFlushBytes);
+    return new NettyMessagingService(
+        "zeebe", Address.from(SocketUtil.getNextAddress().getPort()), config, "benchmark");
+  }
+}
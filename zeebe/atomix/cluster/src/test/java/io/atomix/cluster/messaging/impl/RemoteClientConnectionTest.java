@@ -13,6 +13,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.messaging.MessagingException;
+import io.atomix.cluster.messaging.TrafficClass;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.netty.channel.Channel;
@@ -154,7 +155,8 @@ public class RemoteClientConnectionTest {
     final Map<String, Boolean> requestOutcome = new HashMap<>();
 
     @Override
-    public CloseableSilently startRequestTimer(final String name) {
+    public CloseableSilently startRequestTimer(
+        final String name, final TrafficClass trafficClass) {
       final long start = System.nanoTime();
       return () -> requestResponseLatency = System.nanoTime() - start;
     }
@@ -205,6 +207,9 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void observeFlush(final int messageCount, final long byteCount) {}
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
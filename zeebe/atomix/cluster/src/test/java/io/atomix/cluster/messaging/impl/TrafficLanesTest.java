@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.TrafficClass;
+import io.atomix.cluster.messaging.TrafficClassConfig;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class TrafficLanesTest {
+
+  private final TrafficLanes lanes = new TrafficLanes(new MessagingConfig().getTrafficClasses());
+
+  @Test
+  void shouldClassifySubjectsByDefault() {
+    // when - then
+    assertThat(lanes.laneFor("raft-partition-partition-1-append").trafficClass())
+        .isEqualTo(TrafficClass.REPLICATION);
+    assertThat(lanes.laneFor("raft-partition-partition-1-append-versioned").trafficClass())
+        .isEqualTo(TrafficClass.REPLICATION);
+    assertThat(lanes.laneFor("raft-partition-partition-1-install").trafficClass())
+        .isEqualTo(TrafficClass.BULK);
+    assertThat(lanes.laneFor("inter-partition-2").trafficClass()).isEqualTo(TrafficClass.BULK);
+    assertThat(lanes.laneFor("raft-partition-partition-1-vote").trafficClass())
+        .isEqualTo(TrafficClass.CONTROL);
+    assertThat(lanes.laneFor("command-api-1").trafficClass()).isEqualTo(TrafficClass.CONTROL);
+  }
+
+  @Test
+  void shouldAssignDisjointChannelsToEachClass() {
+    // given
+    final var control = lanes.laneFor("raft-partition-partition-1-vote");
+    final var replication = lanes.laneFor("raft-partition-partition-1-append");
+    final var bulk = lanes.laneFor("raft-partition-partition-1-install");
+
+    // then
+    assertThat(lanes.size()).isEqualTo(new MessagingConfig().getConnectionPoolSize());
+    assertThat(control.channelOffset("raft-partition-partition-1-vote"))
+        .isBetween(0, control.connections() - 1);
+    assertThat(replication.channelOffset("raft-partition-partition-1-append"))
+        .isBetween(control.connections(), control.connections() + replication.connections() - 1);
+    assertThat(bulk.channelOffset("raft-partition-partition-1-install"))
+        .isBetween(control.connections() + replication.connections(), lanes.size() - 1);
+  }
+
+  @Test
+  void shouldUseConfiguredSubjectPatterns() {
+    // given
+    final var config =
+        new MessagingConfig()
+            .setTrafficClass(
+                TrafficClass.BULK,
+                new TrafficClassConfig()
+                    .setSubjectPatterns(List.of("backup-.*"))
+                    .setConnections(3));
+    final var configuredLanes = new TrafficLanes(config.getTrafficClasses());
+
+    // when
+    final var lane = configuredLanes.laneFor("backup-1");
+
+    // then
+    assertThat(lane.trafficClass()).isEqualTo(TrafficClass.BULK);
+    assertThat(lane.connections()).isEqualTo(3);
+    assertThat(configuredLanes.laneFor("raft-partition-partition-1-install").trafficClass())
+        .isEqualTo(TrafficClass.CONTROL);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class WriteCoalescingHandlerTest {
+
+  private final MessagingMetrics metrics = mock(MessagingMetrics.class);
+  private EmbeddedChannel channel;
+
+  @AfterEach
+  void tearDown() {
+    if (channel != null) {
+      channel.finishAndReleaseAll();
+    }
+  }
+
+  @Test
+  void shouldCoalesceFlushesOfQueuedMessages() {
+    // given
+    channel = new EmbeddedChannel(new WriteCoalescingHandler(Duration.ZERO, 1024, metrics));
+
+    // when
+    channel.writeAndFlush(buffer(10));
+    channel.writeAndFlush(buffer(20));
+    channel.writeAndFlush(buffer(30));
+
+    // then
+    assertThat(channel.outboundMessages()).isEmpty();
+    channel.runPendingTasks();
+    assertThat(channel.outboundMessages()).hasSize(3);
+    verify(metrics).observeFlush(3, 60);
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenExceedingMaxBytes() {
+    // given
+    channel = new EmbeddedChannel(new WriteCoalescingHandler(Duration.ofHours(1), 32, metrics));
+
+    // when
+    channel.writeAndFlush(buffer(16));
+    channel.writeAndFlush(buffer(16));
+
+    // then
+    assertThat(channel.outboundMessages()).hasSize(2);
+    verify(metrics).observeFlush(2, 32);
+  }
+
+  @Test
+  void shouldFlushEveryMessageIfDisabled() {
+    // given
+    channel = new EmbeddedChannel(new WriteCoalescingHandler(Duration.ZERO, 0, metrics));
+
+    // when
+    channel.writeAndFlush(buffer(10));
+
+    // then
+    assertThat(channel.outboundMessages()).hasSize(1);
+    verify(metrics).observeFlush(1, 10);
+  }
+
+  @Test
+  void shouldFlushPendingMessagesOnClose() {
+    // given
+    channel = new EmbeddedChannel(new WriteCoalescingHandler(Duration.ofHours(1), 1024, metrics));
+    channel.writeAndFlush(buffer(10));
+    verifyNoInteractions(metrics);
+
+    // when
+    channel.close();
+
+    // then
+    verify(metrics).observeFlush(1, 10);
+  }
+
+  private ByteBuf buffer(final int size) {
+    return Unpooled.wrappedBuffer(new byte[size]);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
+import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftSnapshotChunkReuseTest {
+
+  private static final int NUMBER_OF_CHUNKS = 10;
+
+  @Rule public RaftRule raftRule = RaftRule.withBootstrappedNodes(3);
+  private final List<InstallRequest> installRequests = new CopyOnWriteArrayList<>();
+  private RaftServer leader;
+  private RaftServer follower;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class, (Consumer<InstallRequest>) installRequests::add);
+    follower = raftRule.getFollower().orElseThrow();
+  }
+
+  @Test
+  public void shouldOnlySendChunksWhichFollowerCannotReuse() throws Exception {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+    reconnectFollowerAndAwaitSnapshot();
+    installRequests.clear();
+
+    // when
+    final var snapshot = disconnectFollowerAndTakeSnapshot();
+    final var receivedSnapshot = reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(installRequests)
+        .describedAs("Should only send the first chunk and the one announced with it")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .hasSizeLessThan(NUMBER_OF_CHUNKS);
+    assertThat(installRequests.get(installRequests.size() - 1).reusedChunks())
+        .describedAs("Should let the follower reuse all chunks which were not sent")
+        .hasSize(NUMBER_OF_CHUNKS - 2);
+    assertThat(receivedSnapshot).isEqualTo(snapshot);
+  }
+
+  private PersistedSnapshot reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    final var snapshotStore = raftRule.getPersistedSnapshotStore(follower.name());
+    final PersistedSnapshotListener listener = s -> snapshotReceived.countDown();
+    snapshotStore.addSnapshotListener(listener);
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+    snapshotStore.removeSnapshotListener(listener);
+    return snapshotStore.getLatestSnapshot().orElseThrow();
+  }
+
+  private PersistedSnapshot disconnectFollowerAndTakeSnapshot() throws Exception {
+    raftRule.partition(follower);
+
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    final var snapshot = raftRule.takeSnapshot(leader, commitIndex, NUMBER_OF_CHUNKS);
+    raftRule.appendEntry();
+    return snapshot.orElseThrow();
+  }
+}
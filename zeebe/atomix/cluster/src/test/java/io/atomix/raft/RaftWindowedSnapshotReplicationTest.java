@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError.Type;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftWindowedSnapshotReplicationTest {
+
+  private static final int SNAPSHOT_REPLICATION_WINDOW = 4;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final Builder builder) {
+              final var config =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              config.setSnapshotReplicationWindow(SNAPSHOT_REPLICATION_WINDOW);
+              builder.withPartitionConfig(config);
+            }
+          });
+
+  private RaftServer follower;
+  private AtomicInteger totalInstallRequest;
+  private TestRaftServerProtocol leaderProtocol;
+  private RaftServer leader;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    totalInstallRequest = new AtomicInteger(0);
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Consumer<InstallRequest>) (request) -> totalInstallRequest.incrementAndGet());
+  }
+
+  @Test
+  public void shouldReplicateSnapshotWithMultipleChunksInFlight() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should send every chunk once")
+        // Before follower reconnects, sometimes leader sends InstallRequests which
+        // end up in connect exceptions
+        .isLessThan(numberOfChunks + SNAPSHOT_REPLICATION_WINDOW + 2);
+  }
+
+  @Test
+  public void shouldRestartSnapshotReplicationIfFollowerRejectedPipelinedRequest()
+      throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    final var responseCount = new AtomicInteger();
+    leaderProtocol.interceptResponse(
+        InstallResponse.class,
+        response -> {
+          if (responseCount.incrementAndGet() == numberOfChunks / 2) {
+            return CompletableFuture.completedFuture(
+                InstallResponse.builder()
+                    .withError(Type.PROTOCOL_ERROR)
+                    .withStatus(InstallResponse.Status.ERROR)
+                    .build());
+          }
+          return CompletableFuture.completedFuture(response);
+        });
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(raftRule.getPersistedSnapshotStore(follower.name()).getLatestSnapshot())
+        .isPresent();
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot(final int numberOfChunks) throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, numberOfChunks);
+    raftRule.appendEntry();
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  @Test
+  void shouldAllowInstallsUpToWindow() {
+    // given
+    final var context = newContext(2);
+
+    // when
+    context.startInstall();
+    final var canInstallSecond = context.canInstall();
+    context.startInstall();
+
+    // then
+    assertThat(canInstallSecond).isTrue();
+    assertThat(context.canInstall()).isFalse();
+    assertThat(context.hasInFlightInstalls()).isTrue();
+  }
+
+  @Test
+  void shouldAllowInstallAfterCompletion() {
+    // given
+    final var context = newContext(1);
+    context.startInstall();
+
+    // when
+    final var current = context.completeInstall();
+
+    // then
+    assertThat(current).isTrue();
+    assertThat(context.canInstall()).isTrue();
+    assertThat(context.hasInFlightInstalls()).isFalse();
+  }
+
+  @Test
+  void shouldIgnoreInFlightInstallsAfterAbort() {
+    // given
+    final var context = newContext(3);
+    context.startInstall();
+    context.startInstall();
+    context.startInstall();
+
+    // when
+    context.completeInstall();
+    context.abortInstall();
+
+    // then
+    assertThat(context.canInstall()).isFalse();
+    assertThat(context.completeInstall()).isFalse();
+    assertThat(context.canInstall()).isFalse();
+    assertThat(context.completeInstall()).isFalse();
+    assertThat(context.canInstall()).isTrue();
+  }
+
+  @Test
+  void shouldNotAbortWithoutInFlightInstalls() {
+    // given
+    final var context = newContext(2);
+
+    // when
+    context.abortInstall();
+    context.startInstall();
+
+    // then
+    assertThat(context.completeInstall()).isTrue();
+  }
+
+  @Test
+  void shouldReportAbortedInstallUntilAllInFlightInstallsCompleted() {
+    // given
+    final var context = newContext(2);
+    context.startInstall();
+    context.startInstall();
+
+    // when
+    context.abortInstall();
+    context.completeInstall();
+
+    // then
+    assertThat(context.isInstallAborted()).isTrue();
+    context.completeInstall();
+    assertThat(context.isInstallAborted()).isFalse();
+  }
+
+  @Test
+  void shouldCloseReplacedSnapshotChunkReader() {
+    // given
+    final var context = newContext(1);
+    final var previousReader = mock(SnapshotChunkReader.class);
+    context.setSnapshotChunkReader(previousReader);
+
+    // when
+    context.setSnapshotChunkReader(mock(SnapshotChunkReader.class));
+
+    // then
+    verify(previousReader).close();
+  }
+
+  @Test
+  void shouldUseWindowOfAtLeastOne() {
+    // given
+    final var context = newContext(0);
+
+    // then
+    assertThat(context.canInstall()).isTrue();
+  }
+
+  private RaftMemberContext newContext(final int maxInstallsPerMember) {
+    final var member = new DefaultRaftMember(new MemberId("1"), Type.ACTIVE, Instant.now());
+    return new RaftMemberContext(member, null, 2, maxInstallsPerMember);
+  }
+}
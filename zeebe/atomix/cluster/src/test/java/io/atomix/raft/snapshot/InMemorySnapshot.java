@@ -30,10 +30,14 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
@@ -50,6 +54,8 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
   private final Set<SnapshotReservation> reservations = new CopyOnWriteArraySet<>();
 
   private ImmutableChecksumsSFV checksum;
+  private InMemorySnapshot reusableSnapshot;
+  private SnapshotReservation reusableSnapshotReservation;
 
   InMemorySnapshot(final TestSnapshotStore testSnapshotStore, final String snapshotId) {
     this.testSnapshotStore = testSnapshotStore;
@@ -107,17 +113,19 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
   @Override
   public SnapshotChunkReader newChunkReader() {
     return new SnapshotChunkReader() {
-      private NavigableMap<String, String> iterator = chunks;
+      private final NavigableMap<String, String> readableChunks = new TreeMap<>(chunks);
+      private final Set<String> skippedChunks = new TreeSet<>();
+      private NavigableMap<String, String> iterator = readableChunks;
 
       @Override
       public void reset() {
-        iterator = chunks;
+        iterator = readableChunks;
       }
 
       @Override
       public void seek(final ByteBuffer id) {
         final var chunkId = BufferUtil.bufferAsString(new UnsafeBuffer(id));
-        iterator = chunks.tailMap(chunkId, true);
+        iterator = readableChunks.tailMap(chunkId, true);
       }
 
       @Override
@@ -131,6 +139,26 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public void setMaximumChunkSize(final int maximumChunkSize) {}
 
+      @Override
+      public void skip(final Set<String> chunkNames) {
+        if (!hasNext()) {
+          return;
+        }
+
+        // same as the file based reader, the next chunk may already be announced to the receiver
+        final var nextChunk = iterator.firstKey();
+        for (final var chunkName : chunkNames) {
+          if (chunkName.compareTo(nextChunk) > 0 && readableChunks.remove(chunkName) != null) {
+            skippedChunks.add(chunkName);
+          }
+        }
+      }
+
+      @Override
+      public Set<String> skippedChunks() {
+        return Collections.unmodifiableSet(skippedChunks);
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -144,7 +172,7 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public SnapshotChunk next() {
         final var nextEntry = iterator.firstEntry();
-        iterator = chunks.tailMap(nextEntry.getKey(), false);
+        iterator = readableChunks.tailMap(nextEntry.getKey(), false);
         return new TestSnapshotChunkImpl(
             id, nextEntry.getKey(), StringUtil.getBytes(nextEntry.getValue()), chunks.size());
       }
@@ -212,18 +240,58 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Map<String, Long>> reusableChunks() {
+    releaseReusableSnapshot();
+    final var latestSnapshot = testSnapshotStore.getLatestSnapshot().orElse(null);
+    if (latestSnapshot == null) {
+      return CompletableActorFuture.completed(Map.of());
+    }
+
+    reusableSnapshot = (InMemorySnapshot) latestSnapshot;
+    reusableSnapshotReservation = latestSnapshot.reserve().join();
+    return CompletableActorFuture.completed(latestSnapshot.getChecksums().getChecksums());
+  }
+
+  @Override
+  public ActorFuture<Void> reuse(final Collection<String> chunkNames) {
+    if (chunkNames.isEmpty()) {
+      return CompletableActorFuture.completed(null);
+    }
+    if (reusableSnapshot == null) {
+      return CompletableActorFuture.completedExceptionally(
+          new IllegalStateException("Expected to reuse chunks, but none were offered"));
+    }
+
+    chunkNames.forEach(name -> chunks.put(name, reusableSnapshot.chunks.get(name)));
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
+    releaseReusableSnapshot();
     return CompletableActorFuture.completed(null);
   }
 
   @Override
   public ActorFuture<PersistedSnapshot> persist() {
+    releaseReusableSnapshot();
+    final var checksums = new SfvChecksumImpl();
+    chunks.forEach(
+        (chunkName, content) -> checksums.updateFromBytes(chunkName, StringUtil.getBytes(content)));
+    checksum = checksums;
     testSnapshotStore.newSnapshot(this);
-    checksum = new SfvChecksumImpl();
     return CompletableActorFuture.completed(this);
   }
 
+  private void releaseReusableSnapshot() {
+    if (reusableSnapshotReservation != null) {
+      reusableSnapshotReservation.release();
+    }
+    reusableSnapshot = null;
+    reusableSnapshotReservation = null;
+  }
+
   @Override
   public SnapshotId snapshotId() {
     return new SnapshotId() {
@@ -18,6 +18,7 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
@@ -25,10 +26,12 @@ import io.camunda.zeebe.backup.common.Manifest;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -94,19 +97,32 @@ public final class AzureBackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
+    return saveAndCountUploadedBytes(backup).thenApply(uploadedBytes -> null);
+  }
+
+  @Override
+  public CompletableFuture<Long> saveAndCountUploadedBytes(final Backup backup) {
+    final var uploadedBytes = new LongAdder();
     return CompletableFuture.runAsync(
-        () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
-          try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
-            manifestManager.completeManifest(persistedManifest);
-          } catch (final Exception e) {
-            manifestManager.markAsFailed(persistedManifest.manifest().id(), e.getMessage());
-            throw e;
-          }
-        },
-        executor);
+            () ->
+                fileSetManager.saving(
+                    backup.id(),
+                    () -> {
+                      final var persistedManifest = manifestManager.createInitialManifest(backup);
+                      try {
+                        final var snapshot =
+                            fileSetManager.save(backup.id(), backup.snapshot(), uploadedBytes::add);
+                        final var segments =
+                            fileSetManager.save(backup.id(), backup.segments(), uploadedBytes::add);
+                        manifestManager.completeManifest(persistedManifest, snapshot, segments);
+                      } catch (final Exception e) {
+                        manifestManager.markAsFailed(
+                            persistedManifest.manifest().id(), e.getMessage());
+                        throw e;
+                      }
+                    }),
+            executor)
+        .thenApply(ok -> uploadedBytes.sum());
   }
 
   @Override
@@ -136,6 +152,12 @@ public final class AzureBackupStore implements BackupStore {
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          fileSetManager.deleteUnreferenced(
+              id.partitionId(),
+              () ->
+                  manifestManager.listManifests(
+                      new BackupIdentifierWildcardImpl(
+                          Optional.empty(), Optional.of(id.partitionId()), Optional.empty())));
         },
         executor);
   }
@@ -16,42 +16,38 @@ import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.specialized.BlockBlobClient;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
-import io.camunda.zeebe.backup.azure.AzureBackupStoreException.BlobAlreadyExists;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSets;
 import io.camunda.zeebe.backup.common.FileSet;
-import io.camunda.zeebe.backup.common.FileSet.NamedFile;
-import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.SharedContentStore;
 import java.nio.file.Path;
-import java.util.stream.Collectors;
+import java.util.Collection;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
-final class FileSetManager {
+final class FileSetManager implements SharedContentStore {
   // The path format is constructed by contents/partitionId/checkpointId/nodeId/nameOfFile
   private static final String PATH_FORMAT = "contents/%s/%s/%s/%s/";
+  // The contents shared by all backups of a partition are stored in contents/shared/partitionId
+  private static final String SHARED_PATH_FORMAT = "contents/shared/%s/";
   private final BlobContainerClient containerClient;
+  private final ContentAddressedFileSets contents;
   private boolean containerCreated = false;
 
   FileSetManager(final BlobContainerClient containerClient) {
     this.containerClient = containerClient;
+    contents = new ContentAddressedFileSets(this);
   }
 
-  void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+  /** Runs the given save of a backup, see {@link ContentAddressedFileSets#saving}. */
+  void saving(final BackupIdentifier id, final Runnable save) {
+    contents.saving(id.partitionId(), save);
+  }
+
+  FileSet save(
+      final BackupIdentifier id, final NamedFileSet fileSet, final LongConsumer uploadedBytes) {
     assureContainerCreated();
-    for (final var namedFile : fileSet.namedFiles().entrySet()) {
-      final var fileName = namedFile.getKey();
-      final var filePath = namedFile.getValue();
-      final String fileSetPath = fileSetPath(id, fileSetName);
-
-      final BlobClient blobClient = containerClient.getBlobClient(fileSetPath + fileName);
-
-      try {
-        final BinaryData binaryData = BinaryData.fromFile(filePath);
-        blobClient.upload(binaryData, false);
-      } catch (final BlobStorageException e) {
-        if (e.getErrorCode() == BlobErrorCode.BLOB_ALREADY_EXISTS) {
-          throw new BlobAlreadyExists("File already exists.", e.getCause());
-        }
-        throw e;
-      }
-    }
+    return contents.save(id.partitionId(), fileSet, uploadedBytes);
   }
 
   public void delete(final BackupIdentifier id, final String fileSetName) {
@@ -64,28 +60,66 @@ final class FileSetManager {
                 containerClient.getBlobClient(blobItem.getName()).getBlockBlobClient().delete());
   }
 
+  /** Deletes all shared contents of the partition which none of the given manifests reference. */
+  void deleteUnreferenced(
+      final int partitionId, final Supplier<Collection<Manifest>> manifests) {
+    assureContainerCreated();
+    contents.deleteUnreferenced(partitionId, manifests);
+  }
+
   public NamedFileSet restore(
       final BackupIdentifier id,
       final String fileSetName,
       final FileSet fileSet,
       final Path targetFolder) {
+    return contents.restore(
+        id.partitionId(),
+        fileSet,
+        targetFolder,
+        (fileName, filePath) -> {
+          final BlockBlobClient blobClient =
+              containerClient
+                  .getBlobClient(fileSetPath(id, fileSetName) + fileName)
+                  .getBlockBlobClient();
+          blobClient.downloadToFile(String.valueOf(filePath), true);
+        });
+  }
 
-    final var pathByName =
-        fileSet.files().stream()
-            .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
-
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
+  @Override
+  public boolean exists(final int partitionId, final String contentKey) {
+    return sharedBlobClient(partitionId, contentKey).exists();
+  }
 
-      final BlockBlobClient blobClient =
-          containerClient
-              .getBlobClient(fileSetPath(id, fileSetName) + fileName)
-              .getBlockBlobClient();
-      blobClient.downloadToFile(String.valueOf(filePath), true);
+  @Override
+  public void upload(final int partitionId, final String contentKey, final Path file) {
+    try {
+      sharedBlobClient(partitionId, contentKey).upload(BinaryData.fromFile(file), false);
+    } catch (final BlobStorageException e) {
+      // the same content was uploaded concurrently, which is just as good
+      if (e.getErrorCode() != BlobErrorCode.BLOB_ALREADY_EXISTS) {
+        throw e;
+      }
     }
+  }
+
+  @Override
+  public void download(final int partitionId, final String contentKey, final Path targetFile) {
+    sharedBlobClient(partitionId, contentKey).downloadToFile(String.valueOf(targetFile), true);
+  }
+
+  @Override
+  public Collection<String> list(final int partitionId) {
+    final var sharedPath = SHARED_PATH_FORMAT.formatted(partitionId);
+    return containerClient
+        .listBlobs(new ListBlobsOptions().setPrefix(sharedPath), null)
+        .stream()
+        .map(blobItem -> blobItem.getName().substring(sharedPath.length()))
+        .toList();
+  }
 
-    return new NamedFileSetImpl(pathByName);
+  @Override
+  public void delete(final int partitionId, final String contentKey) {
+    sharedBlobClient(partitionId, contentKey).deleteIfExists();
   }
 
   void assureContainerCreated() {
@@ -95,6 +129,10 @@ final class FileSetManager {
     }
   }
 
+  private BlobClient sharedBlobClient(final int partitionId, final String contentKey) {
+    return containerClient.getBlobClient(SHARED_PATH_FORMAT.formatted(partitionId) + contentKey);
+  }
+
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return PATH_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
   }
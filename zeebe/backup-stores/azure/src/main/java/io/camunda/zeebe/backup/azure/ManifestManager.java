@@ -31,7 +31,9 @@ import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.CompletedManifest;
 import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import io.camunda.zeebe.backup.common.Manifest.StatusCode;
 import java.io.IOException;
@@ -105,8 +107,18 @@ public final class ManifestManager {
   }
 
   void completeManifest(final PersistedManifest inProgressManifest) {
+    completeManifest(inProgressManifest, inProgressManifest.manifest().complete());
+  }
+
+  void completeManifest(
+      final PersistedManifest inProgressManifest, final FileSet snapshot, final FileSet segments) {
+    completeManifest(
+        inProgressManifest, inProgressManifest.manifest().complete(snapshot, segments));
+  }
+
+  private void completeManifest(
+      final PersistedManifest inProgressManifest, final CompletedManifest completed) {
     final byte[] serializedManifest;
-    final var completed = inProgressManifest.manifest().complete();
     assureContainerCreated();
     try {
       serializedManifest = MAPPER.writeValueAsBytes(completed);
@@ -0,0 +1,250 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.Manifest.StatusCode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stores the files of backups incrementally: the content of each file is stored only once per
+ * partition in a {@link SharedContentStore}, keyed by its checksum, and the manifests only
+ * reference it via {@link NamedFile#contentKey()}. Consecutive backups of a partition usually share
+ * most of their snapshot files and many of their segments, which are then neither uploaded nor
+ * stored again.
+ *
+ * <p>As contents are shared, they cannot be deleted together with a backup. Instead, {@link
+ * #deleteUnreferenced(int, Supplier)} deletes all contents of a partition which are no longer
+ * referenced by any of its completed backups. A backup which is being saved relies on contents
+ * before its manifest references them, so saves and deletions of a partition are serialized: all
+ * saves of a partition must run via {@link #saving(int, Runnable)}, and both must be made through
+ * the same instance. This holds as the backups of a partition are taken and deleted by its leader.
+ *
+ * <p>Files of backups which were taken before, and thus have no content key, are still stored with
+ * their backup; these are restored and deleted by the backup store as before.
+ */
+public final class ContentAddressedFileSets {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final SharedContentStore store;
+  private final Map<Integer, ReadWriteLock> partitionLocks = new ConcurrentHashMap<>();
+
+  public ContentAddressedFileSets(final SharedContentStore store) {
+    this.store = Objects.requireNonNull(store);
+  }
+
+  /**
+   * Runs the given save of a backup of the partition, from creating its manifest until completing
+   * or failing it. No contents of the partition are deleted meanwhile, as the backup may rely on
+   * stored contents which its manifest does not reference yet. Saves of the same partition may run
+   * concurrently.
+   */
+  public void saving(final int partitionId, final Runnable save) {
+    final var lock = partitionLock(partitionId).readLock();
+    lock.lock();
+    try {
+      save.run();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Uploads the contents of the given files which are not stored yet, and returns once all are
+   * uploaded. Must be called within {@link #saving(int, Runnable)}.
+   *
+   * @param uploadedBytes is called with the number of bytes uploaded for each file
+   * @return the file set to persist in the manifest, referencing the stored contents
+   */
+  public FileSet save(
+      final int partitionId, final NamedFileSet fileSet, final LongConsumer uploadedBytes) {
+    final var files = new ArrayList<NamedFile>(fileSet.namedFiles().size());
+    final var storedKeys = new HashSet<String>();
+    final var uploads = new ArrayList<CompletableFuture<?>>();
+
+    for (final var namedFile : fileSet.namedFiles().entrySet()) {
+      final var contentKey = contentKey(namedFile.getValue());
+      if (storedKeys.add(contentKey) && !store.exists(partitionId, contentKey)) {
+        uploads.add(
+            store
+                .uploadAsync(partitionId, contentKey, namedFile.getValue())
+                .thenAccept(uploadedBytes::accept));
+      }
+      files.add(new NamedFile(namedFile.getKey(), contentKey));
+    }
+
+    awaitAll(uploads);
+    return new FileSet(files);
+  }
+
+  /**
+   * Downloads all files of the given file set into the target folder.
+   *
+   * @param legacyDownload downloads a file without content key, i.e. one that is stored with its
+   *     backup, by name to the given path
+   */
+  public NamedFileSet restore(
+      final int partitionId,
+      final FileSet fileSet,
+      final Path targetFolder,
+      final BiConsumer<String, Path> legacyDownload) {
+    final var pathByName = new HashMap<String, Path>();
+    final var downloads = new ArrayList<CompletableFuture<?>>();
+
+    for (final var file : fileSet.files()) {
+      final var targetFile = targetFolder.resolve(file.name());
+      if (file.contentKey() == null) {
+        legacyDownload.accept(file.name(), targetFile);
+      } else {
+        downloads.add(store.downloadAsync(partitionId, file.contentKey(), targetFile));
+      }
+      pathByName.put(file.name(), targetFile);
+    }
+
+    awaitAll(downloads);
+    return new NamedFileSetImpl(pathByName);
+  }
+
+  /**
+   * Deletes all contents of the given partition which are not referenced by any of the listed
+   * manifests, which must be all remaining manifests of the partition. Waits for the saves of the
+   * partition which are in progress, and lists the manifests only then, such that the manifests of
+   * these backups are complete.
+   *
+   * <p>A backup which is still in progress anyway, e.g. because it was started by a previous leader
+   * of the partition, may already rely on contents which its manifest does not reference yet, so
+   * nothing is deleted while there is one; the contents are then deleted with the next backup
+   * deletion instead.
+   *
+   * @return the number of deleted contents
+   */
+  public int deleteUnreferenced(
+      final int partitionId, final Supplier<Collection<Manifest>> manifests) {
+    return deleteUnreferencedContents(
+        partitionId, () -> referencedContents(partitionId, manifests.get()));
+  }
+
+  /**
+   * Like {@link #deleteUnreferenced(int, Supplier)}, for stores which persist manifests in their
+   * own format. The given supplier is called once the saves of the partition in progress are
+   * finished, and returns the content keys referenced by the remaining completed backups of the
+   * partition, or nothing if any of its backups is still in progress.
+   *
+   * @return the number of deleted contents
+   */
+  public int deleteUnreferencedContents(
+      final int partitionId, final Supplier<Optional<Set<String>>> referencedContents) {
+    final var lock = partitionLock(partitionId).writeLock();
+    lock.lock();
+    try {
+      return referencedContents
+          .get()
+          .map(referencedKeys -> deleteUnreferenced(partitionId, referencedKeys))
+          .orElse(0);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Optional<Set<String>> referencedContents(
+      final int partitionId, final Collection<Manifest> manifests) {
+    final var partitionManifests =
+        manifests.stream().filter(m -> m.id().partitionId() == partitionId).toList();
+    if (partitionManifests.stream().anyMatch(m -> m.statusCode() == StatusCode.IN_PROGRESS)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        partitionManifests.stream()
+            .filter(m -> m.statusCode() == StatusCode.COMPLETED)
+            .map(Manifest::asCompleted)
+            .flatMap(
+                m -> Stream.concat(m.snapshot().files().stream(), m.segments().files().stream()))
+            .map(NamedFile::contentKey)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
+  }
+
+  private int deleteUnreferenced(final int partitionId, final Set<String> referencedKeys) {
+    int deleted = 0;
+    for (final var contentKey : store.list(partitionId)) {
+      if (!referencedKeys.contains(contentKey)) {
+        store.delete(partitionId, contentKey);
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
+  /** Waits for all transfers, and rethrows the failure of the first one that failed. */
+  private static void awaitAll(final List<CompletableFuture<?>> transfers) {
+    try {
+      CompletableFuture.allOf(transfers.toArray(CompletableFuture[]::new)).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private ReadWriteLock partitionLock(final int partitionId) {
+    return partitionLocks.computeIfAbsent(partitionId, ignored -> new ReentrantReadWriteLock());
+  }
+
+  /** Returns the key identifying the content of the given file, i.e. its SHA-256 checksum. */
+  public static String contentKey(final Path file) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    try (final InputStream input = Files.newInputStream(file)) {
+      final var buffer = new byte[READ_BUFFER_SIZE];
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+}
@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.backup.common;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import java.util.List;
 import java.util.Objects;
@@ -43,9 +46,19 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * @param name the name of the file within its file set
+   * @param contentKey the key under which the file's content is stored in the {@link
+   *     SharedContentStore}, or null if the file was stored as part of its backup only
+   */
+  public record NamedFile(String name, @JsonInclude(Include.NON_NULL) String contentKey) {
+    @JsonCreator
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
   }
 }
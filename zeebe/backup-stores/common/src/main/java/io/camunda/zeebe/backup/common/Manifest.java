@@ -93,6 +93,9 @@ public sealed interface Manifest {
 
     CompletedManifest complete();
 
+    /** Completes the manifest, replacing its file sets with the given, as stored, file sets. */
+    CompletedManifest complete(final FileSet snapshot, final FileSet segments);
+
     FailedManifest fail(final String failureReason);
   }
 
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The area of a backup store in which file contents are stored once per partition, addressed by
+ * their {@link ContentAddressedFileSets#contentKey(Path) content key}, and shared by all backups of
+ * that partition. See {@link ContentAddressedFileSets} for how backups are stored in it.
+ */
+public interface SharedContentStore {
+
+  boolean exists(int partitionId, String contentKey);
+
+  /**
+   * Uploads the given file as the content with the given key. As the key identifies the content,
+   * implementations must not fail if the content was uploaded concurrently by someone else.
+   */
+  void upload(int partitionId, String contentKey, Path file);
+
+  void download(int partitionId, String contentKey, Path targetFile);
+
+  /**
+   * Like {@link #upload(int, String, Path)}, but may return before the upload is finished, so that
+   * the contents of a file set are uploaded concurrently. Uploads synchronously by default.
+   *
+   * @return a future which completes with the number of uploaded bytes
+   */
+  default CompletableFuture<Long> uploadAsync(
+      final int partitionId, final String contentKey, final Path file) {
+    upload(partitionId, contentKey, file);
+    try {
+      return CompletableFuture.completedFuture(Files.size(file));
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Like {@link #download(int, String, Path)}, but may return before the download is finished, so
+   * that the contents of a file set are downloaded concurrently. Downloads synchronously by
+   * default.
+   */
+  default CompletableFuture<Void> downloadAsync(
+      final int partitionId, final String contentKey, final Path targetFile) {
+    download(partitionId, contentKey, targetFile);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /** Returns the keys of all contents stored for the given partition. */
+  Collection<String> list(int partitionId);
+
+  /** Deletes the content with the given key; does nothing if it does not exist. */
+  void delete(int partitionId, String contentKey);
+}
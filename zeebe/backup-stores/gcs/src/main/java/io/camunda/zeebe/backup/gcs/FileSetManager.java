@@ -7,22 +7,28 @@
  */
 package io.camunda.zeebe.backup.gcs;
 
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobListOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSets;
 import io.camunda.zeebe.backup.common.FileSet;
-import io.camunda.zeebe.backup.common.FileSet.NamedFile;
-import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.SharedContentStore;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
-final class FileSetManager {
+final class FileSetManager implements SharedContentStore {
   /**
    * The path format consists of the following elements:
    *
@@ -37,27 +43,32 @@ final class FileSetManager {
    */
   private static final String PATH_FORMAT = "%scontents/%s/%s/%s/%s/";
 
+  /**
+   * The path format of the contents shared by all backups of a partition, consisting of {@code
+   * basePath} and {@code partitionId}. See {@link ContentAddressedFileSets}.
+   */
+  private static final String SHARED_PATH_FORMAT = "%scontents/shared/%s/";
+
   private final Storage client;
   private final BucketInfo bucketInfo;
   private final String basePath;
+  private final ContentAddressedFileSets contents;
 
   FileSetManager(final Storage client, final BucketInfo bucketInfo, final String basePath) {
     this.client = client;
     this.bucketInfo = bucketInfo;
     this.basePath = basePath;
+    contents = new ContentAddressedFileSets(this);
   }
 
-  void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
-    for (final var namedFile : fileSet.namedFiles().entrySet()) {
-      final var fileName = namedFile.getKey();
-      final var filePath = namedFile.getValue();
-      try {
-        client.createFrom(
-            blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
-    }
+  /** Runs the given save of a backup, see {@link ContentAddressedFileSets#saving}. */
+  void saving(final BackupIdentifier id, final Runnable save) {
+    contents.saving(id.partitionId(), save);
+  }
+
+  FileSet save(
+      final BackupIdentifier id, final NamedFileSet fileSet, final LongConsumer uploadedBytes) {
+    return contents.save(id.partitionId(), fileSet, uploadedBytes);
   }
 
   public void delete(final BackupIdentifier id, final String fileSetName) {
@@ -69,22 +80,67 @@ final class FileSetManager {
     }
   }
 
+  /** Deletes all shared contents of the partition which none of the given manifests reference. */
+  void deleteUnreferenced(
+      final int partitionId, final Supplier<Collection<Manifest>> manifests) {
+    contents.deleteUnreferenced(partitionId, manifests);
+  }
+
   public NamedFileSet restore(
       final BackupIdentifier id,
       final String filesetName,
       final FileSet fileSet,
       final Path targetFolder) {
-    final var pathByName =
-        fileSet.files().stream()
-            .collect(Collectors.toMap(NamedFile::name, (f) -> targetFolder.resolve(f.name())));
-
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      client.downloadTo(blobInfo(id, filesetName, fileName).getBlobId(), filePath);
+    return contents.restore(
+        id.partitionId(),
+        fileSet,
+        targetFolder,
+        (fileName, filePath) ->
+            client.downloadTo(blobInfo(id, filesetName, fileName).getBlobId(), filePath));
+  }
+
+  @Override
+  public boolean exists(final int partitionId, final String contentKey) {
+    return client.get(sharedBlobId(partitionId, contentKey)) != null;
+  }
+
+  @Override
+  public void upload(final int partitionId, final String contentKey, final Path file) {
+    final var blobInfo =
+        BlobInfo.newBuilder(sharedBlobId(partitionId, contentKey))
+            .setContentType("application/octet-stream")
+            .build();
+    try {
+      client.createFrom(blobInfo, file, BlobWriteOption.doesNotExist());
+    } catch (final StorageException e) {
+      // the same content was uploaded concurrently, which is just as good
+      if (e.getCode() != ManifestManager.PRECONDITION_FAILED) {
+        throw e;
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void download(final int partitionId, final String contentKey, final Path targetFile) {
+    client.downloadTo(sharedBlobId(partitionId, contentKey), targetFile);
+  }
+
+  @Override
+  public Collection<String> list(final int partitionId) {
+    final var sharedPath = sharedPath(partitionId);
+    final var contentKeys = new ArrayList<String>();
+    for (final var blob :
+        client.list(bucketInfo.getName(), BlobListOption.prefix(sharedPath)).iterateAll()) {
+      contentKeys.add(blob.getName().substring(sharedPath.length()));
     }
+    return contentKeys;
+  }
 
-    return new NamedFileSetImpl(pathByName);
+  @Override
+  public void delete(final int partitionId, final String contentKey) {
+    client.delete(sharedBlobId(partitionId, contentKey));
   }
 
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
@@ -92,6 +148,14 @@ final class FileSetManager {
         basePath, id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
   }
 
+  private String sharedPath(final int partitionId) {
+    return SHARED_PATH_FORMAT.formatted(basePath, partitionId);
+  }
+
+  private BlobId sharedBlobId(final int partitionId, final String contentKey) {
+    return BlobId.of(bucketInfo.getName(), sharedPath(partitionId) + contentKey);
+  }
+
   private BlobInfo blobInfo(
       final BackupIdentifier id, final String fileSetName, final String fileName) {
     return BlobInfo.newBuilder(bucketInfo, fileSetPath(id, fileSetName) + fileName)
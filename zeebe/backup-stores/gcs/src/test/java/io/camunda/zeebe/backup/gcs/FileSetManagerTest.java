@@ -12,37 +12,130 @@ import static org.mockito.Mockito.*;
 
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSets;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 final class FileSetManagerTest {
+  @TempDir Path tempDir;
+
   @Test
   void shouldSaveFileSet() throws IOException {
     // given
     final var mockClient = mock(Storage.class);
     final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var file1 = Files.writeString(tempDir.resolve("file1"), "content1");
+    final var file2 = Files.writeString(tempDir.resolve("file2"), "content2");
+    final var namedFileSet =
+        new NamedFileSetImpl(Map.of("snapshotFile1", file1, "snapshotFile2", file2));
+
+    // when
+    final var fileSet = manager.save(backupIdentifier, namedFileSet, bytes -> {});
+
+    // then
+    verify(mockClient).createFrom(any(), eq(file1), any());
+    verify(mockClient).createFrom(any(), eq(file2), any());
+    Assertions.assertThat(fileSet.files())
+        .containsExactlyInAnyOrder(
+            new NamedFile("snapshotFile1", ContentAddressedFileSets.contentKey(file1)),
+            new NamedFile("snapshotFile2", ContentAddressedFileSets.contentKey(file2)));
+  }
+
+  @Test
+  void shouldNotUploadContentWhichIsAlreadyStored() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var stored = Files.writeString(tempDir.resolve("stored"), "stored");
+    final var sameContent = Files.writeString(tempDir.resolve("sameContent"), "new");
+    final var newContent = Files.writeString(tempDir.resolve("newContent"), "new");
     final var namedFileSet =
         new NamedFileSetImpl(
-            Map.of("snapshotFile1", Path.of("file1"), "snapshotFile2", Path.of("file2")));
+            Map.of("stored", stored, "sameContent", sameContent, "newContent", newContent));
+    final var storedBlob = mock(Blob.class);
+    when(mockClient.get(any(BlobId.class)))
+        .thenAnswer(
+            invocation ->
+                invocation
+                        .<BlobId>getArgument(0)
+                        .getName()
+                        .endsWith(ContentAddressedFileSets.contentKey(stored))
+                    ? storedBlob
+                    : null);
 
     // when
-    manager.save(backupIdentifier, "filesetName", namedFileSet);
+    final var uploadedBytes = new LongAdder();
+    manager.save(backupIdentifier, namedFileSet, uploadedBytes::add);
 
     // then
-    verify(mockClient).createFrom(any(), eq(Path.of("file1")), any());
-    verify(mockClient).createFrom(any(), eq(Path.of("file2")), any());
+    verify(mockClient, times(1)).createFrom(any(), any(Path.class), any());
+    verify(mockClient, never()).createFrom(any(), eq(stored), any());
+    Assertions.assertThat(uploadedBytes.sum()).isEqualTo(Files.size(newContent));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void shouldNotDeleteSharedContentsWhileBackupIsSaved() throws InterruptedException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var mockPage = mock(Page.class);
+    when(mockPage.iterateAll()).thenReturn(List.of());
+    when(mockClient.list(eq("bucket"), any())).thenReturn(mockPage);
+    final Supplier<Collection<Manifest>> manifests = mock(Supplier.class);
+    when(manifests.get()).thenReturn(List.of());
+
+    final var saveStarted = new CountDownLatch(1);
+    final var completeSave = new CountDownLatch(1);
+    final var save =
+        CompletableFuture.runAsync(
+            () ->
+                manager.saving(
+                    backupIdentifier,
+                    () -> {
+                      saveStarted.countDown();
+                      try {
+                        completeSave.await();
+                      } catch (final InterruptedException e) {
+                        throw new IllegalStateException(e);
+                      }
+                    }));
+    saveStarted.await();
+
+    // when
+    final var delete =
+        CompletableFuture.runAsync(
+            () -> manager.deleteUnreferenced(backupIdentifier.partitionId(), manifests));
+
+    // then - the manifests are only listed once the backup is saved
+    verify(manifests, after(100).never()).get();
+    completeSave.countDown();
+    save.join();
+    delete.join();
+    verify(manifests).get();
   }
 
   @Test
@@ -53,12 +146,12 @@ final class FileSetManagerTest {
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
     final var namedFileSet =
         new NamedFileSetImpl(
-            Map.of("snapshotFile1", Path.of("file1"), "snapshotFile2", Path.of("file2")));
+            Map.of("snapshotFile1", Files.writeString(tempDir.resolve("file1"), "content")));
     when(mockClient.createFrom(any(), any(Path.class), any()))
-        .thenThrow(new StorageException(412, "expected"));
+        .thenThrow(new StorageException(503, "expected"));
 
     // when throw
-    Assertions.assertThatThrownBy(() -> manager.save(backupIdentifier, "filesetName", namedFileSet))
+    Assertions.assertThatThrownBy(() -> manager.save(backupIdentifier, namedFileSet, bytes -> {}))
         .isInstanceOf(StorageException.class)
         .hasMessageContaining("expected");
   }
@@ -7,155 +7,344 @@
  */
 package io.camunda.zeebe.backup.s3;
 
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.NamedFileSet;
-import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSets;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.SharedContentStore;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
-import io.camunda.zeebe.backup.s3.util.CompletableFutureUtils;
+import io.camunda.zeebe.backup.s3.manifest.Manifest;
+import io.camunda.zeebe.backup.s3.util.BandwidthLimiter;
+import io.camunda.zeebe.backup.s3.util.ConcurrencyLimiter;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Map.Entry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
-/** Can save and restore {@link NamedFileSet NamedFileSets}. */
-final class FileSetManager {
+/**
+ * Can save and restore {@link NamedFileSet NamedFileSets}. Their contents are stored once per
+ * partition, keyed by their checksum, via {@link ContentAddressedFileSets}; see there for how
+ * backups share them. Files of backups taken before are stored under the prefix of their backup,
+ * and are still restored from there.
+ *
+ * <p>Files larger than {@link S3BackupConfig#partSize()} are uploaded as {@link MultipartUpload
+ * multipart uploads} and downloaded as byte ranges, in both cases with parts transferred in
+ * parallel. Compressed files are (de-)compressed while streaming them, without a temporary file;
+ * they are always uploaded in parts, as their compressed size is not known up front. The algorithm
+ * of a compressed content is stored in the metadata of its object.
+ */
+final class FileSetManager implements SharedContentStore {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
   private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
-  private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
-  private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
+  private static final String COMPRESSION_ALGORITHM_METADATA = "compression-algorithm";
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
-  private final Semaphore uploadLimit;
+  private final ConcurrencyLimiter transferLimit;
+  private final BandwidthLimiter bandwidthLimit;
+  private final ContentAddressedFileSets contents = new ContentAddressedFileSets(this);
 
   public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
     this.client = client;
     this.config = config;
 
     // We try not to exhaust the available connections by restricting the number of
-    // concurrent uploads to half of the number of available connections.
+    // concurrent transfers to half of the number of available connections.
     // This should prevent ConnectionAcquisitionTimeout for backups with many and/or large files
-    // where we would otherwise occupy all connections, preventing some uploads from starting.
-    uploadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
+    // where we would otherwise occupy all connections, preventing some transfers from starting.
+    transferLimit = new ConcurrencyLimiter(Math.max(1, config.maxConcurrentConnections() / 2));
+    bandwidthLimit =
+        config.maxBandwidth().map(BandwidthLimiter::of).orElseGet(BandwidthLimiter::unlimited);
   }
 
-  CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
-    LOG.debug("Saving {} files to prefix {}", files.files().size(), prefix);
-    return CompletableFutureUtils.mapAsync(
-            files.namedFiles().entrySet(),
-            Entry::getKey,
-            namedFile -> saveFile(prefix, namedFile.getKey(), namedFile.getValue()))
-        .thenApply(FileSet::new);
+  /**
+   * Runs the given save of a backup; see {@link ContentAddressedFileSets#saving(int, Runnable)}.
+   */
+  void saving(final BackupIdentifier id, final Runnable save) {
+    contents.saving(id.partitionId(), save);
   }
 
-  private CompletableFuture<FileSet.FileMetadata> saveFile(
-      final String prefix, final String fileName, final Path filePath) {
+  /**
+   * Uploads the contents of the given files which are not stored for the partition yet, and returns
+   * once all are uploaded. Must be called within {@link #saving(BackupIdentifier, Runnable)}.
+   *
+   * @param uploadedBytes is called with the number of bytes uploaded for each file, which is less
+   *     than its size if it is compressed
+   */
+  FileSet save(
+      final BackupIdentifier id, final NamedFileSet files, final LongConsumer uploadedBytes) {
+    LOG.debug("Saving {} files of {}", files.files().size(), id);
+    final var saved = contents.save(id.partitionId(), files, uploadedBytes);
+    return new FileSet(
+        saved.files().stream()
+            .collect(
+                Collectors.toMap(
+                    NamedFile::name, file -> FileMetadata.withContentKey(file.contentKey()))));
+  }
 
-    if (shouldCompressFile(filePath)) {
-      final var algorithm = config.compressionAlgorithm().orElseThrow();
-      return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-          .thenApply((success) -> compressFile(filePath, algorithm))
-          .thenCompose(
-              (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
-              })
-          .whenComplete((success, error) -> uploadLimit.release());
-    }
-
-    return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-        .thenCompose(
-            (nothing) -> {
-              LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
-              return client
-                  .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                      AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
-            })
-        .whenComplete((success, error) -> uploadLimit.release());
-  }
-
-  private void cleanupCompressedFile(final Path compressedFile) {
+  /**
+   * Deletes the contents of the partition which are no longer referenced by any of the given
+   * manifests, which must be all remaining manifests of the partition; see {@link
+   * ContentAddressedFileSets#deleteUnreferenced(int, Supplier)}.
+   */
+  int deleteUnreferenced(final int partitionId, final Supplier<Collection<Manifest>> manifests) {
+    final var deleted =
+        contents.deleteUnreferencedContents(
+            partitionId, () -> referencedContents(manifests.get()));
+    LOG.debug("Deleted {} unreferenced contents of partition {}", deleted, partitionId);
+    return deleted;
+  }
+
+  private static Optional<Set<String>> referencedContents(final Collection<Manifest> manifests) {
+    if (manifests.stream().anyMatch(m -> m.statusCode() == BackupStatusCode.IN_PROGRESS)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        manifests.stream()
+            .filter(m -> m.statusCode() == BackupStatusCode.COMPLETED)
+            .map(Manifest::expectCompleted)
+            .flatMap(
+                m ->
+                    Stream.concat(
+                        m.snapshotFiles().files().values().stream(),
+                        m.segmentFiles().files().values().stream()))
+            .flatMap(metadata -> metadata.contentKey().stream())
+            .collect(Collectors.toSet()));
+  }
+
+  @Override
+  public boolean exists(final int partitionId, final String contentKey) {
     try {
-      Files.delete(compressedFile);
-    } catch (final IOException e) {
-      LOG.warn(
-          "Failed to clean up temporary file used for (de-)compression: {}", compressedFile, e);
+      client
+          .headObject(
+              req -> req.bucket(config.bucketName()).key(contentObject(partitionId, contentKey)))
+          .join();
+      return true;
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof NoSuchKeyException) {
+        return false;
+      }
+      throw e;
     }
   }
 
-  private boolean shouldCompressFile(final Path filePath) {
+  @Override
+  public void upload(final int partitionId, final String contentKey, final Path file) {
+    uploadAsync(partitionId, contentKey, file).join();
+  }
+
+  @Override
+  public CompletableFuture<Long> uploadAsync(
+      final int partitionId, final String contentKey, final Path file) {
+    final var uploadedBytes = new LongAdder();
+    return saveFile(contentObject(partitionId, contentKey), file, uploadedBytes::add)
+        .thenApply(ok -> uploadedBytes.sum());
+  }
+
+  @Override
+  public void download(final int partitionId, final String contentKey, final Path targetFile) {
+    downloadAsync(partitionId, contentKey, targetFile).join();
+  }
+
+  @Override
+  public CompletableFuture<Void> downloadAsync(
+      final int partitionId, final String contentKey, final Path targetFile) {
+    return restoreObject(contentObject(partitionId, contentKey), targetFile)
+        .thenApply(path -> null);
+  }
+
+  @Override
+  public Collection<String> list(final int partitionId) {
+    final var prefix = contentsPrefix(partitionId);
+    final var contentKeys = new ArrayList<String>();
+    client
+        .listObjectsV2Paginator(req -> req.bucket(config.bucketName()).prefix(prefix))
+        .contents()
+        .subscribe(object -> contentKeys.add(object.key().substring(prefix.length())))
+        .join();
+    return contentKeys;
+  }
+
+  @Override
+  public void delete(final int partitionId, final String contentKey) {
+    client
+        .deleteObject(
+            req -> req.bucket(config.bucketName()).key(contentObject(partitionId, contentKey)))
+        .join();
+  }
+
+  /** Returns the prefix of the objects which hold the shared contents of the given partition. */
+  String contentsPrefix(final int partitionId) {
+    return "%scontents/shared/%d/"
+        .formatted(config.basePath().map(base -> base + "/").orElse(""), partitionId);
+  }
+
+  private String contentObject(final int partitionId, final String contentKey) {
+    return contentsPrefix(partitionId) + contentKey;
+  }
+
+  private CompletableFuture<Void> saveFile(
+      final String key, final Path filePath, final LongConsumer uploadedBytes) {
+    final long fileSize;
     try {
-      return config.compressionAlgorithm().isPresent()
-          && Files.size(filePath) > COMPRESSION_SIZE_THRESHOLD;
+      fileSize = Files.size(filePath);
     } catch (final IOException e) {
-      LOG.warn("Failed to determine if file should be compressed, assuming no: {}", filePath);
-      return false;
+      return CompletableFuture.failedFuture(e);
     }
+
+    if (shouldCompressFile(fileSize)) {
+      final var algorithm = config.compressionAlgorithm().orElseThrow();
+      LOG.trace("Saving compressed file {} to {}", filePath, key);
+      return MultipartUpload.start(
+              client,
+              transferLimit,
+              config.bucketName(),
+              key,
+              Map.of(COMPRESSION_ALGORITHM_METADATA, algorithm))
+          .thenCompose(
+              upload ->
+                  CompletableFuture.runAsync(
+                          () -> compressFile(filePath, upload, algorithm, uploadedBytes))
+                      .exceptionallyCompose(upload::abort)
+                      .thenCompose(ok -> upload.complete()));
+    }
+
+    if (fileSize > config.partSize()) {
+      LOG.trace("Saving file {} in parts to {}", filePath, key);
+      return MultipartUpload.start(client, transferLimit, config.bucketName(), key, Map.of())
+          .thenCompose(upload -> saveFileInParts(upload, filePath, fileSize))
+          .thenRun(() -> uploadedBytes.accept(fileSize));
+    }
+
+    return transferLimit.submit(
+        () ->
+            bandwidthLimit
+                .acquireAsync(fileSize)
+                .thenCompose(
+                    ok -> {
+                      LOG.trace("Saving file {} to {}", filePath, key);
+                      return client.putObject(
+                          put -> put.bucket(config.bucketName()).key(key),
+                          AsyncRequestBody.fromFile(filePath));
+                    })
+                .thenRun(() -> uploadedBytes.accept(fileSize)));
   }
 
-  private Path compressFile(final Path file, final String algorithm) {
-    try {
-      final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
-      LOG.trace("Compressing file {} to {} using {}", file, compressedFile, algorithm);
-      try (final var input = new BufferedInputStream(Files.newInputStream(file));
-          final var output = new BufferedOutputStream(Files.newOutputStream(compressedFile));
-          final var compressedOutput =
-              new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
-        IOUtils.copy(input, compressedOutput);
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Compressed file {} to {}. Uncompressed: {} bytes, compressed: {} bytes",
-              file,
-              compressedFile,
-              Files.size(file),
-              Files.size(compressedFile));
-        }
-        return compressedFile;
-      }
+  /** Uploads the file as parts of {@link S3BackupConfig#partSize()}, read from their position. */
+  private CompletableFuture<Void> saveFileInParts(
+      final MultipartUpload upload, final Path filePath, final long fileSize) {
+    for (long start = 0; start < fileSize; start += config.partSize()) {
+      final var position = start;
+      final var length = Math.min(fileSize - position, config.partSize());
+      upload.uploadPart(
+          () ->
+              bandwidthLimit
+                  .acquireAsync(length)
+                  .thenApply(
+                      ok ->
+                          AsyncRequestBody.fromFile(
+                              FileRequestBodyConfiguration.builder()
+                                  .path(filePath)
+                                  .position(position)
+                                  .numBytesToRead(length)
+                                  .build())));
+    }
+    return upload.complete();
+  }
+
+  private boolean shouldCompressFile(final long fileSize) {
+    return config.compressionAlgorithm().isPresent() && fileSize > COMPRESSION_SIZE_THRESHOLD;
+  }
+
+  /** Compresses the file into the parts of the given upload, and returns once all are added. */
+  private void compressFile(
+      final Path file,
+      final MultipartUpload upload,
+      final String algorithm,
+      final LongConsumer uploadedBytes) {
+    final var output = new PartOutputStream(upload, (int) config.partSize(), uploadedBytes);
+    try (final var input = new BufferedInputStream(Files.newInputStream(file));
+        final var compressedOutput =
+            new CompressorStreamFactory()
+                .createCompressorOutputStream(
+                    algorithm, new BufferedOutputStream(bandwidthLimit.limit(output)))) {
+      LOG.trace("Compressing file {} using {}", file, algorithm);
+      IOUtils.copy(input, compressedOutput);
     } catch (final IOException | CompressorException e) {
       throw new BackupCompressionFailed(
           "Failed to compress file %s using %s".formatted(file, algorithm), e);
     }
   }
 
-  CompletableFuture<NamedFileSet> restore(
-      final String sourcePrefix, final FileSet fileSet, final Path targetFolder) {
-    LOG.debug(
-        "Restoring {} files from prefix {} to {}",
-        fileSet.files().size(),
-        sourcePrefix,
-        targetFolder);
-    return CompletableFutureUtils.mapAsync(
-            fileSet.files().entrySet(),
-            Entry::getKey,
-            namedFile ->
-                restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), namedFile.getValue()))
-        .thenApply(NamedFileSetImpl::new);
+  /**
+   * Downloads all files of the given file set into the target folder, and returns once all are
+   * downloaded.
+   *
+   * @param backupPrefix the prefix under which the files without content key are stored with their
+   *     backup
+   */
+  NamedFileSet restore(
+      final BackupIdentifier id,
+      final String backupPrefix,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    LOG.debug("Restoring {} files of {} to {}", fileSet.files().size(), id, targetFolder);
+    // files stored with their backup are downloaded concurrently with the shared contents
+    final var backupFiles = new HashMap<String, CompletableFuture<Path>>();
+    final var files = new ArrayList<NamedFile>(fileSet.files().size());
+    fileSet
+        .files()
+        .forEach(
+            (name, metadata) -> {
+              if (metadata.contentKey().isEmpty()) {
+                backupFiles.put(name, restoreFile(backupPrefix, targetFolder, name, metadata));
+              }
+              files.add(new NamedFile(name, metadata.contentKey().orElse(null)));
+            });
+
+    return contents.restore(
+        id.partitionId(),
+        new io.camunda.zeebe.backup.common.FileSet(files),
+        targetFolder,
+        (name, path) -> backupFiles.get(name).join());
   }
 
   private CompletableFuture<Path> restoreFile(
@@ -163,62 +352,205 @@ final class FileSetManager {
       final Path targetFolder,
       final String fileName,
       final FileMetadata metadata) {
+    final var key = sourcePrefix + fileName;
+    final var path = targetFolder.resolve(fileName);
     final var compressionAlgorithm = metadata.compressionAlgorithm();
     if (compressionAlgorithm.isPresent()) {
-      final var decompressed = targetFolder.resolve(fileName);
       LOG.trace(
           "Restoring compressed file {} from prefix {} to {}",
           fileName,
           sourcePrefix,
           targetFolder);
-      try {
-        final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
-        return client
-            .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
-                AsyncResponseTransformer.toFile(
-                    compressed,
-                    cfg ->
-                        cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
-                            .failureBehavior(FailureBehavior.DELETE)))
-            .thenApplyAsync(
-                response -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
-
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      // the response completes once the headers arrive, while the body is still streamed during
+      // decompression; the slot is only released once the whole file is decompressed
+      return transferLimit.submit(
+          () -> downloadAndDecompress(key, path, compressionAlgorithm.get()));
     }
 
     LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
-    final var path = targetFolder.resolve(fileName);
+    return restoreObject(key, path);
+  }
+
+  private CompletableFuture<Path> restoreObject(final String key, final Path path) {
     return client
-        .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
-        .thenApply(response -> path);
+        .headObject(req -> req.bucket(config.bucketName()).key(key))
+        .thenCompose(
+            head -> {
+              final var compressionAlgorithm = head.metadata().get(COMPRESSION_ALGORITHM_METADATA);
+              if (compressionAlgorithm != null) {
+                LOG.trace("Restoring compressed object {} to {}", key, path);
+                return transferLimit.submit(
+                    () -> downloadAndDecompress(key, path, compressionAlgorithm));
+              }
+
+              final long size = head.contentLength();
+              if (size > config.partSize()) {
+                return restoreFileInParts(key, path, size);
+              }
+
+              return transferLimit.submit(
+                  () ->
+                      bandwidthLimit
+                          .acquireAsync(size)
+                          .thenCompose(
+                              ok ->
+                                  client.getObject(
+                                      req -> req.bucket(config.bucketName()).key(key), path))
+                          .thenApply(response -> path));
+            });
+  }
+
+  private CompletableFuture<Path> downloadAndDecompress(
+      final String key, final Path path, final String algorithm) {
+    return client
+        .getObject(
+            req -> req.bucket(config.bucketName()).key(key),
+            AsyncResponseTransformer.toBlockingInputStream())
+        .thenApplyAsync(response -> decompressFile(response, key, path, algorithm));
+  }
+
+  /** Downloads the object as byte ranges of {@link S3BackupConfig#partSize()} in parallel. */
+  private CompletableFuture<Path> restoreFileInParts(
+      final String key, final Path path, final long size) {
+    try {
+      Files.deleteIfExists(path);
+      Files.createFile(path);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(new UncheckedIOException(e));
+    }
+
+    final var parts = new ArrayList<CompletableFuture<?>>();
+    for (long start = 0; start < size; start += config.partSize()) {
+      final var position = start;
+      final var end = Math.min(size, start + config.partSize()) - 1;
+      final AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer =
+          AsyncResponseTransformer.toFile(
+              path,
+              FileTransformerConfiguration.builder()
+                  .fileWriteOption(FileWriteOption.WRITE_TO_POSITION)
+                  .position(position)
+                  // other parts are still written to the same file
+                  .failureBehavior(FailureBehavior.LEAVE)
+                  .build());
+      parts.add(
+          transferLimit.submit(
+              () ->
+                  bandwidthLimit
+                      .acquireAsync(end - position + 1)
+                      .thenCompose(
+                          ok ->
+                              client.getObject(
+                                  req ->
+                                      req.bucket(config.bucketName())
+                                          .key(key)
+                                          .range("bytes=%d-%d".formatted(position, end)),
+                                  transformer))));
+    }
+
+    return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).thenApply(ok -> path);
   }
 
   private Path decompressFile(
-      final Path compressed, final Path decompressed, final String algorithm) {
-    try (final var input = new BufferedInputStream(Files.newInputStream(compressed));
+      final InputStream compressed,
+      final String key,
+      final Path decompressed,
+      final String algorithm) {
+    try (final var input = new BufferedInputStream(bandwidthLimit.limit(compressed));
         final var output = new BufferedOutputStream(Files.newOutputStream(decompressed));
-        final var decompressedOutput =
+        final var decompressedInput =
             new CompressorStreamFactory().createCompressorInputStream(algorithm, input)) {
-      IOUtils.copy(decompressedOutput, output);
+      IOUtils.copy(decompressedInput, output);
       if (LOG.isTraceEnabled()) {
         LOG.trace(
-            "Decompressed file {} to {} using {}. Compressed: {} bytes, uncompressed: {} bytes",
-            compressed,
+            "Decompressed {} to {} using {}. Uncompressed: {} bytes",
+            key,
             decompressed,
             algorithm,
-            Files.size(compressed),
             Files.size(decompressed));
       }
-      cleanupCompressedFile(compressed);
       return decompressed;
     } catch (final IOException | CompressorException e) {
       throw new BackupCompressionFailed(
-          "Failed to decompress from %s to %s using %s"
-              .formatted(compressed, decompressed, algorithm),
-          e);
+          "Failed to decompress from %s to %s using %s".formatted(key, decompressed, algorithm), e);
+    }
+  }
+
+  /**
+   * Collects the written bytes into parts of a fixed size, and uploads each part once it is full.
+   * While one part is uploading, the next one is filled; writing then waits until the previous part
+   * is uploaded, so at most two parts per file are held in memory. The last part is uploaded on
+   * {@link #close()}.
+   */
+  private static final class PartOutputStream extends OutputStream {
+
+    private final MultipartUpload upload;
+    private final int partSize;
+    private final LongConsumer uploadedBytes;
+    private byte[] buffer;
+    private int count;
+    private boolean closed;
+    private CompletableFuture<CompletedPart> previousPart = CompletableFuture.completedFuture(null);
+
+    private PartOutputStream(
+        final MultipartUpload upload, final int partSize, final LongConsumer uploadedBytes) {
+      this.upload = upload;
+      this.partSize = partSize;
+      this.uploadedBytes = uploadedBytes;
+      buffer = new byte[partSize];
+    }
+
+    @Override
+    public void write(final int b) {
+      if (count == partSize) {
+        startNextPart();
+      }
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      int written = 0;
+      while (written < len) {
+        if (count == partSize) {
+          startNextPart();
+        }
+        final int length = Math.min(len - written, partSize - count);
+        System.arraycopy(b, off + written, buffer, count, length);
+        count += length;
+        written += length;
+      }
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        uploadPart();
+        previousPart.join();
+      }
+    }
+
+    private void startNextPart() {
+      uploadPart();
+      buffer = new byte[partSize];
+      count = 0;
+    }
+
+    private void uploadPart() {
+      // wait for the previous part, which also fails the compression if its upload failed
+      previousPart.join();
+
+      final var part = count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+      final var length = count;
+      previousPart =
+          upload
+              .uploadPart(
+                  () -> CompletableFuture.completedFuture(AsyncRequestBody.fromBytesUnsafe(part)))
+              .thenApply(
+                  completed -> {
+                    uploadedBytes.accept(length);
+                    return completed;
+                  });
     }
   }
 }
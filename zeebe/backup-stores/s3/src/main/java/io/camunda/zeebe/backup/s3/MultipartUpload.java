@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import io.camunda.zeebe.backup.s3.util.ConcurrencyLimiter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+/**
+ * Uploads a single object as an S3 multipart upload. Every request, including each part, runs via
+ * the given {@link ConcurrencyLimiter}, so the parts of all files together never occupy more
+ * connections than the limit allows. The client's own multipart support would upload all parts of
+ * a file in parallel, regardless of that limit.
+ *
+ * <p>Parts must be added from a single thread, and {@link #complete()} must only be called after
+ * the last part was added.
+ */
+final class MultipartUpload {
+
+  private final S3AsyncClient client;
+  private final ConcurrencyLimiter transferLimit;
+  private final String bucketName;
+  private final String key;
+  private final String uploadId;
+  private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+  private MultipartUpload(
+      final S3AsyncClient client,
+      final ConcurrencyLimiter transferLimit,
+      final String bucketName,
+      final String key,
+      final String uploadId) {
+    this.client = client;
+    this.transferLimit = transferLimit;
+    this.bucketName = bucketName;
+    this.key = key;
+    this.uploadId = uploadId;
+  }
+
+  /**
+   * Starts the upload of an object with the given key.
+   *
+   * @param metadata the user-defined metadata to store with the object
+   */
+  static CompletableFuture<MultipartUpload> start(
+      final S3AsyncClient client,
+      final ConcurrencyLimiter transferLimit,
+      final String bucketName,
+      final String key,
+      final Map<String, String> metadata) {
+    return transferLimit
+        .submit(
+            () ->
+                client.createMultipartUpload(
+                    request -> request.bucket(bucketName).key(key).metadata(metadata)))
+        .thenApply(
+            response ->
+                new MultipartUpload(client, transferLimit, bucketName, key, response.uploadId()));
+  }
+
+  /**
+   * Uploads the next part of the object. The body is only requested once the part may be uploaded,
+   * so that it is not held in memory or throttled while waiting for a free slot.
+   *
+   * @return a future which completes once the part is uploaded
+   */
+  CompletableFuture<CompletedPart> uploadPart(
+      final Supplier<CompletableFuture<AsyncRequestBody>> body) {
+    final int partNumber = parts.size() + 1;
+    final var part =
+        transferLimit
+            .submit(
+                () ->
+                    body.get()
+                        .thenCompose(
+                            requestBody ->
+                                client.uploadPart(
+                                    request ->
+                                        request
+                                            .bucket(bucketName)
+                                            .key(key)
+                                            .uploadId(uploadId)
+                                            .partNumber(partNumber),
+                                    requestBody)))
+            .thenApply(
+                response ->
+                    CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+    parts.add(part);
+    return part;
+  }
+
+  /**
+   * Completes the upload once all parts are uploaded. If any part failed, the upload is aborted
+   * instead.
+   */
+  CompletableFuture<Void> complete() {
+    return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+        .thenCompose(
+            ok ->
+                transferLimit.submit(
+                    () ->
+                        client.completeMultipartUpload(
+                            request ->
+                                request
+                                    .bucket(bucketName)
+                                    .key(key)
+                                    .uploadId(uploadId)
+                                    .multipartUpload(
+                                        upload ->
+                                            upload.parts(
+                                                parts.stream()
+                                                    .map(CompletableFuture::join)
+                                                    .toList())))))
+        .<Void>thenApply(response -> null)
+        .exceptionallyCompose(this::abort);
+  }
+
+  /**
+   * Aborts the upload once no part is uploading anymore, which deletes the parts that were already
+   * stored.
+   *
+   * @return a future which fails with the given error
+   */
+  <T> CompletableFuture<T> abort(final Throwable error) {
+    return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+        .handle((ok, partError) -> null)
+        .thenCompose(
+            ignored ->
+                transferLimit.submit(
+                    () ->
+                        client.abortMultipartUpload(
+                            request -> request.bucket(bucketName).key(key).uploadId(uploadId))))
+        .handle(
+            (response, abortError) -> {
+              if (abortError != null) {
+                error.addSuppressed(abortError);
+              }
+              return null;
+            })
+        .thenCompose(ignored -> CompletableFuture.failedFuture(error));
+  }
+}
@@ -32,6 +32,10 @@ import org.apache.commons.compress.compressors.CompressorStreamFactory;
  * @param maxConcurrentConnections Maximum number of connections allowed in a connection pool.
  * @param connectionAcquisitionTimeout Timeout for acquiring an already-established connection from
  *     a connection pool to a remote service.
+ * @param partSize Size of the parts in which files larger than this are uploaded and downloaded in
+ *     parallel. Must be at least 5 MiB, the minimum part size of S3 multipart uploads.
+ * @param maxBandwidth Maximum number of bytes per second to transfer when saving or restoring
+ *     backups. If no value is provided, the bandwidth is not limited.
  * @see <a
  *     href=https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/region-selection.html#automatically-determine-the-aws-region-from-the-environment>
  *     Automatically determine the Region from the environment</a>
@@ -50,7 +54,12 @@ public record S3BackupConfig(
     Optional<String> compressionAlgorithm,
     Optional<String> basePath,
     Integer maxConcurrentConnections,
-    Duration connectionAcquisitionTimeout) {
+    Duration connectionAcquisitionTimeout,
+    long partSize,
+    Optional<Long> maxBandwidth) {
+
+  /** The minimum part size of S3 multipart uploads, except for the last part. */
+  public static final long MIN_PART_SIZE = 5 * 1024 * 1024;
 
   public S3BackupConfig {
     if (bucketName == null || bucketName.isEmpty()) {
@@ -81,6 +90,14 @@ public record S3BackupConfig(
             "basePath must not start or end with '/' but was: %s".formatted(prefix));
       }
     }
+    if (partSize < MIN_PART_SIZE) {
+      throw new IllegalArgumentException(
+          "partSize must be at least %d bytes but was: %d".formatted(MIN_PART_SIZE, partSize));
+    }
+    if (maxBandwidth.isPresent() && maxBandwidth.get() <= 0) {
+      throw new IllegalArgumentException(
+          "maxBandwidth must be positive if set but was: %d".formatted(maxBandwidth.get()));
+    }
   }
 
   record Credentials(String accessKey, String secretKey) {
@@ -114,6 +131,9 @@ public record S3BackupConfig(
     /** Default from `SdkHttpConfigurationOption.DEFAULT_CONNECTION_ACQUIRE_TIMEOUT` */
     private Duration connectionAcquisitionTimeout = Duration.ofSeconds(45);
 
+    private long partSize = 8 * 1024 * 1024;
+    private Long maxBandwidth;
+
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
       return this;
@@ -164,6 +184,16 @@ public record S3BackupConfig(
       return this;
     }
 
+    public Builder withPartSize(final long partSize) {
+      this.partSize = partSize;
+      return this;
+    }
+
+    public Builder withMaxBandwidth(final Long maxBandwidth) {
+      this.maxBandwidth = maxBandwidth;
+      return this;
+    }
+
     public S3BackupConfig build() {
       return new S3BackupConfig(
           bucketName,
@@ -175,7 +205,9 @@ public record S3BackupConfig(
           Optional.ofNullable(compressionAlgorithm),
           Optional.ofNullable(basePath),
           maxConcurrentConnections,
-          connectionAcquisitionTimeout);
+          connectionAcquisitionTimeout,
+          partSize,
+          Optional.ofNullable(maxBandwidth));
     }
   }
 }
@@ -18,6 +18,7 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
@@ -35,6 +36,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -61,16 +65,20 @@ import software.amazon.awssdk.services.s3.model.S3Object;
  * <p>All created object keys are prefixed by the {@link BackupIdentifier}, with the following
  * scheme: {@code basePath/partitionId/checkpointId/nodeId}.
  *
- * <p>Each backup contains:
+ * <p>Each backup contains a 'manifest' object, containing {@link Manifest} serialized as JSON, for
+ * example
  *
- * <ol>
- *   <li>A 'manifest' object, containing {@link Manifest} serialized as JSON, for example
- *       <pre>partitionId/checkpointId/nodeId/manifest.json</pre>
- *   <li>Objects for snapshot files, additionally prefixed with 'snapshot', for example
- *       <pre>partitionId/checkpointId/nodeId/snapshots/snapshot-file-1</pre>
- *   <li>Objects for segment files, additionally prefixed with 'segments', for example
- *       <pre>partitionId/checkpointId/nodeId/segments/segment-file-1</pre>
- * </ol>
+ * <pre>partitionId/checkpointId/nodeId/manifest.json</pre>
+ *
+ * <p>The contents of the snapshot and segment files are shared by all backups of a partition, and
+ * stored once per partition as objects keyed by their checksum, for example
+ *
+ * <pre>contents/shared/partitionId/contentKey</pre>
+ *
+ * <p>Backups taken before contents were shared store their files with the backup instead, under
+ * the prefixes 'snapshot' and 'segments', for example
+ *
+ * <pre>partitionId/checkpointId/nodeId/snapshot/snapshot-file-1</pre>
  */
 public final class S3BackupStore implements BackupStore {
   static final ObjectMapper MAPPER =
@@ -84,6 +92,7 @@ public final class S3BackupStore implements BackupStore {
   private final S3BackupConfig config;
   private final S3AsyncClient client;
   private final FileSetManager fileSetManager;
+  private final ExecutorService executor;
 
   public S3BackupStore(final S3BackupConfig config) {
     this(config, buildClient(config));
@@ -93,6 +102,8 @@ public final class S3BackupStore implements BackupStore {
     this.config = config;
     this.client = client;
     fileSetManager = new FileSetManager(client, config);
+    // saving and restoring block on the transfers of their files
+    executor = Executors.newVirtualThreadPerTaskExecutor();
     final var basePath = config.basePath();
     backupIdentifierPattern =
         Pattern.compile(
@@ -143,6 +154,11 @@ public final class S3BackupStore implements BackupStore {
     return "%s/%s/%s/".formatted(id.partitionId(), id.checkpointId(), id.nodeId());
   }
 
+  /** Returns the prefix of the objects which hold the shared contents of the given partition. */
+  public String contentsPrefix(final int partitionId) {
+    return fileSetManager.contentsPrefix(partitionId);
+  }
+
   public static void validateConfig(final S3BackupConfig config) {
     if (config.bucketName() == null || config.bucketName().isEmpty()) {
       throw new IllegalArgumentException(
@@ -167,31 +183,35 @@ public final class S3BackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
+    return saveAndCountUploadedBytes(backup).thenApply(uploadedBytes -> null);
+  }
+
+  @Override
+  public CompletableFuture<Long> saveAndCountUploadedBytes(final Backup backup) {
     LOG.info("Saving {}", backup.id());
-    return updateManifestObject(
+    final var uploadedBytes = new LongAdder();
+    return CompletableFuture.runAsync(
+            () -> fileSetManager.saving(backup.id(), () -> saveBackup(backup, uploadedBytes)),
+            executor)
+        .thenApply(ok -> uploadedBytes.sum());
+  }
+
+  private void saveBackup(final Backup backup, final LongAdder uploadedBytes) {
+    updateManifestObject(
             backup.id(), Manifest::expectNoBackup, manifest -> manifest.asInProgress(backup))
-        .thenComposeAsync(
-            status -> {
-              final var snapshot = saveSnapshotFiles(backup);
-              final var segments = saveSegmentFiles(backup);
-
-              return CompletableFuture.allOf(snapshot, segments)
-                  .thenComposeAsync(
-                      ignored ->
-                          updateManifestObject(
-                              backup.id(),
-                              Manifest::expectInProgress,
-                              inProgress ->
-                                  inProgress.asCompleted(snapshot.join(), segments.join())))
-                  .exceptionallyComposeAsync(
-                      throwable ->
-                          updateManifestObject(
-                                  backup.id(), manifest -> manifest.asFailed(throwable))
-                              // Mark the returned future as failed.
-                              .thenCompose(ignore -> CompletableFuture.failedStage(throwable)));
-            })
-        // Discard status, it's either COMPLETED or the future is completed exceptionally
-        .thenApply(ignored -> null);
+        .join();
+    try {
+      final var snapshot = saveSnapshotFiles(backup, uploadedBytes);
+      final var segments = saveSegmentFiles(backup, uploadedBytes);
+      updateManifestObject(
+              backup.id(),
+              Manifest::expectInProgress,
+              inProgress -> inProgress.asCompleted(snapshot, segments))
+          .join();
+    } catch (final RuntimeException e) {
+      updateManifestObject(backup.id(), manifest -> manifest.asFailed(e)).join();
+      throw e;
+    }
   }
 
   @Override
@@ -225,7 +245,19 @@ public final class S3BackupStore implements BackupStore {
               }
             })
         .thenComposeAsync(this::listBackupObjects)
-        .thenComposeAsync(this::deleteBackupObjects);
+        .thenComposeAsync(this::deleteBackupObjects)
+        .thenRunAsync(
+            () ->
+                fileSetManager.deleteUnreferenced(
+                    id.partitionId(),
+                    () ->
+                        readManifestObjects(
+                                new BackupIdentifierWildcardImpl(
+                                    Optional.empty(),
+                                    Optional.of(id.partitionId()),
+                                    Optional.empty()))
+                            .join()),
+            executor);
   }
 
   @Override
@@ -234,15 +266,17 @@ public final class S3BackupStore implements BackupStore {
     final var backupPrefix = objectPrefix(id);
     return readManifestObject(id)
         .thenApply(Manifest::expectCompleted)
-        .thenComposeAsync(
-            manifest ->
-                fileSetManager
-                    .restore(backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder)
-                    .thenCombineAsync(
-                        fileSetManager.restore(
-                            backupPrefix + SNAPSHOT_PREFIX, manifest.snapshotFiles(), targetFolder),
-                        (segments, snapshot) ->
-                            new BackupImpl(id, manifest.descriptor(), snapshot, segments)));
+        .thenApplyAsync(
+            manifest -> {
+              final var segments =
+                  fileSetManager.restore(
+                      id, backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder);
+              final var snapshot =
+                  fileSetManager.restore(
+                      id, backupPrefix + SNAPSHOT_PREFIX, manifest.snapshotFiles(), targetFolder);
+              return new BackupImpl(id, manifest.descriptor(), snapshot, segments);
+            },
+            executor);
   }
 
   @Override
@@ -255,6 +289,7 @@ public final class S3BackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> closeAsync() {
+    executor.shutdown();
     client.close();
     return CompletableFuture.completedFuture(null);
   }
@@ -381,16 +416,14 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(resp -> manifest);
   }
 
-  private CompletableFuture<FileSet> saveSnapshotFiles(final Backup backup) {
+  private FileSet saveSnapshotFiles(final Backup backup, final LongAdder uploadedBytes) {
     LOG.debug("Saving snapshot files for {}", backup.id());
-    final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
-    return fileSetManager.save(prefix, backup.snapshot());
+    return fileSetManager.save(backup.id(), backup.snapshot(), uploadedBytes::add);
   }
 
-  private CompletableFuture<FileSet> saveSegmentFiles(final Backup backup) {
+  private FileSet saveSegmentFiles(final Backup backup, final LongAdder uploadedBytes) {
     LOG.debug("Saving segment files for {}", backup.id());
-    final var prefix = objectPrefix(backup.id()) + SEGMENTS_PREFIX;
-    return fileSetManager.save(prefix, backup.segments());
+    return fileSetManager.save(backup.id(), backup.segments(), uploadedBytes::add);
   }
 
   public static S3AsyncClient buildClient(final S3BackupConfig config) {
@@ -408,6 +441,8 @@ public final class S3BackupStore implements BackupStore {
             .build());
 
     builder.overrideConfiguration(cfg -> cfg.retryPolicy(RetryMode.ADAPTIVE));
+    // Large files are uploaded in parts by the FileSetManager rather than by the client, which
+    // would upload all parts of a file in parallel without limiting the connections they use
     builder.forcePathStyle(config.forcePathStyleAccess());
     config.endpoint().ifPresent(endpoint -> builder.endpointOverride(URI.create(endpoint)));
     config.region().ifPresent(region -> builder.region(Region.of(region)));
@@ -47,14 +47,25 @@ public record FileSet(Map<String, FileMetadata> files) {
     return files.keySet();
   }
 
+  /**
+   * @param compressionAlgorithm the algorithm with which a file stored with its backup was
+   *     compressed
+   * @param contentKey the key of the file's content in the shared contents of the partition, see
+   *     {@link io.camunda.zeebe.backup.common.ContentAddressedFileSets}; absent for files which are
+   *     stored with their backup, as they were before contents were shared
+   */
   @JsonInclude(Include.NON_EMPTY)
-  public record FileMetadata(Optional<String> compressionAlgorithm) {
+  public record FileMetadata(Optional<String> compressionAlgorithm, Optional<String> contentKey) {
     public static FileMetadata withCompression(final String algorithm) {
-      return new FileMetadata(Optional.of(algorithm));
+      return new FileMetadata(Optional.of(algorithm), Optional.empty());
+    }
+
+    public static FileMetadata withContentKey(final String contentKey) {
+      return new FileMetadata(Optional.empty(), Optional.of(contentKey));
     }
 
     public static FileMetadata none() {
-      return new FileMetadata(Optional.empty());
+      return new FileMetadata(Optional.empty(), Optional.empty());
     }
   }
 
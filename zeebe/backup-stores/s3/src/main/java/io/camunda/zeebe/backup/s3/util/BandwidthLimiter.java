@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3.util;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the average throughput of transfers to a fixed number of bytes per second. Each transfer
+ * reserves its bytes up front and is delayed until the transfers reserved before it would have
+ * completed at the configured rate. There is no burst allowance, so idle periods are not made up
+ * for later.
+ */
+public final class BandwidthLimiter {
+
+  private static final BandwidthLimiter UNLIMITED = new BandwidthLimiter(0);
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final long bytesPerSecond;
+  private long nextFreeNanos = System.nanoTime();
+
+  private BandwidthLimiter(final long bytesPerSecond) {
+    this.bytesPerSecond = bytesPerSecond;
+  }
+
+  public static BandwidthLimiter of(final long bytesPerSecond) {
+    if (bytesPerSecond <= 0) {
+      throw new IllegalArgumentException(
+          "Expected bytes per second to be positive, but was " + bytesPerSecond);
+    }
+    return new BandwidthLimiter(bytesPerSecond);
+  }
+
+  public static BandwidthLimiter unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * Reserves the given number of bytes without blocking.
+   *
+   * @return a future which completes once the transfer of the bytes may start
+   */
+  public CompletableFuture<Void> acquireAsync(final long bytes) {
+    final var delay = reserve(bytes);
+    if (delay <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return CompletableFuture.runAsync(
+        () -> {}, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS));
+  }
+
+  /** Reserves the given number of bytes, blocking the caller until they may be transferred. */
+  public void acquire(final long bytes) {
+    final var deadline = System.nanoTime() + reserve(bytes);
+    long remaining;
+    while ((remaining = deadline - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(this, remaining);
+    }
+  }
+
+  /** Returns a stream which acquires all bytes read from the given stream. */
+  public InputStream limit(final InputStream input) {
+    if (this == UNLIMITED) {
+      return input;
+    }
+
+    return new FilterInputStream(input) {
+      @Override
+      public int read() throws IOException {
+        acquire(1);
+        return super.read();
+      }
+
+      @Override
+      public int read(final byte[] b, final int off, final int len) throws IOException {
+        final var read = super.read(b, off, len);
+        if (read > 0) {
+          acquire(read);
+        }
+        return read;
+      }
+    };
+  }
+
+  /** Returns a stream which acquires all bytes written to the given stream. */
+  public OutputStream limit(final OutputStream output) {
+    if (this == UNLIMITED) {
+      return output;
+    }
+
+    return new FilterOutputStream(output) {
+      @Override
+      public void write(final int b) throws IOException {
+        acquire(1);
+        out.write(b);
+      }
+
+      @Override
+      public void write(final byte[] b, final int off, final int len) throws IOException {
+        acquire(len);
+        out.write(b, off, len);
+      }
+    };
+  }
+
+  /**
+   * @return the nanoseconds to wait until the reserved bytes may be transferred
+   */
+  private long reserve(final long bytes) {
+    if (this == UNLIMITED) {
+      return 0;
+    }
+
+    final long now = System.nanoTime();
+    synchronized (this) {
+      final var start = Math.max(now, nextFreeNanos);
+      nextFreeNanos = start + (long) (bytes * NANOS_PER_SECOND / bytesPerSecond);
+      return start - now;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3.util;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrently running asynchronous operations. Operations which exceed the
+ * limit are queued and started, in order, as soon as a running operation completes.
+ *
+ * <p>Unlike a {@link java.util.concurrent.Semaphore}, no thread is blocked while waiting, so many
+ * operations, e.g. all parts of all files of a backup, can be submitted at once.
+ */
+public final class ConcurrencyLimiter {
+
+  private final int limit;
+  private final Queue<Runnable> pending = new ArrayDeque<>();
+  private int running;
+
+  public ConcurrencyLimiter(final int limit) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("Expected limit to be at least 1, but was " + limit);
+    }
+    this.limit = limit;
+  }
+
+  /**
+   * Starts the given operation once less than {@code limit} other operations are running.
+   *
+   * @return a future which completes with the result of the operation
+   */
+  public <T> CompletableFuture<T> submit(final Supplier<CompletableFuture<T>> operation) {
+    final var result = new CompletableFuture<T>();
+    final Runnable start = () -> run(operation, result);
+
+    final boolean startNow;
+    synchronized (this) {
+      startNow = running < limit;
+      if (startNow) {
+        running++;
+      } else {
+        pending.add(start);
+      }
+    }
+
+    if (startNow) {
+      start.run();
+    }
+    return result;
+  }
+
+  private <T> void run(
+      final Supplier<CompletableFuture<T>> operation, final CompletableFuture<T> result) {
+    final CompletableFuture<T> started;
+    try {
+      started = operation.get();
+    } catch (final Exception e) {
+      result.completeExceptionally(e);
+      onCompleted();
+      return;
+    }
+
+    started.whenComplete(
+        (value, error) -> {
+          onCompleted();
+          if (error != null) {
+            result.completeExceptionally(error);
+          } else {
+            result.complete(value);
+          }
+        });
+  }
+
+  private void onCompleted() {
+    final Runnable next;
+    synchronized (this) {
+      next = pending.poll();
+      if (next == null) {
+        running--;
+      }
+    }
+
+    // the slot of the completed operation is handed over to the next one
+    if (next != null) {
+      next.run();
+    }
+  }
+}
@@ -10,6 +10,8 @@ package io.camunda.zeebe.backup.s3;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSets;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
@@ -74,16 +76,18 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
 
     assertThat(readManifest.snapshotFiles().names()).isEqualTo(backup.snapshot().names());
     assertThat(readManifest.segmentFiles().names()).isEqualTo(backup.segments().names());
+    assertThat(readManifest.snapshotFiles().files().values())
+        .allSatisfy(metadata -> assertThat(metadata.contentKey()).isPresent());
+    assertThat(readManifest.segmentFiles().files().values())
+        .allSatisfy(metadata -> assertThat(metadata.contentKey()).isPresent());
   }
 
   @ParameterizedTest
   @ArgumentsSource(TestBackupProvider.class)
-  default void snapshotFilesExist(final Backup backup) {
+  default void snapshotContentsExist(final Backup backup) {
     // given
-    final var prefix = getStore().objectPrefix(backup.id()) + S3BackupStore.SNAPSHOT_PREFIX;
-
-    final var expectedObjects =
-        backup.snapshot().names().stream().map(name -> prefix + name).toList();
+    final var prefix = getStore().contentsPrefix(backup.id().partitionId());
+    final var expectedObjects = contentObjects(prefix, backup.snapshot()).toList();
 
     // when
     getStore().save(backup).join();
@@ -95,17 +99,15 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
             .join();
 
     Assertions.assertThat(listed.contents().stream().map(S3Object::key))
-        .allSatisfy(k -> Assertions.assertThat(k).startsWith(prefix).isIn(expectedObjects));
+        .containsAll(expectedObjects);
   }
 
   @ParameterizedTest
   @ArgumentsSource(TestBackupProvider.class)
-  default void segmentFilesExist(final Backup backup) {
+  default void segmentContentsExist(final Backup backup) {
     // given
-    final var prefix = getStore().objectPrefix(backup.id()) + S3BackupStore.SEGMENTS_PREFIX;
-
-    final var expectedObjects =
-        backup.segments().names().stream().map(name -> prefix + name).toList();
+    final var prefix = getStore().contentsPrefix(backup.id().partitionId());
+    final var expectedObjects = contentObjects(prefix, backup.segments()).toList();
 
     // when
     getStore().save(backup).join();
@@ -117,24 +119,21 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
             .join();
 
     Assertions.assertThat(listed.contents().stream().map(S3Object::key))
-        .allSatisfy(k -> Assertions.assertThat(k).startsWith(prefix).isIn(expectedObjects));
+        .containsAll(expectedObjects);
   }
 
   @ParameterizedTest
   @ArgumentsSource(TestBackupProvider.class)
   default void bucketContainsExpectedObjectsOnly(final Backup backup) {
     // given
-    final var prefix = getStore().objectPrefix(backup.id());
-
-    final var manifest = prefix + S3BackupStore.MANIFEST_OBJECT_KEY;
-    final var snapshotObjects =
-        backup.snapshot().names().stream()
-            .map(name -> prefix + S3BackupStore.SNAPSHOT_PREFIX + name);
-    final var segmentObjects =
-        backup.segments().names().stream()
-            .map(name -> prefix + S3BackupStore.SEGMENTS_PREFIX + name);
+    final var manifest = getStore().objectPrefix(backup.id()) + S3BackupStore.MANIFEST_OBJECT_KEY;
+    final var contentsPrefix = getStore().contentsPrefix(backup.id().partitionId());
+    final var contentObjects =
+        Stream.concat(
+                contentObjects(contentsPrefix, backup.snapshot()),
+                contentObjects(contentsPrefix, backup.segments()))
+            .distinct();
 
-    final var contentObjects = Stream.concat(snapshotObjects, segmentObjects);
     final var managementObjects = Stream.of(manifest);
     final var expectedObjects = Stream.concat(managementObjects, contentObjects).toList();
 
@@ -185,6 +184,26 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
             });
   }
 
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void contentsAreDeletedWithTheLastBackupReferencingThem(final Backup backup) {
+    // given
+    getStore().save(backup).join();
+
+    // when
+    getStore().delete(backup.id()).join();
+
+    // then
+    final var listed =
+        getClient()
+            .listObjectsV2(
+                req ->
+                    req.bucket(getConfig().bucketName())
+                        .prefix(getStore().contentsPrefix(backup.id().partitionId())))
+            .join();
+    Assertions.assertThat(listed.contents()).isEmpty();
+  }
+
   @ParameterizedTest
   @ArgumentsSource(TestBackupProvider.class)
   default void statusQueryFailsIfManifestIsCorrupt(final Backup backup) {
@@ -243,4 +262,10 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
         .withThrowableOfType(Throwable.class)
         .withRootCauseInstanceOf(BackupInInvalidStateException.class);
   }
+
+  private static Stream<String> contentObjects(final String prefix, final NamedFileSet files) {
+    return files.namedFiles().values().stream()
+        .map(ContentAddressedFileSets::contentKey)
+        .map(contentKey -> prefix + contentKey);
+  }
 }
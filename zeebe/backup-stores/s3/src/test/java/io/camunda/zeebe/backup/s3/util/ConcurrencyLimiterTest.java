@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class ConcurrencyLimiterTest {
+
+  @Test
+  void shouldNotStartMoreOperationsThanLimit() {
+    // given
+    final var limiter = new ConcurrencyLimiter(2);
+    final var started = new AtomicInteger();
+    final List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      results.add(
+          limiter.submit(
+              () -> {
+                started.incrementAndGet();
+                return new CompletableFuture<>();
+              }));
+    }
+
+    // then
+    assertThat(started).hasValue(2);
+    assertThat(results).noneMatch(CompletableFuture::isDone);
+  }
+
+  @Test
+  void shouldStartPendingOperationWhenRunningOperationCompletes() {
+    // given
+    final var limiter = new ConcurrencyLimiter(1);
+    final var first = new CompletableFuture<Integer>();
+    final var second = new CompletableFuture<Integer>();
+    final var firstResult = limiter.submit(() -> first);
+    final var secondResult = limiter.submit(() -> second);
+
+    // when
+    first.complete(1);
+
+    // then
+    assertThat(firstResult).isCompletedWithValue(1);
+    assertThat(secondResult).isNotDone();
+
+    second.complete(2);
+    assertThat(secondResult).isCompletedWithValue(2);
+  }
+
+  @Test
+  void shouldHoldSlotUntilWholeChainOfOperationCompletes() {
+    // given
+    final var limiter = new ConcurrencyLimiter(1);
+    final var response = new CompletableFuture<Integer>();
+    final var processed = new CompletableFuture<Integer>();
+    final var first = limiter.submit(() -> response.thenCompose(value -> processed));
+    final var startedSecond = new AtomicInteger();
+    limiter.submit(
+        () -> {
+          startedSecond.incrementAndGet();
+          return CompletableFuture.completedFuture(2);
+        });
+
+    // when
+    response.complete(1);
+
+    // then
+    assertThat(first).isNotDone();
+    assertThat(startedSecond).hasValue(0);
+
+    processed.complete(1);
+    assertThat(first).isCompletedWithValue(1);
+    assertThat(startedSecond).hasValue(1);
+  }
+
+  @Test
+  void shouldReleaseSlotWhenOperationFails() {
+    // given
+    final var limiter = new ConcurrencyLimiter(1);
+    final var failed =
+        limiter.<Integer>submit(
+            () -> {
+              throw new IllegalStateException("expected");
+            });
+
+    // when
+    final var next = limiter.submit(() -> CompletableFuture.completedFuture(1));
+
+    // then
+    assertThat(failed).isCompletedExceptionally();
+    assertThat(next).isCompletedWithValue(1);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.testkit;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+/**
+ * Consecutive backups of a partition usually contain many identical files, which stores may only
+ * store once. Regardless of how they are stored, each backup must remain restorable on its own.
+ */
+public interface SharingBackupContents {
+  BackupStore getStore();
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void canRestoreBackupsWithSameContents(
+      final Backup firstBackup, @TempDir final Path targetDir) throws IOException {
+    // given
+    final var secondBackup = withNextCheckpoint(firstBackup);
+    final var firstTargetDir = Files.createDirectory(targetDir.resolve("first"));
+    final var secondTargetDir = Files.createDirectory(targetDir.resolve("second"));
+    getStore().save(firstBackup).join();
+    getStore().save(secondBackup).join();
+
+    // when
+    final var firstRestored = getStore().restore(firstBackup.id(), firstTargetDir).join();
+    final var secondRestored = getStore().restore(secondBackup.id(), secondTargetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(firstRestored).hasSameContentsAs(firstBackup);
+    BackupAssert.assertThatBackup(secondRestored).hasSameContentsAs(secondBackup);
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void deletingBackupKeepsContentsOfOtherBackups(
+      final Backup firstBackup, @TempDir final Path targetDir) {
+    // given
+    final var secondBackup = withNextCheckpoint(firstBackup);
+    getStore().save(firstBackup).join();
+    getStore().save(secondBackup).join();
+
+    // when
+    getStore().delete(firstBackup.id()).join();
+
+    // then
+    final var restored = getStore().restore(secondBackup.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored)
+        .hasSameContentsAs(secondBackup)
+        .residesInPath(targetDir);
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void canSaveBackupAgainAfterDeletingIt(
+      final Backup backup, @TempDir final Path targetDir) {
+    // given
+    getStore().save(backup).join();
+    getStore().delete(backup.id()).join();
+
+    // when
+    getStore().save(backup).join();
+
+    // then
+    final var restored = getStore().restore(backup.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup).residesInPath(targetDir);
+  }
+
+  private static Backup withNextCheckpoint(final Backup backup) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(
+            backup.id().nodeId(), backup.id().partitionId(), backup.id().checkpointId() + 1),
+        backup.descriptor(),
+        backup.snapshot(),
+        backup.segments());
+  }
+}
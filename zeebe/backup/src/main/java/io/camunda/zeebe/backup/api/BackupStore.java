@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.backup.api;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
@@ -17,6 +19,16 @@ public interface BackupStore {
   /** Saves the backup to the backup storage. */
   CompletableFuture<Void> save(Backup backup);
 
+  /**
+   * Saves the backup to the backup storage, like {@link #save(Backup)}.
+   *
+   * @return the number of bytes uploaded to the storage, which is less than the size of the
+   *     backup's files if the store compresses them or skips contents that it already stores
+   */
+  default CompletableFuture<Long> saveAndCountUploadedBytes(final Backup backup) {
+    return save(backup).thenApply(ok -> sizeOf(backup.snapshot()) + sizeOf(backup.segments()));
+  }
+
   /** Returns the status of the backup */
   CompletableFuture<BackupStatus> getStatus(BackupIdentifier id);
 
@@ -40,4 +52,16 @@ public interface BackupStore {
   CompletableFuture<BackupStatusCode> markFailed(BackupIdentifier id, final String failureReason);
 
   CompletableFuture<Void> closeAsync();
+
+  private static long sizeOf(final NamedFileSet fileSet) {
+    long size = 0;
+    for (final Path file : fileSet.files()) {
+      try {
+        size += Files.size(file);
+      } catch (final IOException ignored) {
+        // the size is only used for metrics, which are merely skewed by a missing file
+      }
+    }
+    return size;
+  }
 }
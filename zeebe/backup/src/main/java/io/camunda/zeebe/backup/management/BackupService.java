@@ -51,7 +51,7 @@ public final class BackupService extends Actor implements BackupManager {
     this.snapshotStore = snapshotStore;
     this.segmentsDirectory = segmentsDirectory;
     metrics = new BackupManagerMetrics(partitionId);
-    internalBackupManager = new BackupServiceImpl(backupStore);
+    internalBackupManager = new BackupServiceImpl(backupStore, metrics);
     actorName = buildActorName("BackupService", partitionId);
     journalInfoProvider = raftMetadataProvider;
   }
@@ -11,9 +11,11 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
+import io.camunda.zeebe.backup.metrics.BackupManagerMetrics;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -29,10 +31,12 @@ final class BackupServiceImpl {
   private static final Logger LOG = LoggerFactory.getLogger(BackupServiceImpl.class);
   private final Set<InProgressBackup> backupsInProgress = new HashSet<>();
   private final BackupStore backupStore;
+  private final BackupManagerMetrics metrics;
   private ConcurrencyControl concurrencyControl;
 
-  BackupServiceImpl(final BackupStore backupStore) {
+  BackupServiceImpl(final BackupStore backupStore, final BackupManagerMetrics metrics) {
     this.backupStore = backupStore;
+    this.metrics = metrics;
   }
 
   void close() {
@@ -122,11 +126,14 @@ final class BackupServiceImpl {
   private ActorFuture<Void> saveBackup(final InProgressBackup inProgressBackup) {
     final ActorFuture<Void> future = concurrencyControl.createFuture();
     final var backup = inProgressBackup.createBackup();
+    final var startTime = System.nanoTime();
     backupStore
-        .save(backup)
+        .saveAndCountUploadedBytes(backup)
         .whenComplete(
-            (ignore, error) -> {
+            (uploadedBytes, error) -> {
               if (error == null) {
+                metrics.observeBackupSaved(
+                    uploadedBytes, Duration.ofNanos(System.nanoTime() - startTime));
                 future.complete(null);
               } else {
                 future.completeExceptionally("Failed to save backup", error);
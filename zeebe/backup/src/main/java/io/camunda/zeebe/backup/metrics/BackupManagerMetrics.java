@@ -7,10 +7,16 @@
  */
 package io.camunda.zeebe.backup.metrics;
 
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 
 public class BackupManagerMetrics {
   private static final String NAMESPACE = "zeebe";
@@ -24,6 +30,8 @@ public class BackupManagerMetrics {
   private static final String STATUS_OPERATION = "status";
   private static final String LIST_OPERATION = "list";
   private static final String DELETE_OPERATION = "delete";
+  private static final String RESTORE_OPERATION = "restore";
+  private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
 
   private static final Counter TOTAL_OPERATIONS =
       Counter.build()
@@ -49,6 +57,23 @@ public class BackupManagerMetrics {
           .buckets(0.01, 0.1, 1, 10, 60, 5 * 60)
           .register();
 
+  private static final Counter TRANSFERRED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("backup_transferred_bytes_total")
+          .help("Total number of bytes of backup contents saved to or restored from the store")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_OPERATION)
+          .register();
+
+  private static final Histogram TRANSFER_THROUGHPUT =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("backup_transfer_throughput")
+          .help("Throughput in MiB per second of saving or restoring the contents of a backup")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_OPERATION)
+          .buckets(1, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+
   private final String partitionId;
 
   public BackupManagerMetrics(final int partitionId) {
@@ -71,6 +96,45 @@ public class BackupManagerMetrics {
     return OperationMetrics.start(partitionId, DELETE_OPERATION);
   }
 
+  /**
+   * Observes the bytes uploaded for a backup which was saved in the given duration, and the
+   * resulting throughput.
+   */
+  public void observeBackupSaved(final long uploadedBytes, final Duration duration) {
+    observeTransfer(TAKE_OPERATION, uploadedBytes, duration);
+  }
+
+  /** Observes the size and throughput of a backup which was restored in the given duration. */
+  public void observeBackupRestored(final Backup backup, final Duration duration) {
+    observeTransfer(RESTORE_OPERATION, sizeOf(backup), duration);
+  }
+
+  private void observeTransfer(final String operation, final long bytes, final Duration duration) {
+    TRANSFERRED_BYTES.labels(partitionId, operation).inc(bytes);
+    if (duration.isPositive()) {
+      final double seconds = duration.toNanos() / 1e9;
+      TRANSFER_THROUGHPUT
+          .labels(partitionId, operation)
+          .observe(bytes / BYTES_PER_MEGABYTE / seconds);
+    }
+  }
+
+  private static long sizeOf(final Backup backup) {
+    return sizeOf(backup.snapshot()) + sizeOf(backup.segments());
+  }
+
+  private static long sizeOf(final NamedFileSet fileSet) {
+    long size = 0;
+    for (final Path file : fileSet.files()) {
+      try {
+        size += Files.size(file);
+      } catch (final IOException ignored) {
+        // files may be moved concurrently, e.g. when restoring; this only skews the metrics
+      }
+    }
+    return size;
+  }
+
   public void cancelInProgressOperations() {
     OPERATIONS_IN_PROGRESS.labels(partitionId, TAKE_OPERATION).set(0);
     OPERATIONS_IN_PROGRESS.labels(partitionId, DELETE_OPERATION).set(0);
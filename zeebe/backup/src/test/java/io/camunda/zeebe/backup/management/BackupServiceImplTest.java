@@ -23,14 +23,19 @@ import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.metrics.BackupManagerMetrics;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -54,7 +59,7 @@ class BackupServiceImplTest {
 
   @BeforeEach
   void setup() {
-    backupService = new BackupServiceImpl(backupStore);
+    backupService = new BackupServiceImpl(backupStore, new BackupManagerMetrics(1));
 
     lenient()
         .when(notExistingBackupStatus.statusCode())
@@ -81,7 +86,7 @@ class BackupServiceImplTest {
 
     // then
     assertThat(result).succeedsWithin(Duration.ofMillis(100));
-    verify(backupStore).save(any());
+    verify(backupStore).saveAndCountUploadedBytes(any());
   }
 
   @Test
@@ -183,7 +188,7 @@ class BackupServiceImplTest {
   void shouldFailBackupIfStoringFailed() {
     // given
     final ControllableInProgressBackup inProgressBackup = new ControllableInProgressBackup();
-    when(backupStore.save(any()))
+    when(backupStore.saveAndCountUploadedBytes(any()))
         .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Expected")));
 
     // when
@@ -311,7 +316,7 @@ class BackupServiceImplTest {
     backupService.takeBackup(inProgressBackup, concurrencyControl).join();
 
     // then
-    verify(backupStore, never()).save(any());
+    verify(backupStore, never()).saveAndCountUploadedBytes(any());
   }
 
   @ParameterizedTest
@@ -332,7 +337,7 @@ class BackupServiceImplTest {
         .withCauseInstanceOf(BackupAlreadyExistsException.class);
 
     // then
-    verify(backupStore, never()).save(any());
+    verify(backupStore, never()).saveAndCountUploadedBytes(any());
   }
 
   @Test
@@ -419,7 +424,8 @@ class BackupServiceImplTest {
   }
 
   private void mockSaveBackup() {
-    when(backupStore.save(any())).thenReturn(CompletableFuture.completedFuture(null));
+    when(backupStore.saveAndCountUploadedBytes(any()))
+        .thenReturn(CompletableFuture.completedFuture(0L));
   }
 
   class ControllableInProgressBackup implements InProgressBackup {
@@ -472,7 +478,11 @@ class BackupServiceImplTest {
 
     @Override
     public Backup createBackup() {
-      return null;
+      return new BackupImpl(
+          id,
+          new BackupDescriptorImpl(Optional.empty(), 1, 1, "test"),
+          new NamedFileSetImpl(Map.of()),
+          new NamedFileSetImpl(Map.of()));
     }
 
     @Override
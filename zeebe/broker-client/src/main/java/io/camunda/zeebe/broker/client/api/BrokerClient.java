@@ -93,4 +93,11 @@ public interface BrokerClient extends AutoCloseable {
   BrokerTopologyManager getTopologyManager();
 
   void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
+
+  /**
+   * Adds a listener which is notified about every successful response received by this client.
+   *
+   * @param listener the listener to add
+   */
+  void addResponseListener(BrokerResponseListener listener);
 }
@@ -48,4 +48,15 @@ public interface BrokerClusterState {
   String getBrokerVersion(int brokerId);
 
   PartitionHealthStatus getPartitionHealth(int brokerId, int partition);
+
+  /**
+   * Uses the job availability hint published by the current leader of the partition to determine
+   * whether it may have activatable jobs of the given type.
+   *
+   * @return false if the leader reported no activatable jobs of the given type, true otherwise,
+   *     including when the leader did not publish any hint
+   */
+  default boolean mayHaveActivatableJobs(final int partition, final String jobType) {
+    return true;
+  }
 }
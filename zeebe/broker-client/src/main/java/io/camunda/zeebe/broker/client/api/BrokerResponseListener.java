@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.api;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+
+/**
+ * Listens to all successful responses received by a {@link BrokerClient}, e.g. to react to the
+ * records which were written by the processed commands, regardless of who sent them.
+ */
+@FunctionalInterface
+public interface BrokerResponseListener {
+
+  /**
+   * Called for every request which was processed successfully, before the requester is notified.
+   * It's called on the broker client's actor, so implementations must not block.
+   *
+   * @param request the request which was processed
+   * @param response the successful response; its value is the resulting record for commands
+   */
+  void onResponse(BrokerRequest<?> request, BrokerResponse<?> response);
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.api.dto;
+
+import io.camunda.zeebe.broker.client.api.UnsupportedBrokerResponseException;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.encoding.AuthInfo;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Sends several commands of the same value type and intent to a single partition, which writes
+ * them to its log as one batch. The response holds the result of each command, in the order the
+ * commands were added; a rejection of one command does not affect the others.
+ *
+ * <p>All commands must address the same partition. Use {@link #MAX_COMMANDS} to split larger sets
+ * of commands into several batches.
+ */
+public abstract class BrokerExecuteCommandBatch<T> extends BrokerRequest<List<BrokerResponse<T>>> {
+
+  public static final int MAX_COMMANDS = ExecuteCommandBatchRequest.MAX_COMMANDS;
+
+  protected final ExecuteCommandBatchRequest request = new ExecuteCommandBatchRequest();
+  protected final ExecuteCommandBatchResponse response = new ExecuteCommandBatchResponse();
+  private final List<Long> keys = new ArrayList<>();
+  private final List<BufferWriter> valueWriters = new ArrayList<>();
+  private final String type;
+
+  public BrokerExecuteCommandBatch(final ValueType valueType, final Intent intent) {
+    super(
+        ExecuteCommandBatchResponseDecoder.SCHEMA_ID,
+        ExecuteCommandBatchResponseDecoder.TEMPLATE_ID);
+    request.setValueType(valueType);
+    request.setIntent(intent);
+    type = valueType.name() + "#" + intent.name() + "[]";
+  }
+
+  /**
+   * Adds a command to the batch. The first key determines the partition of the batch, unless the
+   * partition was set explicitly.
+   *
+   * @param key the key of the entity the command refers to
+   * @param valueWriter writes the value of the command; it is serialized when the request is sent
+   */
+  protected void addCommand(final long key, final BufferWriter valueWriter) {
+    if (valueWriters.size() >= MAX_COMMANDS) {
+      throw new IllegalStateException(
+          "Expected to add a command to the batch, but it already holds the maximum of %d commands"
+              .formatted(MAX_COMMANDS));
+    }
+
+    if (!addressesSpecificPartition()) {
+      request.setPartitionId(Protocol.decodePartitionId(key));
+    }
+
+    keys.add(key);
+    valueWriters.add(valueWriter);
+  }
+
+  public List<Long> getKeys() {
+    return List.copyOf(keys);
+  }
+
+  public int size() {
+    return valueWriters.size();
+  }
+
+  public Intent getIntent() {
+    return request.getIntent();
+  }
+
+  public ValueType getValueType() {
+    return request.getValueType();
+  }
+
+  @Override
+  public int getPartitionId() {
+    return request.getPartitionId();
+  }
+
+  @Override
+  public void setPartitionId(final int partitionId) {
+    request.setPartitionId(partitionId);
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.COMMAND;
+  }
+
+  public AuthInfo getAuthorization() {
+    return request.getAuthorization();
+  }
+
+  @Override
+  public void setAuthorization(final Map<String, Object> claims) {
+    request.setAuthorization(new AuthInfo().setClaims(claims));
+  }
+
+  @Override
+  public boolean addressesSpecificPartition() {
+    return getPartitionId() != ExecuteCommandBatchRequestEncoder.partitionIdNullValue();
+  }
+
+  @Override
+  public boolean requiresPartitionId() {
+    return true;
+  }
+
+  /** Each command has its own value, so there is no single writer for the whole request. */
+  @Override
+  public BufferWriter getRequestWriter() {
+    return null;
+  }
+
+  @Override
+  public void serializeValue() {
+    request.clearCommands();
+    for (int i = 0; i < valueWriters.size(); i++) {
+      final var valueWriter = valueWriters.get(i);
+      final var value = new UnsafeBuffer(new byte[valueWriter.getLength()]);
+      valueWriter.write(value, 0);
+      request.addCommand(keys.get(i), value);
+    }
+  }
+
+  @Override
+  protected void setSerializedValue(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException(
+        "Expected to serialize the value of each command separately, but got a single value");
+  }
+
+  @Override
+  protected void wrapResponse(final DirectBuffer buffer) {
+    response.wrap(buffer, 0, buffer.capacity());
+  }
+
+  @Override
+  protected BrokerResponse<List<BrokerResponse<T>>> readResponse() {
+    final var commandResponses = response.getResponses();
+    if (commandResponses.size() != keys.size()) {
+      throw new IllegalStateException(
+          "Expected a response for each of the %d commands of the batch, but got %d"
+              .formatted(keys.size(), commandResponses.size()));
+    }
+
+    final var results = new ArrayList<BrokerResponse<T>>(commandResponses.size());
+    for (int i = 0; i < commandResponses.size(); i++) {
+      final var commandResponse = new ExecuteCommandResponse();
+      final var buffer = commandResponses.get(i);
+      commandResponse.wrap(buffer, 0, buffer.capacity());
+      results.add(readCommandResponse(keys.get(i), commandResponse));
+    }
+
+    return new BrokerResponse<>(results, response.getPartitionId(), -1);
+  }
+
+  /**
+   * The batch itself has no single value; use {@link #toCommandResponseDto(DirectBuffer)} to map
+   * the value of each command response instead.
+   */
+  @Override
+  protected final List<BrokerResponse<T>> toResponseDto(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException(
+        "Expected to map the responses of the commands separately, but got a single value");
+  }
+
+  protected abstract T toCommandResponseDto(DirectBuffer buffer);
+
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public int getLength() {
+    return request.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    request.write(buffer, offset);
+  }
+
+  private BrokerResponse<T> readCommandResponse(
+      final long key, final ExecuteCommandResponse commandResponse) {
+    if (commandResponse.getRecordType() == RecordType.COMMAND_REJECTION) {
+      final var rejection =
+          new BrokerRejection(
+              request.getIntent(),
+              key,
+              commandResponse.getRejectionType(),
+              commandResponse.getRejectionReason());
+      return new BrokerRejectionResponse<>(rejection);
+    } else if (commandResponse.getValueType() == request.getValueType()) {
+      final T responseDto = toCommandResponseDto(commandResponse.getValue());
+      return new BrokerResponse<>(
+          responseDto, commandResponse.getPartitionId(), commandResponse.getKey());
+    } else {
+      throw new UnsupportedBrokerResponseException(
+          request.getValueType().name(), commandResponse.getValueType().name());
+    }
+  }
+}
@@ -12,6 +12,7 @@ import io.atomix.cluster.messaging.MessagingService;
 import io.atomix.cluster.messaging.Subscription;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
+import io.camunda.zeebe.broker.client.api.BrokerResponseListener;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
@@ -22,6 +23,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +39,7 @@ public final class BrokerClientImpl implements BrokerClient {
   private final ClusterEventService eventService;
   private final ActorSchedulingService schedulingService;
   private final AtomixClientTransportAdapter atomixTransportAdapter;
+  private final List<BrokerResponseListener> responseListeners = new CopyOnWriteArrayList<>();
 
   public BrokerClientImpl(
       final Duration requestTimeout,
@@ -54,7 +57,8 @@ public final class BrokerClientImpl implements BrokerClient {
             atomixTransportAdapter,
             topologyManager,
             new RoundRobinDispatchStrategy(),
-            requestTimeout);
+            requestTimeout,
+            this::notifyResponseListeners);
   }
 
   @Override
@@ -105,6 +109,22 @@ public final class BrokerClientImpl implements BrokerClient {
             .join();
   }
 
+  @Override
+  public void addResponseListener(final BrokerResponseListener listener) {
+    responseListeners.add(listener);
+  }
+
+  private void notifyResponseListeners(
+      final BrokerRequest<?> request, final BrokerResponse<?> response) {
+    for (final var listener : responseListeners) {
+      try {
+        listener.onResponse(request, response);
+      } catch (final RuntimeException e) {
+        LOG.warn("Failed to notify listener {} about response {}", listener, response, e);
+      }
+    }
+  }
+
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequest(final BrokerRequest<T> request) {
     return requestManager.sendRequest(request);
@@ -8,9 +8,11 @@
 package io.camunda.zeebe.broker.client.impl;
 
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.protocol.impl.encoding.JobAvailabilityHint;
 import io.camunda.zeebe.protocol.record.PartitionHealthStatus;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -30,6 +32,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
       partitionsHealthPerBroker;
   private final Int2ObjectHashMap<String> brokerAddresses;
   private final Int2ObjectHashMap<String> brokerVersions;
+  private final Int2ObjectHashMap<Map<Integer, JobAvailabilityHint>> jobAvailabilityPerBroker;
   private final IntArrayList brokers;
   private final IntArrayList partitions;
   private final Random randomBroker;
@@ -46,6 +49,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
       partitionsHealthPerBroker.putAll(topology.partitionsHealthPerBroker);
       brokerAddresses.putAll(topology.brokerAddresses);
       brokerVersions.putAll(topology.brokerVersions);
+      jobAvailabilityPerBroker.putAll(topology.jobAvailabilityPerBroker);
       partitionInactiveNodes.putAll(topology.partitionInactiveNodes);
 
       brokers.addAll(topology.brokers);
@@ -65,6 +69,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     partitionsHealthPerBroker = new Int2ObjectHashMap<>();
     brokerAddresses = new Int2ObjectHashMap<>();
     brokerVersions = new Int2ObjectHashMap<>();
+    jobAvailabilityPerBroker = new Int2ObjectHashMap<>();
     brokers = new IntArrayList(5, NODE_ID_NULL);
     partitions = new IntArrayList(32, PARTITION_ID_NULL);
     randomBroker = new Random();
@@ -161,9 +166,19 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     brokerVersions.computeIfPresent(brokerId, (k, v) -> version);
   }
 
+  public void setJobAvailabilityHints(
+      final int brokerId, final Map<Integer, JobAvailabilityHint> hints) {
+    if (hints.isEmpty()) {
+      jobAvailabilityPerBroker.remove(brokerId);
+    } else {
+      jobAvailabilityPerBroker.put(brokerId, hints);
+    }
+  }
+
   public void removeBroker(final int brokerId) {
     brokerAddresses.remove(brokerId);
     brokerVersions.remove(brokerId);
+    jobAvailabilityPerBroker.remove(brokerId);
     brokers.removeInt(brokerId);
     partitions.forEachOrderedInt(
         partitionId -> {
@@ -277,6 +292,18 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     }
   }
 
+  @Override
+  public boolean mayHaveActivatableJobs(final int partition, final String jobType) {
+    final int leader = partitionLeaders.get(partition);
+    if (leader == NODE_ID_NULL) {
+      return true;
+    }
+
+    final var hints = jobAvailabilityPerBroker.get(leader);
+    final var hint = hints != null ? hints.get(partition) : null;
+    return hint == null || hint.mightContain(jobType);
+  }
+
   @Override
   public String toString() {
     return "BrokerClusterStateImpl{"
@@ -11,6 +11,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
 import io.camunda.zeebe.broker.client.api.BrokerResponseException;
+import io.camunda.zeebe.broker.client.api.BrokerResponseListener;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.IllegalBrokerResponseException;
 import io.camunda.zeebe.broker.client.api.NoTopologyAvailableException;
@@ -42,16 +43,19 @@ final class BrokerRequestManager extends Actor {
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManager topologyManager;
   private final Duration requestTimeout;
+  private final BrokerResponseListener responseListener;
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManager topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
-      final Duration requestTimeout) {
+      final Duration requestTimeout,
+      final BrokerResponseListener responseListener) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    this.responseListener = responseListener;
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -141,7 +145,7 @@ final class BrokerRequestManager extends Actor {
             if (error == null) {
               final BrokerResponse<T> response = request.getResponse(clientResponse);
 
-              result = handleResponse(response, returnFuture);
+              result = handleResponse(request, response, returnFuture);
               if (result.wasProcessed()) {
                 final long elapsedTime = System.currentTimeMillis() - startTime;
                 BrokerClientMetrics.registerSuccessfulRequest(
@@ -183,9 +187,12 @@ final class BrokerRequestManager extends Actor {
    * ErrorCode#NULL_VAL} if something unexpected occurred.
    */
   private <T> RequestResult handleResponse(
-      final BrokerResponse<T> response, final CompletableFuture<BrokerResponse<T>> responseFuture) {
+      final BrokerRequest<T> request,
+      final BrokerResponse<T> response,
+      final CompletableFuture<BrokerResponse<T>> responseFuture) {
     try {
       if (response.isResponse()) {
+        responseListener.onResponse(request, response);
         responseFuture.complete(response);
         return RequestResult.processed();
       } else if (response.isRejection()) {
@@ -18,6 +18,7 @@ import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.dynamic.config.ClusterConfigurationUpdateNotifier.ClusterConfigurationUpdateListener;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.camunda.zeebe.protocol.impl.encoding.JobAvailabilityHint;
 import io.camunda.zeebe.scheduler.Actor;
 import java.util.HashSet;
 import java.util.Set;
@@ -105,6 +106,8 @@ public final class BrokerTopologyManagerImpl extends Actor
     }
 
     processProperties(topology, brokerInfo);
+    topology.setJobAvailabilityHints(
+        brokerInfo.getNodeId(), JobAvailabilityHint.readAllFromProperties(member.properties()));
   }
 
   private void removeBroker(
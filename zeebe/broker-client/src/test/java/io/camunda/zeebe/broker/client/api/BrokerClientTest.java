@@ -38,6 +38,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -346,6 +347,50 @@ public final class BrokerClientTest {
         .untilAtomic(messageRef, Matchers.equalTo("bar"));
   }
 
+  @Test
+  void shouldNotifyResponseListenerOnSuccessfulResponse() {
+    // given
+    final var request = new TestCommand();
+    final var responses = new CopyOnWriteArrayList<BrokerResponse<?>>();
+    client.addResponseListener(
+        (processedRequest, response) -> {
+          assertThat(processedRequest).isSameAs(request);
+          responses.add(response);
+        });
+    registerSuccessResponse(broker);
+
+    // when
+    final var response = client.sendRequest(request).join();
+
+    // then
+    assertThat(responses).containsExactly(response);
+  }
+
+  @Test
+  void shouldNotNotifyResponseListenerOnRejection() {
+    // given
+    final var responses = new CopyOnWriteArrayList<BrokerResponse<?>>();
+    client.addResponseListener((request, response) -> responses.add(response));
+    broker
+        .onExecuteCommandRequest(TestCommand.VALUE_TYPE, TestCommand.INTENT)
+        .respondWith()
+        .event()
+        .intent(TestCommand.INTENT)
+        .key(ExecuteCommandRequest::key)
+        .rejection(RejectionType.INVALID_ARGUMENT, "foo")
+        .value()
+        .allOf(ExecuteCommandRequest::getCommand)
+        .done()
+        .register();
+
+    // when
+    final var responseFuture = client.sendRequest(new TestCommand(1L));
+
+    // then
+    assertThat(responseFuture).failsWithin(Duration.ofSeconds(10));
+    assertThat(responses).isEmpty();
+  }
+
   @Test
   public void shouldThrowCorrectErrorForInactivePartitionAndNoLeaderRequest() {
     // given
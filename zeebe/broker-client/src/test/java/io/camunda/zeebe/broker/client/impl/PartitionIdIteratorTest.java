@@ -9,8 +9,10 @@ package io.camunda.zeebe.broker.client.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.protocol.impl.encoding.JobAvailabilityHint;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 final class PartitionIdIteratorTest {
@@ -55,4 +57,26 @@ final class PartitionIdIteratorTest {
     // then
     assertThat(iterator.hasNext()).isFalse();
   }
+
+  @Test
+  void shouldSkipPartitionsWithoutAvailableJobs() {
+    // given
+    final var topology = new BrokerClusterStateImpl();
+    final var topologyManager =
+        new TestTopologyManager(topology).addPartition(1, 0).addPartition(2, 1).addPartition(3, 2);
+    final var withJobs = new JobAvailabilityHint();
+    withJobs.add("foo");
+    topology.setJobAvailabilityHints(0, Map.of(1, withJobs));
+    topology.setJobAvailabilityHints(1, Map.of(2, new JobAvailabilityHint()));
+    final var iterator =
+        new PartitionIdIterator(
+            1, 3, topologyManager, p -> topology.mayHaveActivatableJobs(p, "foo"));
+    final List<Integer> ids = new ArrayList<>();
+
+    // when
+    iterator.forEachRemaining(ids::add);
+
+    // then - partition 3 has no hint, so it may have jobs
+    assertThat(ids).containsExactly(1, 3);
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker;
 import io.camunda.zeebe.broker.jobstream.JobStreamService;
 import io.camunda.zeebe.broker.system.management.BrokerAdminService;
 import io.camunda.zeebe.broker.system.monitoring.BrokerHealthCheckService;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.impl.stream.JobStreamClient;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -26,6 +27,7 @@ public class SpringBrokerBridge {
   private Supplier<BrokerAdminService> adminServiceSupplier;
   private Supplier<JobStreamService> jobStreamServiceSupplier;
   private Supplier<JobStreamClient> jobStreamClientSupplier;
+  private JobFinishedNotifier jobFinishedNotifier;
 
   private Consumer<Integer> shutdownHelper;
 
@@ -56,6 +58,18 @@ public class SpringBrokerBridge {
     return Optional.ofNullable(jobStreamClientSupplier).map(Supplier::get);
   }
 
+  /**
+   * Registers the notifier through which the REST API reports finished jobs, such that the job
+   * streams of the embedded gateway can give back their credits.
+   */
+  public void registerJobFinishedNotifier(final JobFinishedNotifier jobFinishedNotifier) {
+    this.jobFinishedNotifier = jobFinishedNotifier;
+  }
+
+  public Optional<JobFinishedNotifier> getJobFinishedNotifier() {
+    return Optional.ofNullable(jobFinishedNotifier);
+  }
+
   public void registerJobStreamServiceSupplier(
       final Supplier<JobStreamService> jobStreamServiceSupplier) {
     this.jobStreamServiceSupplier = jobStreamServiceSupplier;
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.bootstrap;
 
 import io.camunda.zeebe.broker.system.EmbeddedGatewayService;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.impl.stream.JobStreamClientImpl;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -31,6 +32,11 @@ class EmbeddedGatewayServiceStep extends AbstractBrokerStartupStep {
     final var brokerClient = brokerStartupContext.getBrokerClient();
     final var jobStreamClient =
         new JobStreamClientImpl(scheduler, clusterServices.getCommunicationService());
+    final var jobFinishedNotifier =
+        brokerStartupContext
+            .getSpringBrokerBridge()
+            .getJobFinishedNotifier()
+            .orElseGet(JobFinishedNotifier::new);
     final var userService = brokerStartupContext.getUserServices();
     final var passwordEncoder = brokerStartupContext.getPasswordEncoder();
 
@@ -42,6 +48,7 @@ class EmbeddedGatewayServiceStep extends AbstractBrokerStartupStep {
             scheduler,
             concurrencyControl,
             jobStreamClient,
+            jobFinishedNotifier,
             brokerClient,
             userService,
             passwordEncoder);
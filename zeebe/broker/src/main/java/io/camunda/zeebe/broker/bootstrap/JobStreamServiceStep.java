@@ -46,7 +46,12 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
                 clusterServices.getCommunicationService(),
                 JobStreamServiceStep::readJobActivationProperties,
                 errorHandlerService,
-                new JobStreamMetrics(brokerStartupContext.getMeterRegistry()));
+                new JobStreamMetrics(brokerStartupContext.getMeterRegistry()),
+                brokerStartupContext
+                    .getBrokerConfiguration()
+                    .getExperimental()
+                    .getJobStream()
+                    .toBatchingConfig());
     final var errorHandlerStarted = scheduler.submitActor(errorHandlerService);
 
     errorHandlerStarted.onComplete(
@@ -68,7 +73,10 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
                     final var jobStreamService =
                         new JobStreamService(
                             remoteStreamService,
-                            new RemoteJobStreamer(streamer, clusterServices.getEventService()),
+                            new RemoteJobStreamer(
+                                streamer,
+                                clusterServices.getEventService(),
+                                clusterServices.getMembershipService()),
                             errorHandlerService);
                     clusterServices.getMembershipService().addListener(remoteStreamService);
                     brokerStartupContext.addPartitionListener(errorHandlerService);
@@ -12,6 +12,7 @@ import io.atomix.cluster.MemberConfig;
 import io.atomix.cluster.NodeConfig;
 import io.atomix.cluster.discovery.BootstrapDiscoveryConfig;
 import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.TrafficClass;
 import io.atomix.cluster.protocol.SwimMembershipProtocolConfig;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
@@ -83,7 +84,14 @@ public final class ClusterConfigFactory {
             .setSocketReceiveBuffer((int) network.getSocketReceiveBuffer().toBytes())
             .setSocketSendBuffer((int) network.getSocketSendBuffer().toBytes())
             .setHeartbeatTimeout(network.getHeartbeatTimeout())
-            .setHeartbeatInterval(network.getHeartbeatInterval());
+            .setHeartbeatInterval(network.getHeartbeatInterval())
+            .setMaxFlushDelay(network.getMaxFlushDelay())
+            .setMaxFlushBytes((int) network.getMaxFlushBytes().toBytes());
+
+    for (final TrafficClass trafficClass : TrafficClass.values()) {
+      messaging.setTrafficClass(
+          trafficClass, network.getTrafficClasses().get(trafficClass).toConfig());
+    }
 
     if (network.getSecurity().isEnabled()) {
       final var security = network.getSecurity();
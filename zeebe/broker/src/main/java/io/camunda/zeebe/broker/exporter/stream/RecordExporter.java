@@ -42,12 +42,13 @@ final class RecordExporter {
   void wrap(final LoggedEvent rawEvent) {
     rawEvent.readMetadata(rawMetadata);
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+    // the value is only read once an exporter accesses it, which none may do if they all filter
+    // the record out based on its metadata
+    final UnifiedRecordValue recordValue = recordValues.getRecordValue(rawMetadata.getValueType());
 
     shouldExport = recordValue != null;
     if (shouldExport) {
-      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
+      typedEvent.wrapLazily(rawEvent, rawMetadata, recordValue);
       exporterIndex = 0;
     }
   }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.jobstream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -24,6 +25,7 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   private final MeterRegistry registry;
   private final Counter pushSuccessCount;
   private final Counter pushFailedCount;
+  private final DistributionSummary pushBatchSize;
 
   public JobStreamMetrics(final MeterRegistry registry) {
     this.registry = registry;
@@ -31,6 +33,13 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
     pushSuccessCount = registerCounter(JobStreamMetricsDoc.PUSH_SUCCESS_COUNT);
     pushFailedCount = registerCounter(JobStreamMetricsDoc.PUSH_FAILED_COUNT);
 
+    final var batchSizeDoc = JobStreamMetricsDoc.PUSH_BATCH_SIZE;
+    pushBatchSize =
+        DistributionSummary.builder(batchSizeDoc.getName())
+            .description(batchSizeDoc.getDescription())
+            .serviceLevelObjectives(batchSizeDoc.getDistributionSLOs())
+            .register(registry);
+
     final var streamCountDoc = JobStreamMetricsDoc.STREAM_COUNT;
     Gauge.builder(streamCountDoc.getName(), streamCount, Number::intValue)
         .description(streamCountDoc.getDescription())
@@ -66,6 +75,11 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
     pushFailedCount.increment();
   }
 
+  @Override
+  public void pushBatchSent(final int size) {
+    pushBatchSize.record(size);
+  }
+
   @Override
   public void pushTryFailed(final ErrorCode code) {
     final var meterDoc = JobStreamMetricsDoc.PUSH_TRY_FAILED_COUNT;
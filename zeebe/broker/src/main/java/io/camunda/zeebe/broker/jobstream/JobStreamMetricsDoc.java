@@ -72,6 +72,31 @@ public enum JobStreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Distribution of the number of jobs pushed together in a single batch */
+  PUSH_BATCH_SIZE {
+    private static final double[] BUCKETS = {2, 4, 8, 16, 32, 64, 128};
+
+    @Override
+    public String getName() {
+      return "zeebe.broker.jobs.push.batch.size";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of the number of jobs pushed together in a single batch";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
   /** Total number of failed attempts when pushing jobs to the streams, grouped by error code */
   PUSH_TRY_FAILED_COUNT {
     @Override
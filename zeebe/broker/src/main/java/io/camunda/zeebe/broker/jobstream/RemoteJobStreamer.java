@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.broker.jobstream;
 
+import io.atomix.cluster.ClusterMembershipService;
 import io.atomix.cluster.messaging.ClusterEventService;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.protocol.impl.encoding.JobAvailabilityHint;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
@@ -21,12 +23,15 @@ public final class RemoteJobStreamer implements JobStreamer {
 
   private final RemoteStreamer<JobActivationProperties, ActivatedJob> delegate;
   private final ClusterEventService eventService;
+  private final ClusterMembershipService membershipService;
 
   public RemoteJobStreamer(
       final RemoteStreamer<JobActivationProperties, ActivatedJob> delegate,
-      final ClusterEventService eventService) {
+      final ClusterEventService eventService,
+      final ClusterMembershipService membershipService) {
     this.delegate = delegate;
     this.eventService = eventService;
+    this.membershipService = membershipService;
   }
 
   @Override
@@ -34,6 +39,19 @@ public final class RemoteJobStreamer implements JobStreamer {
     eventService.broadcast(JOBS_AVAILABLE_TOPIC, jobType);
   }
 
+  // the hints are propagated to the gateways through the gossiped member properties, the same way
+  // as the broker's topology information
+  @Override
+  public void publishJobAvailability(final int partitionId, final JobAvailabilityHint hint) {
+    hint.writeIntoProperties(membershipService.getLocalMember().properties(), partitionId);
+  }
+
+  @Override
+  public void retractJobAvailability(final int partitionId) {
+    JobAvailabilityHint.removeFromProperties(
+        membershipService.getLocalMember().properties(), partitionId);
+  }
+
   @Override
   public Optional<JobStream> streamFor(
       final DirectBuffer jobType, final Predicate<JobActivationProperties> filter) {
@@ -106,6 +106,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setSnapshotReplicationWindow(
+        brokerCfg.getExperimental().getRaft().getSnapshotReplicationWindow());
 
     return new RaftPartition(
         partitionMetadata, partitionConfig, partitionDirectory.toFile(), meterRegistry);
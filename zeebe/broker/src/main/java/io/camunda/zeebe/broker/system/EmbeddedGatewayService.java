@@ -13,6 +13,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.gateway.Gateway;
 import io.camunda.zeebe.gateway.Loggers;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.impl.stream.JobStreamClient;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -34,6 +35,7 @@ public final class EmbeddedGatewayService implements AutoCloseable {
       final ActorSchedulingService actorScheduler,
       final ConcurrencyControl concurrencyControl,
       final JobStreamClient jobStreamClient,
+      final JobFinishedNotifier jobFinishedNotifier,
       final BrokerClient brokerClient,
       final UserServices userServices,
       final PasswordEncoder passwordEncoder) {
@@ -48,6 +50,7 @@ public final class EmbeddedGatewayService implements AutoCloseable {
             brokerClient,
             actorScheduler,
             jobStreamClient.streamer(),
+            jobFinishedNotifier,
             userServices,
             passwordEncoder);
   }
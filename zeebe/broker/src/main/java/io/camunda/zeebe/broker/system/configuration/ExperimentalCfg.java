@@ -38,6 +38,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
+  private JobStreamCfg jobStream = new JobStreamCfg();
   private EngineCfg engine = new EngineCfg();
   private FeatureFlagsCfg features = new FeatureFlagsCfg();
 
@@ -135,6 +136,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.consistencyChecks = consistencyChecks;
   }
 
+  public JobStreamCfg getJobStream() {
+    return jobStream;
+  }
+
+  public void setJobStream(final JobStreamCfg jobStream) {
+    this.jobStream = jobStream;
+  }
+
   public EngineCfg getEngine() {
     return engine;
   }
@@ -168,6 +177,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + queryApi
         + ", consistencyChecks="
         + consistencyChecks
+        + ", jobStream="
+        + jobStream
         + ", engineCfg="
         + engine
         + ", features="
@@ -23,6 +23,7 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_SNAPSHOT_REPLICATION_WINDOW = 1;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -31,6 +32,7 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
+  private int snapshotReplicationWindow = DEFAULT_SNAPSHOT_REPLICATION_WINDOW;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
@@ -90,6 +92,14 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public int getSnapshotReplicationWindow() {
+    return snapshotReplicationWindow;
+  }
+
+  public void setSnapshotReplicationWindow(final int snapshotReplicationWindow) {
+    this.snapshotReplicationWindow = snapshotReplicationWindow;
+  }
+
   public boolean isPreallocateSegmentFiles() {
     return preallocateSegmentFiles;
   }
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchingConfig;
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+/** Configures how activated jobs are pushed to the job streams of the gateways. */
+public class JobStreamCfg {
+  private static final int DEFAULT_PUSH_BATCH_MAX_COUNT = 1;
+  private static final DataSize DEFAULT_PUSH_BATCH_MAX_SIZE = DataSize.ofKilobytes(64);
+  private static final Duration DEFAULT_PUSH_BATCH_LINGER = Duration.ZERO;
+
+  private int pushBatchMaxCount = DEFAULT_PUSH_BATCH_MAX_COUNT;
+  private DataSize pushBatchMaxSize = DEFAULT_PUSH_BATCH_MAX_SIZE;
+  private Duration pushBatchLinger = DEFAULT_PUSH_BATCH_LINGER;
+
+  public int getPushBatchMaxCount() {
+    return pushBatchMaxCount;
+  }
+
+  public void setPushBatchMaxCount(final int pushBatchMaxCount) {
+    this.pushBatchMaxCount = pushBatchMaxCount;
+  }
+
+  public DataSize getPushBatchMaxSize() {
+    return pushBatchMaxSize;
+  }
+
+  public void setPushBatchMaxSize(final DataSize pushBatchMaxSize) {
+    this.pushBatchMaxSize = pushBatchMaxSize;
+  }
+
+  public Duration getPushBatchLinger() {
+    return pushBatchLinger;
+  }
+
+  public void setPushBatchLinger(final Duration pushBatchLinger) {
+    this.pushBatchLinger = pushBatchLinger;
+  }
+
+  public RemoteStreamBatchingConfig toBatchingConfig() {
+    return new RemoteStreamBatchingConfig(
+        pushBatchMaxCount, Math.toIntExact(pushBatchMaxSize.toBytes()), pushBatchLinger);
+  }
+
+  @Override
+  public String toString() {
+    return "JobStreamCfg{"
+        + "pushBatchMaxCount="
+        + pushBatchMaxCount
+        + ", pushBatchMaxSize="
+        + pushBatchMaxSize
+        + ", pushBatchLinger="
+        + pushBatchLinger
+        + '}';
+  }
+}
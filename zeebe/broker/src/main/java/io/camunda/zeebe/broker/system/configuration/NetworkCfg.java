@@ -23,6 +23,7 @@ public final class NetworkCfg implements ConfigurationEntry {
       Address.defaultAdvertisedHost().getHostAddress();
   private static final DataSize DEFAULT_BROKER_SOCKET_SEND_BUFFER = DataSize.ofMegabytes(1);
   private static final DataSize DEFAULT_BROKER_SOCKET_RECEIVE_BUFFER = DataSize.ofMegabytes(1);
+  private static final DataSize DEFAULT_MAX_FLUSH_BYTES = DataSize.ofKilobytes(64);
 
   // leave host and advertised host to null, so we can distinguish if they are set explicitly or not
   private String host = null;
@@ -33,10 +34,13 @@ public final class NetworkCfg implements ConfigurationEntry {
   private DataSize socketReceiveBuffer = DEFAULT_BROKER_SOCKET_RECEIVE_BUFFER;
   private Duration heartbeatTimeout = Duration.ofSeconds(15);
   private Duration heartbeatInterval = Duration.ofSeconds(5);
+  private Duration maxFlushDelay = Duration.ZERO;
+  private DataSize maxFlushBytes = DEFAULT_MAX_FLUSH_BYTES;
 
   private final CommandApiCfg commandApi = new CommandApiCfg();
   private InternalApiCfg internalApi = new InternalApiCfg();
   private SecurityCfg security = new SecurityCfg();
+  private TrafficClassesCfg trafficClasses = new TrafficClassesCfg();
 
   @Override
   public void init(final BrokerCfg brokerCfg, final String brokerBase) {
@@ -125,6 +129,22 @@ public final class NetworkCfg implements ConfigurationEntry {
     this.heartbeatInterval = heartbeatInterval;
   }
 
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  public void setMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+  }
+
+  public DataSize getMaxFlushBytes() {
+    return maxFlushBytes;
+  }
+
+  public void setMaxFlushBytes(final DataSize maxFlushBytes) {
+    this.maxFlushBytes = maxFlushBytes;
+  }
+
   public CommandApiCfg getCommandApi() {
     return commandApi;
   }
@@ -137,6 +157,14 @@ public final class NetworkCfg implements ConfigurationEntry {
     this.internalApi = internalApi;
   }
 
+  public TrafficClassesCfg getTrafficClasses() {
+    return trafficClasses;
+  }
+
+  public void setTrafficClasses(final TrafficClassesCfg trafficClasses) {
+    this.trafficClasses = trafficClasses;
+  }
+
   public SecurityCfg getSecurity() {
     return security;
   }
@@ -164,12 +192,18 @@ public final class NetworkCfg implements ConfigurationEntry {
         + heartbeatTimeout
         + ", heartbeatInterval="
         + heartbeatInterval
+        + ", maxFlushDelay="
+        + maxFlushDelay
+        + ", maxFlushBytes="
+        + maxFlushBytes
         + ", commandApi="
         + commandApi
         + ", internalApi="
         + internalApi
         + ", security="
         + security
+        + ", trafficClasses="
+        + trafficClasses
         + '}';
   }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.atomix.cluster.messaging.TrafficClass;
+import io.atomix.cluster.messaging.TrafficClassConfig;
+import java.util.List;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures the dedicated connections of each {@link TrafficClass} between the cluster members.
+ * Defaults to {@link TrafficClassConfig#defaults(TrafficClass)}.
+ */
+public final class TrafficClassesCfg implements ConfigurationEntry {
+
+  private TrafficClassCfg control = new TrafficClassCfg(TrafficClass.CONTROL);
+  private TrafficClassCfg replication = new TrafficClassCfg(TrafficClass.REPLICATION);
+  private TrafficClassCfg bulk = new TrafficClassCfg(TrafficClass.BULK);
+
+  public TrafficClassCfg getControl() {
+    return control;
+  }
+
+  public void setControl(final TrafficClassCfg control) {
+    this.control = control;
+  }
+
+  public TrafficClassCfg getReplication() {
+    return replication;
+  }
+
+  public void setReplication(final TrafficClassCfg replication) {
+    this.replication = replication;
+  }
+
+  public TrafficClassCfg getBulk() {
+    return bulk;
+  }
+
+  public void setBulk(final TrafficClassCfg bulk) {
+    this.bulk = bulk;
+  }
+
+  public TrafficClassCfg get(final TrafficClass trafficClass) {
+    return switch (trafficClass) {
+      case CONTROL -> control;
+      case REPLICATION -> replication;
+      case BULK -> bulk;
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "TrafficClassesCfg{"
+        + "control="
+        + control
+        + ", replication="
+        + replication
+        + ", bulk="
+        + bulk
+        + '}';
+  }
+
+  public static final class TrafficClassCfg {
+
+    private List<String> subjectPatterns;
+    private int connections;
+    private DataSize writeBufferLowWaterMark;
+    private DataSize writeBufferHighWaterMark;
+
+    public TrafficClassCfg() {
+      this(TrafficClass.CONTROL);
+    }
+
+    private TrafficClassCfg(final TrafficClass trafficClass) {
+      final var defaults = TrafficClassConfig.defaults(trafficClass);
+      subjectPatterns = defaults.getSubjectPatterns();
+      connections = defaults.getConnections();
+      writeBufferLowWaterMark = DataSize.ofBytes(defaults.getWriteBufferLowWaterMark());
+      writeBufferHighWaterMark = DataSize.ofBytes(defaults.getWriteBufferHighWaterMark());
+    }
+
+    public List<String> getSubjectPatterns() {
+      return subjectPatterns;
+    }
+
+    public void setSubjectPatterns(final List<String> subjectPatterns) {
+      this.subjectPatterns = subjectPatterns;
+    }
+
+    public int getConnections() {
+      return connections;
+    }
+
+    public void setConnections(final int connections) {
+      this.connections = connections;
+    }
+
+    public DataSize getWriteBufferLowWaterMark() {
+      return writeBufferLowWaterMark;
+    }
+
+    public void setWriteBufferLowWaterMark(final DataSize writeBufferLowWaterMark) {
+      this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    }
+
+    public DataSize getWriteBufferHighWaterMark() {
+      return writeBufferHighWaterMark;
+    }
+
+    public void setWriteBufferHighWaterMark(final DataSize writeBufferHighWaterMark) {
+      this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    public TrafficClassConfig toConfig() {
+      return new TrafficClassConfig()
+          .setSubjectPatterns(subjectPatterns)
+          .setConnections(connections)
+          .setWriteBufferLowWaterMark((int) writeBufferLowWaterMark.toBytes())
+          .setWriteBufferHighWaterMark((int) writeBufferHighWaterMark.toBytes());
+    }
+
+    @Override
+    public String toString() {
+      return "TrafficClassCfg{"
+          + "subjectPatterns="
+          + subjectPatterns
+          + ", connections="
+          + connections
+          + ", writeBufferLowWaterMark="
+          + writeBufferLowWaterMark
+          + ", writeBufferHighWaterMark="
+          + writeBufferHighWaterMark
+          + '}';
+    }
+  }
+}
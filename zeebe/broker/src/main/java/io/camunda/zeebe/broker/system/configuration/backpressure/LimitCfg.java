@@ -16,6 +16,7 @@ import com.netflix.concurrency.limits.limit.VegasLimit;
 import com.netflix.concurrency.limits.limit.WindowedLimit;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.StabilizingAIMDLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.TenantWeights;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +34,7 @@ public final class LimitCfg implements ConfigurationEntry {
   private final GradientCfg gradient = new GradientCfg();
   private final Gradient2Cfg gradient2 = new Gradient2Cfg();
   private final LegacyVegasCfg legacyVegas = new LegacyVegasCfg();
+  private final TenantFairnessCfg tenantFairness = new TenantFairnessCfg();
 
   public boolean isEnabled() {
     return enabled;
@@ -87,6 +89,20 @@ public final class LimitCfg implements ConfigurationEntry {
     return legacyVegas;
   }
 
+  public TenantFairnessCfg getTenantFairness() {
+    return tenantFairness;
+  }
+
+  /**
+   * @return null if tenant fairness is disabled, the weights per tenant otherwise.
+   */
+  public TenantWeights buildTenantWeights() {
+    if (!enabled) {
+      return null;
+    }
+    return tenantFairness.buildTenantWeights();
+  }
+
   /**
    * @return null if disabled, (windowed) limit otherwise.
    */
@@ -160,7 +176,16 @@ public final class LimitCfg implements ConfigurationEntry {
   @Override
   public int hashCode() {
     return Objects.hash(
-        enabled, useWindowed, algorithm, aimd, fixed, vegas, gradient, gradient2, legacyVegas);
+        enabled,
+        useWindowed,
+        algorithm,
+        aimd,
+        fixed,
+        vegas,
+        gradient,
+        gradient2,
+        legacyVegas,
+        tenantFairness);
   }
 
   @Override
@@ -179,7 +204,8 @@ public final class LimitCfg implements ConfigurationEntry {
         && Objects.equals(vegas, limitCfg.vegas)
         && Objects.equals(gradient, limitCfg.gradient)
         && Objects.equals(gradient2, limitCfg.gradient2)
-        && Objects.equals(legacyVegas, limitCfg.legacyVegas);
+        && Objects.equals(legacyVegas, limitCfg.legacyVegas)
+        && Objects.equals(tenantFairness, limitCfg.tenantFairness);
   }
 
   @Override
@@ -204,6 +230,8 @@ public final class LimitCfg implements ConfigurationEntry {
         + gradient2
         + ", legacyVegas="
         + legacyVegas
+        + ", tenantFairness="
+        + tenantFairness
         + '}';
   }
 
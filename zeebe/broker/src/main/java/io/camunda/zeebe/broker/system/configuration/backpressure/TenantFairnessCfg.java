@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.backpressure;
+
+import static io.camunda.zeebe.broker.system.configuration.ConfigurationUtil.checkPositive;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.TenantWeights;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configures whether the request limit is shared between tenants by weighted fair shares, instead
+ * of being available to all user commands on a first come, first served basis.
+ */
+public final class TenantFairnessCfg {
+
+  private boolean enabled = false;
+  private int defaultWeight = 1;
+  private Map<String, Integer> weights = new HashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getDefaultWeight() {
+    return defaultWeight;
+  }
+
+  public void setDefaultWeight(final int defaultWeight) {
+    checkPositive(defaultWeight, "defaultWeight");
+    this.defaultWeight = defaultWeight;
+  }
+
+  public Map<String, Integer> getWeights() {
+    return weights;
+  }
+
+  public void setWeights(final Map<String, Integer> weights) {
+    weights.forEach((tenantId, weight) -> checkPositive(weight, "weights." + tenantId));
+    this.weights = weights;
+  }
+
+  /**
+   * @return null if disabled, the weights per tenant otherwise.
+   */
+  public TenantWeights buildTenantWeights() {
+    if (!enabled) {
+      return null;
+    }
+    return new TenantWeights(weights, defaultWeight);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, defaultWeight, weights);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof final TenantFairnessCfg that)) {
+      return false;
+    }
+    return enabled == that.enabled
+        && defaultWeight == that.defaultWeight
+        && Objects.equals(weights, that.weights);
+  }
+
+  @Override
+  public String toString() {
+    return "TenantFairnessCfg{"
+        + "enabled="
+        + enabled
+        + ", defaultWeight="
+        + defaultWeight
+        + ", weights="
+        + weights
+        + '}';
+  }
+}
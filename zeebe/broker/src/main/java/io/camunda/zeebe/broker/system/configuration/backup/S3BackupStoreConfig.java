@@ -12,6 +12,7 @@ import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import java.time.Duration;
 import java.util.Objects;
+import org.springframework.util.unit.DataSize;
 
 public class S3BackupStoreConfig implements ConfigurationEntry {
 
@@ -25,6 +26,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
   private String compression;
 
   private String basePath;
+  private DataSize partSize = DataSize.ofMegabytes(8);
+  private DataSize maxBandwidth;
 
   public String getBucketName() {
     return bucketName;
@@ -102,6 +105,26 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     return basePath;
   }
 
+  public DataSize getPartSize() {
+    return partSize;
+  }
+
+  public void setPartSize(final DataSize partSize) {
+    this.partSize = partSize;
+  }
+
+  /**
+   * @return the maximum amount of data transferred per second when saving or restoring backups,
+   *     or null if it is not limited
+   */
+  public DataSize getMaxBandwidth() {
+    return maxBandwidth;
+  }
+
+  public void setMaxBandwidth(final DataSize maxBandwidth) {
+    this.maxBandwidth = maxBandwidth;
+  }
+
   public static S3BackupConfig toStoreConfig(S3BackupStoreConfig config) {
     final var builder =
         new Builder()
@@ -111,7 +134,10 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
             .withApiCallTimeout(config.getApiCallTimeout())
             .forcePathStyleAccess(config.isForcePathStyleAccess())
             .withCompressionAlgorithm(config.getCompression())
-            .withBasePath(config.getBasePath());
+            .withBasePath(config.getBasePath())
+            .withPartSize(config.getPartSize().toBytes())
+            .withMaxBandwidth(
+                config.getMaxBandwidth() != null ? config.getMaxBandwidth().toBytes() : null);
     if (config.getAccessKey() != null && config.getSecretKey() != null) {
       builder.withCredentials(config.getAccessKey(), config.getSecretKey());
     }
@@ -129,6 +155,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     result = 31 * result + (forcePathStyleAccess ? 1 : 0);
     result = 31 * result + (compression != null ? compression.hashCode() : 0);
     result = 31 * result + (basePath != null ? basePath.hashCode() : 0);
+    result = 31 * result + (partSize != null ? partSize.hashCode() : 0);
+    result = 31 * result + (maxBandwidth != null ? maxBandwidth.hashCode() : 0);
     return result;
   }
 
@@ -167,6 +195,12 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     if (!Objects.equals(basePath, that.basePath)) {
       return false;
     }
+    if (!Objects.equals(partSize, that.partSize)) {
+      return false;
+    }
+    if (!Objects.equals(maxBandwidth, that.maxBandwidth)) {
+      return false;
+    }
     return Objects.equals(apiCallTimeout, that.apiCallTimeout);
   }
 
@@ -196,6 +230,10 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
         + compression
         + ", basePath="
         + basePath
+        + ", partSize="
+        + partSize
+        + ", maxBandwidth="
+        + maxBandwidth
         + '}';
   }
 }
@@ -82,6 +82,7 @@ public final class EngineCfg implements ConfigurationEntry {
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
+        .setJobsAvailabilityHintInterval(jobs.getAvailabilityHintInterval())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
   }
 }
@@ -16,6 +16,8 @@ public class JobsCfg implements ConfigurationEntry {
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int timeoutCheckerBatchLimit =
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private Duration availabilityHintInterval =
+      EngineConfiguration.DEFAULT_JOBS_AVAILABILITY_HINT_INTERVAL;
 
   public Duration getTimeoutCheckerPollingInterval() {
     return timeoutCheckerPollingInterval;
@@ -33,6 +35,14 @@ public class JobsCfg implements ConfigurationEntry {
     this.timeoutCheckerBatchLimit = timeoutCheckerBatchLimit;
   }
 
+  public Duration getAvailabilityHintInterval() {
+    return availabilityHintInterval;
+  }
+
+  public void setAvailabilityHintInterval(final Duration availabilityHintInterval) {
+    this.availabilityHintInterval = availabilityHintInterval;
+  }
+
   @Override
   public String toString() {
     return "JobsCfg{"
@@ -40,6 +50,8 @@ public class JobsCfg implements ConfigurationEntry {
         + timeoutCheckerPollingInterval
         + ", timeoutCheckerBatchLimit="
         + timeoutCheckerBatchLimit
+        + ", availabilityHintInterval="
+        + availabilityHintInterval
         + '}';
   }
 }
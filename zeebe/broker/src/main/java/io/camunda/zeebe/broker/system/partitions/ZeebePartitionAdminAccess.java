@@ -207,6 +207,7 @@ class ZeebePartitionAdminAccess implements PartitionAdminAccess {
               flowControl.setWriteRateLimit(flowControlCfg.getWrite().buildLimit());
             }
             if (flowControlCfg.getRequest() != null) {
+              flowControl.setTenantWeights(flowControlCfg.getRequest().buildTenantWeights());
               flowControl.setRequestLimit(flowControlCfg.getRequest().buildLimit());
             }
             future.complete(null);
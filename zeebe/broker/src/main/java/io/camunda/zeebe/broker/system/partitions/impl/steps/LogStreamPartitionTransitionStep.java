@@ -69,6 +69,10 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
 
   private LogStream buildLogStream(final PartitionTransitionContext context) {
     final var flowControlCfg = context.getBrokerCfg().getFlowControl();
+    final var requestLimitCfg =
+        flowControlCfg.getRequest() != null
+            ? flowControlCfg.getRequest()
+            : context.getBrokerCfg().getBackpressure();
     return logStreamBuilderSupplier
         .get()
         .withLogStorage(context.getLogStorage())
@@ -76,10 +80,8 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withPartitionId(context.getPartitionId())
         .withMaxFragmentSize(context.getMaxFragmentSize())
         .withClock(context.getStreamClock())
-        .withRequestLimit(
-            flowControlCfg.getRequest() != null
-                ? flowControlCfg.getRequest().buildLimit()
-                : context.getBrokerCfg().getBackpressure().buildLimit())
+        .withRequestLimit(requestLimitCfg.buildLimit())
+        .withTenantWeights(requestLimitCfg.buildTenantWeights())
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
         .build();
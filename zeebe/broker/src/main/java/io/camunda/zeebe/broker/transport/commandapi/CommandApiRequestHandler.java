@@ -13,16 +13,20 @@ import io.camunda.zeebe.broker.transport.ErrorResponseWriter;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
@@ -34,9 +38,11 @@ final class CommandApiRequestHandler
   private final Int2ObjectHashMap<LogStreamWriter> leadingStreams = new Int2ObjectHashMap<>();
   private boolean isDiskSpaceAvailable = true;
   private final Map<Integer, Boolean> processingPaused = new HashMap<>();
+  private final CommandBatchResponseCollector batchResponses;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(final CommandBatchResponseCollector batchResponses) {
     super(CommandApiRequestReader::new, CommandApiResponseWriter::new);
+    this.batchResponses = batchResponses;
   }
 
   @Override
@@ -68,6 +74,11 @@ final class CommandApiRequestHandler
       final CommandApiRequestReader requestReader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
+    if (requestReader.isBatch()) {
+      return handleExecuteCommandBatchRequest(
+          partitionId, requestId, requestReader, responseWriter, errorWriter);
+    }
+
     return handleExecuteCommandRequest(
         partitionId, requestId, requestReader, responseWriter, errorWriter);
   }
@@ -79,14 +90,8 @@ final class CommandApiRequestHandler
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
 
-    if (!isDiskSpaceAvailable) {
-      return Either.left(errorWriter.outOfDiskSpace(partitionId));
-    }
-
-    if (processingPaused.getOrDefault(partitionId, false)) {
-      return Either.left(
-          errorWriter.partitionUnavailable(
-              String.format("Processing paused for partition '%s'", partitionId)));
+    if (!canAcceptCommands(partitionId, errorWriter)) {
+      return Either.left(errorWriter);
     }
 
     final var command = reader.getMessageDecoder();
@@ -129,6 +134,130 @@ final class CommandApiRequestHandler
     }
   }
 
+  private Either<ErrorResponseWriter, CommandApiResponseWriter> handleExecuteCommandBatchRequest(
+      final int partitionId,
+      final long requestId,
+      final CommandApiRequestReader reader,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+
+    if (!canAcceptCommands(partitionId, errorWriter)) {
+      return Either.left(errorWriter);
+    }
+
+    final var batch = reader.batch();
+    final var logStreamWriter = leadingStreams.get(partitionId);
+    if (logStreamWriter == null) {
+      errorWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorWriter);
+    }
+
+    final var recordSupplier = CommandApiRequestReader.RECORDS_BY_TYPE.get(batch.getValueType());
+    if (recordSupplier == null) {
+      errorWriter.unsupportedMessage(
+          batch.getValueType().name(), CommandApiRequestReader.RECORDS_BY_TYPE.keySet().toArray());
+      return Either.left(errorWriter);
+    }
+
+    if (batch.size() == 0) {
+      return Either.left(
+          errorWriter
+              .errorCode(ErrorCode.MALFORMED_REQUEST)
+              .errorMessage("Expected a batch of at least one command, but it was empty."));
+    }
+
+    // every command gets its own request id, such that the engine responds to each of them; the
+    // collector replies to the batch request once all responses were written
+    final var commandRequestIds = batchResponses.register(partitionId, requestId, batch.size());
+    final var appendEntries = new ArrayList<LogAppendEntry>(batch.size());
+    int batchLength = 0;
+    for (int i = 0; i < batch.size(); i++) {
+      final var command = batch.getCommands().get(i);
+      final var value = recordSupplier.get();
+      value.wrap(command.value(), 0, command.value().capacity());
+
+      final var metadata =
+          new RecordMetadata()
+              .requestId(commandRequestIds[i])
+              .requestStreamId(partitionId)
+              .recordType(RecordType.COMMAND)
+              .intent(batch.getIntent())
+              .valueType(batch.getValueType())
+              .protocolVersion(reader.metadata().getProtocolVersion())
+              .authorization(batch.getAuthorization());
+
+      final var appendEntry =
+          command.key() != ExecuteCommandBatchRequest.keyNullValue()
+              ? LogAppendEntry.of(command.key(), metadata, value)
+              : LogAppendEntry.of(metadata, value);
+      appendEntries.add(appendEntry);
+      batchLength += appendEntry.getLength();
+    }
+
+    try {
+      final var result =
+          writeCommands(
+              appendEntries,
+              batchLength,
+              batch.getIntent(),
+              logStreamWriter,
+              errorWriter,
+              partitionId);
+      if (result.isLeft()) {
+        batchResponses.discard(commandRequestIds);
+        return Either.left(result.getLeft());
+      }
+
+      return Either.right(responseWriter);
+    } catch (final Exception error) {
+      batchResponses.discard(commandRequestIds);
+      final String errorMessage =
+          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+      LOG.error(errorMessage);
+      return Either.left(errorWriter.internalError(errorMessage));
+    }
+  }
+
+  private Either<ErrorResponseWriter, Boolean> writeCommands(
+      final List<LogAppendEntry> appendEntries,
+      final int batchLength,
+      final Intent intent,
+      final LogStreamWriter logStreamWriter,
+      final ErrorResponseWriter errorWriter,
+      final int partitionId) {
+    if (!logStreamWriter.canWriteEvents(appendEntries.size(), batchLength)) {
+      return Either.left(
+          errorWriter
+              .errorCode(ErrorCode.MALFORMED_REQUEST)
+              .errorMessage("Request size is above configured maxMessageSize."));
+    }
+
+    // the whole batch counts as a single request against the request limit
+    final var tenantId =
+        appendEntries.getFirst().recordValue() instanceof final TenantOwned tenantOwned
+            ? tenantOwned.getTenantId()
+            : TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    return logStreamWriter
+        .tryWrite(WriteContext.userCommand(intent, tenantId), appendEntries)
+        .map(ignore -> true)
+        .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
+  }
+
+  private boolean canAcceptCommands(final int partitionId, final ErrorResponseWriter errorWriter) {
+    if (!isDiskSpaceAvailable) {
+      errorWriter.outOfDiskSpace(partitionId);
+      return false;
+    }
+
+    if (processingPaused.getOrDefault(partitionId, false)) {
+      errorWriter.partitionUnavailable(
+          String.format("Processing paused for partition '%s'", partitionId));
+      return false;
+    }
+
+    return true;
+  }
+
   private Either<ErrorResponseWriter, Boolean> writeCommand(
       final long key,
       final RecordMetadata metadata,
@@ -144,8 +273,12 @@ final class CommandApiRequestHandler
     }
 
     if (logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
+      final var tenantId =
+          value instanceof final TenantOwned tenantOwned
+              ? tenantOwned.getTenantId()
+              : TenantOwned.DEFAULT_TENANT_IDENTIFIER;
       return logStreamWriter
-          .tryWrite(WriteContext.userCommand(metadata.getIntent()), appendEntry)
+          .tryWrite(WriteContext.userCommand(metadata.getIntent(), tenantId), appendEntry)
           .map(ignore -> true)
           .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
     } else {
@@ -161,7 +294,11 @@ final class CommandApiRequestHandler
   }
 
   void removePartition(final int partitionId) {
-    actor.submit(() -> leadingStreams.remove(partitionId));
+    actor.submit(
+        () -> {
+          leadingStreams.remove(partitionId);
+          batchResponses.removePartition(partitionId);
+        });
   }
 
   void onDiskSpaceNotAvailable() {
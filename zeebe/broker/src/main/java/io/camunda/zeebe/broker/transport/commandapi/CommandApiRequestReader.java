@@ -12,6 +12,7 @@ import static io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder.TEMP
 import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler.RequestReader;
 import io.camunda.zeebe.broker.transport.RequestReaderException;
 import io.camunda.zeebe.protocol.impl.encoding.AuthInfo;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.impl.record.value.authorization.AuthorizationRecord;
@@ -42,6 +43,7 @@ import io.camunda.zeebe.protocol.impl.record.value.tenant.TenantRecord;
 import io.camunda.zeebe.protocol.impl.record.value.user.UserRecord;
 import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -92,6 +94,8 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final ExecuteCommandRequestDecoder commandRequestDecoder =
       new ExecuteCommandRequestDecoder();
+  private final ExecuteCommandBatchRequest batchRequest = new ExecuteCommandBatchRequest();
+  private boolean isBatch;
 
   @Override
   public void reset() {
@@ -99,6 +103,8 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
       value.reset();
     }
     metadata.reset();
+    batchRequest.reset();
+    isBatch = false;
   }
 
   @Override
@@ -111,6 +117,11 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
     messageHeaderDecoder.wrap(buffer, offset);
 
     final int templateId = messageHeaderDecoder.templateId();
+    if (ExecuteCommandBatchRequestDecoder.TEMPLATE_ID == templateId) {
+      wrapBatch(buffer, offset, length);
+      return;
+    }
+
     if (TEMPLATE_ID != templateId) {
       throw new RequestReaderException.InvalidTemplateException(
           messageHeaderDecoder.templateId(), templateId);
@@ -141,6 +152,26 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
     }
   }
 
+  private void wrapBatch(final DirectBuffer buffer, final int offset, final int length) {
+    batchRequest.wrap(buffer, offset, length);
+    isBatch = true;
+
+    metadata.protocolVersion(messageHeaderDecoder.version());
+    metadata.authorization(batchRequest.getAuthorization());
+  }
+
+  /**
+   * @return true if the request is a {@link ExecuteCommandBatchRequest}, in which case {@link
+   *     #batch()} must be used instead of {@link #value()} and {@link #getMessageDecoder()}
+   */
+  public boolean isBatch() {
+    return isBatch;
+  }
+
+  public ExecuteCommandBatchRequest batch() {
+    return batchRequest;
+  }
+
   public UnifiedRecordValue value() {
     return value;
   }
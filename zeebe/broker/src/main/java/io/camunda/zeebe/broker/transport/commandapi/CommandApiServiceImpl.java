@@ -25,6 +25,7 @@ public final class CommandApiServiceImpl extends Actor
     implements DiskSpaceUsageListener, CommandApiService {
 
   private final ServerTransport serverTransport;
+  private final CommandBatchResponseCollector batchResponses;
   private final CommandApiRequestHandler commandHandler;
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
@@ -36,7 +37,8 @@ public final class CommandApiServiceImpl extends Actor
       final QueryApiCfg queryApiCfg) {
     this.serverTransport = serverTransport;
     this.scheduler = scheduler;
-    commandHandler = new CommandApiRequestHandler();
+    batchResponses = new CommandBatchResponseCollector(serverTransport);
+    commandHandler = new CommandApiRequestHandler(batchResponses);
     queryHandler = new QueryApiRequestHandler(queryApiCfg);
   }
 
@@ -75,7 +77,7 @@ public final class CommandApiServiceImpl extends Actor
 
   @Override
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(batchResponses);
   }
 
   @Override
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.ServerResponse;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the responses the engine writes for the commands of a batch request, and replies to the
+ * batch request once every one of its commands was answered. Responses to regular requests are
+ * passed through to the underlying output as is.
+ *
+ * <p>The commands of a batch are written with synthetic request ids. These are drawn from the
+ * negative range, such that they never collide with the ids assigned by the transport, and never
+ * reach the null value {@code -1} in practice.
+ */
+final class CommandBatchResponseCollector implements ServerOutput {
+
+  private final AtomicLong nextRequestId = new AtomicLong(Long.MIN_VALUE);
+  private final Map<Long, PendingCommand> pendingCommands = new ConcurrentHashMap<>();
+  private final ServerOutput output;
+
+  CommandBatchResponseCollector(final ServerOutput output) {
+    this.output = output;
+  }
+
+  /**
+   * Registers a batch request, and returns the request ids its commands must be written with.
+   *
+   * @param partitionId the partition the batch request was received on
+   * @param requestId the transport id of the batch request
+   * @param commandCount the number of commands in the batch
+   * @return the request id of each command, in the order of the batch
+   */
+  long[] register(final int partitionId, final long requestId, final int commandCount) {
+    final var batch = new PendingBatch(partitionId, requestId, commandCount);
+    final var commandRequestIds = new long[commandCount];
+    for (int i = 0; i < commandCount; i++) {
+      commandRequestIds[i] = nextRequestId.getAndIncrement();
+      pendingCommands.put(commandRequestIds[i], new PendingCommand(batch, i));
+    }
+
+    return commandRequestIds;
+  }
+
+  /** Forgets the given commands, e.g. because their batch could not be written. */
+  void discard(final long[] commandRequestIds) {
+    for (final long commandRequestId : commandRequestIds) {
+      pendingCommands.remove(commandRequestId);
+    }
+  }
+
+  /**
+   * Forgets all batches received on the given partition. Called when the partition is not led
+   * anymore, as the responses of its commands will never be written.
+   */
+  void removePartition(final int partitionId) {
+    pendingCommands.values().removeIf(command -> command.batch().partitionId == partitionId);
+  }
+
+  int pendingCommands() {
+    return pendingCommands.size();
+  }
+
+  @Override
+  public void sendResponse(final ServerResponse response) {
+    final var command = pendingCommands.remove(response.getRequestId());
+    if (command == null) {
+      output.sendResponse(response);
+      return;
+    }
+
+    // the writer of the response is reused after this call, so it has to be copied
+    final var copy = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(copy, 0);
+    command.batch().complete(command.index(), copy);
+  }
+
+  private record PendingCommand(PendingBatch batch, int index) {}
+
+  private final class PendingBatch {
+    private final int partitionId;
+    private final long requestId;
+    private final DirectBuffer[] responses;
+    private final AtomicInteger remaining;
+
+    private PendingBatch(final int partitionId, final long requestId, final int commandCount) {
+      this.partitionId = partitionId;
+      this.requestId = requestId;
+      responses = new DirectBuffer[commandCount];
+      remaining = new AtomicInteger(commandCount);
+    }
+
+    private void complete(final int index, final DirectBuffer response) {
+      responses[index] = response;
+      if (remaining.decrementAndGet() > 0) {
+        return;
+      }
+
+      final var batchResponse = new ExecuteCommandBatchResponse().setPartitionId(partitionId);
+      for (final var commandResponse : responses) {
+        batchResponse.addResponse(commandResponse);
+      }
+
+      output.sendResponse(
+          new ServerResponseImpl()
+              .setPartitionId(partitionId)
+              .setRequestId(requestId)
+              .writer(batchResponse));
+    }
+  }
+}
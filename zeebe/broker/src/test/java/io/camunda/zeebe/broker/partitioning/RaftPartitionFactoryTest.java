@@ -211,6 +211,19 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(1000);
   }
 
+  @Test
+  void shouldSetSnapshotReplicationWindow() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setSnapshotReplicationWindow(4);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getSnapshotReplicationWindow()).isEqualTo(4);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldSetSegmentFilesPreallocation(final boolean value) {
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.transport.commandapi;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,27 +21,34 @@ import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteQueryRequest;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerRule;
 import io.camunda.zeebe.transport.ServerOutput;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 public class CommandApiRequestHandlerTest {
   @Rule public final ControlledActorSchedulerRule scheduler = new ControlledActorSchedulerRule();
-  final CommandApiRequestHandler handler = new CommandApiRequestHandler();
+  final CommandBatchResponseCollector batchResponses =
+      new CommandBatchResponseCollector(response -> {});
+  final CommandApiRequestHandler handler = new CommandApiRequestHandler(batchResponses);
   private LogStreamWriter logStreamWriter;
 
   @Before
@@ -251,6 +259,90 @@ public class CommandApiRequestHandlerTest {
             ErrorCode.MALFORMED_REQUEST, "Request size is above configured maxMessageSize.");
   }
 
+  @Test
+  public void shouldWriteBatchToLogAtOnce() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    // when
+    handleRequest(newCompleteJobBatch(1L, 2L));
+
+    // then
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<LogAppendEntry>> entries = ArgumentCaptor.forClass(List.class);
+    verify(logWriter).tryWrite(any(WriteContext.class), entries.capture());
+    assertThat(entries.getValue()).extracting(LogAppendEntry::key).containsExactly(1L, 2L);
+    assertThat(entries.getValue())
+        .extracting(entry -> entry.recordMetadata().getRequestId())
+        .doesNotHaveDuplicates()
+        .allMatch(requestId -> requestId < -1);
+    assertThat(batchResponses.pendingCommands()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldDiscardBatchIfWriteFails() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList()))
+        .thenReturn(Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    // when
+    final var responseFuture = handleRequest(newCompleteJobBatch(1L, 2L));
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+    assertThat(batchResponses.pendingCommands()).isZero();
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // given
+    final var request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(0)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.COMPLETE);
+
+    // when
+    final var responseFuture = handleRequest(request);
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.MALFORMED_REQUEST);
+  }
+
+  private ExecuteCommandBatchRequest newCompleteJobBatch(final long... jobKeys) {
+    final var request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(0)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.COMPLETE);
+    for (final long jobKey : jobKeys) {
+      final var job = new JobRecord();
+      final var value = new UnsafeBuffer(new byte[job.getLength()]);
+      job.write(value, 0);
+      request.addCommand(jobKey, value);
+    }
+
+    return request;
+  }
+
   private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> handleRequest(
       final BufferWriter request) {
     final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
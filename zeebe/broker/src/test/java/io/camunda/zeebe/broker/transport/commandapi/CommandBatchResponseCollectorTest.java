@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.transport.ServerResponse;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class CommandBatchResponseCollectorTest {
+
+  private final List<ServerResponse> sentResponses = new ArrayList<>();
+  private final CommandBatchResponseCollector collector =
+      new CommandBatchResponseCollector(sentResponses::add);
+
+  @Test
+  void shouldPassThroughResponsesOfRegularRequests() {
+    // given
+    final var response = response(1, 5L, "regular");
+
+    // when
+    collector.sendResponse(response);
+
+    // then
+    assertThat(sentResponses).containsExactly(response);
+  }
+
+  @Test
+  void shouldReplyToBatchOnceAllCommandsAreAnswered() {
+    // given
+    final var commandRequestIds = collector.register(1, 5L, 2);
+
+    // when - responses are written out of order
+    collector.sendResponse(response(1, commandRequestIds[1], "second"));
+    assertThat(sentResponses).isEmpty();
+    collector.sendResponse(response(1, commandRequestIds[0], "first"));
+
+    // then
+    assertThat(sentResponses).hasSize(1);
+    final var sent = sentResponses.getFirst();
+    assertThat(sent.getRequestId()).isEqualTo(5L);
+    assertThat(sent.getPartitionId()).isEqualTo(1);
+
+    final var buffer = new UnsafeBuffer(new byte[sent.getLength()]);
+    sent.write(buffer, 0);
+    final var batchResponse = new ExecuteCommandBatchResponse();
+    batchResponse.wrap(buffer, 0, buffer.capacity());
+    assertThat(batchResponse.getResponses())
+        .extracting(BufferUtil::bufferAsString)
+        .containsExactly("first", "second");
+    assertThat(collector.pendingCommands()).isZero();
+  }
+
+  @Test
+  void shouldForgetBatchesOfRemovedPartition() {
+    // given
+    collector.register(1, 5L, 2);
+    collector.register(2, 6L, 1);
+
+    // when
+    collector.removePartition(1);
+
+    // then
+    assertThat(collector.pendingCommands()).isOne();
+  }
+
+  private ServerResponse response(final int partitionId, final long requestId, final String data) {
+    return new ServerResponseImpl()
+        .setPartitionId(partitionId)
+        .setRequestId(requestId)
+        .buffer(BufferUtil.wrapString(data));
+  }
+}
@@ -104,8 +104,11 @@ public class Engine implements RecordProcessor {
 
   @Override
   public void replay(final TypedRecord event) {
-    eventApplier.applyState(
-        event.getKey(), event.getIntent(), event.getValue(), event.getRecordVersion());
+    // skipping no-op events avoids reading their value, which is decoded lazily on replay
+    if (eventApplier.changesState(event.getIntent(), event.getRecordVersion())) {
+      eventApplier.applyState(
+          event.getKey(), event.getIntent(), event.getValue(), event.getRecordVersion());
+    }
   }
 
   @Override
@@ -25,6 +25,7 @@ public final class EngineConfiguration {
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
+  public static final Duration DEFAULT_JOBS_AVAILABILITY_HINT_INTERVAL = Duration.ofSeconds(5);
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
 
@@ -37,6 +38,7 @@ public final class EngineConfiguration {
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private Duration jobsAvailabilityHintInterval = DEFAULT_JOBS_AVAILABILITY_HINT_INTERVAL;
 
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
 
@@ -118,6 +120,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public Duration getJobsAvailabilityHintInterval() {
+    return jobsAvailabilityHintInterval;
+  }
+
+  public EngineConfiguration setJobsAvailabilityHintInterval(
+      final Duration jobsAvailabilityHintInterval) {
+    this.jobsAvailabilityHintInterval = jobsAvailabilityHintInterval;
+    return this;
+  }
+
   public int getValidatorsResultsOutputMaxSize() {
     return validatorsResultsOutputMaxSize;
   }
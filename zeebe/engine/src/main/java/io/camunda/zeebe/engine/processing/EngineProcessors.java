@@ -38,6 +38,7 @@ import io.camunda.zeebe.engine.processing.identity.IdentitySetupProcessors;
 import io.camunda.zeebe.engine.processing.identity.MappingProcessors;
 import io.camunda.zeebe.engine.processing.identity.RoleProcessors;
 import io.camunda.zeebe.engine.processing.incident.IncidentEventProcessors;
+import io.camunda.zeebe.engine.processing.job.JobAvailabilityPublisher;
 import io.camunda.zeebe.engine.processing.job.JobEventProcessors;
 import io.camunda.zeebe.engine.processing.message.MessageEventProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
@@ -120,6 +121,12 @@ public final class EngineProcessors {
     final var authCheckBehavior = new AuthorizationCheckBehavior(processingState, securityConfig);
     final var transientProcessMessageSubscriptionState =
         typedRecordProcessorContext.getTransientProcessMessageSubscriptionState();
+    final var jobAvailabilityPublisher =
+        new JobAvailabilityPublisher(
+            jobStreamer,
+            scheduledTaskStateFactory.get().getJobState(),
+            config.getJobsAvailabilityHintInterval());
+    typedRecordProcessors.withListener(jobAvailabilityPublisher);
     final BpmnBehaviorsImpl bpmnBehaviors =
         createBehaviors(
             processingState,
@@ -127,7 +134,7 @@ public final class EngineProcessors {
             subscriptionCommandSender,
             routingInfo,
             timerChecker,
-            jobStreamer,
+            jobAvailabilityPublisher,
             jobMetrics,
             decisionBehavior,
             clock,
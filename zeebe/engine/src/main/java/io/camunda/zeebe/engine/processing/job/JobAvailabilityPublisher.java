@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.protocol.impl.encoding.JobAvailabilityHint;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorates a {@link JobStreamer} to keep the gateways informed about which job types have
+ * activatable jobs on this partition, such that job activation requests are only routed to
+ * partitions with work.
+ *
+ * <p>The summary is rebuilt from the state in a fixed interval, which drops job types that have no
+ * activatable jobs anymore. In between, it is extended eagerly whenever a job becomes available, so
+ * gateways don't have to wait for the next rebuild to see new jobs.
+ *
+ * <p>Both the rebuild and the notifications are executed on the stream processor actor, so no
+ * further synchronization is required.
+ */
+public final class JobAvailabilityPublisher implements JobStreamer, StreamProcessorLifecycleAware {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobAvailabilityPublisher.class);
+
+  private final JobStreamer delegate;
+  private final JobState jobState;
+  private final Duration interval;
+
+  private int partitionId;
+  private boolean isActive;
+  /** The last published hint, or null if none was published yet. */
+  private JobAvailabilityHint hint;
+
+  public JobAvailabilityPublisher(
+      final JobStreamer delegate, final JobState jobState, final Duration interval) {
+    this.delegate = delegate;
+    this.jobState = jobState;
+    this.interval = interval;
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    partitionId = context.getPartitionId();
+    isActive = true;
+    rebuild();
+    context.getScheduleService().runAtFixedRate(interval, this::rebuild);
+  }
+
+  @Override
+  public void onClose() {
+    retract();
+  }
+
+  @Override
+  public void onFailed() {
+    retract();
+  }
+
+  @Override
+  public void onPaused() {
+    isActive = false;
+  }
+
+  @Override
+  public void onResumed() {
+    if (isEnabled()) {
+      isActive = true;
+      rebuild();
+    }
+  }
+
+  @Override
+  public void notifyWorkAvailable(final String jobType) {
+    // extend the hint before notifying, so that gateways reacting to the notification see the type
+    if (isActive && hint != null && hint.add(jobType)) {
+      delegate.publishJobAvailability(partitionId, hint.copy());
+    }
+
+    delegate.notifyWorkAvailable(jobType);
+  }
+
+  @Override
+  public Optional<JobStream> streamFor(
+      final DirectBuffer jobType, final Predicate<JobActivationProperties> filter) {
+    return delegate.streamFor(jobType, filter);
+  }
+
+  private boolean isEnabled() {
+    return interval.isPositive();
+  }
+
+  private void rebuild() {
+    if (!isActive) {
+      return;
+    }
+
+    final var rebuiltHint = new JobAvailabilityHint();
+    jobState.forEachActivatableJobType(
+        jobType -> {
+          rebuiltHint.add(jobType);
+          return true;
+        });
+
+    if (!rebuiltHint.equals(hint)) {
+      LOG.trace("Publishing job availability {} for partition {}", rebuiltHint, partitionId);
+      hint = rebuiltHint;
+      delegate.publishJobAvailability(partitionId, hint.copy());
+    }
+  }
+
+  private void retract() {
+    isActive = false;
+    if (hint != null) {
+      hint = null;
+      delegate.retractJobAvailability(partitionId);
+    }
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.streamprocessor;
 
+import io.camunda.zeebe.protocol.impl.encoding.JobAvailabilityHint;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import java.util.Optional;
@@ -37,6 +38,23 @@ public interface JobStreamer {
    */
   default void notifyWorkAvailable(final String jobType) {}
 
+  /**
+   * Publishes a summary of the job types which currently have activatable jobs on the given
+   * partition, such that gateways can skip partitions without jobs of a requested type.
+   *
+   * @param partitionId the partition the summary belongs to
+   * @param hint the summary of job types with activatable jobs
+   */
+  default void publishJobAvailability(final int partitionId, final JobAvailabilityHint hint) {}
+
+  /**
+   * Retracts a previously published job availability summary, e.g. when the partition is not
+   * processing anymore. Gateways then fall back to probing the partition for all job types.
+   *
+   * @param partitionId the partition the summary belongs to
+   */
+  default void retractJobAvailability(final int partitionId) {}
+
   /**
    * Returns a job stream for the job type, or {@link Optional#empty()} if there is none.
    *
@@ -35,6 +35,18 @@ public interface EventApplier {
   void applyState(long key, Intent intent, RecordValue recordValue, final int recordVersion)
       throws NoSuchEventApplier;
 
+  /**
+   * Returns whether applying an event with the given intent and record version may change the
+   * state. Events which don't can be skipped, e.g. on replay, without reading their value.
+   *
+   * @param intent the intent of the event
+   * @param recordVersion the record version of the event
+   * @return false if the event is known to not change the state, true otherwise
+   */
+  default boolean changesState(final Intent intent, final int recordVersion) {
+    return true;
+  }
+
   /** Thrown when no event applier is found for a given intent and record version. */
   abstract sealed class NoSuchEventApplier extends RuntimeException {
     public NoSuchEventApplier(final String message) {
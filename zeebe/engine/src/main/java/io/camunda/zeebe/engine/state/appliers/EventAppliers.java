@@ -583,6 +583,13 @@ public final class EventAppliers implements EventApplier {
         .orElse(-1);
   }
 
+  @Override
+  public boolean changesState(final Intent intent, final int recordVersion) {
+    final var applierForIntent = mapping.get(intent);
+    // unknown appliers are reported when the event is applied
+    return applierForIntent == null || applierForIntent.get(recordVersion) != NOOP_EVENT_APPLIER;
+  }
+
   @Override
   public void applyState(
       final long key, final Intent intent, final RecordValue value, final int recordVersion)
@@ -12,6 +12,7 @@ import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 
 public interface JobState {
@@ -42,6 +43,15 @@ public interface JobState {
       final List<String> tenantIds,
       BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * Visits each distinct job type which has at least one activatable job, regardless of the tenant.
+   * The cost is proportional to the number of distinct job types, not to the number of jobs.
+   *
+   * @param callback called with the job type; the buffer is only valid during the call. Returning
+   *     {@code false} stops the iteration.
+   */
+  void forEachActivatableJobType(Predicate<DirectBuffer> callback);
+
   JobRecord getJob(long key);
 
   JobRecord getJob(final long key, final AuthorizedTenants authorizedTenantIds);
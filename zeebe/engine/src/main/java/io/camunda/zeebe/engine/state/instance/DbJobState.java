@@ -24,12 +24,15 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableReference;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
@@ -422,6 +425,34 @@ public final class DbJobState implements JobState, MutableJobState {
         }));
   }
 
+  @Override
+  public void forEachActivatableJobType(final Predicate<DirectBuffer> callback) {
+    final var nextJobType = new MutableReference<DirectBuffer>();
+    DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>> startAtKey = null;
+
+    // skip scan: seek to the first entry of the next type instead of visiting every job
+    do {
+      nextJobType.set(null);
+      activatableColumnFamily.whileTrue(
+          startAtKey,
+          (key, value) -> {
+            nextJobType.set(BufferUtil.cloneBuffer(key.wrappedKey().first().getBuffer()));
+            return false;
+          });
+
+      final DirectBuffer jobType = nextJobType.get();
+      if (jobType == null || !callback.test(jobType)) {
+        return;
+      }
+
+      // the largest possible key of this type; the tenant is a suffix, so it sorts after the job
+      jobTypeKey.wrapBuffer(jobType);
+      jobKey.wrapLong(Long.MAX_VALUE);
+      tenantIdKey.wrapString("");
+      startAtKey = tenantAwareTypeJobKey;
+    } while (true);
+  }
+
   @Override
   public JobRecord getJob(final long key) {
     jobKey.wrapLong(key);
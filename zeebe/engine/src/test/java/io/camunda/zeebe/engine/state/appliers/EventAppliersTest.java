@@ -98,6 +98,27 @@ public class EventAppliersTest {
     Mockito.verify(anotherMockedApplier).applyState(anyLong(), any());
   }
 
+  @Test
+  void shouldNotChangeStateForNoopApplier() {
+    // given
+    final var intent = mock(Intent.class);
+    when(intent.isEvent()).thenReturn(true);
+    eventAppliers.register(intent, 1, mockedApplier);
+    eventAppliers.register(intent, 2, EventAppliers.NOOP_EVENT_APPLIER);
+
+    // when - then
+    assertThat(eventAppliers.changesState(intent, 1)).isTrue();
+    assertThat(eventAppliers.changesState(intent, 2)).isFalse();
+  }
+
+  @Test
+  void shouldChangeStateForUnregisteredApplier() {
+    // given no registered appliers
+
+    // when - then
+    assertThat(eventAppliers.changesState(Intent.UNKNOWN, 1)).isTrue();
+  }
+
   @Test
   void shouldGetLatestVersionOfOnlyRegisteredVersion() {
     // given
@@ -770,6 +770,42 @@ public final class JobStateTest {
     refuteListedAsTimedOut(key, jobRecord.getDeadline() + 1);
   }
 
+  @Test
+  public void shouldVisitEachActivatableJobTypeOnce() {
+    // given
+    jobState.create(1L, newJobRecord().setType("a"));
+    jobState.create(2L, newJobRecord().setType("a"));
+    jobState.create(3L, newJobRecord("tenant").setType("a"));
+    jobState.create(4L, newJobRecord().setType("bb"));
+    createAndActivateJobRecord(5L, newJobRecord().setType("c"));
+    jobState.create(6L, newJobRecord().setType("d"));
+
+    // when
+    final List<String> jobTypes = new ArrayList<>();
+    jobState.forEachActivatableJobType(type -> jobTypes.add(BufferUtil.bufferAsString(type)));
+
+    // then
+    assertThat(jobTypes).containsExactlyInAnyOrder("a", "bb", "d");
+  }
+
+  @Test
+  public void shouldStopVisitingActivatableJobTypes() {
+    // given
+    jobState.create(1L, newJobRecord().setType("a"));
+    jobState.create(2L, newJobRecord().setType("b"));
+
+    // when
+    final List<String> jobTypes = new ArrayList<>();
+    jobState.forEachActivatableJobType(
+        type -> {
+          jobTypes.add(BufferUtil.bufferAsString(type));
+          return false;
+        });
+
+    // then
+    assertThat(jobTypes).hasSize(1);
+  }
+
   private void createAndActivateJobRecord(final long key, final JobRecord record) {
     jobState.create(key, record);
     jobState.activate(key, record);
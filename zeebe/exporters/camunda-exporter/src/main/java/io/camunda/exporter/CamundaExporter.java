@@ -33,10 +33,12 @@ import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.exporter.schema.SchemaManager;
 import io.camunda.exporter.schema.SearchEngineClient;
+import io.camunda.exporter.store.AsyncBulkExecutor;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.store.ExporterBatchWriter;
 import io.camunda.exporter.tasks.BackgroundTaskManager;
 import io.camunda.exporter.tasks.BackgroundTaskManagerFactory;
+import io.camunda.exporter.utils.AdaptiveSize;
 import io.camunda.webapps.schema.descriptors.operate.index.ImportPositionIndex;
 import io.camunda.webapps.schema.descriptors.tasklist.index.TasklistImportPositionIndex;
 import io.camunda.zeebe.exporter.api.Exporter;
@@ -70,6 +72,9 @@ public class CamundaExporter implements Exporter {
   private boolean importersCompleted = false;
   private SearchEngineClient searchEngineClient;
   private int partitionId;
+  private AdaptiveSize bulkSize;
+  // null if bulks are executed synchronously on the exporter thread
+  private AsyncBulkExecutor asyncBulkExecutor;
 
   public CamundaExporter() {
     // the metadata will be initialized on open
@@ -98,6 +103,9 @@ public class CamundaExporter implements Exporter {
       metadata = new ExporterMetadata(clientAdapter.objectMapper());
     }
     partitionId = context.getPartitionId();
+    bulkSize =
+        new AdaptiveSize(
+            configuration.getBulk().getSize(), configuration.getBulk().getTargetDuration());
     provider.init(
         configuration,
         clientAdapter.getExporterEntityCacheProvider(),
@@ -133,6 +141,11 @@ public class CamundaExporter implements Exporter {
     schemaManager.startup();
 
     writer = createBatchWriter();
+    if (configuration.getBulk().getMaxInFlight() > 0) {
+      asyncBulkExecutor =
+          new AsyncBulkExecutor(
+              partitionId, configuration.getBulk().getMaxInFlight(), bulkSize, metrics);
+    }
 
     checkImportersCompletedAndReschedule();
     controller.readMetadata().ifPresent(metadata::deserialize);
@@ -145,10 +158,19 @@ public class CamundaExporter implements Exporter {
   public void close() {
     provider.close();
 
+    if (asyncBulkExecutor != null) {
+      asyncBulkExecutor.close();
+    }
+
     if (writer != null) {
       try {
-        flush();
-        updateLastExportedPosition(lastPosition);
+        if (asyncBulkExecutor == null || asyncBulkExecutor.isIdle()) {
+          flush();
+          updateLastExportedPosition(lastPosition);
+        } else {
+          LOG.warn(
+              "Not all bulk requests were executed before closing exporter, the records after the last acknowledged position will be exported again.");
+        }
       } catch (final Exception e) {
         LOG.warn("Failed to flush records before closing exporter.", e);
       }
@@ -200,6 +222,11 @@ public class CamundaExporter implements Exporter {
 
     lastPosition = record.getPosition();
 
+    if (asyncBulkExecutor != null) {
+      flushAsyncIfNecessary(record);
+      return;
+    }
+
     if (shouldFlush()) {
       try (final var ignored = metrics.measureFlushDuration()) {
         flush();
@@ -243,7 +270,63 @@ public class CamundaExporter implements Exporter {
   }
 
   private boolean shouldFlush() {
-    return writer.getBatchSize() >= configuration.getBulk().getSize();
+    return writer.getBatchSize() >= bulkSize.get();
+  }
+
+  private void flushAsyncIfNecessary(final Record<?> record) {
+    asyncBulkExecutor.acknowledgeCompleted();
+    if (!shouldFlush() || tryFlushAsync()) {
+      return;
+    }
+
+    // all bulks are in flight; keep collecting up to the configured bulk size, then apply
+    // backpressure by letting the record be exported again
+    final var maxCachedRecords = configuration.getBulk().getSize();
+    if (writer.getBatchSize() >= maxCachedRecords) {
+      final var message =
+          String.format(
+              "Reached the max bulk size amount of cached records [%d] while waiting for bulk requests in flight, retrying export for record at position [%s]",
+              maxCachedRecords, record.getPosition());
+      LOG.debug(message);
+      throw new ExporterException(message);
+    }
+  }
+
+  /**
+   * Submits the cached entities as a bulk request, which is acknowledged together with the current
+   * position once it and all previous bulks are executed.
+   *
+   * @return false if no bulk could be submitted, because too many are in flight already
+   */
+  private boolean tryFlushAsync() {
+    if (!asyncBulkExecutor.hasCapacity()) {
+      return false;
+    }
+
+    final var position = lastPosition;
+    if (writer.getBatchSize() == 0) {
+      if (asyncBulkExecutor.isIdle()) {
+        updateLastExportedPosition(position);
+      }
+      return true;
+    }
+
+    try {
+      metrics.recordBulkSize(writer.getBatchSize());
+      final BatchRequest batchRequest = clientAdapter.createBatchRequest();
+      final int documents = writer.drainTo(batchRequest);
+      // the metadata is changed on the exporter thread, so it is serialized upfront
+      final var serializedMetadata = metadata.serialize();
+      asyncBulkExecutor.submit(
+          batchRequest,
+          writer.getCustomErrorHandlers(),
+          documents,
+          () -> controller.updateLastExportedRecordPosition(position, serializedMetadata));
+      metrics.stopFlushLatencyMeasurement();
+      return true;
+    } catch (final PersistenceException ex) {
+      throw new ExporterException(ex.getMessage(), ex);
+    }
   }
 
   private ExporterBatchWriter createBatchWriter() {
@@ -260,8 +343,13 @@ public class CamundaExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition(lastPosition);
+      if (asyncBulkExecutor != null) {
+        asyncBulkExecutor.acknowledgeCompleted();
+        tryFlushAsync();
+      } else {
+        flush();
+        updateLastExportedPosition(lastPosition);
+      }
     } catch (final Exception e) {
       LOG.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -296,12 +384,20 @@ public class CamundaExporter implements Exporter {
   }
 
   private void flush() {
+    final var batchSize = writer.getBatchSize();
+    final long startNanos = System.nanoTime();
     try {
-      metrics.recordBulkSize(writer.getBatchSize());
+      metrics.recordBulkSize(batchSize);
       final BatchRequest batchRequest = clientAdapter.createBatchRequest();
       writer.flush(batchRequest);
 
+      if (batchSize > 0) {
+        bulkSize.onCompleted(Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        metrics.recordBulkSizeLimit(bulkSize.get());
+      }
     } catch (final PersistenceException ex) {
+      bulkSize.onFailed();
+      metrics.recordBulkSizeLimit(bulkSize.get());
       throw new ExporterException(ex.getMessage(), ex);
     }
   }
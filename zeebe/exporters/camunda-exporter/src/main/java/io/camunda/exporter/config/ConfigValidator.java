@@ -106,6 +106,33 @@ public final class ConfigValidator {
               + delayBetweenRuns);
     }
 
+    final int maxBatchesInFlight = configuration.getArchiver().getMaxBatchesInFlight();
+    if (maxBatchesInFlight < 1) {
+      throw new ExporterException(
+          "CamundaExporter archiver.maxBatchesInFlight must be >= 1. Current value: "
+              + maxBatchesInFlight);
+    }
+
+    final int targetBatchDuration = configuration.getArchiver().getTargetBatchDuration();
+    if (targetBatchDuration < 0) {
+      throw new ExporterException(
+          "CamundaExporter archiver.targetBatchDuration must be >= 0. Current value: "
+              + targetBatchDuration);
+    }
+
+    final int bulkMaxInFlight = configuration.getBulk().getMaxInFlight();
+    if (bulkMaxInFlight < 0) {
+      throw new ExporterException(
+          "CamundaExporter bulk.maxInFlight must be >= 0. Current value: " + bulkMaxInFlight);
+    }
+
+    final int bulkTargetDuration = configuration.getBulk().getTargetDuration();
+    if (bulkTargetDuration < 0) {
+      throw new ExporterException(
+          "CamundaExporter bulk.targetDuration must be >= 0. Current value: "
+              + bulkTargetDuration);
+    }
+
     final int processCacheMaxCacheSize = configuration.getProcessCache().getMaxCacheSize();
     if (processCacheMaxCacheSize < 1) {
       throw new ExporterException(
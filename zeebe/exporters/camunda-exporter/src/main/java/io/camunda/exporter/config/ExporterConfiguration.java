@@ -267,6 +267,10 @@ public class ExporterConfiguration {
     private int delay = 5;
     // bulk size before flush
     private int size = 1_000;
+    // number of bulks executed asynchronously at once; 0 executes them on the exporter thread
+    private int maxInFlight = 0;
+    // target duration of a bulk request in milliseconds; 0 disables adapting the bulk size
+    private int targetDuration = 0;
 
     public int getDelay() {
       return delay;
@@ -284,9 +288,34 @@ public class ExporterConfiguration {
       this.size = size;
     }
 
+    public int getMaxInFlight() {
+      return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+      this.maxInFlight = maxInFlight;
+    }
+
+    public int getTargetDuration() {
+      return targetDuration;
+    }
+
+    public void setTargetDuration(final int targetDuration) {
+      this.targetDuration = targetDuration;
+    }
+
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", maxInFlight="
+          + maxInFlight
+          + ", targetDuration="
+          + targetDuration
+          + '}';
     }
   }
 
@@ -298,6 +327,8 @@ public class ExporterConfiguration {
     private String waitPeriodBeforeArchiving = "1h";
     private int delayBetweenRuns = 2000;
     private int maxDelayBetweenRuns = 60000;
+    private int maxBatchesInFlight = 1;
+    private int targetBatchDuration = 10000;
 
     public boolean isRolloverEnabled() {
       return rolloverEnabled;
@@ -359,6 +390,28 @@ public class ExporterConfiguration {
       this.maxDelayBetweenRuns = maxDelayBetweenRuns;
     }
 
+    /** How many batches of process instances may be archived concurrently. */
+    public int getMaxBatchesInFlight() {
+      return maxBatchesInFlight;
+    }
+
+    public void setMaxBatchesInFlight(final int maxBatchesInFlight) {
+      this.maxBatchesInFlight = maxBatchesInFlight;
+    }
+
+    /**
+     * The duration in milliseconds that archiving a single batch of process instances should take.
+     * The batch size is reduced when batches take longer, and grows back up to the {@link
+     * #getRolloverBatchSize() rollover batch size} otherwise. Zero disables the adaptive sizing.
+     */
+    public int getTargetBatchDuration() {
+      return targetBatchDuration;
+    }
+
+    public void setTargetBatchDuration(final int targetBatchDuration) {
+      this.targetBatchDuration = targetBatchDuration;
+    }
+
     @Override
     public String toString() {
       return "ArchiverConfiguration{"
@@ -379,6 +432,10 @@ public class ExporterConfiguration {
           + delayBetweenRuns
           + ", maxDelayBetweenRuns="
           + maxDelayBetweenRuns
+          + ", maxBatchesInFlight="
+          + maxBatchesInFlight
+          + ", targetBatchDuration="
+          + targetBatchDuration
           + '}';
     }
   }
@@ -11,17 +11,24 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Timer.ResourceSample;
 import io.micrometer.core.instrument.Timer.Sample;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class CamundaExporterMetrics {
   private static final String NAMESPACE = "zeebe.camunda.exporter";
 
   private final MeterRegistry meterRegistry;
   private final AtomicInteger bulkMemorySize = new AtomicInteger(0);
+  private final AtomicLong processInstancesArchivingLag = new AtomicLong(0);
+  private final AtomicInteger bulksInFlight = new AtomicInteger(0);
+  private final AtomicLong bulkDocumentsInFlight = new AtomicLong(0);
+  private final AtomicInteger bulkSizeLimit = new AtomicInteger(0);
   private final Timer flushLatency;
   private final Counter processInstancesArchived;
   private final Counter batchOperationsArchived;
@@ -44,6 +51,23 @@ public class CamundaExporterMetrics {
     archiverSearchTimer = meterRegistry.timer(meterName("archiver.query"));
     archiverDeleteTimer = meterRegistry.timer(meterName("archiver.delete.query"));
     archiverReindexTimer = meterRegistry.timer(meterName("archiver.reindex.query"));
+    TimeGauge.builder(
+            meterName("archiver.process.instances.lag"),
+            processInstancesArchivingLag,
+            TimeUnit.MILLISECONDS,
+            AtomicLong::get)
+        .description(
+            "Time since the oldest finished process instance which is due for archiving, but not archived yet, was finished")
+        .register(meterRegistry);
+    Gauge.builder(meterName("bulk.inflight"), bulksInFlight, AtomicInteger::get)
+        .description("Number of bulk requests which are submitted, but not yet acknowledged")
+        .register(meterRegistry);
+    Gauge.builder(meterName("bulk.inflight.documents"), bulkDocumentsInFlight, AtomicLong::get)
+        .description("Number of documents in bulk requests which are not yet acknowledged")
+        .register(meterRegistry);
+    Gauge.builder(meterName("bulk.size.limit"), bulkSizeLimit, AtomicInteger::get)
+        .description("Number of documents after which the exporter flushes the current bulk")
+        .register(meterRegistry);
   }
 
   public ResourceSample measureFlushDuration() {
@@ -73,6 +97,15 @@ public class CamundaExporterMetrics {
     this.bulkMemorySize.set(bulkMemorySize);
   }
 
+  public void recordBulksInFlight(final int bulks, final long documents) {
+    bulksInFlight.set(bulks);
+    bulkDocumentsInFlight.set(documents);
+  }
+
+  public void recordBulkSizeLimit(final int limit) {
+    bulkSizeLimit.set(limit);
+  }
+
   public void recordFailedFlush() {
     Counter.builder(meterName("failed.flush"))
         .description("Number of failed flush operations")
@@ -94,6 +127,10 @@ public class CamundaExporterMetrics {
     processInstancesArchived.increment(count);
   }
 
+  public void recordProcessInstancesArchivingLag(final long lagMs) {
+    processInstancesArchivingLag.set(lagMs);
+  }
+
   public void batchOperationsArchived(final int count) {
     batchOperationsArchived.increment(count);
   }
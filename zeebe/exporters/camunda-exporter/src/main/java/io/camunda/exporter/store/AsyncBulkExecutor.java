@@ -0,0 +1,188 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import io.camunda.exporter.errorhandling.Error;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.exporter.utils.AdaptiveSize;
+import io.camunda.zeebe.util.VisibleForTesting;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes bulk requests on a background thread, such that the exporter can keep collecting
+ * records while the search engine processes a bulk.
+ *
+ * <p>Bulks are executed one after another in the order they were submitted, as a later bulk may
+ * contain a newer version of a document of an earlier bulk. A failed bulk is retried with an
+ * exponential backoff until it succeeds, which holds back all later bulks. Bulks are acknowledged
+ * in the same order via {@link #acknowledgeCompleted()}, so the exporter position never advances
+ * past a record which is not yet persisted.
+ *
+ * <p>Except for the execution of the bulks itself, all methods must be called from the exporter
+ * thread.
+ */
+public final class AsyncBulkExecutor implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncBulkExecutor.class);
+  private static final Duration MIN_RETRY_DELAY = Duration.ofMillis(100);
+  private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(10);
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+  private final ExecutorService executor;
+  private final int maxInFlight;
+  private final AdaptiveSize bulkSize;
+  private final CamundaExporterMetrics metrics;
+  private final Queue<InFlightBulk> inFlight = new ArrayDeque<>();
+  private long documentsInFlight;
+  private volatile boolean closed;
+
+  public AsyncBulkExecutor(
+      final int partitionId,
+      final int maxInFlight,
+      final AdaptiveSize bulkSize,
+      final CamundaExporterMetrics metrics) {
+    this(
+        Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("camunda-exporter-bulk-" + partitionId).daemon().factory()),
+        maxInFlight,
+        bulkSize,
+        metrics);
+  }
+
+  @VisibleForTesting
+  AsyncBulkExecutor(
+      final ExecutorService executor,
+      final int maxInFlight,
+      final AdaptiveSize bulkSize,
+      final CamundaExporterMetrics metrics) {
+    this.executor = executor;
+    this.maxInFlight = maxInFlight;
+    this.bulkSize = bulkSize;
+    this.metrics = metrics;
+  }
+
+  /** @return true if another bulk can be submitted */
+  public boolean hasCapacity() {
+    return inFlight.size() < maxInFlight;
+  }
+
+  /** @return true if all submitted bulks were executed and acknowledged */
+  public boolean isIdle() {
+    return inFlight.isEmpty();
+  }
+
+  /**
+   * Submits the given bulk for execution.
+   *
+   * @param batchRequest the bulk to execute
+   * @param customErrorHandlers the error handlers to pass to {@link BatchRequest#execute}
+   * @param documents the number of documents in the bulk, for metrics only
+   * @param acknowledgement run on the exporter thread by {@link #acknowledgeCompleted()} once this
+   *     bulk and all bulks submitted before it were executed
+   */
+  public void submit(
+      final BatchRequest batchRequest,
+      final BiConsumer<String, Error> customErrorHandlers,
+      final int documents,
+      final Runnable acknowledgement) {
+    final var future =
+        CompletableFuture.runAsync(
+            () -> executeWithRetries(batchRequest, customErrorHandlers), executor);
+    inFlight.add(new InFlightBulk(future, documents, acknowledgement));
+    documentsInFlight += documents;
+    metrics.recordBulksInFlight(inFlight.size(), documentsInFlight);
+  }
+
+  /**
+   * Runs the acknowledgements of all executed bulks, in the order the bulks were submitted. Stops
+   * at the first bulk which is not executed yet.
+   */
+  public void acknowledgeCompleted() {
+    while (!inFlight.isEmpty()) {
+      final var bulk = inFlight.peek();
+      if (!bulk.future().isDone() || bulk.future().isCompletedExceptionally()) {
+        // a bulk only fails when the executor is closed; it and all later bulks are never
+        // acknowledged, such that their records are exported again
+        return;
+      }
+
+      inFlight.remove();
+      documentsInFlight -= bulk.documents();
+      metrics.recordBulksInFlight(inFlight.size(), documentsInFlight);
+      bulk.acknowledgement().run();
+    }
+  }
+
+  /**
+   * Waits a bounded time for the submitted bulks to be executed, and acknowledges them. Bulks which
+   * are not executed until then are abandoned.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        LOG.warn(
+            "Abandoning {} bulk requests which were not executed within {}",
+            inFlight.size(),
+            CLOSE_TIMEOUT);
+        executor.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executor.shutdownNow();
+    }
+
+    acknowledgeCompleted();
+  }
+
+  private void executeWithRetries(
+      final BatchRequest batchRequest, final BiConsumer<String, Error> customErrorHandlers) {
+    var retryDelay = MIN_RETRY_DELAY;
+    while (true) {
+      final long startNanos = System.nanoTime();
+      try (final var ignored = metrics.measureFlushDuration()) {
+        batchRequest.execute(customErrorHandlers);
+        bulkSize.onCompleted(Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        metrics.recordBulkSizeLimit(bulkSize.get());
+        return;
+      } catch (final RuntimeException e) {
+        metrics.recordFailedFlush();
+        bulkSize.onFailed();
+        metrics.recordBulkSizeLimit(bulkSize.get());
+        if (closed) {
+          throw e;
+        }
+
+        LOG.warn("Failed to execute bulk request, retrying in {}", retryDelay, e);
+        try {
+          Thread.sleep(retryDelay);
+        } catch (final InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+        retryDelay = retryDelay.multipliedBy(2);
+        if (retryDelay.compareTo(MAX_RETRY_DELAY) > 0) {
+          retryDelay = MAX_RETRY_DELAY;
+        }
+      }
+    }
+  }
+
+  private record InFlightBulk(
+      CompletableFuture<Void> future, int documents, Runnable acknowledgement) {}
+}
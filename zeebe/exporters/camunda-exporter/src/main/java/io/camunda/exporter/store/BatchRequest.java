@@ -60,7 +60,8 @@ public interface BatchRequest {
   BatchRequest deleteWithRouting(String index, String id, String routing);
 
   /**
-   * Applies all updates in this batch.
+   * Applies all updates in this batch. If it fails, it can be called again to retry the same
+   * updates.
    *
    * @param customErrorHandlers possible custom error handlers to be used if certain indices threw
    *     persistence errors. The first parameter is the index name and the second is the error
@@ -33,6 +33,8 @@ public class ElasticsearchBatchRequest implements BatchRequest {
   private final ElasticsearchClient esClient;
   private final BulkRequest.Builder bulkRequestBuilder;
   private final ElasticsearchScriptBuilder scriptBuilder;
+  // built on the first execution, such that a failed bulk can be executed again
+  private BulkRequest bulkRequest;
 
   public ElasticsearchBatchRequest(
       final ElasticsearchClient esClient,
@@ -237,10 +239,12 @@ public class ElasticsearchBatchRequest implements BatchRequest {
   private void execute(
       final BiConsumer<String, Error> customErrorHandlers, final boolean shouldRefresh)
       throws PersistenceException {
-    if (shouldRefresh) {
-      bulkRequestBuilder.refresh(Refresh.True);
+    if (bulkRequest == null) {
+      if (shouldRefresh) {
+        bulkRequestBuilder.refresh(Refresh.True);
+      }
+      bulkRequest = bulkRequestBuilder.build();
     }
-    final BulkRequest bulkRequest = bulkRequestBuilder.build();
     if (bulkRequest.operations().isEmpty()) {
       return;
     }
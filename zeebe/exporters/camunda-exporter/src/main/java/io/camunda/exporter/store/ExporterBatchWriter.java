@@ -72,14 +72,31 @@ public class ExporterBatchWriter {
       return;
     }
 
+    addCachedEntitiesTo(batchRequest);
+    batchRequest.execute(customErrorHandlers);
+    reset();
+  }
+
+  /**
+   * Adds the cached entities to the given batch request without executing it, and resets the
+   * cache, such that the request can be executed while new records are collected.
+   *
+   * @return the number of entities added to the request
+   */
+  public int drainTo(final BatchRequest batchRequest) throws PersistenceException {
+    final int batchSize = cachedEntities.size();
+    addCachedEntitiesTo(batchRequest);
+    reset();
+    return batchSize;
+  }
+
+  private void addCachedEntitiesTo(final BatchRequest batchRequest) throws PersistenceException {
     for (final var entityAndHandler : cachedEntities.values()) {
       final ExporterEntity entity = entityAndHandler.entity();
       for (final var handler : entityAndHandler.handlers()) {
         handler.flush(entity, batchRequest);
       }
     }
-    batchRequest.execute(customErrorHandlers);
-    reset();
   }
 
   public void reset() {
@@ -90,6 +107,10 @@ public class ExporterBatchWriter {
     return cachedEntities.size();
   }
 
+  public BiConsumer<String, Error> getCustomErrorHandlers() {
+    return customErrorHandlers;
+  }
+
   public static class Builder {
     private ExporterBatchWriter writer;
 
@@ -33,6 +33,8 @@ public class OpensearchBatchRequest implements BatchRequest {
   private final OpenSearchClient osClient;
   private final BulkRequest.Builder bulkRequestBuilder;
   private final OpensearchScriptBuilder scriptBuilder;
+  // built on the first execution, such that a failed bulk can be executed again
+  private BulkRequest bulkRequest;
 
   public OpensearchBatchRequest(
       final OpenSearchClient osClient,
@@ -230,10 +232,12 @@ public class OpensearchBatchRequest implements BatchRequest {
   private void execute(
       final BiConsumer<String, Error> customErrorHandlers, final boolean shouldRefresh)
       throws PersistenceException {
-    if (shouldRefresh) {
-      bulkRequestBuilder.refresh(Refresh.True);
+    if (bulkRequest == null) {
+      if (shouldRefresh) {
+        bulkRequestBuilder.refresh(Refresh.True);
+      }
+      bulkRequest = bulkRequestBuilder.build();
     }
-    final BulkRequest bulkRequest = bulkRequestBuilder.build();
     processBulkRequest(bulkRequest, customErrorHandlers);
   }
 
@@ -28,6 +28,7 @@ import io.camunda.exporter.tasks.incident.ElasticsearchIncidentUpdateRepository;
 import io.camunda.exporter.tasks.incident.IncidentUpdateRepository;
 import io.camunda.exporter.tasks.incident.IncidentUpdateTask;
 import io.camunda.exporter.tasks.incident.OpenSearchIncidentUpdateRepository;
+import io.camunda.exporter.utils.AdaptiveSize;
 import io.camunda.search.connect.es.ElasticsearchConnector;
 import io.camunda.search.connect.os.OpensearchConnector;
 import io.camunda.webapps.schema.descriptors.operate.ProcessInstanceDependant;
@@ -150,6 +151,12 @@ public final class BackgroundTaskManagerFactory {
         .map(ProcessInstanceDependant.class::cast)
         .forEach(dependantTemplates::add);
 
+    final var archiverConfig = config.getArchiver();
+    // the rollover batch size stays the upper bound, as the search for the next batch cannot return
+    // more top hits than allowed by the index's max inner result window
+    final var batchSize =
+        new AdaptiveSize(
+            archiverConfig.getRolloverBatchSize(), archiverConfig.getTargetBatchDuration());
     return buildReschedulingArchiverTask(
         new ProcessInstancesArchiverJob(
             archiverRepository,
@@ -157,7 +164,10 @@ public final class BackgroundTaskManagerFactory {
             dependantTemplates,
             metrics,
             logger,
-            executor));
+            executor,
+            archiverConfig.getMaxBatchesInFlight(),
+            batchSize),
+        batchSize.minSize());
   }
 
   private ReschedulingTask buildBatchOperationArchiverJob() {
@@ -171,9 +181,14 @@ public final class BackgroundTaskManagerFactory {
   }
 
   private ReschedulingTask buildReschedulingArchiverTask(final BackgroundTask task) {
+    return buildReschedulingArchiverTask(task, config.getArchiver().getRolloverBatchSize());
+  }
+
+  private ReschedulingTask buildReschedulingArchiverTask(
+      final BackgroundTask task, final int minimumWorkCount) {
     return new ReschedulingTask(
         task,
-        config.getArchiver().getRolloverBatchSize(),
+        minimumWorkCount,
         config.getArchiver().getDelayBetweenRuns(),
         config.getArchiver().getMaxDelayBetweenRuns(),
         executor,
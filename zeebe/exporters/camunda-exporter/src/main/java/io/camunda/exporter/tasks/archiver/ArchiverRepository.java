@@ -7,13 +7,23 @@
  */
 package io.camunda.exporter.tasks.archiver;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 /** Placeholder interface for future abstracted access to the underlying storage (e.g. ES/OS). */
 public interface ArchiverRepository extends AutoCloseable {
-  CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch();
+
+  /**
+   * Returns the next batch of finished process instances to archive, taken from the oldest finish
+   * date bucket.
+   *
+   * @param batchSize the maximum number of process instances in the batch
+   * @param excludedIds the process instances to skip, e.g. because they're being archived already
+   */
+  CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final int batchSize, final Collection<String> excludedIds);
 
   CompletableFuture<ArchiveBatch> getBatchOperationsNextBatch();
 
@@ -46,7 +56,8 @@ public interface ArchiverRepository extends AutoCloseable {
   class NoopArchiverRepository implements ArchiverRepository {
 
     @Override
-    public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch() {
+    public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+        final int batchSize, final Collection<String> excludedIds) {
       return CompletableFuture.completedFuture(new ArchiveBatch("2024-01-01", List.of()));
     }
 
@@ -38,9 +38,12 @@ import io.camunda.exporter.tasks.util.ElasticsearchRepository;
 import io.camunda.webapps.schema.descriptors.AbstractIndexDescriptor;
 import io.camunda.webapps.schema.descriptors.operate.template.BatchOperationTemplate;
 import io.camunda.webapps.schema.descriptors.operate.template.ListViewTemplate;
+import io.camunda.zeebe.util.FunctionUtil;
 import io.micrometer.core.instrument.Timer;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
@@ -52,6 +55,7 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
   private static final String DATES_AGG = "datesAgg";
   private static final String INSTANCES_AGG = "instancesAgg";
   private static final String DATES_SORTED_AGG = "datesSortedAgg";
+  private static final String OLDEST_END_DATE_AGG = "oldestEndDateAgg";
   private static final String ALL_INDICES = "*";
   private static final String INDEX_WILDCARD = ".+-\\d+\\.\\d+\\.\\d+_.+$";
 
@@ -93,22 +97,27 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
   }
 
   @Override
-  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch() {
+  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final int batchSize, final Collection<String> excludedIds) {
     final var aggregation =
-        createFinishedEntityAggregation(ListViewTemplate.END_DATE, ListViewTemplate.ID);
-    final var searchRequest = createFinishedInstancesSearchRequest(aggregation);
+        createFinishedEntityAggregation(ListViewTemplate.END_DATE, ListViewTemplate.ID, batchSize);
+    final var searchRequest = createFinishedInstancesSearchRequest(aggregation, excludedIds);
 
     final var timer = Timer.start();
     return client
         .search(searchRequest, Object.class)
         .whenCompleteAsync((ignored, error) -> metrics.measureArchiverSearch(timer), executor)
+        .thenApplyAsync(FunctionUtil.peek(this::recordArchivingLag), executor)
         .thenApplyAsync(this::createArchiveBatch, executor);
   }
 
   @Override
   public CompletableFuture<ArchiveBatch> getBatchOperationsNextBatch() {
     final var aggregation =
-        createFinishedEntityAggregation(BatchOperationTemplate.END_DATE, BatchOperationTemplate.ID);
+        createFinishedEntityAggregation(
+            BatchOperationTemplate.END_DATE,
+            BatchOperationTemplate.ID,
+            config.getRolloverBatchSize());
     final var searchRequest = createFinishedBatchOperationsSearchRequest(aggregation);
 
     final var timer = Timer.start();
@@ -205,7 +214,8 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
     client._transport().close();
   }
 
-  private SearchRequest createFinishedInstancesSearchRequest(final Aggregation aggregation) {
+  private SearchRequest createFinishedInstancesSearchRequest(
+      final Aggregation aggregation, final Collection<String> excludedIds) {
     final var endDateQ =
         QueryBuilders.range(
             q ->
@@ -219,10 +229,37 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
     final var partitionQ =
         QueryBuilders.term(q -> q.field(ListViewTemplate.PARTITION_ID).value(partitionId));
     final var combinedQuery =
-        QueryBuilders.bool(q -> q.must(endDateQ, isProcessInstanceQ, partitionQ));
+        QueryBuilders.bool(
+            q -> {
+              q.must(endDateQ, isProcessInstanceQ, partitionQ);
+              if (!excludedIds.isEmpty()) {
+                q.mustNot(
+                    m ->
+                        m.terms(buildIdTermsQuery(ListViewTemplate.ID, List.copyOf(excludedIds))));
+              }
+              return q;
+            });
+    final var oldestEndDateAggregation =
+        AggregationBuilders.min(min -> min.field(ListViewTemplate.END_DATE));
 
     return createSearchRequest(
-        processInstanceIndex, combinedQuery, aggregation, ListViewTemplate.END_DATE);
+        processInstanceIndex,
+        combinedQuery,
+        Map.of(DATES_AGG, aggregation, OLDEST_END_DATE_AGG, oldestEndDateAggregation),
+        ListViewTemplate.END_DATE);
+  }
+
+  private void recordArchivingLag(final SearchResponse<?> search) {
+    final var aggregate = search.aggregations().get(OLDEST_END_DATE_AGG);
+    final Double oldestEndDate = aggregate == null ? null : aggregate.min().value();
+    if (oldestEndDate == null || !Double.isFinite(oldestEndDate)) {
+      // nothing left to archive
+      metrics.recordProcessInstancesArchivingLag(0);
+      return;
+    }
+
+    metrics.recordProcessInstancesArchivingLag(
+        Math.max(0, System.currentTimeMillis() - oldestEndDate.longValue()));
   }
 
   private CompletableFuture<Void> setIndexLifeCycleToMatchingIndices(
@@ -279,7 +316,8 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
         .orElseThrow();
   }
 
-  private Aggregation createFinishedEntityAggregation(final String endDate, final String id) {
+  private Aggregation createFinishedEntityAggregation(
+      final String endDate, final String id, final int batchSize) {
     final var dateAggregation =
         AggregationBuilders.dateHistogram()
             .field(endDate)
@@ -294,7 +332,7 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
             .build();
     final var instanceAggregation =
         AggregationBuilders.topHits()
-            .size(config.getRolloverBatchSize())
+            .size(batchSize)
             .sort(sort -> sort.field(b -> b.field(id).order(SortOrder.Asc)))
             .source(source -> source.filter(filter -> filter.includes(id)))
             .build();
@@ -313,18 +351,21 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
                     .lte(JsonData.of(config.getArchivingTimePoint())));
 
     return createSearchRequest(
-        batchOperationIndex, endDateQ, aggregation, BatchOperationTemplate.END_DATE);
+        batchOperationIndex,
+        endDateQ,
+        Map.of(DATES_AGG, aggregation),
+        BatchOperationTemplate.END_DATE);
   }
 
   private SearchRequest createSearchRequest(
       final String indexName,
       final Query filterQuery,
-      final Aggregation aggregation,
+      final Map<String, Aggregation> aggregations,
       final String sortField) {
     logger.trace(
-        "Finished entities for archiving request: \n{}\n and aggregation: \n{}",
+        "Finished entities for archiving request: \n{}\n and aggregations: \n{}",
         filterQuery.toString(),
-        aggregation.toString());
+        aggregations.toString());
 
     return new SearchRequest.Builder()
         .index(indexName)
@@ -333,7 +374,7 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
         .ignoreUnavailable(true)
         .source(source -> source.fetch(false))
         .query(query -> query.constantScore(q -> q.filter(filterQuery)))
-        .aggregations(DATES_AGG, aggregation)
+        .aggregations(aggregations)
         .sort(sort -> sort.field(field -> field.field(sortField).order(SortOrder.Asc)))
         .size(0)
         .build();
@@ -16,10 +16,13 @@ import io.camunda.webapps.schema.descriptors.AbstractIndexDescriptor;
 import io.camunda.webapps.schema.descriptors.operate.template.BatchOperationTemplate;
 import io.camunda.webapps.schema.descriptors.operate.template.ListViewTemplate;
 import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.util.FunctionUtil;
 import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -55,6 +58,7 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
   private static final String DATES_AGG = "datesAgg";
   private static final String INSTANCES_AGG = "instancesAgg";
   private static final String DATES_SORTED_AGG = "datesSortedAgg";
+  private static final String OLDEST_END_DATE_AGG = "oldestEndDateAgg";
   private static final Time REINDEX_SCROLL_TIMEOUT = Time.of(t -> t.time("30s"));
   private static final long AUTO_SLICES = 0; // see OS docs; 0 means auto
   private static final String INDEX_WILDCARD = ".+-\\d+\\.\\d+\\.\\d+_.+$";
@@ -94,21 +98,26 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
   }
 
   @Override
-  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch() {
+  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final int batchSize, final Collection<String> excludedIds) {
     final var aggregation =
-        createFinishedEntityAggregation(ListViewTemplate.END_DATE, ListViewTemplate.ID);
-    final var request = createFinishedInstancesSearchRequest(aggregation);
+        createFinishedEntityAggregation(ListViewTemplate.END_DATE, ListViewTemplate.ID, batchSize);
+    final var request = createFinishedInstancesSearchRequest(aggregation, excludedIds);
 
     final var timer = Timer.start();
     return sendRequestAsync(() -> client.search(request, Object.class))
         .whenCompleteAsync((ignored, error) -> metrics.measureArchiverSearch(timer), executor)
+        .thenApplyAsync(FunctionUtil.peek(this::recordArchivingLag), executor)
         .thenApplyAsync(this::createArchiveBatch, executor);
   }
 
   @Override
   public CompletableFuture<ArchiveBatch> getBatchOperationsNextBatch() {
     final var aggregation =
-        createFinishedEntityAggregation(BatchOperationTemplate.END_DATE, BatchOperationTemplate.ID);
+        createFinishedEntityAggregation(
+            BatchOperationTemplate.END_DATE,
+            BatchOperationTemplate.ID,
+            config.getRolloverBatchSize());
     final var searchRequest = createFinishedBatchOperationsSearchRequest(aggregation);
 
     final var timer = Timer.start();
@@ -246,7 +255,10 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
             .build();
 
     return createSearchRequest(
-        batchOperationIndex, endDateQ.toQuery(), aggregation, BatchOperationTemplate.END_DATE);
+        batchOperationIndex,
+        endDateQ.toQuery(),
+        Map.of(DATES_AGG, aggregation),
+        BatchOperationTemplate.END_DATE);
   }
 
   private ArchiveBatch createArchiveBatch(final SearchResponse<?> search) {
@@ -294,7 +306,8 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
     }
   }
 
-  private SearchRequest createFinishedInstancesSearchRequest(final Aggregation aggregation) {
+  private SearchRequest createFinishedInstancesSearchRequest(
+      final Aggregation aggregation, final Collection<String> excludedIds) {
     final var endDateQ =
         QueryBuilders.range()
             .field(ListViewTemplate.END_DATE)
@@ -312,14 +325,40 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
             .build();
     final var combinedQuery =
         QueryBuilders.bool()
-            .must(endDateQ.toQuery(), isProcessInstanceQ.toQuery(), partitionQ.toQuery())
-            .build();
+            .must(endDateQ.toQuery(), isProcessInstanceQ.toQuery(), partitionQ.toQuery());
+    if (!excludedIds.isEmpty()) {
+      combinedQuery.mustNot(
+          buildIdTermsQuery(ListViewTemplate.ID, List.copyOf(excludedIds)).toQuery());
+    }
+    final var oldestEndDateAggregation =
+        AggregationBuilders.min().field(ListViewTemplate.END_DATE).build();
 
     return createSearchRequest(
-        processInstanceIndex, combinedQuery.toQuery(), aggregation, ListViewTemplate.END_DATE);
+        processInstanceIndex,
+        combinedQuery.build().toQuery(),
+        Map.of(
+            DATES_AGG,
+            aggregation,
+            OLDEST_END_DATE_AGG,
+            Aggregation.of(b -> b.min(oldestEndDateAggregation))),
+        ListViewTemplate.END_DATE);
+  }
+
+  private void recordArchivingLag(final SearchResponse<?> search) {
+    final var aggregate = search.aggregations().get(OLDEST_END_DATE_AGG);
+    final Double oldestEndDate = aggregate == null ? null : aggregate.min().value();
+    if (oldestEndDate == null || !Double.isFinite(oldestEndDate)) {
+      // nothing left to archive
+      metrics.recordProcessInstancesArchivingLag(0);
+      return;
+    }
+
+    metrics.recordProcessInstancesArchivingLag(
+        Math.max(0, System.currentTimeMillis() - oldestEndDate.longValue()));
   }
 
-  private Aggregation createFinishedEntityAggregation(final String endDate, final String id) {
+  private Aggregation createFinishedEntityAggregation(
+      final String endDate, final String id, final int batchSize) {
     final var dateAggregation =
         AggregationBuilders.dateHistogram()
             .field(endDate)
@@ -334,7 +373,7 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
             .build();
     final var instanceAggregation =
         AggregationBuilders.topHits()
-            .size(config.getRolloverBatchSize())
+            .size(batchSize)
             .sort(sort -> sort.field(b -> b.field(id).order(SortOrder.Asc)))
             .source(source -> source.filter(filter -> filter.includes(id)))
             .build();
@@ -348,12 +387,12 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
   private SearchRequest createSearchRequest(
       final String indexName,
       final Query filterQuery,
-      final Aggregation aggregation,
+      final Map<String, Aggregation> aggregations,
       final String sortField) {
     logger.trace(
-        "Finished entities for archiving request: \n{}\n and aggregation: \n{}",
+        "Finished entities for archiving request: \n{}\n and aggregations: \n{}",
         filterQuery.toString(),
-        aggregation.toString());
+        aggregations.toString());
 
     return new SearchRequest.Builder()
         .index(indexName)
@@ -362,7 +401,7 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
         .ignoreUnavailable(true)
         .source(source -> source.fetch(false))
         .query(query -> query.constantScore(q -> q.filter(filterQuery)))
-        .aggregations(DATES_AGG, aggregation)
+        .aggregations(aggregations)
         .sort(sort -> sort.field(field -> field.field(sortField).order(SortOrder.Asc)))
         .size(0)
         .build();
@@ -8,15 +8,26 @@
 package io.camunda.exporter.tasks.archiver;
 
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.exporter.utils.AdaptiveSize;
 import io.camunda.webapps.schema.descriptors.operate.ProcessInstanceDependant;
 import io.camunda.webapps.schema.descriptors.operate.template.ListViewTemplate;
 import io.camunda.zeebe.util.FunctionUtil;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 
+/**
+ * Archives finished process instances and their dependants in batches. Up to {@code
+ * maxBatchesInFlight} batches are archived concurrently: as long as there is room in the pipeline,
+ * the job reports a found batch right away so that the next one is searched for while the previous
+ * ones are still being moved. Process instances of in-flight batches are excluded from the search,
+ * so they are never archived twice.
+ */
 public class ProcessInstancesArchiverJob implements ArchiverJob {
 
   private final ArchiverRepository repository;
@@ -25,6 +36,11 @@ public class ProcessInstancesArchiverJob implements ArchiverJob {
   private final CamundaExporterMetrics metrics;
   private final Logger logger;
   private final Executor executor;
+  private final int maxBatchesInFlight;
+  private final AdaptiveSize batchSize;
+
+  private final Set<String> inFlightIds = ConcurrentHashMap.newKeySet();
+  private final Set<CompletableFuture<Integer>> inFlightBatches = ConcurrentHashMap.newKeySet();
 
   public ProcessInstancesArchiverJob(
       final ArchiverRepository repository,
@@ -32,34 +48,84 @@ public class ProcessInstancesArchiverJob implements ArchiverJob {
       final List<ProcessInstanceDependant> dependants,
       final CamundaExporterMetrics metrics,
       final Logger logger,
-      final Executor executor) {
+      final Executor executor,
+      final int maxBatchesInFlight,
+      final AdaptiveSize batchSize) {
     this.repository = repository;
     this.template = template;
     this.dependants = dependants;
     this.metrics = metrics;
     this.logger = logger;
     this.executor = executor;
+    this.maxBatchesInFlight = maxBatchesInFlight;
+    this.batchSize = batchSize;
   }
 
   @Override
   public CompletionStage<Integer> archiveNextBatch() {
-    return repository.getProcessInstancesNextBatch().thenComposeAsync(this::archiveBatch, executor);
+    return repository
+        .getProcessInstancesNextBatch(batchSize.get(), Set.copyOf(inFlightIds))
+        .thenComposeAsync(this::startBatch, executor);
   }
 
-  private CompletionStage<Integer> archiveBatch(final ArchiveBatch batch) {
-    if (batch != null && !(batch.ids() == null || batch.ids().isEmpty())) {
-      logger.trace("Following process instances are found for archiving: {}", batch);
+  private CompletionStage<Integer> startBatch(final ArchiveBatch batch) {
+    if (batch == null || batch.ids() == null || batch.ids().isEmpty()) {
+      return awaitInFlightBatches();
+    }
+
+    logger.trace("Following process instances are found for archiving: {}", batch);
+    inFlightIds.addAll(batch.ids());
+    final var archived = archiveBatch(batch).toCompletableFuture();
+    inFlightBatches.add(archived);
+
+    // with a full pipeline, wait for the latest batch before searching again; otherwise report the
+    // batch right away, and only log its errors since no one else will see them
+    final boolean isAwaited = inFlightBatches.size() >= maxBatchesInFlight;
+    archived.whenCompleteAsync(
+        (count, error) -> {
+          inFlightBatches.remove(archived);
+          batch.ids().forEach(inFlightIds::remove);
+          if (error != null && !isAwaited) {
+            logger.warn(
+                "Failed to archive process instances {}; they will be retried", batch.ids(), error);
+          }
+        },
+        executor);
 
-      return moveDependants(batch.finishDate(), batch.ids())
-          .thenComposeAsync(
-              count -> moveProcessInstances(batch.finishDate(), batch.ids()), executor)
-          // we want to make sure the rescheduling happens after we update the metrics, so we peek
-          // instead of creating an additional pipeline on the interim future
-          .thenApplyAsync(FunctionUtil.peek(metrics::recordProcessInstancesArchived), executor);
+    return isAwaited ? archived : CompletableFuture.completedFuture(batch.ids().size());
+  }
+
+  private CompletionStage<Integer> awaitInFlightBatches() {
+    if (inFlightBatches.isEmpty()) {
+      logger.trace("Nothing to archive");
+      return CompletableFuture.completedFuture(0);
     }
 
-    logger.trace("Nothing to archive");
-    return CompletableFuture.completedFuture(0);
+    // everything left to archive is already in flight; wait for it before searching again, and
+    // report it as work done, as more instances may have finished in the meantime
+    final var pending = inFlightIds.size();
+    return CompletableFuture.allOf(inFlightBatches.toArray(CompletableFuture[]::new))
+        .handleAsync((ok, error) -> pending, executor);
+  }
+
+  private CompletionStage<Integer> archiveBatch(final ArchiveBatch batch) {
+    final var startNanos = System.nanoTime();
+    return moveDependants(batch.finishDate(), batch.ids())
+        .thenComposeAsync(count -> moveProcessInstances(batch.finishDate(), batch.ids()), executor)
+        .whenCompleteAsync(
+            (count, error) -> {
+              // shrink the batches if archiving fails or times out, e.g. because of overload
+              if (error != null) {
+                batchSize.onFailed();
+              } else {
+                batchSize.onCompleted(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+              }
+            },
+            executor)
+        // we want to make sure the rescheduling happens after we update the metrics, so we peek
+        // instead of creating an additional pipeline on the interim future
+        .thenApplyAsync(FunctionUtil.peek(metrics::recordProcessInstancesArchived), executor);
   }
 
   private CompletableFuture<Void> moveDependants(
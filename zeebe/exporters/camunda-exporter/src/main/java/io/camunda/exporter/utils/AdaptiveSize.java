@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adapts the size of batches of work, e.g. the documents of a bulk request or the process
+ * instances of an archiving batch, to how long executing a batch takes. The size is halved whenever
+ * a batch takes longer than the target duration or fails, down to a tenth of the maximum size. It
+ * grows back linearly when batches are executed in less than half of the target duration.
+ *
+ * <p>The maximum size is the configured size, which is also the initial size.
+ */
+public final class AdaptiveSize {
+  private final int maxSize;
+  private final int minSize;
+  private final int step;
+  private final long targetDurationMs;
+  private final AtomicInteger size;
+
+  /**
+   * @param maxSize the maximum and initial size
+   * @param targetDurationMs the target duration of a batch; if zero or less, the size is fixed
+   */
+  public AdaptiveSize(final int maxSize, final long targetDurationMs) {
+    this.maxSize = maxSize;
+    this.targetDurationMs = targetDurationMs;
+    minSize = Math.max(1, maxSize / 10);
+    step = Math.max(1, maxSize / 10);
+    size = new AtomicInteger(maxSize);
+  }
+
+  public int get() {
+    return size.get();
+  }
+
+  /**
+   * @return the smallest size a batch can shrink to; a batch of at least this size means there is
+   *     likely more work to be done right away
+   */
+  public int minSize() {
+    return targetDurationMs > 0 ? minSize : maxSize;
+  }
+
+  public void onCompleted(final long durationMs) {
+    if (targetDurationMs <= 0) {
+      return;
+    }
+
+    if (durationMs > targetDurationMs) {
+      shrink();
+    } else if (durationMs < targetDurationMs / 2) {
+      size.updateAndGet(current -> Math.min(maxSize, current + step));
+    }
+  }
+
+  public void onFailed() {
+    if (targetDurationMs > 0) {
+      shrink();
+    }
+  }
+
+  private void shrink() {
+    size.updateAndGet(current -> Math.max(minSize, current / 2));
+  }
+}
@@ -129,6 +129,53 @@ public class ConfigValidatorTest {
             "CamundaExporter archiver.delayBetweenRuns must be >= 1. Current value: 0");
   }
 
+  @Test
+  void shouldForbidMaxBatchesInFlightToBeLessThanOne() {
+    // given
+    config.getArchiver().setMaxBatchesInFlight(0);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining(
+            "CamundaExporter archiver.maxBatchesInFlight must be >= 1. Current value: 0");
+  }
+
+  @Test
+  void shouldForbidNegativeTargetBatchDuration() {
+    // given
+    config.getArchiver().setTargetBatchDuration(-1);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining(
+            "CamundaExporter archiver.targetBatchDuration must be >= 0. Current value: -1");
+  }
+
+  @Test
+  void shouldForbidNegativeBulkMaxInFlight() {
+    // given
+    config.getBulk().setMaxInFlight(-1);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("CamundaExporter bulk.maxInFlight must be >= 0. Current value: -1");
+  }
+
+  @Test
+  void shouldForbidNegativeBulkTargetDuration() {
+    // given
+    config.getBulk().setTargetDuration(-1);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining(
+            "CamundaExporter bulk.targetDuration must be >= 0. Current value: -1");
+  }
+
   @ParameterizedTest(name = "{0}")
   @ValueSource(ints = {-1, 0})
   void shouldForbidNonPositiveMaxCacheSize(final int maxCacheSize) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.exporter.utils.AdaptiveSize;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class AsyncBulkExecutorTest {
+
+  private final AdaptiveSize bulkSize = new AdaptiveSize(100, 1000);
+  private final AsyncBulkExecutor executor =
+      new AsyncBulkExecutor(
+          Executors.newSingleThreadExecutor(),
+          2,
+          bulkSize,
+          new CamundaExporterMetrics(new SimpleMeterRegistry()));
+  private final List<Integer> acknowledged = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void shouldAcknowledgeBulksInOrder() {
+    // given
+    final var blocked = new CountDownLatch(1);
+    final var first = mock(BatchRequest.class);
+    doAnswer(
+            invocation -> {
+              blocked.await();
+              return null;
+            })
+        .when(first)
+        .execute(any());
+
+    // when
+    executor.submit(first, null, 1, () -> acknowledged.add(1));
+    executor.submit(mock(BatchRequest.class), null, 1, () -> acknowledged.add(2));
+    executor.acknowledgeCompleted();
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    assertThat(executor.hasCapacity()).isFalse();
+
+    // when
+    blocked.countDown();
+
+    // then
+    await()
+        .untilAsserted(
+            () -> {
+              executor.acknowledgeCompleted();
+              assertThat(acknowledged).containsExactly(1, 2);
+            });
+    assertThat(executor.isIdle()).isTrue();
+    assertThat(executor.hasCapacity()).isTrue();
+  }
+
+  @Test
+  void shouldRetryFailedBulk() {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    doThrow(new PersistenceException("rejected")).doNothing().when(batchRequest).execute(any());
+
+    // when
+    executor.submit(batchRequest, null, 1, () -> acknowledged.add(1));
+
+    // then
+    await()
+        .untilAsserted(
+            () -> {
+              executor.acknowledgeCompleted();
+              assertThat(acknowledged).containsExactly(1);
+            });
+    verify(batchRequest, times(2)).execute(any());
+    assertThat(bulkSize.get()).isEqualTo(60);
+  }
+}
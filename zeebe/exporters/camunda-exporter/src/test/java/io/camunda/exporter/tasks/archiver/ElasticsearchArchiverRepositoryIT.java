@@ -308,7 +308,7 @@ final class ElasticsearchArchiverRepositoryIT {
     config.setRolloverBatchSize(3);
 
     // when
-    final var result = repository.getProcessInstancesNextBatch();
+    final var result = repository.getProcessInstancesNextBatch(3, List.of());
 
     // then - we expect only the first document created two hours ago to be returned
     final var dateFormatter =
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.exporter.tasks.archiver.TestRepository.DocumentMove;
+import io.camunda.exporter.utils.AdaptiveSize;
 import io.camunda.webapps.schema.descriptors.operate.ProcessInstanceDependant;
 import io.camunda.webapps.schema.descriptors.operate.template.DecisionInstanceTemplate;
 import io.camunda.webapps.schema.descriptors.operate.template.ListViewTemplate;
@@ -18,6 +19,7 @@ import io.camunda.webapps.schema.descriptors.operate.template.SequenceFlowTempla
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -42,7 +44,9 @@ final class ProcessInstancesArchiverJobTest {
           List.of(sequenceFlowTemplate, decisionInstanceTemplate),
           metrics,
           LOGGER,
-          executor);
+          executor,
+          1,
+          new AdaptiveSize(10, 0));
 
   @Test
   void shouldReturnZeroIfNoBatchGiven() {
@@ -97,7 +101,14 @@ final class ProcessInstancesArchiverJobTest {
     final var dependant = new WeirdlyNamedDependant();
     final var job =
         new ProcessInstancesArchiverJob(
-            repository, processInstanceTemplate, List.of(dependant), metrics, LOGGER, executor);
+            repository,
+            processInstanceTemplate,
+            List.of(dependant),
+            metrics,
+            LOGGER,
+            executor,
+            1,
+            new AdaptiveSize(10, 0));
     repository.batch = new ArchiveBatch("2024-01-01", List.of("1", "2", "3"));
 
     // when
@@ -165,6 +176,136 @@ final class ProcessInstancesArchiverJobTest {
         .isEqualTo(count);
   }
 
+  @Test
+  void shouldWaitForBatchIfPipelineIsFull() {
+    // given
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("1", "2", "3"));
+    repository.moveResult = new CompletableFuture<>();
+
+    // when
+    final var result = job.archiveNextBatch();
+
+    // then
+    assertThat(result).isNotDone();
+    repository.moveResult.complete(null);
+    assertThat(result).succeedsWithin(Duration.ZERO).isEqualTo(3);
+  }
+
+  @Test
+  void shouldExcludeInFlightProcessInstancesFromNextBatch() {
+    // given
+    final var job =
+        new ProcessInstancesArchiverJob(
+            repository,
+            processInstanceTemplate,
+            List.of(),
+            metrics,
+            LOGGER,
+            executor,
+            2,
+            new AdaptiveSize(10, 0));
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("1", "2", "3"));
+    repository.moveResult = new CompletableFuture<>();
+
+    // when
+    final var first = job.archiveNextBatch();
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("4"));
+    final var second = job.archiveNextBatch();
+
+    // then
+    assertThat(first).succeedsWithin(Duration.ZERO).isEqualTo(3);
+    assertThat(second).isNotDone();
+    assertThat(repository.excludedIds).containsExactlyInAnyOrder("1", "2", "3");
+    repository.moveResult.complete(null);
+    assertThat(second).succeedsWithin(Duration.ZERO).isEqualTo(1);
+  }
+
+  @Test
+  void shouldExcludeAllPipelinedBatchesFromNextBatch() {
+    // given
+    final var job =
+        new ProcessInstancesArchiverJob(
+            repository,
+            processInstanceTemplate,
+            List.of(),
+            metrics,
+            LOGGER,
+            executor,
+            3,
+            new AdaptiveSize(10, 0));
+    repository.moveResult = new CompletableFuture<>();
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("1", "2"));
+    job.archiveNextBatch();
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("3"));
+    job.archiveNextBatch();
+
+    // when
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("4"));
+    final var third = job.archiveNextBatch();
+
+    // then - both previous batches are still in flight and excluded from the search
+    assertThat(repository.excludedIds).containsExactlyInAnyOrder("1", "2", "3");
+    repository.moveResult.complete(null);
+    assertThat(third).succeedsWithin(Duration.ZERO).isEqualTo(1);
+
+    // once archived, the process instances are no longer excluded
+    repository.batch = null;
+    job.archiveNextBatch();
+    assertThat(repository.excludedIds).isEmpty();
+  }
+
+  @Test
+  void shouldShrinkBatchSizeIfArchivingFails() {
+    // given
+    final var batchSize = new AdaptiveSize(10, 1_000);
+    final var job =
+        new ProcessInstancesArchiverJob(
+            repository,
+            processInstanceTemplate,
+            List.of(),
+            metrics,
+            LOGGER,
+            executor,
+            1,
+            batchSize);
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("1", "2", "3"));
+    repository.moveResult = CompletableFuture.failedFuture(new RuntimeException("timeout"));
+
+    // when
+    final var result = job.archiveNextBatch();
+
+    // then
+    assertThat(result).failsWithin(Duration.ZERO);
+    assertThat(batchSize.get()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldWaitForInFlightBatchesIfNothingElseToArchive() {
+    // given
+    final var job =
+        new ProcessInstancesArchiverJob(
+            repository,
+            processInstanceTemplate,
+            List.of(),
+            metrics,
+            LOGGER,
+            executor,
+            2,
+            new AdaptiveSize(10, 0));
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("1", "2", "3"));
+    repository.moveResult = new CompletableFuture<>();
+    job.archiveNextBatch();
+
+    // when
+    repository.batch = null;
+    final var result = job.archiveNextBatch();
+
+    // then
+    assertThat(result).isNotDone();
+    repository.moveResult.complete(null);
+    assertThat(result).succeedsWithin(Duration.ZERO).isEqualTo(3);
+  }
+
   private static final class WeirdlyNamedDependant implements ProcessInstanceDependant {
 
     @Override
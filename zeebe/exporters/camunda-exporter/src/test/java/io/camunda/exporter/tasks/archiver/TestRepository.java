@@ -9,6 +9,7 @@ package io.camunda.exporter.tasks.archiver;
 
 import io.camunda.exporter.tasks.archiver.ArchiverRepository.NoopArchiverRepository;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -16,9 +17,13 @@ import java.util.concurrent.Executor;
 final class TestRepository extends NoopArchiverRepository {
   final List<DocumentMove> moves = new ArrayList<>();
   ArchiveBatch batch;
+  Collection<String> excludedIds;
+  CompletableFuture<Void> moveResult = CompletableFuture.completedFuture(null);
 
   @Override
-  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch() {
+  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final int batchSize, final Collection<String> excludedIds) {
+    this.excludedIds = excludedIds;
     return CompletableFuture.completedFuture(batch);
   }
 
@@ -35,7 +40,7 @@ final class TestRepository extends NoopArchiverRepository {
       final List<String> ids,
       final Executor executor) {
     moves.add(new DocumentMove(sourceIndexName, destinationIndexName, idFieldName, ids, executor));
-    return CompletableFuture.completedFuture(null);
+    return moveResult;
   }
 
   record DocumentMove(
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveSizeTest {
+
+  @Test
+  void shouldStartWithMaxSize() {
+    // given
+    final var size = new AdaptiveSize(100, 1000);
+
+    // then
+    assertThat(size.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldShrinkWhenBatchIsSlow() {
+    // given
+    final var size = new AdaptiveSize(100, 1000);
+
+    // when
+    size.onCompleted(1001);
+
+    // then
+    assertThat(size.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldShrinkWhenBatchFails() {
+    // given
+    final var size = new AdaptiveSize(100, 1000);
+
+    // when
+    size.onFailed();
+
+    // then
+    assertThat(size.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotShrinkBelowMinSize() {
+    // given
+    final var size = new AdaptiveSize(100, 1000);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      size.onCompleted(5000);
+    }
+
+    // then
+    assertThat(size.get()).isEqualTo(10).isEqualTo(size.minSize());
+  }
+
+  @Test
+  void shouldGrowBackWhenBatchIsFast() {
+    // given
+    final var size = new AdaptiveSize(100, 1000);
+    size.onCompleted(5000);
+
+    // when
+    size.onCompleted(100);
+
+    // then
+    assertThat(size.get()).isEqualTo(60);
+  }
+
+  @Test
+  void shouldNotGrowAboveMaxSize() {
+    // given
+    final var size = new AdaptiveSize(100, 1000);
+
+    // when
+    size.onCompleted(100);
+
+    // then
+    assertThat(size.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldNotAdaptIfTargetDurationIsDisabled() {
+    // given
+    final var size = new AdaptiveSize(100, 0);
+
+    // when
+    size.onCompleted(5000);
+    size.onFailed();
+
+    // then
+    assertThat(size.get()).isEqualTo(100);
+    assertThat(size.minSize()).isEqualTo(100);
+  }
+}
@@ -7,33 +7,46 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
- * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
- * avoid having to serialize it again on retry.
+ * Buffers indexing requests of records. Each bulk operation is serialized straight into a single
+ * contiguous nd-json buffer, which is written as is to the HTTP request, including on retry, and
+ * reused for the next bulk after {@link #clear()}. This avoids allocating an array per record, and
+ * copying the operations again when sending the bulk.
  */
 final class BulkIndexRequest implements ContentProducer {
 
   private static final ObjectMapper MAPPER =
       new ObjectMapper()
           .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
+          .enable(Feature.ALLOW_SINGLE_QUOTES)
+          // the target is the shared buffer, which must not be closed after each operation
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  private static final ObjectWriter METADATA_WRITER = MAPPER.writerFor(BulkIndexAction.class);
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private static final int INITIAL_CAPACITY = 64 * 1024;
+  private static final int INITIAL_OPERATIONS = 128;
+
+  private final NdJsonBuffer buffer = new NdJsonBuffer(INITIAL_CAPACITY);
+  private final List<BulkIndexAction> actions = new ArrayList<>();
+  // for each operation, the offset of its metadata line followed by the offset of its source line
+  private int[] offsets = new int[2 * INITIAL_OPERATIONS];
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -58,52 +71,64 @@ final class BulkIndexRequest implements ContentProducer {
       return false;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.length();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      METADATA_WRITER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.length();
+      serializeRecord(record, recordSequence);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop the partially written operation, so the buffer stays valid nd-json
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final int index = actions.size();
+    if (2 * index == offsets.length) {
+      offsets = Arrays.copyOf(offsets, offsets.length * 2);
+    }
+    offsets[2 * index] = operationOffset;
+    offsets[2 * index + 1] = sourceOffset;
+    actions.add(action);
+    memoryUsageBytes += buffer.length() - sourceOffset - 1;
     lastIndexedMetadata = action;
-    operations.add(command);
     return true;
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private void serializeRecord(final Record<?> record, final RecordSequence recordSequence)
       throws IOException {
-    return MAPPER
+    MAPPER
         .writer()
         // Enhance the serialized record by its sequence number. The sequence number is not a part
         // of the record itself but a special property for Elasticsearch. It can be used to limit
         // the number of records when reading from the index, for example, by using a range query.
         // Read https://github.com/camunda/camunda/issues/10568 for details.
         .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+        .writeValue(buffer, record);
   }
 
   /** Returns the number of operations indexed so far. */
   int size() {
-    return operations.size();
+    return actions.size();
   }
 
-  /** Returns an approximate amount of memory used by this buffer. */
+  /** Returns the amount of memory used by the serialized records of this buffer. */
   int memoryUsageBytes() {
     return memoryUsageBytes;
   }
 
   /** Returns true if no operations were indexed, i.e. {@link #size()} is 0, false otherwise. */
   boolean isEmpty() {
-    return operations.isEmpty();
+    return actions.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely, keeping the allocated memory for the next bulk. */
   void clear() {
-    operations.clear();
+    actions.clear();
+    buffer.truncate(0);
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -113,9 +138,16 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /** Returns a copy of the currently indexed operations. */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    final List<BulkOperation> operations = new ArrayList<>(actions.size());
+    for (int i = 0; i < actions.size(); i++) {
+      // the source ends with the line ending right before the next operation
+      final int sourceEnd = i + 1 < actions.size() ? offsets[2 * (i + 1)] : buffer.length();
+      operations.add(
+          new BulkOperation(actions.get(i), buffer.copyOfRange(offsets[2 * i + 1], sourceEnd - 1)));
+    }
+    return operations;
   }
 
   /**
@@ -124,16 +156,56 @@ final class BulkIndexRequest implements ContentProducer {
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
 
   @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
   private static final class RecordSequenceMixin {}
+
+  /** A growable byte buffer, which Jackson writes into directly. */
+  private static final class NdJsonBuffer extends OutputStream {
+    private byte[] bytes;
+    private int length;
+
+    private NdJsonBuffer(final int initialCapacity) {
+      bytes = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(final int b) {
+      ensureCapacity(length + 1);
+      bytes[length++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      ensureCapacity(length + len);
+      System.arraycopy(b, off, bytes, length, len);
+      length += len;
+    }
+
+    private int length() {
+      return length;
+    }
+
+    private void truncate(final int newLength) {
+      length = newLength;
+    }
+
+    private byte[] copyOfRange(final int from, final int to) {
+      return Arrays.copyOfRange(bytes, from, to);
+    }
+
+    private void writeTo(final OutputStream outStream) throws IOException {
+      outStream.write(bytes, 0, length);
+    }
+
+    private void ensureCapacity(final int capacity) {
+      if (capacity > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+      }
+    }
+  }
 }
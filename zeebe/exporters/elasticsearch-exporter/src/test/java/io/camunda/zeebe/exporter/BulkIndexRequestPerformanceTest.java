@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures how fast a bulk of records is buffered and written to the HTTP request, as happens for
+ * every flush of the exporter. The test runs with the GC profiler, which reports the allocation
+ * rate per bulk ({@code gc.alloc.rate.norm}) next to the throughput.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class BulkIndexRequestPerformanceTest {
+  private static final int BULK_SIZE = 1_000;
+  private static final OutputStream DISCARDING_STREAM = OutputStream.nullOutputStream();
+
+  private final BulkIndexRequest request = new BulkIndexRequest();
+  private List<Record<?>> records;
+  private List<BulkIndexAction> actions;
+
+  @Setup
+  public void setup() {
+    final var factory = new ProtocolFactory();
+    records = factory.generateRecords().limit(BULK_SIZE).<Record<?>>map(r -> r).toList();
+    actions =
+        records.stream()
+            .map(
+                record ->
+                    new BulkIndexAction(
+                        "zeebe-record", String.valueOf(record.getPosition()), "routing"))
+            .toList();
+  }
+
+  @JMHTest("indexAndWriteBulk")
+  void shouldIndexAndWriteBulk(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 200;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.addProfiler(GCProfiler.class)).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public BulkIndexRequest indexAndWriteBulk() throws IOException {
+    request.clear();
+    for (int i = 0; i < BULK_SIZE; i++) {
+      request.index(actions.get(i), records.get(i), new RecordSequence(1, i));
+    }
+    request.writeTo(DISCARDING_STREAM);
+    return request;
+  }
+}
@@ -102,6 +102,28 @@ final class BulkIndexRequestTest {
     assertThat(request.lastIndexedMetadata()).isNull();
   }
 
+  @Test
+  void shouldIndexAfterClear() {
+    // given
+    final var records = recordFactory.generateRecords().limit(2).toList();
+    final var actions =
+        List.of(
+            new BulkIndexAction("index", "id", "routing"),
+            new BulkIndexAction("index2", "id2", "routing2"));
+    request.index(actions.get(0), records.get(0), new RecordSequence(PARTITION_ID, 1));
+    request.clear();
+
+    // when
+    request.index(actions.get(1), records.get(1), new RecordSequence(PARTITION_ID, 2));
+
+    // then
+    assertThat(request.bulkOperations())
+        .extracting(BulkOperation::metadata)
+        .containsExactly(actions.get(1));
+    assertThat(request.memoryUsageBytes())
+        .isEqualTo(request.bulkOperations().getFirst().source().length);
+  }
+
   @Nested
   final class IndexTest {
     @Test
@@ -9,6 +9,7 @@ package io.camunda.exporter.rdbms;
 
 import io.camunda.db.rdbms.write.RdbmsWriter;
 import io.camunda.db.rdbms.write.domain.ExporterPositionModel;
+import io.camunda.db.rdbms.write.service.HistoryCleanupService;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.record.Record;
@@ -16,6 +17,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -31,6 +33,7 @@ public class RdbmsExporter {
 
   private final long partitionId;
   private final RdbmsWriter rdbmsWriter;
+  private final HistoryCleanupService historyCleanupService;
 
   // configuration
   private final Duration flushInterval;
@@ -39,10 +42,15 @@ public class RdbmsExporter {
   // volatile runtime properties
   private ExporterPositionModel exporterRdbmsPosition;
   private long lastPosition = -1;
+  // the position up to which the records are part of the last started flush; it is read by the
+  // post flush listener, which runs on the flush thread if flushes are asynchronous
+  private volatile long flushedPosition = -1;
   private ScheduledTask currentFlushTask = null;
+  private ScheduledTask currentCleanupTask = null;
 
   public RdbmsExporter(final RdbmsExporterConfig config) {
     rdbmsWriter = config.rdbmsWriter();
+    historyCleanupService = rdbmsWriter.getHistoryCleanupService();
     registeredHandlers = config.handlers();
 
     partitionId = config.partitionId();
@@ -63,6 +71,12 @@ public class RdbmsExporter {
           controller.scheduleCancellableTask(flushInterval, this::flushAndReschedule);
     }
 
+    if (historyCleanupService.isEnabled()) {
+      currentCleanupTask =
+          controller.scheduleCancellableTask(
+              historyCleanupService.getCurrentCleanupInterval(), this::cleanupHistory);
+    }
+
     initializeRdbmsPosition();
     lastPosition = controller.getLastExportedRecordPosition();
     if (exporterRdbmsPosition.lastExportedPosition() > -1
@@ -70,6 +84,7 @@ public class RdbmsExporter {
       // This is needed since the brokers last exported position is from its last snapshot and can
       // be different from ours.
       lastPosition = exporterRdbmsPosition.lastExportedPosition();
+      flushedPosition = lastPosition;
       updatePositionInBroker();
     }
 
@@ -84,10 +99,15 @@ public class RdbmsExporter {
       if (currentFlushTask != null) {
         currentFlushTask.cancel();
       }
+      if (currentCleanupTask != null) {
+        currentCleanupTask.cancel();
+      }
 
       rdbmsWriter.flush();
     } catch (final Exception e) {
       LOG.warn("[RDBMS Exporter] Failed to flush records before closing exporter.", e);
+    } finally {
+      rdbmsWriter.close();
     }
 
     LOG.info("[RDBMS Exporter] Exporter closed");
@@ -137,16 +157,22 @@ public class RdbmsExporter {
     if (currentFlushTask != null) {
       currentFlushTask.cancel();
     }
+    if (currentCleanupTask != null) {
+      currentCleanupTask.cancel();
+    }
 
     rdbmsWriter.getRdbmsPurger().purgeRdbms();
   }
 
   private void updatePositionInBroker() {
-    LOG.debug("[RDBMS Exporter] Updating position to {} in broker", lastPosition);
-    controller.updateLastExportedRecordPosition(lastPosition);
+    final var position = flushedPosition;
+    LOG.debug("[RDBMS Exporter] Updating position to {} in broker", position);
+    controller.updateLastExportedRecordPosition(position);
   }
 
   private void updatePositionInRdbms() {
+    // called when the queue is drained, so all records up to here are part of the flush
+    flushedPosition = lastPosition;
     if (lastPosition > exporterRdbmsPosition.lastExportedPosition()) {
       LOG.debug("[RDBMS Exporter] Updating position to {} in rdbms", lastPosition);
       exporterRdbmsPosition =
@@ -191,10 +217,27 @@ public class RdbmsExporter {
   }
 
   private void flushAndReschedule() {
-    flushExecutionQueue();
+    // the queue keeps collecting records while the flush is in flight; a failed flush is retried
+    // by the queue with the next flush
+    LOG.debug("[RDBMS Exporter] flushing queue");
+    rdbmsWriter.getExecutionQueue().flushAsync();
     currentFlushTask = controller.scheduleCancellableTask(flushInterval, this::flushAndReschedule);
   }
 
+  private void cleanupHistory() {
+    Duration nextCleanupInterval;
+    try {
+      nextCleanupInterval = historyCleanupService.cleanupHistory(OffsetDateTime.now());
+    } catch (final Exception e) {
+      // the cleanup must not block the export, it is retried with the next run
+      LOG.warn("[RDBMS Exporter] Failed to cleanup history, retrying later.", e);
+      nextCleanupInterval = historyCleanupService.getCurrentCleanupInterval();
+    }
+
+    currentCleanupTask =
+        controller.scheduleCancellableTask(nextCleanupInterval, this::cleanupHistory);
+  }
+
   @VisibleForTesting(
       "Each exporter creates it's own executionQueue, so we need an accessible flush method for tests")
   public void flushExecutionQueue() {
@@ -8,6 +8,7 @@
 package io.camunda.exporter.rdbms;
 
 import io.camunda.db.rdbms.RdbmsService;
+import io.camunda.db.rdbms.write.HistoryCleanupConfig;
 import io.camunda.db.rdbms.write.RdbmsWriter;
 import io.camunda.exporter.rdbms.handlers.DecisionDefinitionExportHandler;
 import io.camunda.exporter.rdbms.handlers.DecisionInstanceExportHandler;
@@ -29,6 +30,7 @@ import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.time.Duration;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +42,7 @@ public class RdbmsExporterWrapper implements Exporter {
 
   private static final int DEFAULT_FLUSH_INTERVAL = 500;
   private static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+  private static final boolean DEFAULT_ASYNC_FLUSH = false;
   private static final Logger LOG = LoggerFactory.getLogger(RdbmsExporterWrapper.class);
 
   private long partitionId;
@@ -58,7 +61,9 @@ public class RdbmsExporterWrapper implements Exporter {
 
     partitionId = context.getPartitionId();
 
-    rdbmsWriter = rdbmsService.createWriter(partitionId, maxQueueSize);
+    rdbmsWriter =
+        rdbmsService.createWriter(
+            partitionId, maxQueueSize, readAsyncFlush(context), readHistoryCleanupConfig(context));
 
     final var builder =
         new RdbmsExporterConfig.Builder()
@@ -111,6 +116,78 @@ public class RdbmsExporterWrapper implements Exporter {
     }
   }
 
+  private boolean readAsyncFlush(final Context context) {
+    final var arguments = context.getConfiguration().getArguments();
+    if (arguments != null) {
+      return readBoolean(arguments, "asyncFlush", DEFAULT_ASYNC_FLUSH);
+    } else {
+      return DEFAULT_ASYNC_FLUSH;
+    }
+  }
+
+  private HistoryCleanupConfig readHistoryCleanupConfig(final Context context) {
+    final var arguments = context.getConfiguration().getArguments();
+    if (arguments == null) {
+      return HistoryCleanupConfig.DEFAULT;
+    }
+
+    return new HistoryCleanupConfig(
+        readDuration(arguments, "historyTTL", HistoryCleanupConfig.DEFAULT_HISTORY_TTL),
+        readInt(
+            arguments,
+            "historyCleanupBatchSize",
+            HistoryCleanupConfig.DEFAULT_CLEANUP_BATCH_SIZE),
+        readDuration(
+            arguments,
+            "minHistoryCleanupInterval",
+            HistoryCleanupConfig.DEFAULT_MIN_CLEANUP_INTERVAL),
+        readDuration(
+            arguments,
+            "maxHistoryCleanupInterval",
+            HistoryCleanupConfig.DEFAULT_MAX_CLEANUP_INTERVAL));
+  }
+
+  private static int readInt(
+      final Map<String, Object> arguments, final String name, final int defaultValue) {
+    final var value = arguments.get(name);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    try {
+      return Integer.parseInt(String.valueOf(value));
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Expected exporter argument '%s' to be an integer, but was '%s'".formatted(name, value),
+          e);
+    }
+  }
+
+  private static boolean readBoolean(
+      final Map<String, Object> arguments, final String name, final boolean defaultValue) {
+    final var value = arguments.get(name);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    final var stringValue = String.valueOf(value);
+    if ("true".equalsIgnoreCase(stringValue)) {
+      return true;
+    } else if ("false".equalsIgnoreCase(stringValue)) {
+      return false;
+    }
+
+    throw new IllegalArgumentException(
+        "Expected exporter argument '%s' to be either 'true' or 'false', but was '%s'"
+            .formatted(name, value));
+  }
+
+  private static Duration readDuration(
+      final Map<String, Object> arguments, final String name, final Duration defaultValue) {
+    final var value = arguments.get(name);
+    return value != null ? Duration.parse(value.toString()) : defaultValue;
+  }
+
   private static void createHandlers(
       final long partitionId,
       final RdbmsWriter rdbmsWriter,
@@ -142,7 +219,8 @@ public class RdbmsExporterWrapper implements Exporter {
         new FlowNodeInstanceIncidentExportHandler(rdbmsWriter.getFlowNodeInstanceWriter()));
     builder.withHandler(
         ValueType.PROCESS_INSTANCE,
-        new ProcessInstanceExportHandler(rdbmsWriter.getProcessInstanceWriter()));
+        new ProcessInstanceExportHandler(
+            rdbmsWriter.getProcessInstanceWriter(), rdbmsWriter.getHistoryCleanupService()));
     builder.withHandler(
         ValueType.PROCESS_INSTANCE,
         new FlowNodeExportHandler(rdbmsWriter.getFlowNodeInstanceWriter()));
@@ -8,6 +8,7 @@
 package io.camunda.exporter.rdbms.handlers;
 
 import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
+import io.camunda.db.rdbms.write.service.HistoryCleanupService;
 import io.camunda.db.rdbms.write.service.ProcessInstanceWriter;
 import io.camunda.exporter.rdbms.RdbmsExportHandler;
 import io.camunda.search.entities.ProcessInstanceEntity.ProcessInstanceState;
@@ -22,9 +23,13 @@ public class ProcessInstanceExportHandler
     implements RdbmsExportHandler<ProcessInstanceRecordValue> {
 
   private final ProcessInstanceWriter processInstanceWriter;
+  private final HistoryCleanupService historyCleanupService;
 
-  public ProcessInstanceExportHandler(final ProcessInstanceWriter processInstanceWriter) {
+  public ProcessInstanceExportHandler(
+      final ProcessInstanceWriter processInstanceWriter,
+      final HistoryCleanupService historyCleanupService) {
     this.processInstanceWriter = processInstanceWriter;
+    this.historyCleanupService = historyCleanupService;
   }
 
   @Override
@@ -35,22 +40,23 @@ public class ProcessInstanceExportHandler
 
   @Override
   public void export(final Record<ProcessInstanceRecordValue> record) {
-    final var value = record.getValue();
     if (record.getIntent().equals(ProcessInstanceIntent.ELEMENT_ACTIVATING)) {
       processInstanceWriter.create(map(record));
     } else if (record.getIntent().equals(ProcessInstanceIntent.ELEMENT_COMPLETED)) {
-      processInstanceWriter.finish(
-          value.getProcessInstanceKey(),
-          ProcessInstanceState.COMPLETED,
-          DateUtil.toOffsetDateTime(record.getTimestamp()));
+      finish(record, ProcessInstanceState.COMPLETED);
     } else if (record.getIntent().equals(ProcessInstanceIntent.ELEMENT_TERMINATED)) {
-      processInstanceWriter.finish(
-          value.getProcessInstanceKey(),
-          ProcessInstanceState.CANCELED,
-          DateUtil.toOffsetDateTime(record.getTimestamp()));
+      finish(record, ProcessInstanceState.CANCELED);
     }
   }
 
+  private void finish(
+      final Record<ProcessInstanceRecordValue> record, final ProcessInstanceState state) {
+    final var processInstanceKey = record.getValue().getProcessInstanceKey();
+    final var endDate = DateUtil.toOffsetDateTime(record.getTimestamp());
+    processInstanceWriter.finish(processInstanceKey, state, endDate);
+    historyCleanupService.scheduleProcessForHistoryCleanup(processInstanceKey, endDate);
+  }
+
   private ProcessInstanceDbModel map(final Record<ProcessInstanceRecordValue> record) {
     final var value = record.getValue();
     return new ProcessInstanceDbModel(
@@ -18,13 +18,18 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.db.rdbms.sql.ExporterPositionMapper;
 import io.camunda.db.rdbms.write.RdbmsWriter;
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.domain.ExporterPositionModel;
+import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.PostFlushListener;
 import io.camunda.db.rdbms.write.queue.PreFlushListener;
 import io.camunda.db.rdbms.write.queue.QueueItem;
 import io.camunda.db.rdbms.write.queue.QueueItemMerger;
 import io.camunda.db.rdbms.write.service.ExporterPositionService;
+import io.camunda.db.rdbms.write.service.HistoryCleanupService;
 import io.camunda.db.rdbms.write.service.RdbmsPurger;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
@@ -33,7 +38,12 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.TransactionIsolationLevel;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -48,6 +58,7 @@ class RdbmsExporterTest {
 
   private ScheduledTask flushTask;
   private RdbmsPurger rdbmsPurger;
+  private final HistoryCleanupService historyCleanupService = mock(HistoryCleanupService.class);
 
   @Test
   void shouldCallCorrectHandler() {
@@ -99,6 +110,48 @@ class RdbmsExporterTest {
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 2));
   }
 
+  @Test
+  void shouldCommitPositionWithFlushedRecords() {
+    // given
+    final var session = mock(SqlSession.class);
+    final var sessionFactory = mock(SqlSessionFactory.class);
+    when(sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED))
+        .thenReturn(session);
+    final var queue =
+        new DefaultExecutionQueue(
+            sessionFactory,
+            0,
+            0,
+            mock(RdbmsWriterMetrics.class),
+            Executors.newSingleThreadExecutor());
+    createExporter(
+        b -> b.withHandler(ValueType.JOB, mockHandler(ValueType.JOB)),
+        queue,
+        new ExporterPositionService(queue, mock(ExporterPositionMapper.class)));
+    exporter.export(mockRecord(ValueType.JOB, 1));
+    exporter.export(mockRecord(ValueType.JOB, 2));
+
+    // when
+    final var flushed = queue.flushAsync();
+    exporter.export(mockRecord(ValueType.JOB, 3));
+
+    // then - the position is part of the flushed batch, which is committed in one transaction
+    assertThat(flushed.join()).isOne();
+    final var inOrder = Mockito.inOrder(session, controller);
+    inOrder
+        .verify(session)
+        .update(
+            eq("io.camunda.db.rdbms.sql.ExporterPositionMapper.update"),
+            Mockito.<ExporterPositionModel>argThat(p -> p.lastExportedPosition() == 2));
+    inOrder.verify(session).commit();
+    inOrder.verify(controller).updateLastExportedRecordPosition(2);
+    verify(session).commit();
+    verify(controller, never()).updateLastExportedRecordPosition(3);
+    assertThat(queue.getQueue()).isEmpty();
+
+    queue.close();
+  }
+
   @Test
   void shouldNotUpdatePositionOnFlushWhenNoRecordsHandled() {
     // given
@@ -204,6 +257,25 @@ class RdbmsExporterTest {
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 1));
   }
 
+  @Test
+  void shouldRescheduleHistoryCleanupWithReturnedInterval() {
+    // given
+    when(historyCleanupService.isEnabled()).thenReturn(true);
+    when(historyCleanupService.getCurrentCleanupInterval()).thenReturn(Duration.ofSeconds(1));
+    when(historyCleanupService.cleanupHistory(any())).thenReturn(Duration.ofSeconds(2));
+    createExporter(b -> b.flushInterval(Duration.ZERO));
+    final var runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(controller)
+        .scheduleCancellableTask(eq(Duration.ofSeconds(1)), runnableCaptor.capture());
+
+    // when
+    runnableCaptor.getValue().run();
+
+    // then
+    verify(historyCleanupService).cleanupHistory(any());
+    verify(controller).scheduleCancellableTask(eq(Duration.ofSeconds(2)), any());
+  }
+
   @Test
   void shouldClearFlushTaskOnPurge() {
     // given
@@ -243,6 +315,16 @@ class RdbmsExporterTest {
 
   private void createExporter(
       final Function<RdbmsExporterConfig.Builder, RdbmsExporterConfig.Builder> builderFunction) {
+    executionQueue = new StubExecutionQueue();
+    positionService = mock(ExporterPositionService.class);
+    when(positionService.findOne(anyLong())).thenReturn(null);
+    createExporter(builderFunction, executionQueue, positionService);
+  }
+
+  private void createExporter(
+      final Function<RdbmsExporterConfig.Builder, RdbmsExporterConfig.Builder> builderFunction,
+      final ExecutionQueue executionQueue,
+      final ExporterPositionService positionService) {
     flushTask = mock(ScheduledTask.class);
 
     controller = mock(Controller.class);
@@ -250,14 +332,12 @@ class RdbmsExporterTest {
     when(controller.scheduleCancellableTask(any(), any())).thenReturn(flushTask);
 
     rdbmsWriter = mock(RdbmsWriter.class);
-    executionQueue = new StubExecutionQueue();
-    positionService = mock(ExporterPositionService.class);
-    when(positionService.findOne(anyLong())).thenReturn(null);
     rdbmsPurger = mock(RdbmsPurger.class);
 
     when(rdbmsWriter.getExporterPositionService()).thenReturn(positionService);
     when(rdbmsWriter.getExecutionQueue()).thenReturn(executionQueue);
     when(rdbmsWriter.getRdbmsPurger()).thenReturn(rdbmsPurger);
+    when(rdbmsWriter.getHistoryCleanupService()).thenReturn(historyCleanupService);
     doAnswer((invocation) -> executionQueue.flush()).when(rdbmsWriter).flush();
 
     final var builder =
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.db.rdbms.RdbmsService;
+import io.camunda.db.rdbms.write.HistoryCleanupConfig;
+import io.camunda.db.rdbms.write.RdbmsWriter;
+import io.camunda.zeebe.exporter.api.context.Configuration;
+import io.camunda.zeebe.exporter.api.context.Context;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class RdbmsExporterWrapperTest {
+
+  private final RdbmsService rdbmsService = mock(RdbmsService.class);
+
+  @Test
+  void shouldReadHistoryCleanupBatchSizeGivenAsString() {
+    // given
+    final var context = context(Map.of("historyCleanupBatchSize", "500"));
+
+    // when
+    new RdbmsExporterWrapper(rdbmsService).configure(context);
+
+    // then
+    assertThat(capturedHistoryCleanupConfig().cleanupBatchSize()).isEqualTo(500);
+  }
+
+  @Test
+  void shouldReadHistoryCleanupBatchSizeGivenAsLong() {
+    // given
+    final var context = context(Map.of("historyCleanupBatchSize", 500L));
+
+    // when
+    new RdbmsExporterWrapper(rdbmsService).configure(context);
+
+    // then
+    assertThat(capturedHistoryCleanupConfig().cleanupBatchSize()).isEqualTo(500);
+  }
+
+  @Test
+  void shouldRejectHistoryCleanupBatchSizeWhichIsNoInteger() {
+    // given
+    final var context = context(Map.of("historyCleanupBatchSize", "many"));
+
+    // when - then
+    assertThatThrownBy(() -> new RdbmsExporterWrapper(rdbmsService).configure(context))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("historyCleanupBatchSize");
+  }
+
+  @Test
+  void shouldReadAsyncFlushGivenAsString() {
+    // given
+    final var context = context(Map.of("asyncFlush", "true"));
+
+    // when
+    new RdbmsExporterWrapper(rdbmsService).configure(context);
+
+    // then
+    verify(rdbmsService).createWriter(anyLong(), anyInt(), eq(true), any());
+  }
+
+  @Test
+  void shouldReadAsyncFlushGivenAsBoolean() {
+    // given
+    final var context = context(Map.of("asyncFlush", true));
+
+    // when
+    new RdbmsExporterWrapper(rdbmsService).configure(context);
+
+    // then
+    verify(rdbmsService).createWriter(anyLong(), anyInt(), eq(true), any());
+  }
+
+  @Test
+  void shouldRejectAsyncFlushWhichIsNoBoolean() {
+    // given
+    final var context = context(Map.of("asyncFlush", "ture"));
+
+    // when - then
+    assertThatThrownBy(() -> new RdbmsExporterWrapper(rdbmsService).configure(context))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("asyncFlush");
+  }
+
+  private Context context(final Map<String, Object> arguments) {
+    when(rdbmsService.createWriter(anyLong(), anyInt(), anyBoolean(), any()))
+        .thenReturn(mock(RdbmsWriter.class));
+
+    final var configuration = mock(Configuration.class);
+    when(configuration.getArguments()).thenReturn(arguments);
+    final var context = mock(Context.class);
+    when(context.getConfiguration()).thenReturn(configuration);
+    when(context.getPartitionId()).thenReturn(1);
+    return context;
+  }
+
+  private HistoryCleanupConfig capturedHistoryCleanupConfig() {
+    final var captor = ArgumentCaptor.forClass(HistoryCleanupConfig.class);
+    verify(rdbmsService).createWriter(anyLong(), anyInt(), anyBoolean(), captor.capture());
+    return captor.getValue();
+  }
+}
@@ -20,17 +20,22 @@ import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletion;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.AuthenticationInterceptor;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJobBatch;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo.Builder;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
@@ -75,6 +80,7 @@ import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -86,17 +92,20 @@ public final class EndpointManager {
   private final ActivateJobsHandler<ActivateJobsResponse> activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
   private final StreamJobsHandler streamJobsHandler;
+  private final CompleteJobsHandler completeJobsHandler;
 
   public EndpointManager(
       final BrokerClient brokerClient,
       final ActivateJobsHandler<ActivateJobsResponse> activateJobsHandler,
       final StreamJobsHandler streamJobsHandler,
-      final MultiTenancyConfiguration multiTenancy) {
+      final MultiTenancyConfiguration multiTenancy,
+      final long maxMessageSize) {
     this.brokerClient = brokerClient;
     this.activateJobsHandler = activateJobsHandler;
     this.streamJobsHandler = streamJobsHandler;
     topologyManager = brokerClient.getTopologyManager();
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
+    completeJobsHandler = new CompleteJobsHandler(brokerClient, maxMessageSize);
     RequestMapper.setMultiTenancyEnabled(multiTenancy.isEnabled());
   }
 
@@ -171,7 +180,21 @@ public final class EndpointManager {
     try {
       final JobActivationProperties brokerRequest =
           RequestMapper.toJobActivationProperties(request);
-      streamJobsHandler.handle(request.getType(), brokerRequest, responseObserver);
+      streamJobsHandler.handle(
+          request.getType(), brokerRequest, request.getMaxJobsActive(), responseObserver);
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+    }
+  }
+
+  public void streamActivatedJobBatches(
+      final StreamActivatedJobsRequest request,
+      final ServerCallStreamObserver<ActivatedJobBatch> responseObserver) {
+    try {
+      final JobActivationProperties brokerRequest =
+          RequestMapper.toJobActivationProperties(request);
+      streamJobsHandler.handleBatched(
+          request.getType(), brokerRequest, request.getMaxJobsActive(), responseObserver);
     } catch (final Exception e) {
       responseObserver.onError(e);
     }
@@ -207,6 +230,7 @@ public final class EndpointManager {
   public void completeJob(
       final CompleteJobRequest request,
       final ServerStreamObserver<CompleteJobResponse> responseObserver) {
+    streamJobsHandler.onJobFinished(request.getJobKey());
     sendRequest(
         request,
         RequestMapper::toCompleteJobRequest,
@@ -214,6 +238,36 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobBatch(
+      final CompleteJobBatchRequest request,
+      final ServerStreamObserver<CompleteJobBatchResponse> responseObserver) {
+    if (request.getJobsCount() == 0) {
+      responseObserver.onError(
+          new IllegalArgumentException(
+              "Expected to complete at least one job, but no jobs were given"));
+      return;
+    }
+
+    final List<JobCompletion> jobs;
+    final Map<String, Object> claims;
+    try {
+      jobs = request.getJobsList().stream().map(RequestMapper::toJobCompletion).toList();
+      claims = getAuthorizationClaims();
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    jobs.forEach(job -> streamJobsHandler.onJobFinished(job.jobKey()));
+    completeJobsHandler
+        .completeJobs(jobs, claims)
+        .thenAccept(
+            results -> {
+              responseObserver.onNext(ResponseMapper.toCompleteJobBatchResponse(results));
+              responseObserver.onCompleted();
+            });
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -277,6 +331,7 @@ public final class EndpointManager {
 
   public void failJob(
       final FailJobRequest request, final ServerStreamObserver<FailJobResponse> responseObserver) {
+    streamJobsHandler.onJobFinished(request.getJobKey());
     sendRequest(
         request,
         RequestMapper::toFailJobRequest,
@@ -287,6 +342,7 @@ public final class EndpointManager {
   public void throwError(
       final ThrowErrorRequest request,
       final ServerStreamObserver<ThrowErrorResponse> responseObserver) {
+    streamJobsHandler.onJobFinished(request.getJobKey());
     sendRequest(
         request,
         RequestMapper::toThrowErrorRequest,
@@ -488,7 +544,12 @@ public final class EndpointManager {
       throws Exception {
 
     final BrokerRequest<BrokerResponseT> brokerRequest = requestMapper.apply(grpcRequest);
+    brokerRequest.setAuthorization(getAuthorizationClaims());
+
+    return brokerRequest;
+  }
 
+  private Map<String, Object> getAuthorizationClaims() throws Exception {
     final Map<String, Object> claims = new HashMap<>();
 
     // retrieve the user claims from the context and add them to the authorization if present
@@ -504,9 +565,7 @@ public final class EndpointManager {
       claims.put(Authorization.AUTHORIZED_USERNAME, username);
     }
 
-    brokerRequest.setAuthorization(claims);
-
-    return brokerRequest;
+    return claims;
   }
 
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
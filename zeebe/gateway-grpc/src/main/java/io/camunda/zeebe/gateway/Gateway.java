@@ -21,6 +21,7 @@ import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.camunda.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
@@ -66,6 +67,7 @@ import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 import me.dinowernli.grpc.prometheus.Configuration;
 import me.dinowernli.grpc.prometheus.MonitoringServerInterceptor;
@@ -89,10 +91,12 @@ public final class Gateway implements CloseableSilently {
   private final ActorSchedulingService actorSchedulingService;
   private final GatewayHealthManager healthManager;
   private final ClientStreamer<JobActivationProperties> jobStreamer;
+  private final JobFinishedNotifier jobFinishedNotifier;
   private final Duration shutdownTimeout;
 
   private Server server;
   private ExecutorService grpcExecutor;
+  private LongConsumer jobFinishedListener;
   private final BrokerClient brokerClient;
   private final UserServices userServices;
   private final PasswordEncoder passwordEncoder;
@@ -125,12 +129,39 @@ public final class Gateway implements CloseableSilently {
       final ClientStreamer<JobActivationProperties> jobStreamer,
       final UserServices userServices,
       final PasswordEncoder passwordEncoder) {
+    this(
+        shutdownDuration,
+        gatewayCfg,
+        securityConfiguration,
+        brokerClient,
+        actorSchedulingService,
+        jobStreamer,
+        new JobFinishedNotifier(),
+        userServices,
+        passwordEncoder);
+  }
+
+  /**
+   * @param jobFinishedNotifier notifies about jobs finished through other APIs of this gateway
+   *     (e.g. REST), such that the job streams can give back the credits of these jobs
+   */
+  public Gateway(
+      final Duration shutdownDuration,
+      final GatewayCfg gatewayCfg,
+      final SecurityConfiguration securityConfiguration,
+      final BrokerClient brokerClient,
+      final ActorSchedulingService actorSchedulingService,
+      final ClientStreamer<JobActivationProperties> jobStreamer,
+      final JobFinishedNotifier jobFinishedNotifier,
+      final UserServices userServices,
+      final PasswordEncoder passwordEncoder) {
     shutdownTimeout = shutdownDuration;
     this.gatewayCfg = gatewayCfg;
     this.securityConfiguration = securityConfiguration;
     this.brokerClient = brokerClient;
     this.actorSchedulingService = actorSchedulingService;
     this.jobStreamer = jobStreamer;
+    this.jobFinishedNotifier = jobFinishedNotifier;
     this.userServices = userServices;
     this.passwordEncoder = passwordEncoder;
     healthManager = new GatewayHealthManagerImpl();
@@ -186,6 +217,8 @@ public final class Gateway implements CloseableSilently {
                 return;
               }
 
+              jobFinishedListener = adapter::onJobFinished;
+              jobFinishedNotifier.addListener(jobFinishedListener);
               future.complete(adapter);
             },
             ForkJoinPool.commonPool());
@@ -204,7 +237,12 @@ public final class Gateway implements CloseableSilently {
     applySecurityConfiguration(serverBuilder);
 
     final var endpointManager =
-        new EndpointManager(brokerClient, activateJobsHandler, streamJobsHandler, multiTenancy);
+        new EndpointManager(
+            brokerClient,
+            activateJobsHandler,
+            streamJobsHandler,
+            multiTenancy,
+            network.getMaxMessageSize().toBytes());
     final var gatewayGrpcService = new GatewayGrpcService(endpointManager);
     return buildServer(serverBuilder, gatewayGrpcService);
   }
@@ -295,6 +333,11 @@ public final class Gateway implements CloseableSilently {
   public void close() {
     healthManager.setStatus(Status.SHUTDOWN);
 
+    if (jobFinishedListener != null) {
+      jobFinishedNotifier.removeListener(jobFinishedListener);
+      jobFinishedListener = null;
+    }
+
     if (server != null && !server.isShutdown()) {
       server.shutdown();
       try {
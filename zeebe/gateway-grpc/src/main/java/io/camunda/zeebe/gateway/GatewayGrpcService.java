@@ -12,10 +12,13 @@ import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJobBatch;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
@@ -76,6 +79,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void streamActivatedJobBatches(
+      final StreamActivatedJobsRequest request,
+      final StreamObserver<ActivatedJobBatch> responseObserver) {
+    endpointManager.streamActivatedJobBatches(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void cancelProcessInstance(
       final CancelProcessInstanceRequest request,
@@ -92,6 +103,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void completeJobBatch(
+      final CompleteJobBatchRequest request,
+      final StreamObserver<CompleteJobBatchResponse> responseObserver) {
+    endpointManager.completeJobBatch(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
@@ -28,6 +28,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobTimeoutRequest;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletion;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
@@ -163,6 +164,13 @@ public final class RequestMapper extends RequestUtil {
         getJobResultOrDefault(grpcRequest));
   }
 
+  public static JobCompletion toJobCompletion(final CompleteJobRequest grpcRequest) {
+    return new JobCompletion(
+        grpcRequest.getJobKey(),
+        ensureJsonSet(grpcRequest.getVariables()),
+        getJobResultOrDefault(grpcRequest));
+  }
+
   private static JobResult getJobResultOrDefault(final CompleteJobRequest request) {
     if (!request.hasResult()) {
       return null;
@@ -10,6 +10,8 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResponse;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
@@ -17,6 +19,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
@@ -64,6 +67,8 @@ import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
 
+  private static final GrpcErrorMapper ERROR_MAPPER = new GrpcErrorMapper();
+
   public static DeployProcessResponse toDeployProcessResponse(
       final long key, final DeploymentRecord brokerResponse) {
     final DeployProcessResponse.Builder responseBuilder =
@@ -175,6 +180,26 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  public static CompleteJobBatchResponse toCompleteJobBatchResponse(
+      final List<JobCompletionResult> results) {
+    final var response = CompleteJobBatchResponse.newBuilder();
+    for (final var result : results) {
+      final var jobResult =
+          GatewayOuterClass.JobCompletionResult.newBuilder().setJobKey(result.jobKey());
+      if (!result.isCompleted()) {
+        // report the same status the job would have been rejected with by CompleteJob
+        final var status = ERROR_MAPPER.mapError(result.failure()).getStatus();
+        jobResult.setCode(status.getCode().value());
+        if (status.getDescription() != null) {
+          jobResult.setMessage(status.getDescription());
+        }
+      }
+      response.addResults(jobResult);
+    }
+
+    return response.build();
+  }
+
   public static CreateProcessInstanceResponse toCreateProcessInstanceResponse(
       final long key, final ProcessInstanceCreationRecord brokerResponse) {
     return CreateProcessInstanceResponse.newBuilder()
@@ -54,6 +54,26 @@ final class JobClientStreamMetrics implements ClientStreamMetrics {
           .help("Total number of failed attempts when pushing jobs to the clients, grouped by code")
           .labelNames("code")
           .register();
+  private static final Histogram CLIENT_CREDITS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("client_credits")
+          .help("Distribution of remaining credits of a credit limited client after a job push")
+          .buckets(0, 1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+  private static final Histogram CLIENT_INFLIGHT =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("client_inflight_jobs")
+          .help("Distribution of jobs in flight for a client after a job push")
+          .buckets(0, 1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+  private static final Counter PUSH_SKIPPED_WITHOUT_CREDITS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("push_skipped_without_credits")
+          .help("Total number of jobs not pushed because none of the clients had credits left")
+          .register();
 
   private final Counter.Child pushSuccessCount;
   private final Counter.Child pushFailureCount;
@@ -97,4 +117,19 @@ final class JobClientStreamMetrics implements ClientStreamMetrics {
   public void pushTryFailed(final ErrorCode code) {
     PUSH_TRY_FAILED_COUNT.labels(code.name()).inc();
   }
+
+  @Override
+  public void observeClientCredits(final int credits) {
+    CLIENT_CREDITS.observe(credits);
+  }
+
+  @Override
+  public void observeClientInFlight(final int inFlight) {
+    CLIENT_INFLIGHT.observe(inFlight);
+  }
+
+  @Override
+  public void pushSkippedWithoutCredits() {
+    PUSH_SKIPPED_WITHOUT_CREDITS.inc();
+  }
 }
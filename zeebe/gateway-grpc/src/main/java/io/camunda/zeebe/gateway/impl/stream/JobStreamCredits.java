@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.stream;
+
+import java.time.InstantSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the credits of a single job stream, i.e. how many more jobs may be pushed to its worker.
+ * The worker advertises its capacity when opening the stream; each pushed job consumes a credit,
+ * which is given back once the job is completed, failed or an error is thrown for it, or once the
+ * job's deadline passed (after which the job will be activated again anyway).
+ *
+ * <p>Only jobs finished through this gateway, via gRPC or REST, give back their credit right away.
+ * The gateway cannot observe a job finished through another gateway, so its credit is only given
+ * back once its deadline passed.
+ *
+ * <p>Every job in flight is also registered in a registry shared by all streams of the gateway,
+ * such that a finished job can be mapped back to the stream it was pushed to.
+ *
+ * <p>Credits are read by the stream pusher, while jobs are pushed and finished on other threads, so
+ * all state is kept in concurrent data structures.
+ */
+final class JobStreamCredits {
+
+  private final int capacity;
+  private final InstantSource clock;
+  private final Map<Long, JobStreamCredits> registry;
+  private final Map<Long, Long> deadlinesByJobKey = new ConcurrentHashMap<>();
+
+  /**
+   * @param capacity the maximum number of jobs in flight; zero or less means unlimited
+   * @param clock the clock to compare the job deadlines with
+   * @param registry the gateway wide registry of in flight jobs to the stream they were pushed to
+   */
+  JobStreamCredits(
+      final int capacity,
+      final InstantSource clock,
+      final Map<Long, JobStreamCredits> registry) {
+    this.capacity = capacity;
+    this.clock = clock;
+    this.registry = registry;
+  }
+
+  static JobStreamCredits unlimited() {
+    return new JobStreamCredits(0, InstantSource.system(), new ConcurrentHashMap<>());
+  }
+
+  boolean isLimited() {
+    return capacity > 0;
+  }
+
+  /**
+   * @return the remaining credits, or {@link Integer#MAX_VALUE} if the stream is not limited
+   */
+  int available() {
+    if (!isLimited()) {
+      return Integer.MAX_VALUE;
+    }
+
+    return Math.max(0, capacity - inFlight());
+  }
+
+  int inFlight() {
+    removeExpired();
+    return deadlinesByJobKey.size();
+  }
+
+  void onJobPushed(final long jobKey, final long deadline) {
+    deadlinesByJobKey.put(jobKey, deadline);
+    registry.put(jobKey, this);
+  }
+
+  /** Gives back the credit of the given job, if it was in flight for this stream. */
+  void release(final long jobKey) {
+    deadlinesByJobKey.remove(jobKey);
+    registry.remove(jobKey, this);
+  }
+
+  /** Gives back all credits, e.g. when the stream is closed. */
+  void releaseAll() {
+    deadlinesByJobKey.keySet().forEach(this::release);
+  }
+
+  private void removeExpired() {
+    final long now = clock.millis();
+    deadlinesByJobKey
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (entry.getValue() >= now) {
+                return false;
+              }
+
+              registry.remove(entry.getKey(), this);
+              return true;
+            });
+  }
+}
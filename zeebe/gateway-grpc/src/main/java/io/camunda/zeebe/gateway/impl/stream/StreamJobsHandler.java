@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 
 import io.camunda.zeebe.gateway.ResponseMapper;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJobBatch;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.scheduler.Actor;
@@ -26,7 +27,14 @@ import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,15 +43,58 @@ public class StreamJobsHandler extends Actor {
   private static final Logger LOGGER = LoggerFactory.getLogger(StreamJobsHandler.class);
 
   private final ClientStreamer<JobActivationProperties> jobStreamer;
+  // maps jobs pushed to credit limited streams to the credits of their stream
+  private final Map<Long, JobStreamCredits> creditsByJobKey = new ConcurrentHashMap<>();
 
   public StreamJobsHandler(final ClientStreamer<JobActivationProperties> jobStreamer) {
     this.jobStreamer = jobStreamer;
   }
 
+  /**
+   * Opens a job stream for the given job type, which sends each job as its own message.
+   *
+   * @param maxJobsActive the capacity of the worker, i.e. how many jobs may be in flight for this
+   *     stream at most; zero means unlimited
+   */
   public void handle(
       final String jobType,
       final JobActivationProperties jobActivationProperties,
+      final int maxJobsActive,
       final ServerCallStreamObserver<ActivatedJob> responseObserver) {
+    handle(
+        jobType,
+        jobActivationProperties,
+        maxJobsActive,
+        responseObserver,
+        credits -> new JobStreamConsumer(responseObserver, actor, credits));
+  }
+
+  /**
+   * Opens a job stream for the given job type, which sends jobs pushed together by the broker as a
+   * single {@link ActivatedJobBatch}.
+   *
+   * @param maxJobsActive the capacity of the worker, i.e. how many jobs may be in flight for this
+   *     stream at most; zero means unlimited
+   */
+  public void handleBatched(
+      final String jobType,
+      final JobActivationProperties jobActivationProperties,
+      final int maxJobsActive,
+      final ServerCallStreamObserver<ActivatedJobBatch> responseObserver) {
+    handle(
+        jobType,
+        jobActivationProperties,
+        maxJobsActive,
+        responseObserver,
+        credits -> JobStreamConsumer.batched(responseObserver, actor, credits));
+  }
+
+  private void handle(
+      final String jobType,
+      final JobActivationProperties jobActivationProperties,
+      final int maxJobsActive,
+      final ServerCallStreamObserver<?> responseObserver,
+      final Function<JobStreamCredits, JobStreamConsumer> consumerFactory) {
     // TODO(#14452): move validations to RequestMapper and convert
     //  to exceptions that can be used in the GrpcErrorMapper
     if (jobType.isBlank()) {
@@ -58,22 +109,52 @@ public class StreamJobsHandler extends Actor {
           Long.toString(jobActivationProperties.timeout()));
       return;
     }
+    if (maxJobsActive < 0) {
+      handleError(
+          responseObserver,
+          "maxJobsActive",
+          "greater than or equal to zero",
+          Integer.toString(maxJobsActive));
+      return;
+    }
 
-    handleInternal(jobType, jobActivationProperties, responseObserver);
+    handleInternal(
+        jobType, jobActivationProperties, maxJobsActive, responseObserver, consumerFactory);
+  }
+
+  /**
+   * Gives back the credit of the given job to the stream it was pushed to, if any. To be called
+   * whenever a job is completed, failed, or an error is thrown for it; the REST API reports these
+   * through the {@link io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier}.
+   */
+  public void onJobFinished(final long jobKey) {
+    final var credits = creditsByJobKey.get(jobKey);
+    if (credits != null) {
+      credits.release(jobKey);
+    }
   }
 
   private void handleInternal(
       final String jobType,
       final JobActivationProperties jobActivationProperties,
-      final ServerCallStreamObserver<ActivatedJob> responseObserver) {
+      final int maxJobsActive,
+      final ServerCallStreamObserver<?> responseObserver,
+      final Function<JobStreamCredits, JobStreamConsumer> consumerFactory) {
     final var streamType = wrapString(jobType);
-    final var consumer = new JobStreamConsumer(responseObserver, actor);
+    final var credits =
+        new JobStreamCredits(maxJobsActive, InstantSource.system(), creditsByJobKey);
+    final var consumer = consumerFactory.apply(credits);
     final var cleaner = new AsyncJobStreamRemover(jobStreamer, actor);
+    final Runnable onStreamClosed =
+        () -> {
+          cleaner.run();
+          credits.releaseAll();
+        };
 
     // setting the handlers has to be done before the call is started, so we cannot do it in the
     // actor callbacks, which is why the remover can handle being called out of order
-    responseObserver.setOnCloseHandler(cleaner);
-    responseObserver.setOnCancelHandler(cleaner);
+    responseObserver.setOnCloseHandler(onStreamClosed);
+    responseObserver.setOnCancelHandler(onStreamClosed);
 
     actor.run(
         () ->
@@ -83,7 +164,7 @@ public class StreamJobsHandler extends Actor {
   }
 
   private void onStreamAdded(
-      final StreamObserver<ActivatedJob> responseObserver,
+      final StreamObserver<?> responseObserver,
       final AsyncJobStreamRemover cleaner,
       final ClientStreamId streamId,
       final Throwable error) {
@@ -104,7 +185,7 @@ public class StreamJobsHandler extends Actor {
   }
 
   private void handleError(
-      final ServerCallStreamObserver<ActivatedJob> responseObserver,
+      final ServerCallStreamObserver<?> responseObserver,
       final String field,
       final String expectation,
       final String actual) {
@@ -114,24 +195,86 @@ public class StreamJobsHandler extends Actor {
         new StatusRuntimeException(Status.INVALID_ARGUMENT.withDescription(errorMessage)));
   }
 
+  /**
+   * Forwards jobs pushed by the broker to the client. A consumer created via {@link
+   * #batched(ServerCallStreamObserver, ConcurrencyControl, JobStreamCredits)} accepts batches and
+   * sends each of them as a single {@link ActivatedJobBatch}; otherwise, each job is sent as its
+   * own {@link ActivatedJob}.
+   */
   @VisibleForTesting("Allow unit testing behavior")
   static final class JobStreamConsumer implements ClientStreamConsumer {
-    private final ServerCallStreamObserver<ActivatedJob> responseObserver;
+    private final ServerCallStreamObserver<?> responseObserver;
+    private final Consumer<List<ActivatedJob>> sender;
+    private final boolean acceptsBatches;
     private final ConcurrencyControl executor;
+    private final JobStreamCredits credits;
 
     @VisibleForTesting("Allow unit testing behavior")
     JobStreamConsumer(
         final ServerCallStreamObserver<ActivatedJob> responseObserver,
         final ConcurrencyControl executor) {
+      this(responseObserver, executor, JobStreamCredits.unlimited());
+    }
+
+    @VisibleForTesting("Allow unit testing behavior")
+    JobStreamConsumer(
+        final ServerCallStreamObserver<ActivatedJob> responseObserver,
+        final ConcurrencyControl executor,
+        final JobStreamCredits credits) {
+      this(
+          responseObserver,
+          jobs -> jobs.forEach(responseObserver::onNext),
+          false,
+          executor,
+          credits);
+    }
+
+    private JobStreamConsumer(
+        final ServerCallStreamObserver<?> responseObserver,
+        final Consumer<List<ActivatedJob>> sender,
+        final boolean acceptsBatches,
+        final ConcurrencyControl executor,
+        final JobStreamCredits credits) {
       this.responseObserver = responseObserver;
+      this.sender = sender;
+      this.acceptsBatches = acceptsBatches;
       this.executor = executor;
+      this.credits = credits;
+    }
+
+    @VisibleForTesting("Allow unit testing behavior")
+    static JobStreamConsumer batched(
+        final ServerCallStreamObserver<ActivatedJobBatch> responseObserver,
+        final ConcurrencyControl executor,
+        final JobStreamCredits credits) {
+      return new JobStreamConsumer(
+          responseObserver,
+          jobs -> responseObserver.onNext(ActivatedJobBatch.newBuilder().addAllJobs(jobs).build()),
+          true,
+          executor,
+          credits);
+    }
+
+    @Override
+    public int availableCredits() {
+      return credits.available();
+    }
+
+    @Override
+    public int inFlight() {
+      return credits.inFlight();
     }
 
     @Override
     public ActorFuture<Void> push(final DirectBuffer payload) {
+      return pushBatch(List.of(payload));
+    }
+
+    @Override
+    public ActorFuture<Void> pushBatch(final List<DirectBuffer> payloads) {
       final var result = new CompletableActorFuture<Void>();
       try {
-        executor.run(() -> handlePushedJob(payload, result));
+        executor.run(() -> handlePushedJobs(payloads, result));
       } catch (final Exception e) {
         // only possible failure here is that the actor is not running, so close the stream
         // preemptively
@@ -142,30 +285,39 @@ public class StreamJobsHandler extends Actor {
       return result;
     }
 
-    private void handlePushedJob(
-        final DirectBuffer payload, final CompletableActorFuture<Void> result) {
-      final var deserializedJob = new ActivatedJobImpl();
-      final ActivatedJob activatedJob;
+    @Override
+    public boolean acceptsBatches() {
+      return acceptsBatches;
+    }
 
+    private void handlePushedJobs(
+        final List<DirectBuffer> payloads, final CompletableActorFuture<Void> result) {
       if (!responseObserver.isReady()) {
         result.completeExceptionally(
             new ClientStreamBlockedException(
                 "Expected to push payload (size = '%d') to stream, but stream is blocked"
-                    .formatted(payload.capacity())));
+                    .formatted(payloads.stream().mapToInt(DirectBuffer::capacity).sum())));
         return;
       }
 
       // fail push on serialization errors, but no need to close the client stream
+      final List<ActivatedJob> activatedJobs = new ArrayList<>(payloads.size());
       try {
-        deserializedJob.wrap(payload);
-        activatedJob = ResponseMapper.toActivatedJob(deserializedJob);
+        for (final var payload : payloads) {
+          final var deserializedJob = new ActivatedJobImpl();
+          deserializedJob.wrap(payload);
+          activatedJobs.add(ResponseMapper.toActivatedJob(deserializedJob));
+        }
       } catch (final Exception e) {
         result.completeExceptionally(e);
         return;
       }
 
       try {
-        responseObserver.onNext(activatedJob);
+        sender.accept(activatedJobs);
+        if (credits.isLimited()) {
+          activatedJobs.forEach(job -> credits.onJobPushed(job.getKey(), job.getDeadline()));
+        }
         result.complete(null);
       } catch (final Exception e) {
         responseObserver.onError(e);
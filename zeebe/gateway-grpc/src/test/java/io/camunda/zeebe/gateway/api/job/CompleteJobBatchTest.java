@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCompletionResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class CompleteJobBatchTest extends GatewayTest {
+
+  private static final long FIRST_JOB = Protocol.encodePartitionId(1, 1);
+  private static final long SECOND_JOB = Protocol.encodePartitionId(2, 1);
+  private static final long THIRD_JOB = Protocol.encodePartitionId(1, 2);
+
+  private long rejectedJob = -1;
+
+  @Before
+  public void setup() {
+    brokerClient.registerHandler(BrokerCompleteJobBatchRequest.class, this::handle);
+  }
+
+  @Test
+  public void shouldSendOneBatchPerPartition() {
+    // given
+    final var request = newRequest(FIRST_JOB, SECOND_JOB, THIRD_JOB);
+
+    // when
+    client.completeJobBatch(request);
+
+    // then
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .map(BrokerCompleteJobBatchRequest.class::cast)
+        .extracting(
+            BrokerCompleteJobBatchRequest::getPartitionId, BrokerCompleteJobBatchRequest::getKeys)
+        .containsExactlyInAnyOrder(
+            tuple(1, List.of(FIRST_JOB, THIRD_JOB)),
+            tuple(2, List.of(SECOND_JOB)));
+    assertThat(brokerClient.getBrokerRequests())
+        .map(BrokerCompleteJobBatchRequest.class::cast)
+        .allMatch(batch -> batch.getIntent() == JobIntent.COMPLETE);
+  }
+
+  @Test
+  public void shouldReturnResultsInRequestOrder() {
+    // given
+    final var request = newRequest(FIRST_JOB, SECOND_JOB, THIRD_JOB);
+
+    // when
+    final CompleteJobBatchResponse response = client.completeJobBatch(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobCompletionResult::getJobKey, JobCompletionResult::getCode)
+        .containsExactly(
+            tuple(FIRST_JOB, Status.Code.OK.value()),
+            tuple(SECOND_JOB, Status.Code.OK.value()),
+            tuple(THIRD_JOB, Status.Code.OK.value()));
+  }
+
+  @Test
+  public void shouldReportRejectedJobSeparately() {
+    // given
+    rejectedJob = THIRD_JOB;
+    final var request = newRequest(FIRST_JOB, THIRD_JOB);
+
+    // when
+    final CompleteJobBatchResponse response = client.completeJobBatch(request);
+
+    // then
+    assertThat(response.getResults(0).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(response.getResults(1).getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+    assertThat(response.getResults(1).getMessage()).contains("no such job");
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // given
+    final var request = CompleteJobBatchRequest.getDefaultInstance();
+
+    // when - then
+    assertThatThrownBy(() -> client.completeJobBatch(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private CompleteJobBatchRequest newRequest(final long... jobKeys) {
+    final var request = CompleteJobBatchRequest.newBuilder();
+    for (final long jobKey : jobKeys) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(jobKey));
+    }
+    return request.build();
+  }
+
+  private BrokerResponse<List<BrokerResponse<JobRecord>>> handle(
+      final BrokerCompleteJobBatchRequest request) {
+    final var responses = new ArrayList<BrokerResponse<JobRecord>>();
+    for (final long key : request.getKeys()) {
+      if (key == rejectedJob) {
+        responses.add(
+            new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    JobIntent.COMPLETE, key, RejectionType.NOT_FOUND, "no such job")));
+      } else {
+        responses.add(new BrokerResponse<>(new JobRecord(), request.getPartitionId(), key));
+      }
+    }
+    return new BrokerResponse<>(responses, request.getPartitionId(), -1);
+  }
+}
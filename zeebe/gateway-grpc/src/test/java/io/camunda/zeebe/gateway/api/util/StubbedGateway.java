@@ -98,7 +98,12 @@ public final class StubbedGateway {
 
     final MultiTenancyConfiguration multiTenancy = securityConfiguration.getMultiTenancy();
     final EndpointManager endpointManager =
-        new EndpointManager(brokerClient, activateJobsHandler, clientStreamAdapter, multiTenancy);
+        new EndpointManager(
+            brokerClient,
+            activateJobsHandler,
+            clientStreamAdapter,
+            multiTenancy,
+            config.getNetwork().getMaxMessageSize().toBytes());
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
     final InProcessServerBuilder serverBuilder =
         InProcessServerBuilder.forName(SERVER_NAME)
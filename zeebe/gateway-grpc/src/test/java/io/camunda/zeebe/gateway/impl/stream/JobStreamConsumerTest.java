@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler.JobStreamConsumer;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJobBatch;
 import io.camunda.zeebe.msgpack.spec.MsgpackReaderException;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
@@ -22,6 +23,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.agrona.LangUtil;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 
 final class JobStreamConsumerTest {
@@ -31,7 +33,7 @@ final class JobStreamConsumerTest {
   void shouldRethrowExceptionOnPushFailure() {
     // given
     final var failure = new RuntimeException("failed");
-    final var clientObserver = new TestStreamObserver();
+    final var clientObserver = new TestStreamObserver<ActivatedJob>();
     final var consumer = new JobStreamConsumer(clientObserver, executor);
     clientObserver.failure = failure;
 
@@ -50,7 +52,7 @@ final class JobStreamConsumerTest {
   @Test
   void shouldFailPushOnSerialization() {
     // given
-    final var clientObserver = new TestStreamObserver();
+    final var clientObserver = new TestStreamObserver<ActivatedJob>();
     final var consumer = new JobStreamConsumer(clientObserver, executor);
 
     // when
@@ -68,7 +70,7 @@ final class JobStreamConsumerTest {
   @Test
   void shouldFailPushOnClientStreamNotReady() {
     // given
-    final var clientObserver = new TestStreamObserver();
+    final var clientObserver = new TestStreamObserver<ActivatedJob>();
     final var consumer = new JobStreamConsumer(clientObserver, executor);
     clientObserver.isReady = false;
 
@@ -87,7 +89,7 @@ final class JobStreamConsumerTest {
   @Test
   void shouldPushPayload() {
     // given
-    final var clientObserver = new TestStreamObserver();
+    final var clientObserver = new TestStreamObserver<ActivatedJob>();
     final var consumer = new JobStreamConsumer(clientObserver, executor);
     final var job = new ActivatedJobImpl().setJobKey(1);
 
@@ -100,9 +102,69 @@ final class JobStreamConsumerTest {
     assertThat(clientObserver.pushed).extracting(ActivatedJob::getKey).containsExactly(1L);
   }
 
-  private static final class TestStreamObserver extends ServerCallStreamObserver<ActivatedJob>
-      implements StreamObserver<ActivatedJob> {
-    private final List<ActivatedJob> pushed = new ArrayList<>();
+  @Test
+  void shouldPushBatchAsSingleMessage() {
+    // given
+    final var clientObserver = new TestStreamObserver<ActivatedJobBatch>();
+    final var consumer =
+        JobStreamConsumer.batched(clientObserver, executor, JobStreamCredits.unlimited());
+    final var payloads =
+        List.of(
+            BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(1)),
+            BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(2)));
+
+    // when
+    final var result = consumer.pushBatch(payloads);
+
+    // then
+    assertThat(result).succeedsWithin(Duration.ZERO);
+    assertThat(consumer.acceptsBatches()).isTrue();
+    assertThat(clientObserver.pushed)
+        .singleElement()
+        .extracting(ActivatedJobBatch::getJobsList)
+        .asInstanceOf(InstanceOfAssertFactories.list(ActivatedJob.class))
+        .extracting(ActivatedJob::getKey)
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldNotPushAnyJobOfBatchOnSerializationFailure() {
+    // given
+    final var clientObserver = new TestStreamObserver<ActivatedJobBatch>();
+    final var consumer =
+        JobStreamConsumer.batched(clientObserver, executor, JobStreamCredits.unlimited());
+    final var payloads =
+        List.of(
+            BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(1)),
+            BufferUtil.wrapString("i am not a job"));
+
+    // when
+    final var result = consumer.pushBatch(payloads);
+
+    // then
+    assertThat(result)
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .havingRootCause()
+        .isInstanceOf(MsgpackReaderException.class);
+    assertThat(clientObserver.pushed).isEmpty();
+  }
+
+  @Test
+  void shouldNotAcceptBatchesBySingleJobConsumer() {
+    // given
+    final var clientObserver = new TestStreamObserver<ActivatedJob>();
+
+    // when
+    final var consumer = new JobStreamConsumer(clientObserver, executor);
+
+    // then
+    assertThat(consumer.acceptsBatches()).isFalse();
+  }
+
+  private static final class TestStreamObserver<T> extends ServerCallStreamObserver<T>
+      implements StreamObserver<T> {
+    private final List<T> pushed = new ArrayList<>();
 
     private boolean isReady = true;
     private Throwable failure;
@@ -149,7 +211,7 @@ final class JobStreamConsumerTest {
     }
 
     @Override
-    public void onNext(final ActivatedJob value) {
+    public void onNext(final T value) {
       if (failure != null) {
         LangUtil.rethrowUnchecked(failure);
       }
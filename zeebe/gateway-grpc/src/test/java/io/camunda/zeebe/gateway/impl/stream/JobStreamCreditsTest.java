@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class JobStreamCreditsTest {
+  private final AtomicLong now = new AtomicLong(1_000);
+  private final InstantSource clock = () -> Instant.ofEpochMilli(now.get());
+  private final Map<Long, JobStreamCredits> registry = new ConcurrentHashMap<>();
+
+  @Test
+  void shouldConsumeCreditOnPush() {
+    // given
+    final var credits = new JobStreamCredits(2, clock, registry);
+
+    // when
+    credits.onJobPushed(1, 2_000);
+
+    // then
+    assertThat(credits.available()).isOne();
+    assertThat(credits.inFlight()).isOne();
+    assertThat(registry).containsEntry(1L, credits);
+  }
+
+  @Test
+  void shouldReplenishCreditOnRelease() {
+    // given
+    final var credits = new JobStreamCredits(2, clock, registry);
+    credits.onJobPushed(1, 2_000);
+    credits.onJobPushed(2, 2_000);
+
+    // when
+    credits.release(1);
+
+    // then
+    assertThat(credits.available()).isOne();
+    assertThat(registry).containsOnlyKeys(2L);
+  }
+
+  @Test
+  void shouldReplenishCreditOnceDeadlinePassed() {
+    // given
+    final var credits = new JobStreamCredits(1, clock, registry);
+    credits.onJobPushed(1, 2_000);
+    assertThat(credits.available()).isZero();
+
+    // when
+    now.set(2_001);
+
+    // then
+    assertThat(credits.available()).isOne();
+    assertThat(registry).isEmpty();
+  }
+
+  @Test
+  void shouldReleaseAllCredits() {
+    // given
+    final var credits = new JobStreamCredits(2, clock, registry);
+    credits.onJobPushed(1, 2_000);
+    credits.onJobPushed(2, 2_000);
+
+    // when
+    credits.releaseAll();
+
+    // then
+    assertThat(credits.available()).isEqualTo(2);
+    assertThat(registry).isEmpty();
+  }
+
+  @Test
+  void shouldHaveUnlimitedCreditsWithoutCapacity() {
+    // given
+    final var credits = new JobStreamCredits(0, clock, registry);
+
+    // then
+    assertThat(credits.isLimited()).isFalse();
+    assertThat(credits.available()).isEqualTo(Integer.MAX_VALUE);
+  }
+}
@@ -14,6 +14,7 @@ import static io.camunda.zeebe.gateway.rest.validator.DocumentValidator.validate
 import static io.camunda.zeebe.gateway.rest.validator.ElementRequestValidator.validateVariableRequest;
 import static io.camunda.zeebe.gateway.rest.validator.EvaluateDecisionRequestValidator.validateEvaluateDecisionRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobActivationRequest;
+import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobBatchCompletionRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobErrorRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobUpdateRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MappingValidator.validateMappingRequest;
@@ -45,6 +46,7 @@ import io.camunda.service.DocumentServices.DocumentCreateRequest;
 import io.camunda.service.DocumentServices.DocumentLinkParams;
 import io.camunda.service.ElementInstanceServices.SetVariablesRequest;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.JobCompletionItem;
 import io.camunda.service.JobServices.UpdateJobChangeset;
 import io.camunda.service.MappingServices.MappingDTO;
 import io.camunda.service.MessageServices.CorrelateMessageRequest;
@@ -71,6 +73,8 @@ import io.camunda.zeebe.gateway.protocol.rest.EvaluateDecisionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.GroupCreateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.GroupUpdateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
@@ -273,6 +277,21 @@ public class RequestMapper {
         getJobResultOrDefault(completionRequest));
   }
 
+  public static Either<ProblemDetail, List<JobCompletionItem>> toJobBatchCompletionRequest(
+      final JobBatchCompletionRequest completionRequest) {
+    return getResult(
+        validateJobBatchCompletionRequest(completionRequest),
+        () ->
+            completionRequest.getJobs().stream()
+                .map(
+                    job ->
+                        new JobCompletionItem(
+                            job.getJobKey(),
+                            getMapOrEmpty(job, JobBatchCompletionItem::getVariables),
+                            toJobResult(job.getResult())))
+                .toList());
+  }
+
   public static Either<ProblemDetail, UpdateJobRequest> toJobUpdateRequest(
       final JobUpdateRequest updateRequest, final long jobKey) {
     final var validationJobUpdateResponse = validateJobUpdateRequest(updateRequest);
@@ -814,14 +833,19 @@ public class RequestMapper {
   }
 
   private static JobResult getJobResultOrDefault(final JobCompletionRequest request) {
-    if (request == null || request.getResult() == null) {
+    return toJobResult(request == null ? null : request.getResult());
+  }
+
+  private static JobResult toJobResult(
+      final io.camunda.zeebe.gateway.protocol.rest.JobResult result) {
+    if (result == null) {
       return new JobResult();
     }
 
     final JobResult jobResult = new JobResult();
-    jobResult.setDenied(getBooleanOrDefault(request, r -> r.getResult().getDenied(), false));
+    jobResult.setDenied(getBooleanOrDefault(result, r -> r.getDenied(), false));
 
-    final var jobResultCorrections = request.getResult().getCorrections();
+    final var jobResultCorrections = result.getCorrections();
     if (jobResultCorrections == null) {
       return jobResult;
     }
@@ -23,6 +23,7 @@ import io.camunda.document.api.DocumentLink;
 import io.camunda.service.DocumentServices.DocumentErrorResponse;
 import io.camunda.service.DocumentServices.DocumentReferenceResponse;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.rest.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.rest.AuthorizationCreateResponse;
@@ -45,6 +46,8 @@ import io.camunda.zeebe.gateway.protocol.rest.EvaluatedDecisionItem;
 import io.camunda.zeebe.gateway.protocol.rest.EvaluatedDecisionOutputItem;
 import io.camunda.zeebe.gateway.protocol.rest.GroupCreateResponse;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobCompletionFailureDetail;
 import io.camunda.zeebe.gateway.protocol.rest.MappingRuleCreateResponse;
 import io.camunda.zeebe.gateway.protocol.rest.MatchedDecisionRuleItem;
 import io.camunda.zeebe.gateway.protocol.rest.MessageCorrelationResponse;
@@ -196,6 +199,32 @@ public final class ResponseMapper {
     return new ResponseEntity<>(reference, HttpStatus.CREATED);
   }
 
+  public static ResponseEntity<Object> toJobBatchCompletionResponse(
+      final List<JobCompletionResult> results) {
+    final var response = new JobBatchCompletionResponse();
+    response.setCompletedJobs(new ArrayList<>());
+    response.setFailedJobs(new ArrayList<>());
+
+    for (final var result : results) {
+      if (result.isCompleted()) {
+        response.addCompletedJobsItem(result.jobKey());
+      } else {
+        final var problem =
+            RestErrorMapper.mapErrorToProblem(
+                result.failure(), RestErrorMapper.DEFAULT_REJECTION_MAPPER);
+        response.addFailedJobsItem(
+            new JobCompletionFailureDetail()
+                .jobKey(result.jobKey())
+                .status(problem.getStatus())
+                .title(problem.getTitle())
+                .detail(problem.getDetail()));
+      }
+    }
+
+    final var status = response.getFailedJobs().isEmpty() ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+    return ResponseEntity.status(status).body(response);
+  }
+
   public static ResponseEntity<Object> toDocumentReferenceBatch(
       final List<Either<DocumentErrorResponse, DocumentReferenceResponse>> responses) {
     final List<DocumentReferenceResponse> successful =
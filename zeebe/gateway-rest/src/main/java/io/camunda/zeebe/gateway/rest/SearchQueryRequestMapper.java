@@ -44,6 +44,7 @@ import io.camunda.search.filter.UserTaskFilter;
 import io.camunda.search.filter.VariableFilter;
 import io.camunda.search.filter.VariableValueFilter;
 import io.camunda.search.page.SearchQueryPage;
+import io.camunda.search.page.SearchQueryPage.CountMode;
 import io.camunda.search.query.AuthorizationQuery;
 import io.camunda.search.query.DecisionDefinitionQuery;
 import io.camunda.search.query.DecisionInstanceQuery;
@@ -1029,7 +1030,20 @@ public final class SearchQueryRequestMapper {
                 p.size(requestedPage.getLimit())
                     .from(requestedPage.getFrom())
                     .searchAfter(searchAfter)
-                    .searchBefore(searchBefore)));
+                    .searchBefore(searchBefore)
+                    .countMode(toCountMode(requestedPage.getCountMode()))));
+  }
+
+  private static CountMode toCountMode(final SearchQueryCountModeEnum countMode) {
+    if (countMode == null) {
+      return null;
+    }
+
+    return switch (countMode) {
+      case EXACT -> CountMode.EXACT;
+      case CAPPED -> CountMode.CAPPED;
+      case NONE -> CountMode.NONE;
+    };
   }
 
   private static <T, B extends SortOption.AbstractBuilder<B> & ObjectBuilder<T>, F>
@@ -9,8 +9,10 @@ package io.camunda.zeebe.gateway.rest.controller;
 
 import io.camunda.service.JobServices;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.JobCompletionItem;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
@@ -20,9 +22,11 @@ import io.camunda.zeebe.gateway.rest.RequestMapper.CompleteJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.ErrorJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.FailJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.UpdateJobRequest;
+import io.camunda.zeebe.gateway.rest.ResponseMapper;
 import io.camunda.zeebe.gateway.rest.RestErrorMapper;
 import io.camunda.zeebe.gateway.rest.annotation.CamundaPatchMapping;
 import io.camunda.zeebe.gateway.rest.annotation.CamundaPostMapping;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -71,6 +75,13 @@ public class JobController {
     return completeJob(RequestMapper.toJobCompletionRequest(completionRequest, jobKey));
   }
 
+  @CamundaPostMapping(path = "/completion")
+  public CompletableFuture<ResponseEntity<Object>> completeJobs(
+      @RequestBody final JobBatchCompletionRequest completionRequest) {
+    return RequestMapper.toJobBatchCompletionRequest(completionRequest)
+        .fold(RestErrorMapper::mapProblemToCompletedResponse, this::completeJobs);
+  }
+
   @CamundaPatchMapping(path = "/{jobKey}")
   public CompletableFuture<ResponseEntity<Object>> updateJob(
       @PathVariable final long jobKey, @RequestBody final JobUpdateRequest jobUpdateRequest) {
@@ -130,6 +141,14 @@ public class JobController {
                     completeJobRequest.result()));
   }
 
+  private CompletableFuture<ResponseEntity<Object>> completeJobs(
+      final List<JobCompletionItem> jobs) {
+    return jobServices
+        .withAuthentication(RequestMapper.getAuthentication())
+        .completeJobs(jobs)
+        .thenApplyAsync(ResponseMapper::toJobBatchCompletionResponse);
+  }
+
   private CompletableFuture<ResponseEntity<Object>> updateJob(
       final UpdateJobRequest updateJobRequest) {
     return RequestMapper.executeServiceMethodWithNoContentResult(
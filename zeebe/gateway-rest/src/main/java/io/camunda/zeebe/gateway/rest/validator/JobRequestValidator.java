@@ -9,10 +9,13 @@ package io.camunda.zeebe.gateway.rest.validator;
 
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_AT_LEAST_ONE_FIELD;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_ATTRIBUTE;
+import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_NESTED_ATTRIBUTE;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validate;
 
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobChangeset;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
@@ -69,4 +72,17 @@ public final class JobRequestValidator {
           }
         });
   }
+
+  public static Optional<ProblemDetail> validateJobBatchCompletionRequest(
+      final JobBatchCompletionRequest completionRequest) {
+    return validate(
+        violations -> {
+          final List<JobBatchCompletionItem> jobs = completionRequest.getJobs();
+          if (jobs == null || jobs.isEmpty()) {
+            violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("jobs"));
+          } else if (jobs.stream().anyMatch(job -> job == null || job.getJobKey() == null)) {
+            violations.add(ERROR_MESSAGE_EMPTY_NESTED_ATTRIBUTE.formatted("jobKey", "jobs"));
+          }
+        });
+  }
 }
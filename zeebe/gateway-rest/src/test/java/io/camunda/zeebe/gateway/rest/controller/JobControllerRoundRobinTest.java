@@ -21,6 +21,7 @@ import io.camunda.zeebe.gateway.api.job.ActivateJobsStub;
 import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobFinishedNotifier;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.gateway.rest.ResponseMapper;
@@ -394,6 +395,7 @@ public class JobControllerRoundRobinTest extends RestControllerTest {
           brokerClient,
           new SecurityContextProvider(new SecurityConfiguration(), null),
           activateJobsHandler,
+          new JobFinishedNotifier(),
           null);
     }
   }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.rest.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -17,13 +18,19 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.security.auth.Authentication;
 import io.camunda.service.JobServices;
+import io.camunda.service.JobServices.JobCompletionItem;
 import io.camunda.service.JobServices.UpdateJobChangeset;
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.gateway.rest.RestControllerTest;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobResult;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobResultCorrections;
 import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -613,6 +620,133 @@ public class JobControllerTest extends RestControllerTest {
     Mockito.verify(jobServices).completeJob(eq(1L), eq(Map.of("foo", "bar")), any(JobResult.class));
   }
 
+  @Test
+  void shouldCompleteJobs() {
+    // given
+    when(jobServices.completeJobs(any()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                List.of(new JobCompletionResult(1L, null), new JobCompletionResult(2L, null))));
+
+    final var request =
+        """
+          {
+            "jobs": [
+              { "jobKey": 1, "variables": { "foo": "bar" } },
+              { "jobKey": 2 }
+            ]
+          }
+        """;
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(
+            """
+            {
+              "completedJobs": [1, 2],
+              "failedJobs": []
+            }""");
+
+    final ArgumentCaptor<List<JobCompletionItem>> captor = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(jobServices).completeJobs(captor.capture());
+    assertThat(captor.getValue())
+        .extracting(JobCompletionItem::jobKey, JobCompletionItem::variables)
+        .containsExactly(tuple(1L, Map.of("foo", "bar")), tuple(2L, Map.of()));
+  }
+
+  @Test
+  void shouldReportFailedJobsOfBatch() {
+    // given
+    final var rejection =
+        new BrokerRejection(JobIntent.COMPLETE, 2L, RejectionType.NOT_FOUND, "no such job");
+    when(jobServices.completeJobs(any()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                List.of(
+                    new JobCompletionResult(1L, null),
+                    new JobCompletionResult(2L, new BrokerRejectionException(rejection)))));
+
+    final var request =
+        """
+          {
+            "jobs": [{ "jobKey": 1 }, { "jobKey": 2 }]
+          }
+        """;
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isEqualTo(207)
+        .expectBody()
+        .json(
+            """
+            {
+              "completedJobs": [1],
+              "failedJobs": [
+                {
+                  "jobKey": 2,
+                  "status": 404,
+                  "title": "NOT_FOUND",
+                  "detail": "Command 'COMPLETE' rejected with code 'NOT_FOUND': no such job"
+                }
+              ]
+            }""");
+  }
+
+  @Test
+  void shouldRejectEmptyJobBatch() {
+    // given
+    final var request =
+        """
+          {
+            "jobs": []
+          }
+        """;
+
+    final var expectedBody =
+        """
+            {
+              "type": "about:blank",
+              "status": 400,
+              "title": "INVALID_ARGUMENT",
+              "detail": "No jobs provided.",
+              "instance": "%s"
+            }"""
+            .formatted(JOBS_BASE_URL + "/completion");
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .json(expectedBody);
+
+    Mockito.verify(jobServices, Mockito.never()).completeJobs(any());
+  }
+
   @Test
   void shouldUpdateJob() {
     // given
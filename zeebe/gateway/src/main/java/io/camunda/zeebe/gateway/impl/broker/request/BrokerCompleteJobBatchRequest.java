@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobResult;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+public final class BrokerCompleteJobBatchRequest extends BrokerExecuteCommandBatch<JobRecord> {
+
+  private final List<JobRecord> requestDtos = new ArrayList<>();
+
+  public BrokerCompleteJobBatchRequest() {
+    super(ValueType.JOB, JobIntent.COMPLETE);
+  }
+
+  public BrokerCompleteJobBatchRequest addJob(
+      final long key, final DirectBuffer variables, final JobResult result) {
+    final JobRecord requestDto = new JobRecord();
+    requestDto.setVariables(variables);
+    requestDto.setResult(result);
+    return addJob(key, requestDto);
+  }
+
+  /**
+   * @param key the key of the job to complete
+   * @param requestDto the job holding the variables and result to complete it with; it is not
+   *     copied, so it must not be modified until the request is sent
+   */
+  public BrokerCompleteJobBatchRequest addJob(final long key, final JobRecord requestDto) {
+    addCommand(key, requestDto);
+    requestDtos.add(requestDto);
+    return this;
+  }
+
+  // public so we can do assertions in tests
+  public List<JobRecord> getJobs() {
+    return List.copyOf(requestDtos);
+  }
+
+  @Override
+  protected JobRecord toCommandResponseDto(final DirectBuffer buffer) {
+    final JobRecord responseDto = new JobRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerErrorException;
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobBatchRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.agrona.DirectBuffer;
+
+/**
+ * Completes many jobs with a single call. The jobs are grouped by the partition they belong to, and
+ * each group is sent as one {@link BrokerCompleteJobBatchRequest}, which the partition writes to
+ * its log as a single batch. Results are reported per job: a rejected job, or a partition which
+ * cannot be reached, does not fail the completion of the other jobs.
+ *
+ * <p>A group is split into several batches if it holds more than {@link
+ * BrokerExecuteCommandBatch#MAX_COMMANDS} jobs, or if its batch would exceed the max message size
+ * of the partition, such that large variables do not cause the whole group to be rejected.
+ */
+public final class CompleteJobsHandler {
+
+  /** The default max message size of a broker, used if the actual limit is not configured. */
+  public static final long DEFAULT_MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+  /**
+   * The broker writes each command with its own metadata and framing, so a batch takes more space
+   * in the log than its commands do in the request. This is a conservative estimate of that
+   * overhead per command, excluding the authorization, which is accounted for separately.
+   */
+  private static final int COMMAND_OVERHEAD_LENGTH = 512;
+
+  private final BrokerClient brokerClient;
+  private final long maxMessageSize;
+
+  public CompleteJobsHandler(final BrokerClient brokerClient) {
+    this(brokerClient, DEFAULT_MAX_MESSAGE_SIZE);
+  }
+
+  /**
+   * @param brokerClient the client to send the batch requests with
+   * @param maxMessageSize the max size of a batch written to the log of a partition
+   */
+  public CompleteJobsHandler(final BrokerClient brokerClient, final long maxMessageSize) {
+    this.brokerClient = brokerClient;
+    this.maxMessageSize = maxMessageSize;
+  }
+
+  /**
+   * @param jobs the jobs to complete
+   * @param authorizationClaims the claims of the caller, applied to every batch request
+   * @return a future which is completed with one result per job, in the order of {@code jobs}; it
+   *     is never completed exceptionally
+   */
+  public CompletableFuture<List<JobCompletionResult>> completeJobs(
+      final List<JobCompletion> jobs, final Map<String, Object> authorizationClaims) {
+    final var results = new JobCompletionResult[jobs.size()];
+    final var batches = new ArrayList<PendingBatch>();
+    final var openBatches = new HashMap<Integer, PendingBatch>();
+
+    for (int i = 0; i < jobs.size(); i++) {
+      final var job = jobs.get(i);
+      final var partitionId = Protocol.decodePartitionId(job.jobKey());
+      final var jobRecord = new JobRecord();
+      jobRecord.setVariables(job.variables());
+      jobRecord.setResult(job.result());
+
+      var batch = openBatches.get(partitionId);
+      if (batch == null || !batch.canAdd(jobRecord.getLength(), maxMessageSize)) {
+        final var request = new BrokerCompleteJobBatchRequest();
+        request.setPartitionId(partitionId);
+        request.setAuthorization(authorizationClaims);
+        batch = new PendingBatch(request);
+        openBatches.put(partitionId, batch);
+        batches.add(batch);
+      }
+
+      batch.add(job.jobKey(), jobRecord, i);
+    }
+
+    final var sentBatches =
+        batches.stream()
+            .map(
+                batch ->
+                    brokerClient
+                        .sendRequestWithRetry(batch.request())
+                        .handle(
+                            (response, error) -> {
+                              onBatchCompleted(jobs, results, batch, response, error);
+                              return null;
+                            }))
+            .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(sentBatches).thenApply(ignored -> Arrays.asList(results));
+  }
+
+  private void onBatchCompleted(
+      final List<JobCompletion> jobs,
+      final JobCompletionResult[] results,
+      final PendingBatch batch,
+      final BrokerResponse<List<BrokerResponse<JobRecord>>> response,
+      final Throwable error) {
+    final var jobIndexes = batch.jobIndexes();
+    for (int i = 0; i < jobIndexes.size(); i++) {
+      final int jobIndex = jobIndexes.get(i);
+      final var jobKey = jobs.get(jobIndex).jobKey();
+
+      final Throwable failure;
+      if (error != null) {
+        failure = error instanceof final CompletionException e ? e.getCause() : error;
+      } else {
+        final var jobResponse = response.getResponse().get(i);
+        if (jobResponse.isRejection()) {
+          failure = new BrokerRejectionException(jobResponse.getRejection());
+        } else if (jobResponse.isError()) {
+          failure = new BrokerErrorException(jobResponse.getError());
+        } else {
+          failure = null;
+        }
+      }
+
+      results[jobIndex] = new JobCompletionResult(jobKey, failure);
+    }
+  }
+
+  /**
+   * A job to complete.
+   *
+   * @param jobKey the key of the job
+   * @param variables the variables to complete the job with, as a MessagePack document
+   * @param result the result of the job, or null
+   */
+  public record JobCompletion(long jobKey, DirectBuffer variables, JobResult result) {}
+
+  /**
+   * The outcome of completing a single job.
+   *
+   * @param jobKey the key of the job
+   * @param failure why the job could not be completed, or null if it was completed
+   */
+  public record JobCompletionResult(long jobKey, Throwable failure) {
+    public boolean isCompleted() {
+      return failure == null;
+    }
+  }
+
+  private static final class PendingBatch {
+
+    private final BrokerCompleteJobBatchRequest request;
+    private final List<Integer> jobIndexes = new ArrayList<>();
+    private final int commandOverheadLength;
+    private long length;
+
+    private PendingBatch(final BrokerCompleteJobBatchRequest request) {
+      this.request = request;
+      // the authorization is part of the metadata of every command written to the log
+      commandOverheadLength = COMMAND_OVERHEAD_LENGTH + request.getAuthorization().getLength();
+    }
+
+    /**
+     * A job is always added to an empty batch, even if it exceeds the max message size on its
+     * own; the broker then rejects only this job.
+     */
+    private boolean canAdd(final int jobLength, final long maxMessageSize) {
+      if (request.size() >= BrokerExecuteCommandBatch.MAX_COMMANDS) {
+        return false;
+      }
+
+      return request.size() == 0 || length + jobLength + commandOverheadLength <= maxMessageSize;
+    }
+
+    private void add(final long jobKey, final JobRecord jobRecord, final int jobIndex) {
+      request.addJob(jobKey, jobRecord);
+      jobIndexes.add(jobIndex);
+      length += jobRecord.getLength() + commandOverheadLength;
+    }
+
+    private BrokerCompleteJobBatchRequest request() {
+      return request;
+    }
+
+    private List<Integer> jobIndexes() {
+      return jobIndexes;
+    }
+  }
+}
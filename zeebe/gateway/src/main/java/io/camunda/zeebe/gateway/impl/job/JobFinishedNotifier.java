@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * Notifies listeners whenever a job is completed, failed or an error is thrown for it through this
+ * gateway, regardless of whether the request came in via gRPC or REST. The gRPC job streams listen
+ * to it to give back the credit held by the job to the stream it was pushed to.
+ *
+ * <p>Note that only requests handled by this gateway are observed: a job pushed by this gateway
+ * but finished through another gateway keeps its credit until its deadline passes.
+ */
+public final class JobFinishedNotifier {
+
+  private final List<LongConsumer> listeners = new CopyOnWriteArrayList<>();
+
+  public void addListener(final LongConsumer listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(final LongConsumer listener) {
+    listeners.remove(listener);
+  }
+
+  /** To be called whenever a request to complete, fail or throw an error for a job is sent. */
+  public void onJobFinished(final long jobKey) {
+    for (final var listener : listeners) {
+      listener.accept(jobKey);
+    }
+  }
+}
@@ -288,6 +288,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
   private void onJobAvailableNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    // the hint of the partition which sent the notification may not have reached us yet
+    activateJobsHandler.ignoreJobAvailabilityHints(jobType);
 
     // instead of calling #getJobTypeState(), do only a
     // get to avoid the creation of a state instance.
@@ -357,6 +359,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           if (state.getLastUpdatedTime() < (now - probeTimeoutMillis)) {
             final InflightActivateJobsRequest<T> probeRequest = state.getNextPendingRequest();
             if (probeRequest != null) {
+              // probing is the safety net for missed notifications, so don't rely on hints either
+              activateJobsHandler.ignoreJobAvailabilityHints(type);
               tryToActivateJobsOnAllPartitions(state, probeRequest);
             } else {
               // there are no blocked requests, so use next request as probe
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
+import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
+
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
@@ -18,20 +20,27 @@ import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.util.Either;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>Partitions whose leader published a job availability hint without the requested job type are
+ * skipped, unless the hints are temporarily ignored for that type (see {@link
+ * #ignoreJobAvailabilityHints(String)}).
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -41,8 +50,15 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private static final String MAX_MESSAGE_SIZE_EXCEEDED_MSG =
       "the response is bigger than the maximum allowed message size %d";
 
+  /**
+   * How long the job availability hints are ignored for a job type after a notification or probe;
+   * this covers the time it takes until an updated hint is gossiped to this gateway.
+   */
+  private static final Duration JOB_AVAILABILITY_HINTS_GRACE_PERIOD = Duration.ofSeconds(5);
+
   private final Map<String, RoundRobinDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
+  private final Map<String, Long> jobTypeToIgnoreHintsDeadline = new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
@@ -289,6 +305,15 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         reason);
   }
 
+  /**
+   * Ignores the job availability hints for the given job type for a short grace period, e.g. when
+   * jobs of this type were just announced and the hints may not be up-to-date yet.
+   */
+  public void ignoreJobAvailabilityHints(final String jobType) {
+    jobTypeToIgnoreHintsDeadline.put(
+        jobType, currentTimeMillis() + JOB_AVAILABILITY_HINTS_GRACE_PERIOD.toMillis());
+  }
+
   private PartitionIdIterator partitionIdIteratorForType(
       final String jobType, final int partitionsCount) {
     final var nextPartitionSupplier =
@@ -296,7 +321,28 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
     return new PartitionIdIterator(
         nextPartitionSupplier.determinePartition(topologyManager),
         partitionsCount,
-        topologyManager);
+        topologyManager,
+        partitionFilterForType(jobType));
+  }
+
+  private IntPredicate partitionFilterForType(final String jobType) {
+    final var ignoreHintsDeadline = jobTypeToIgnoreHintsDeadline.get(jobType);
+    if (ignoreHintsDeadline != null) {
+      if (ignoreHintsDeadline > currentTimeMillis()) {
+        return partitionId -> true;
+      }
+      jobTypeToIgnoreHintsDeadline.remove(jobType, ignoreHintsDeadline);
+    }
+
+    final var topology = topologyManager.getTopology();
+    return partitionId -> {
+      if (topology == null || topology.mayHaveActivatableJobs(partitionId, jobType)) {
+        return true;
+      }
+
+      JobActivationMetrics.registerSkippedPartition(partitionId);
+      return false;
+    };
   }
 
   private record ResponseObserverDelegate(
@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class JobActivationMetrics {
+
+  private static final Counter SKIPPED_PARTITIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_job_activation_skipped_partitions_total")
+          .help(
+              "Number of activate jobs requests not sent to a partition, because its job"
+                  + " availability hint reported no jobs of the requested type")
+          .labelNames("partition")
+          .register();
+
+  private JobActivationMetrics() {}
+
+  public static void registerSkippedPartition(final int partition) {
+    SKIPPED_PARTITIONS.labels(Integer.toString(partition)).inc();
+  }
+}
@@ -14,6 +14,7 @@ import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
 import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
 import io.camunda.zeebe.broker.client.api.BrokerResponseException;
+import io.camunda.zeebe.broker.client.api.BrokerResponseListener;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.IllegalBrokerResponseException;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
@@ -38,6 +39,7 @@ public final class StubbedBrokerClient implements BrokerClient {
   private final Map<Class<?>, RequestHandler<?, ?>> requestHandlers = new HashMap<>();
 
   private final List<BrokerRequest<?>> brokerRequests = new ArrayList<>();
+  private final List<BrokerResponseListener> responseListeners = new ArrayList<>();
 
   public StubbedBrokerClient() {}
 
@@ -97,6 +99,7 @@ public final class StubbedBrokerClient implements BrokerClient {
       final BrokerResponse<T> response = requestHandler.handle(request);
       try {
         if (response.isResponse()) {
+          responseListeners.forEach(listener -> listener.onResponse(request, response));
           responseConsumer.accept(response.getKey(), response.getResponse());
         } else if (response.isRejection()) {
           throwableConsumer.accept(new BrokerRejectionException(response.getRejection()));
@@ -126,6 +129,11 @@ public final class StubbedBrokerClient implements BrokerClient {
     jobsAvailableHandler = handler;
   }
 
+  @Override
+  public void addResponseListener(final BrokerResponseListener listener) {
+    responseListeners.add(listener);
+  }
+
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
       void registerHandler(
           final Class<?> requestType, final RequestHandler<RequestT, ResponseT> requestHandler) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobBatchRequest;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletion;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class CompleteJobsHandlerTest {
+
+  private static final long MAX_MESSAGE_SIZE = 10 * 1024;
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final CompleteJobsHandler handler =
+      new CompleteJobsHandler(brokerClient, MAX_MESSAGE_SIZE);
+
+  @BeforeEach
+  void setup() {
+    brokerClient.registerHandler(BrokerCompleteJobBatchRequest.class, this::handle);
+  }
+
+  @Test
+  void shouldSendSmallJobsOfPartitionAsOneBatch() {
+    // given
+    final var jobs = List.of(newJob(1, 100), newJob(2, 100), newJob(3, 100));
+
+    // when
+    final var results = handler.completeJobs(jobs, Map.of()).join();
+
+    // then
+    assertThat(brokerClient.getBrokerRequests()).hasSize(1);
+    assertThat(results).allMatch(JobCompletionResult::isCompleted);
+  }
+
+  @Test
+  void shouldSplitBatchWhichWouldExceedMaxMessageSize() {
+    // given
+    final var jobs = List.of(newJob(1, 6 * 1024), newJob(2, 6 * 1024), newJob(3, 6 * 1024));
+
+    // when
+    final var results = handler.completeJobs(jobs, Map.of()).join();
+
+    // then
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(3)
+        .map(BrokerCompleteJobBatchRequest.class::cast)
+        .extracting(BrokerCompleteJobBatchRequest::getKeys)
+        .containsExactly(
+            List.of(jobs.get(0).jobKey()),
+            List.of(jobs.get(1).jobKey()),
+            List.of(jobs.get(2).jobKey()));
+    assertThat(results)
+        .extracting(JobCompletionResult::jobKey)
+        .containsExactlyElementsOf(jobs.stream().map(JobCompletion::jobKey).toList());
+    assertThat(results).allMatch(JobCompletionResult::isCompleted);
+  }
+
+  @Test
+  void shouldSendJobWhichExceedsMaxMessageSizeOnItsOwn() {
+    // given
+    final var jobs = List.of(newJob(1, 100), newJob(2, 20 * 1024), newJob(3, 100));
+
+    // when
+    handler.completeJobs(jobs, Map.of()).join();
+
+    // then
+    assertThat(brokerClient.getBrokerRequests())
+        .map(BrokerCompleteJobBatchRequest.class::cast)
+        .extracting(BrokerCompleteJobBatchRequest::getKeys)
+        .contains(List.of(jobs.get(1).jobKey()));
+  }
+
+  private JobCompletion newJob(final long key, final int variablesSize) {
+    final var variables = Map.of("payload", "x".repeat(variablesSize));
+    final DirectBuffer document = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(variables));
+    return new JobCompletion(Protocol.encodePartitionId(1, key), document, null);
+  }
+
+  private BrokerResponse<List<BrokerResponse<JobRecord>>> handle(
+      final BrokerCompleteJobBatchRequest request) {
+    final var responses = new ArrayList<BrokerResponse<JobRecord>>();
+    for (final long key : request.getKeys()) {
+      responses.add(new BrokerResponse<>(new JobRecord(), request.getPartitionId(), key));
+    }
+    return new BrokerResponse<>(responses, request.getPartitionId(), -1);
+  }
+}
@@ -27,6 +27,8 @@ import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Timer;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class LogStreamMetrics {
   private static final Counter FLOW_CONTROL_OUTCOME =
@@ -39,6 +41,16 @@ public final class LogStreamMetrics {
           .labelNames("partition", "context", "outcome")
           .register();
 
+  private static final Counter TENANT_FLOW_CONTROL_OUTCOME =
+      Counter.build()
+          .namespace("zeebe")
+          .subsystem("flow_control")
+          .name("tenant_outcome")
+          .help(
+              "The count of user commands passing through the flow control, organized by tenant and outcome")
+          .labelNames("partition", "tenant", "outcome")
+          .register();
+
   private static final Counter TOTAL_DEFERRED_APPEND_COUNT =
       Counter.build()
           .namespace("zeebe")
@@ -188,6 +200,7 @@ public final class LogStreamMetrics {
   private final Gauge.Child writeRateLimit;
   private final Gauge.Child partitionLoad;
   private final String partitionLabel;
+  private final Set<String> tenantLabels = ConcurrentHashMap.newKeySet();
 
   public LogStreamMetrics(final int partitionId) {
     partitionLabel = String.valueOf(partitionId);
@@ -277,13 +290,21 @@ public final class LogStreamMetrics {
         FLOW_CONTROL_OUTCOME.remove(partitionLabel, contextLabel, reasonLabel);
       }
     }
+    for (final var tenantLabel : tenantLabels) {
+      TENANT_FLOW_CONTROL_OUTCOME.remove(partitionLabel, tenantLabel, "accepted");
+      for (final var reasonLabel : FlowControlOutComeLabels.allReasonLabels()) {
+        TENANT_FLOW_CONTROL_OUTCOME.remove(partitionLabel, tenantLabel, reasonLabel);
+      }
+    }
+    tenantLabels.clear();
   }
 
   public void flowControlAccepted(
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
     triedAppends.inc();
-    if (context instanceof UserCommand) {
+    if (context instanceof final UserCommand userCommand) {
       receivedRequests.inc();
+      tenantOutcome(userCommand.tenantId(), "accepted");
     }
     FLOW_CONTROL_OUTCOME
         .labels(partitionLabel, labelForContext(context), "accepted")
@@ -296,15 +317,21 @@ public final class LogStreamMetrics {
       final Rejection reason) {
     triedAppends.inc();
     deferredAppends.inc();
-    if (context instanceof UserCommand) {
+    if (context instanceof final UserCommand userCommand) {
       receivedRequests.inc();
       droppedRequests.inc();
+      tenantOutcome(userCommand.tenantId(), labelForReason(reason));
     }
     FLOW_CONTROL_OUTCOME
         .labels(partitionLabel, labelForContext(context), labelForReason(reason))
         .inc(batchMetadata.size());
   }
 
+  private void tenantOutcome(final String tenantId, final String outcome) {
+    tenantLabels.add(tenantId);
+    TENANT_FLOW_CONTROL_OUTCOME.labels(partitionLabel, tenantId, outcome).inc();
+  }
+
   public void setPartitionLoad(final float load) {
     partitionLoad.set(load);
   }
@@ -23,8 +23,6 @@ import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
 import java.util.List;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 /**
  * Maintains a view of in-flight entries as they are being appended, written, committed and finally
@@ -32,7 +30,8 @@ import java.util.TreeMap;
  *
  * <p>If enabled, a write rate limiter is used to limit the rate of appends to the log storage.
  * Additionally, a request limiter is used to limit the amount of unprocessed user commands to
- * ensure fast response times.
+ * ensure fast response times. If tenant weights are configured, the request limit is shared
+ * between tenants by weighted fair shares, see {@link TenantFairRequestLimiter}.
  *
  * <h3>Thread safety</h3>
  *
@@ -63,8 +62,8 @@ import java.util.TreeMap;
  * The weak ordering forces us to program quite defensively and carefully choose where and how we
  * modify internal state.
  *
- * <p>The {@link #inFlight} map is only modified in the {@link #onAppend(InFlightEntry, long)}
- * method. All other methods only read from it.
+ * <p>The {@link #inFlight} entries are only modified in the {@link #onAppend(InFlightEntry, long)}
+ * method. All other methods only read from them, see {@link InFlightEntries} for details.
  *
  * <p>A volatile field {@link #lastProcessedPosition} is only modified in {@link #onProcessed(long)}
  * and used in {@link #onAppend(InFlightEntry, long)} to clean up old entries.
@@ -79,7 +78,9 @@ public final class FlowControl implements AppendListener {
   private final LogStreamMetrics metrics;
   private RateLimit writeRateLimit;
   private Limit requestLimit;
+  private TenantWeights tenantWeights;
   private Limiter<Intent> processingLimiter;
+  private TenantFairRequestLimiter tenantLimiter;
   private RateLimiter writeRateLimiter;
   private final RateMeasurement exportingRate =
       new RateMeasurement(
@@ -92,7 +93,7 @@ public final class FlowControl implements AppendListener {
   private volatile long lastProcessedPosition = -1;
   private volatile long lastExportedPosition;
 
-  private final NavigableMap<Long, InFlightEntry> inFlight = new TreeMap<>();
+  private final InFlightEntries inFlight = new InFlightEntries();
 
   public FlowControl(final LogStreamMetrics metrics) {
     this(metrics, StabilizingAIMDLimit.newBuilder().build(), RateLimit.disabled());
@@ -100,7 +101,16 @@ public final class FlowControl implements AppendListener {
 
   public FlowControl(
       final LogStreamMetrics metrics, final Limit requestLimit, final RateLimit writeRateLimit) {
+    this(metrics, requestLimit, writeRateLimit, null);
+  }
+
+  public FlowControl(
+      final LogStreamMetrics metrics,
+      final Limit requestLimit,
+      final RateLimit writeRateLimit,
+      final TenantWeights tenantWeights) {
     this.metrics = metrics;
+    this.tenantWeights = tenantWeights;
     setRequestLimit(requestLimit);
     setWriteRateLimit(writeRateLimit);
   }
@@ -134,8 +144,11 @@ public final class FlowControl implements AppendListener {
         // Internal commands are always accepted for incident response and maintenance.
         return Either.right(new InFlightEntry(metrics, batchMetadata, null));
       }
-      case UserCommand(final var intent) -> {
-        requestListener = processingLimiter.acquire(intent).orElse(null);
+      case UserCommand(final var intent, final var tenantId) -> {
+        requestListener =
+            tenantLimiter != null
+                ? tenantLimiter.acquire(intent, tenantId).orElse(null)
+                : processingLimiter.acquire(intent).orElse(null);
         if (requestListener == null) {
           return Either.left(Rejection.RequestLimitExhausted);
         }
@@ -156,10 +169,8 @@ public final class FlowControl implements AppendListener {
   public void onAppend(final InFlightEntry entry, final long highestPosition) {
     entry.onAppend();
     metrics.increaseInflightAppends();
-    final var clearable = inFlight.headMap(lastProcessedPosition, true);
-    clearable.forEach((position, inFlightEntry) -> inFlightEntry.cleanup());
-    clearable.clear();
-    inFlight.put(highestPosition, entry);
+    inFlight.releaseUpTo(lastProcessedPosition);
+    inFlight.add(entry, highestPosition);
   }
 
   @Override
@@ -219,10 +230,30 @@ public final class FlowControl implements AppendListener {
 
   public void setRequestLimit(final Limit requestLimit) {
     this.requestLimit = requestLimit;
-    processingLimiter =
-        requestLimit != null
-            ? new CommandRateLimiterBuilder().limit(requestLimit).build(metrics)
-            : new NoopLimiter<>();
+    if (requestLimit != null) {
+      final var requestLimiter = new CommandRateLimiterBuilder().limit(requestLimit).build(metrics);
+      processingLimiter = requestLimiter;
+      tenantLimiter =
+          tenantWeights != null
+              ? new TenantFairRequestLimiter(requestLimiter, tenantWeights)
+              : null;
+    } else {
+      processingLimiter = new NoopLimiter<>();
+      tenantLimiter = null;
+    }
+  }
+
+  public TenantWeights getTenantWeights() {
+    return tenantWeights;
+  }
+
+  /**
+   * Enables the tenant-aware admission with the given weights, or disables it if null. Like {@link
+   * #setRequestLimit(Limit)}, this resets the request limiter.
+   */
+  public void setTenantWeights(final TenantWeights tenantWeights) {
+    this.tenantWeights = tenantWeights;
+    setRequestLimit(requestLimit);
   }
 
   public RateLimit getWriteRateLimit() {
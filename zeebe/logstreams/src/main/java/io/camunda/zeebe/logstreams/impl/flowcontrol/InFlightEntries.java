@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A ring buffer of {@link InFlightEntry in-flight entries}, ordered by their position. Since
+ * entries are always appended with increasing positions, they can be looked up by binary search and
+ * released as a range from the head, without boxing positions or allocating nodes per entry.
+ *
+ * <h3>Thread safety</h3>
+ *
+ * There is a single writer, which calls {@link #add(InFlightEntry, long)} and {@link
+ * #releaseUpTo(long)}, and there can be concurrent readers calling {@link #get(long)}.
+ *
+ * <p>Each entry is assigned a monotonically increasing sequence number when added, which
+ * determines its slot. When released, slots are cleared and eventually reused for later entries.
+ * Readers detect such slots by a mismatching sequence number and know that the entry they are
+ * looking for can't be at or before that sequence, since entries are released in order. The buffer
+ * grows instead of overwriting entries which were not released yet. Readers which still use the old
+ * buffer can find all entries which they could expect to find, based on the tail they've read.
+ */
+final class InFlightEntries {
+  private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+  private volatile AtomicReferenceArray<InFlightEntry> slots;
+
+  /** The sequence number of the oldest entry which was not released yet */
+  private volatile long head;
+
+  /** The sequence number of the next entry to be added */
+  private volatile long tail;
+
+  InFlightEntries() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  InFlightEntries(final int initialCapacity) {
+    if (Integer.bitCount(initialCapacity) != 1) {
+      throw new IllegalArgumentException(
+          "Expected initial capacity to be a power of two, but was " + initialCapacity);
+    }
+    slots = new AtomicReferenceArray<>(initialCapacity);
+  }
+
+  /**
+   * Adds a new entry. The position must be greater than the position of all previously added
+   * entries.
+   */
+  void add(final InFlightEntry entry, final long position) {
+    final long sequence = tail;
+    var currentSlots = slots;
+    if (sequence - head == currentSlots.length()) {
+      currentSlots = grow(currentSlots, sequence);
+    }
+
+    entry.position = position;
+    entry.sequence = sequence;
+    currentSlots.set(slotIndex(currentSlots, sequence), entry);
+    // publishes the entry to readers which observe the new tail
+    tail = sequence + 1;
+  }
+
+  /**
+   * @return the entry added with exactly the given position, or null if there is none or it was
+   *     already released
+   */
+  InFlightEntry get(final long position) {
+    // read tail before slots, such that the slots are at least as recent as the tail
+    long high = tail - 1;
+    final var currentSlots = slots;
+    long low = head;
+
+    while (low <= high) {
+      final long mid = (low + high) >>> 1;
+      final var entry = currentSlots.get(slotIndex(currentSlots, mid));
+      if (entry == null || entry.sequence != mid) {
+        // released concurrently, so anything we can still find must come after it
+        low = mid + 1;
+      } else if (entry.position < position) {
+        low = mid + 1;
+      } else if (entry.position > position) {
+        high = mid - 1;
+      } else {
+        return entry;
+      }
+    }
+
+    return null;
+  }
+
+  /** Cleans up and releases all entries with a position less than or equal to the given one. */
+  void releaseUpTo(final long position) {
+    final var currentSlots = slots;
+    final long end = tail;
+    long sequence = head;
+
+    while (sequence < end) {
+      final int index = slotIndex(currentSlots, sequence);
+      final var entry = currentSlots.get(index);
+      if (entry.position > position) {
+        break;
+      }
+
+      entry.cleanup();
+      currentSlots.set(index, null);
+      sequence++;
+    }
+
+    head = sequence;
+  }
+
+  int size() {
+    return (int) (tail - head);
+  }
+
+  private AtomicReferenceArray<InFlightEntry> grow(
+      final AtomicReferenceArray<InFlightEntry> currentSlots, final long end) {
+    final var grownSlots = new AtomicReferenceArray<InFlightEntry>(currentSlots.length() * 2);
+    for (long sequence = head; sequence < end; sequence++) {
+      grownSlots.set(
+          slotIndex(grownSlots, sequence), currentSlots.get(slotIndex(currentSlots, sequence)));
+    }
+    slots = grownSlots;
+    return grownSlots;
+  }
+
+  private static int slotIndex(
+      final AtomicReferenceArray<InFlightEntry> slots, final long sequence) {
+    return (int) (sequence & (slots.length() - 1));
+  }
+}
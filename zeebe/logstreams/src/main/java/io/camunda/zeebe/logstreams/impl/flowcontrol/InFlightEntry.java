@@ -19,6 +19,8 @@ public final class InFlightEntry {
   Listener requestListener;
   Histogram.Timer writeTimer;
   Histogram.Timer commitTimer;
+  long position;
+  long sequence;
 
   public InFlightEntry(
       final LogStreamMetrics metrics,
@@ -76,14 +78,17 @@ public final class InFlightEntry {
     final var requestListener = this.requestListener;
     if (requestListener != null) {
       requestListener.onIgnore();
+      this.requestListener = null;
     }
     final var writeTimer = this.writeTimer;
     if (writeTimer != null) {
       writeTimer.close();
+      this.writeTimer = null;
     }
     final var commitTimer = this.commitTimer;
     if (commitTimer != null) {
       commitTimer.close();
+      this.commitTimer = null;
     }
   }
 }
@@ -40,13 +40,17 @@ public final class RequestLimiter extends AbstractLimiter<Intent> {
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+    if (getInflight() >= getLimit() && !isWhiteListed(intent)) {
       return createRejectedListener();
     }
     final Listener listener = createListener();
     return Optional.of(listener);
   }
 
+  static boolean isWhiteListed(final Intent intent) {
+    return WHITE_LISTED_COMMANDS.contains(intent);
+  }
+
   @Override
   protected void onNewLimit(final int newLimit) {
     super.onNewLimit(newLimit);
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import com.netflix.concurrency.limits.Limiter.Listener;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Partitions the limit of a {@link RequestLimiter} between tenants by weighted fair shares, so a
+ * single tenant cannot consume the whole request limit and starve the others.
+ *
+ * <p>Each tenant with in-flight requests is guaranteed a share of the current limit, proportional
+ * to its weight compared to the weights of all tenants with in-flight requests. A tenant can always
+ * use its guaranteed share, as long as the overall limit is not exhausted. Beyond that, a tenant
+ * may borrow idle capacity, but only the capacity which is not reserved for the unused shares of
+ * other active tenants. Since idle tenants don't reserve anything, a single active tenant can still
+ * use the whole limit.
+ *
+ * <p>White listed commands are always accepted, as by the {@link RequestLimiter}, but count towards
+ * the tenant's in-flight requests.
+ *
+ * <h3>Thread safety</h3>
+ *
+ * {@link #acquire(Intent, String)} is serialized through the sequencer's write lock, but the
+ * returned listeners are completed from other threads. The per-tenant counters are therefore
+ * atomic, and a share may be computed from slightly outdated counters, which only affects fairness
+ * for a brief moment but never the overall limit.
+ */
+public final class TenantFairRequestLimiter {
+
+  private final RequestLimiter limiter;
+  private final TenantWeights weights;
+  private final Map<String, AtomicInteger> inflightPerTenant = new ConcurrentHashMap<>();
+
+  public TenantFairRequestLimiter(final RequestLimiter limiter, final TenantWeights weights) {
+    this.limiter = limiter;
+    this.weights = weights;
+  }
+
+  public Optional<Listener> acquire(final Intent intent, final String tenantId) {
+    final var tenantInflight =
+        inflightPerTenant.computeIfAbsent(tenantId, ignored -> new AtomicInteger());
+
+    if (!RequestLimiter.isWhiteListed(intent) && !canAdmit(tenantId, tenantInflight.get())) {
+      return Optional.empty();
+    }
+
+    return limiter
+        .acquire(intent)
+        .map(
+            listener -> {
+              tenantInflight.incrementAndGet();
+              return new TenantListener(listener, tenantInflight);
+            });
+  }
+
+  public int getInflight(final String tenantId) {
+    final var tenantInflight = inflightPerTenant.get(tenantId);
+    return tenantInflight == null ? 0 : tenantInflight.get();
+  }
+
+  private boolean canAdmit(final String tenantId, final int tenantInflight) {
+    final int limit = limiter.getLimit();
+    final int tenantWeight = weights.weightOf(tenantId);
+
+    // the requesting tenant is active by definition, even if it has nothing in flight yet
+    long activeWeight = tenantWeight;
+    for (final var entry : inflightPerTenant.entrySet()) {
+      if (!entry.getKey().equals(tenantId) && entry.getValue().get() > 0) {
+        activeWeight += weights.weightOf(entry.getKey());
+      }
+    }
+
+    if (tenantInflight < share(limit, tenantWeight, activeWeight)) {
+      return true;
+    }
+
+    // borrowing: only use what is not reserved for the unused shares of other active tenants
+    long reserved = 0;
+    for (final var entry : inflightPerTenant.entrySet()) {
+      final int otherInflight = entry.getValue().get();
+      if (!entry.getKey().equals(tenantId) && otherInflight > 0) {
+        final int otherShare = share(limit, weights.weightOf(entry.getKey()), activeWeight);
+        reserved += Math.max(0, otherShare - otherInflight);
+      }
+    }
+
+    return limiter.getInflight() + reserved < limit;
+  }
+
+  private static int share(final int limit, final int weight, final long activeWeight) {
+    return (int) Math.max(1, (long) limit * weight / activeWeight);
+  }
+
+  private static final class TenantListener implements Listener {
+    private final Listener delegate;
+    private final AtomicInteger tenantInflight;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private TenantListener(final Listener delegate, final AtomicInteger tenantInflight) {
+      this.delegate = delegate;
+      this.tenantInflight = tenantInflight;
+    }
+
+    @Override
+    public void onSuccess() {
+      release();
+      delegate.onSuccess();
+    }
+
+    @Override
+    public void onIgnore() {
+      release();
+      delegate.onIgnore();
+    }
+
+    @Override
+    public void onDropped() {
+      release();
+      delegate.onDropped();
+    }
+
+    private void release() {
+      if (released.compareAndSet(false, true)) {
+        tenantInflight.decrementAndGet();
+      }
+    }
+  }
+}
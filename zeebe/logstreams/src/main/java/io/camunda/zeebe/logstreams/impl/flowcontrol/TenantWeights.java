@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Relative weights of the tenants sharing the request limit of a partition. Tenants without an
+ * explicit weight get the default weight.
+ */
+public record TenantWeights(Map<String, Integer> weights, int defaultWeight) {
+  public TenantWeights {
+    Objects.requireNonNull(weights, "weights must not be null");
+    if (defaultWeight <= 0) {
+      throw new IllegalArgumentException("defaultWeight must be greater than 0");
+    }
+    weights.forEach(
+        (tenantId, weight) -> {
+          if (weight == null || weight <= 0) {
+            throw new IllegalArgumentException(
+                "weight of tenant '%s' must be greater than 0, but was %s"
+                    .formatted(tenantId, weight));
+          }
+        });
+    weights = Map.copyOf(weights);
+  }
+
+  public static TenantWeights uniform() {
+    return new TenantWeights(Map.of(), 1);
+  }
+
+  public int weightOf(final String tenantId) {
+    return weights.getOrDefault(tenantId, defaultWeight);
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.impl.log;
 
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.TenantWeights;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
@@ -24,6 +25,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private InstantSource clock;
   private Limit requestLimit;
   private RateLimit writeRateLimit;
+  private TenantWeights tenantWeights;
 
   @Override
   public LogStreamBuilder withMaxFragmentSize(final int maxFragmentSize) {
@@ -67,12 +69,25 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withTenantWeights(final TenantWeights tenantWeights) {
+    this.tenantWeights = tenantWeights;
+    return this;
+  }
+
   @Override
   public LogStream build() {
     validate();
 
     return new LogStreamImpl(
-        logName, partitionId, maxFragmentSize, logStorage, clock, requestLimit, writeRateLimit);
+        logName,
+        partitionId,
+        maxFragmentSize,
+        logStorage,
+        clock,
+        requestLimit,
+        writeRateLimit,
+        tenantWeights);
   }
 
   private void validate() {
@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.TenantWeights;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
@@ -45,12 +46,13 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final LogStorage logStorage,
       final InstantSource clock,
       final Limit requestLimit,
-      final RateLimit writeRateLimit) {
+      final RateLimit writeRateLimit,
+      final TenantWeights tenantWeights) {
     this.logName = logName;
     this.partitionId = partitionId;
     this.logStorage = logStorage;
     logStreamMetrics = new LogStreamMetrics(partitionId);
-    flowControl = new FlowControl(logStreamMetrics, requestLimit, writeRateLimit);
+    flowControl = new FlowControl(logStreamMetrics, requestLimit, writeRateLimit, tenantWeights);
     sequencer =
         new Sequencer(
             logStorage,
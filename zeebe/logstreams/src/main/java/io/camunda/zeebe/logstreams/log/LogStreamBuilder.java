@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.log;
 
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.TenantWeights;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import java.time.InstantSource;
 
@@ -56,6 +57,12 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * Shares the request limit between tenants by the given weights. If null, all user commands
+   * share the request limit regardless of their tenant.
+   */
+  LogStreamBuilder withTenantWeights(TenantWeights tenantWeights);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
@@ -8,10 +8,15 @@
 package io.camunda.zeebe.logstreams.log;
 
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
 
 public sealed interface WriteContext {
   static WriteContext userCommand(final Intent intent) {
-    return new UserCommand(intent);
+    return userCommand(intent, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  }
+
+  static WriteContext userCommand(final Intent intent, final String tenantId) {
+    return new UserCommand(intent, tenantId);
   }
 
   static WriteContext processingResult() {
@@ -30,7 +35,13 @@ public sealed interface WriteContext {
     return Internal.INSTANCE;
   }
 
-  record UserCommand(Intent intent) implements WriteContext {}
+  record UserCommand(Intent intent, String tenantId) implements WriteContext {
+    public UserCommand {
+      if (tenantId == null || tenantId.isEmpty()) {
+        tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+      }
+    }
+  }
 
   final class ProcessingResult implements WriteContext {
     private static final ProcessingResult INSTANCE = new ProcessingResult();
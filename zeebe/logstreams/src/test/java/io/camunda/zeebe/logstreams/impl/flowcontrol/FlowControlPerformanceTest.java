@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the in-flight bookkeeping of {@link FlowControl} with the same thread layout as in a
+ * partition: the sequencer appending user commands, the raft thread notifying about writes and
+ * commits, and the stream processor notifying about processed positions, all at the same time.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Group)
+public class FlowControlPerformanceTest {
+  private static final WriteContext CONTEXT =
+      WriteContext.userCommand(ProcessInstanceCreationIntent.CREATE);
+  private static final List<LogAppendEntryMetadata> BATCH =
+      List.of(
+          new LogAppendEntryMetadata(
+              RecordType.COMMAND,
+              ValueType.PROCESS_INSTANCE_CREATION,
+              ProcessInstanceCreationIntent.CREATE));
+
+  private LogStreamMetrics metrics;
+  private FlowControl flowControl;
+  private long nextPosition;
+  private volatile long lastAppendedPosition;
+
+  @Setup
+  public void setup() {
+    metrics = new LogStreamMetrics(1);
+    flowControl = new FlowControl(metrics, FixedLimit.of(10_000), RateLimit.disabled());
+    nextPosition = 1;
+    lastAppendedPosition = 0;
+  }
+
+  @TearDown
+  public void tearDown() {
+    metrics.remove();
+  }
+
+  @JMHTest("callbacks")
+  void shouldTrackInFlightEntriesUnderContention(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 3_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  @Group("callbacks")
+  @GroupThreads(1)
+  public boolean append() {
+    final var result = flowControl.tryAcquire(CONTEXT, BATCH);
+    if (result.isLeft()) {
+      return false;
+    }
+
+    final long position = nextPosition++;
+    flowControl.onAppend(result.get(), position);
+    lastAppendedPosition = position;
+    return true;
+  }
+
+  @Benchmark
+  @Group("callbacks")
+  @GroupThreads(1)
+  public void writeAndCommit() {
+    final long position = lastAppendedPosition;
+    flowControl.onWrite(position, position);
+    flowControl.onCommit(position, position);
+  }
+
+  @Benchmark
+  @Group("callbacks")
+  @GroupThreads(1)
+  public void process() {
+    flowControl.onProcessed(lastAppendedPosition);
+  }
+}
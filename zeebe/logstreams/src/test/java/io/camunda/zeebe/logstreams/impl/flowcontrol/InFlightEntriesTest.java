@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.netflix.concurrency.limits.Limiter.Listener;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class InFlightEntriesTest {
+
+  private final LogStreamMetrics metrics = new LogStreamMetrics(1);
+
+  @AfterEach
+  void tearDown() {
+    metrics.remove();
+  }
+
+  @Test
+  void shouldFindEntryByPosition() {
+    // given
+    final var entries = new InFlightEntries(4);
+    final var first = entry(null);
+    final var second = entry(null);
+    entries.add(first, 3);
+    entries.add(second, 7);
+
+    // when - then
+    assertThat(entries.get(3)).isSameAs(first);
+    assertThat(entries.get(7)).isSameAs(second);
+    assertThat(entries.get(5)).isNull();
+    assertThat(entries.get(8)).isNull();
+  }
+
+  @Test
+  void shouldReleaseEntriesUpToPosition() {
+    // given
+    final var entries = new InFlightEntries(4);
+    final var releasedListener = mock(Listener.class);
+    final var retainedListener = mock(Listener.class);
+    entries.add(entry(releasedListener), 3);
+    entries.add(entry(retainedListener), 7);
+
+    // when
+    entries.releaseUpTo(5);
+
+    // then
+    assertThat(entries.get(3)).isNull();
+    assertThat(entries.get(7)).isNotNull();
+    assertThat(entries.size()).isOne();
+    verify(releasedListener).onIgnore();
+    verify(retainedListener, never()).onIgnore();
+  }
+
+  @Test
+  void shouldGrowWhenFull() {
+    // given
+    final var entries = new InFlightEntries(2);
+    final var added = List.of(entry(null), entry(null), entry(null), entry(null), entry(null));
+
+    // when
+    for (int i = 0; i < added.size(); i++) {
+      entries.add(added.get(i), i + 1);
+    }
+
+    // then
+    assertThat(entries.size()).isEqualTo(5);
+    for (int i = 0; i < added.size(); i++) {
+      assertThat(entries.get(i + 1)).isSameAs(added.get(i));
+    }
+  }
+
+  @Test
+  void shouldReuseReleasedSlots() {
+    // given
+    final var entries = new InFlightEntries(2);
+    entries.add(entry(null), 1);
+    entries.add(entry(null), 2);
+    entries.releaseUpTo(2);
+
+    // when
+    final var reused = entry(null);
+    entries.add(reused, 3);
+
+    // then
+    assertThat(entries.get(1)).isNull();
+    assertThat(entries.get(2)).isNull();
+    assertThat(entries.get(3)).isSameAs(reused);
+  }
+
+  private InFlightEntry entry(final Listener listener) {
+    return new InFlightEntry(metrics, List.of(), listener);
+  }
+}
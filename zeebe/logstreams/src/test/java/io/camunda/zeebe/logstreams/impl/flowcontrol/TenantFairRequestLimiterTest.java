@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.concurrency.limits.Limiter.Listener;
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class TenantFairRequestLimiterTest {
+
+  private final LogStreamMetrics metrics = new LogStreamMetrics(1);
+
+  @AfterEach
+  void tearDown() {
+    metrics.remove();
+  }
+
+  @Test
+  void shouldUseWholeLimitIfOtherTenantsAreIdle() {
+    // given
+    final var limiter = limiter(10, TenantWeights.uniform());
+
+    // when
+    final var accepted = acquireAll(limiter, "a");
+
+    // then
+    assertThat(accepted).hasSize(10);
+  }
+
+  @Test
+  void shouldReserveShareOfActiveTenant() {
+    // given
+    final var limiter = limiter(10, TenantWeights.uniform());
+    acquire(limiter, "b").orElseThrow();
+
+    // when
+    final var acceptedA = acquireAll(limiter, "a");
+    final var acceptedB = acquireAll(limiter, "b");
+
+    // then
+    assertThat(acceptedA).hasSize(5);
+    assertThat(acceptedB).hasSize(4);
+  }
+
+  @Test
+  void shouldShareLimitByWeight() {
+    // given
+    final var limiter = limiter(8, new TenantWeights(Map.of("a", 3), 1));
+    acquire(limiter, "b").orElseThrow();
+
+    // when
+    final var acceptedA = acquireAll(limiter, "a");
+
+    // then
+    assertThat(acceptedA).hasSize(6);
+    assertThat(limiter.getInflight("b")).isOne();
+  }
+
+  @Test
+  void shouldReleaseTenantInflightOnce() {
+    // given
+    final var limiter = limiter(10, TenantWeights.uniform());
+    final var listener = acquire(limiter, "a").orElseThrow();
+
+    // when
+    listener.onSuccess();
+    listener.onIgnore();
+
+    // then
+    assertThat(limiter.getInflight("a")).isZero();
+  }
+
+  @Test
+  void shouldAlwaysAcceptWhiteListedCommands() {
+    // given
+    final var limiter = limiter(10, TenantWeights.uniform());
+    acquireAll(limiter, "a");
+
+    // when
+    final var listener = limiter.acquire(JobIntent.COMPLETE, "a");
+
+    // then
+    assertThat(listener).isPresent();
+    assertThat(limiter.getInflight("a")).isEqualTo(11);
+  }
+
+  private TenantFairRequestLimiter limiter(final int limit, final TenantWeights weights) {
+    final var requestLimiter = RequestLimiter.builder().limit(FixedLimit.of(limit)).build(metrics);
+    return new TenantFairRequestLimiter(requestLimiter, weights);
+  }
+
+  private Optional<Listener> acquire(
+      final TenantFairRequestLimiter limiter, final String tenantId) {
+    return limiter.acquire(ProcessInstanceCreationIntent.CREATE, tenantId);
+  }
+
+  private List<Listener> acquireAll(final TenantFairRequestLimiter limiter, final String tenantId) {
+    final var listeners = new ArrayList<Listener>();
+    var listener = acquire(limiter, tenantId);
+    while (listener.isPresent()) {
+      listeners.add(listener.get());
+      listener = acquire(limiter, tenantId);
+    }
+    return listeners;
+  }
+}
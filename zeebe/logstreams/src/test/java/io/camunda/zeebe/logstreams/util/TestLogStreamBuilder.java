@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.util;
 
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.TenantWeights;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
@@ -67,6 +68,12 @@ public final class TestLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withTenantWeights(final TenantWeights tenantWeights) {
+    delegate.withTenantWeights(tenantWeights);
+    return this;
+  }
+
   @Override
   public TestLogStream build() {
     return new TestLogStream(delegate.build());
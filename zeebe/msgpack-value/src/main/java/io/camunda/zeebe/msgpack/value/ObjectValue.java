@@ -14,6 +14,8 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties;
@@ -22,6 +24,13 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  /**
+   * Open addressing hash table from the key hash to the index of the declared property plus one,
+   * such that zero marks an empty slot. Built lazily on the first lookup which doesn't arrive in
+   * declaration order, and dropped whenever a property is declared.
+   */
+  private int[] propertyIndexTable;
+
   /**
    * Creates a new ObjectValue
    *
@@ -34,6 +43,7 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyIndexTable = null;
     return this;
   }
 
@@ -96,23 +106,18 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    // we write the declared properties in order, so the next key is most likely the next property
+    int expectedIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final BaseProperty<? extends BaseValue> prop;
+      final int index = indexOfDeclaredProperty(decodedKey, expectedIndex);
+      if (index >= 0) {
+        prop = declaredProperties.get(index);
+        expectedIndex = index + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
@@ -133,6 +138,54 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private int indexOfDeclaredProperty(final StringValue key, final int expectedIndex) {
+    if (expectedIndex < declaredProperties.size()
+        && declaredProperties.get(expectedIndex).getKey().equals(key)) {
+      return expectedIndex;
+    }
+
+    if (propertyIndexTable == null) {
+      propertyIndexTable = buildPropertyIndexTable();
+    }
+
+    final int mask = propertyIndexTable.length - 1;
+    for (int slot = hash(key) & mask; propertyIndexTable[slot] != 0; slot = (slot + 1) & mask) {
+      final int index = propertyIndexTable[slot] - 1;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private int[] buildPropertyIndexTable() {
+    // keep the load factor at or below 0.5 to keep the probe sequences short
+    final int[] table = new int[BitUtil.findNextPositivePowerOfTwo(declaredProperties.size() * 2)];
+    final int mask = table.length - 1;
+
+    for (int index = 0; index < declaredProperties.size(); index++) {
+      int slot = hash(declaredProperties.get(index).getKey()) & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = index + 1;
+    }
+
+    return table;
+  }
+
+  private static int hash(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
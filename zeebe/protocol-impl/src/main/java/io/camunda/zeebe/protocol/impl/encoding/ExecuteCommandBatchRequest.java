@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.partitionIdNullValue;
+
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A batch of commands which share the same value type and intent, and which are all addressed to
+ * the same partition. The broker writes all commands of a batch to the log at once, and replies
+ * with a {@link ExecuteCommandBatchResponse} containing one response per command, in the same
+ * order.
+ */
+public final class ExecuteCommandBatchRequest implements BufferReader, BufferWriter {
+
+  /** The maximum number of commands a single batch can hold. */
+  public static final int MAX_COMMANDS = CommandsEncoder.countMaxValue();
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchRequestEncoder bodyEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final ExecuteCommandBatchRequestDecoder bodyDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+  private final List<Command> commands = new ArrayList<>();
+  private final AuthInfo authorization = new AuthInfo();
+  private int partitionId;
+  private ValueType valueType;
+  private Intent intent;
+
+  public ExecuteCommandBatchRequest() {
+    reset();
+  }
+
+  public ExecuteCommandBatchRequest reset() {
+    partitionId = partitionIdNullValue();
+    valueType = ValueType.NULL_VAL;
+    intent = Intent.UNKNOWN;
+    commands.clear();
+    authorization.reset();
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchRequest setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public ValueType getValueType() {
+    return valueType;
+  }
+
+  public ExecuteCommandBatchRequest setValueType(final ValueType valueType) {
+    this.valueType = valueType;
+    return this;
+  }
+
+  public Intent getIntent() {
+    return intent;
+  }
+
+  public ExecuteCommandBatchRequest setIntent(final Intent intent) {
+    this.intent = intent;
+    return this;
+  }
+
+  /**
+   * Adds a command to the batch. If the batch does not address a partition yet, it is derived from
+   * the key.
+   *
+   * @param key the key of the command, or {@link #keyNullValue()} if it has none
+   * @param value the serialized command value; the buffer is not copied
+   * @return this request for chaining
+   * @throws IllegalStateException if the batch already holds {@link #MAX_COMMANDS} commands
+   */
+  public ExecuteCommandBatchRequest addCommand(final long key, final DirectBuffer value) {
+    if (commands.size() >= MAX_COMMANDS) {
+      throw new IllegalStateException(
+          "Expected to add a command to the batch, but it already holds the maximum of %d commands"
+              .formatted(MAX_COMMANDS));
+    }
+
+    if (partitionId == partitionIdNullValue() && key != keyNullValue()) {
+      partitionId = Protocol.decodePartitionId(key);
+    }
+
+    commands.add(new Command(key, value));
+    return this;
+  }
+
+  public ExecuteCommandBatchRequest clearCommands() {
+    commands.clear();
+    return this;
+  }
+
+  public List<Command> getCommands() {
+    return Collections.unmodifiableList(commands);
+  }
+
+  public int size() {
+    return commands.size();
+  }
+
+  public AuthInfo getAuthorization() {
+    return authorization;
+  }
+
+  public ExecuteCommandBatchRequest setAuthorization(final AuthInfo authorization) {
+    this.authorization.copyFrom(authorization);
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    reset();
+
+    bodyDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    partitionId = bodyDecoder.partitionId();
+    valueType = bodyDecoder.valueType();
+    intent = Intent.fromProtocolValue(valueType, bodyDecoder.intent());
+
+    for (final var commandsDecoder : bodyDecoder.commands()) {
+      final var key = commandsDecoder.key();
+      final var value = new UnsafeBuffer();
+      commandsDecoder.wrapValue(value);
+      commands.add(new Command(key, value));
+    }
+
+    final var authorizationBuffer = new UnsafeBuffer();
+    bodyDecoder.wrapAuthorization(authorizationBuffer);
+    if (authorizationBuffer.capacity() > 0) {
+      authorization.wrap(authorizationBuffer);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+            + CommandsEncoder.HEADER_SIZE
+            + ExecuteCommandBatchRequestEncoder.authorizationHeaderLength()
+            + authorization.getLength();
+
+    for (final var command : commands) {
+      length +=
+          CommandsEncoder.sbeBlockLength()
+              + CommandsEncoder.valueHeaderLength()
+              + command.value().capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    bodyEncoder
+        .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .partitionId(partitionId)
+        .valueType(valueType)
+        .intent(intent.value());
+
+    final var commandsEncoder = bodyEncoder.commandsCount(commands.size());
+    for (final var command : commands) {
+      final var value = command.value();
+      commandsEncoder.next().key(command.key()).putValue(value, 0, value.capacity());
+    }
+
+    bodyEncoder.putAuthorization(authorization.toDirectBuffer(), 0, authorization.getLength());
+  }
+
+  public static long keyNullValue() {
+    return CommandsEncoder.keyNullValue();
+  }
+
+  /**
+   * A single command of the batch.
+   *
+   * @param key the key of the entity the command refers to, or {@link #keyNullValue()}
+   * @param value the serialized command value
+   */
+  public record Command(long key, DirectBuffer value) {}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.partitionIdNullValue;
+
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.ResponsesEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The response to a {@link ExecuteCommandBatchRequest}. Each entry is a complete, encoded {@link
+ * ExecuteCommandResponse} for the command at the same position in the request.
+ */
+public final class ExecuteCommandBatchResponse implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchResponseEncoder bodyEncoder =
+      new ExecuteCommandBatchResponseEncoder();
+  private final ExecuteCommandBatchResponseDecoder bodyDecoder =
+      new ExecuteCommandBatchResponseDecoder();
+  private final List<DirectBuffer> responses = new ArrayList<>();
+  private int partitionId;
+
+  public ExecuteCommandBatchResponse() {
+    reset();
+  }
+
+  public ExecuteCommandBatchResponse reset() {
+    partitionId = partitionIdNullValue();
+    responses.clear();
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchResponse setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  /**
+   * @param response an encoded {@link ExecuteCommandResponse}; the buffer is not copied
+   * @return this response for chaining
+   */
+  public ExecuteCommandBatchResponse addResponse(final DirectBuffer response) {
+    responses.add(response);
+    return this;
+  }
+
+  public List<DirectBuffer> getResponses() {
+    return Collections.unmodifiableList(responses);
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    reset();
+
+    bodyDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    partitionId = bodyDecoder.partitionId();
+
+    for (final var responsesDecoder : bodyDecoder.responses()) {
+      final var response = new UnsafeBuffer();
+      responsesDecoder.wrapResponse(response);
+      responses.add(response);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchResponseEncoder.BLOCK_LENGTH
+            + ResponsesEncoder.HEADER_SIZE;
+
+    for (final var response : responses) {
+      length +=
+          ResponsesEncoder.sbeBlockLength()
+              + ResponsesEncoder.responseHeaderLength()
+              + response.capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    bodyEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder).partitionId(partitionId);
+
+    final var responsesEncoder = bodyEncoder.responsesCount(responses.size());
+    for (final var response : responses) {
+      responsesEncoder.next().putResponse(response, 0, response.capacity());
+    }
+  }
+}
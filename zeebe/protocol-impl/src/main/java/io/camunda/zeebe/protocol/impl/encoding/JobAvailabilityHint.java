@@ -0,0 +1,214 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import io.camunda.zeebe.protocol.impl.Loggers;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Properties;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+
+/**
+ * A compact, bloom filter like summary of the job types which have activatable jobs on a single
+ * partition. The partition leader publishes it via the member properties, which are gossiped to
+ * all other members, and gateways use it to skip partitions which cannot have jobs of a given type
+ * when activating jobs.
+ *
+ * <p>The summary may contain false positives (e.g. two job types sharing the same bits), but no
+ * false negatives for the job types which were added to it.
+ */
+public final class JobAvailabilityHint {
+
+  private static final Logger LOG = Loggers.PROTOCOL_LOGGER;
+
+  private static final String PROPERTY_NAME_PREFIX = "jobAvailability-";
+  private static final int BIT_COUNT = 1024;
+  private static final int WORD_COUNT = BIT_COUNT / Long.SIZE;
+  private static final int HASH_COUNT = 3;
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final long[] words;
+
+  public JobAvailabilityHint() {
+    this(new long[WORD_COUNT]);
+  }
+
+  private JobAvailabilityHint(final long[] words) {
+    this.words = words;
+  }
+
+  /**
+   * Adds the given job type to the summary.
+   *
+   * @return true if the summary changed, false if the job type was (possibly) already contained
+   */
+  public boolean add(final DirectBuffer jobType) {
+    final byte[] bytes = new byte[jobType.capacity()];
+    jobType.getBytes(0, bytes);
+    return add(bytes);
+  }
+
+  /**
+   * Adds the given job type to the summary.
+   *
+   * @return true if the summary changed, false if the job type was (possibly) already contained
+   */
+  public boolean add(final String jobType) {
+    return add(jobType.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return false if the partition has definitely no activatable jobs of the given type, true if
+   *     it may have some
+   */
+  public boolean mightContain(final String jobType) {
+    final long hash = hash(jobType.getBytes(StandardCharsets.UTF_8));
+    for (int i = 0; i < HASH_COUNT; i++) {
+      final int bit = bitIndex(hash, i);
+      if ((words[bit / Long.SIZE] & (1L << (bit % Long.SIZE))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public boolean isEmpty() {
+    for (final long word : words) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public JobAvailabilityHint copy() {
+    return new JobAvailabilityHint(Arrays.copyOf(words, WORD_COUNT));
+  }
+
+  /** Writes this summary as the hint of the given partition into the member properties. */
+  public void writeIntoProperties(final Properties memberProperties, final int partitionId) {
+    final byte[] bytes = new byte[WORD_COUNT * Long.BYTES];
+    final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+    for (int i = 0; i < WORD_COUNT; i++) {
+      buffer.putLong(i * Long.BYTES, words[i], ByteOrder.BIG_ENDIAN);
+    }
+
+    memberProperties.setProperty(
+        PROPERTY_NAME_PREFIX + partitionId,
+        new String(Base64.getEncoder().encode(bytes), StandardCharsets.UTF_8));
+  }
+
+  /** Removes the hint of the given partition from the member properties, if any. */
+  public static void removeFromProperties(
+      final Properties memberProperties, final int partitionId) {
+    memberProperties.remove(PROPERTY_NAME_PREFIX + partitionId);
+  }
+
+  /**
+   * Reads all job availability hints from the given member properties.
+   *
+   * @return the hints indexed by partition id; partitions without a (valid) hint are omitted
+   */
+  public static Map<Integer, JobAvailabilityHint> readAllFromProperties(
+      final Properties memberProperties) {
+    final Int2ObjectHashMap<JobAvailabilityHint> hints = new Int2ObjectHashMap<>();
+    for (final String name : memberProperties.stringPropertyNames()) {
+      if (!name.startsWith(PROPERTY_NAME_PREFIX)) {
+        continue;
+      }
+
+      try {
+        final int partitionId = Integer.parseInt(name.substring(PROPERTY_NAME_PREFIX.length()));
+        final JobAvailabilityHint hint = readFromString(memberProperties.getProperty(name));
+        if (hint != null) {
+          hints.put(partitionId, hint);
+        }
+      } catch (final IllegalArgumentException e) {
+        LOG.debug("Failed to decode job availability hint from property '{}'", name, e);
+      }
+    }
+
+    return hints;
+  }
+
+  private static JobAvailabilityHint readFromString(final String property) {
+    final byte[] bytes = Base64.getDecoder().decode(property.getBytes(StandardCharsets.UTF_8));
+    if (bytes.length != WORD_COUNT * Long.BYTES) {
+      // published by a broker using a different layout; treat it as unknown
+      return null;
+    }
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+    final long[] words = new long[WORD_COUNT];
+    for (int i = 0; i < WORD_COUNT; i++) {
+      words[i] = buffer.getLong(i * Long.BYTES, ByteOrder.BIG_ENDIAN);
+    }
+    return new JobAvailabilityHint(words);
+  }
+
+  private boolean add(final byte[] jobType) {
+    final long hash = hash(jobType);
+    boolean changed = false;
+    for (int i = 0; i < HASH_COUNT; i++) {
+      final int bit = bitIndex(hash, i);
+      final int word = bit / Long.SIZE;
+      final long mask = 1L << (bit % Long.SIZE);
+      if ((words[word] & mask) == 0) {
+        words[word] |= mask;
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  /** 64-bit FNV-1a, which is stable across JVMs and versions, unlike {@link Object#hashCode()}. */
+  private static long hash(final byte[] bytes) {
+    long hash = FNV_OFFSET_BASIS;
+    for (final byte b : bytes) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /** Derives the i-th bit index by double hashing the lower and upper half of the hash. */
+  private static int bitIndex(final long hash, final int i) {
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32);
+    return Math.floorMod(h1 + i * h2, BIT_COUNT);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(words);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(words, ((JobAvailabilityHint) o).words);
+  }
+
+  @Override
+  public String toString() {
+    return "JobAvailabilityHint{bitsSet=" + Arrays.stream(words).map(Long::bitCount).sum() + '}';
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.impl.encoding.JobAvailabilityHint;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+final class JobAvailabilityHintTest {
+
+  @Test
+  void shouldContainAddedJobTypes() {
+    // given
+    final var hint = new JobAvailabilityHint();
+
+    // when
+    hint.add("foo");
+    hint.add(wrapString("bar"));
+
+    // then
+    assertThat(hint.mightContain("foo")).isTrue();
+    assertThat(hint.mightContain("bar")).isTrue();
+    assertThat(hint.isEmpty()).isFalse();
+  }
+
+  @Test
+  void shouldNotContainJobTypesOfEmptyHint() {
+    // given
+    final var hint = new JobAvailabilityHint();
+
+    // then
+    assertThat(hint.isEmpty()).isTrue();
+    assertThat(hint.mightContain("foo")).isFalse();
+  }
+
+  @Test
+  void shouldReportChangeOnlyForNewJobTypes() {
+    // given
+    final var hint = new JobAvailabilityHint();
+
+    // when
+    final var firstAdd = hint.add("foo");
+    final var secondAdd = hint.add(wrapString("foo"));
+
+    // then
+    assertThat(firstAdd).isTrue();
+    assertThat(secondAdd).isFalse();
+  }
+
+  @Test
+  void shouldWriteAndReadFromProperties() {
+    // given
+    final var properties = new Properties();
+    properties.setProperty("brokerInfo", "ignored");
+    final var first = new JobAvailabilityHint();
+    first.add("foo");
+    final var second = new JobAvailabilityHint();
+    second.add("bar");
+
+    // when
+    first.writeIntoProperties(properties, 1);
+    second.writeIntoProperties(properties, 2);
+    final var hints = JobAvailabilityHint.readAllFromProperties(properties);
+
+    // then
+    assertThat(hints).containsOnlyKeys(1, 2).containsEntry(1, first).containsEntry(2, second);
+  }
+
+  @Test
+  void shouldRemoveFromProperties() {
+    // given
+    final var properties = new Properties();
+    final var hint = new JobAvailabilityHint();
+    hint.add("foo");
+    hint.writeIntoProperties(properties, 1);
+
+    // when
+    JobAvailabilityHint.removeFromProperties(properties, 1);
+
+    // then
+    assertThat(JobAvailabilityHint.readAllFromProperties(properties)).isEmpty();
+  }
+
+  @Test
+  void shouldIgnoreMalformedProperties() {
+    // given
+    final var properties = new Properties();
+    properties.setProperty("jobAvailability-1", "not-base64!");
+    properties.setProperty("jobAvailability-foo", "AAAA");
+
+    // when
+    final var hints = JobAvailabilityHint.readAllFromProperties(properties);
+
+    // then
+    assertThat(hints).isEmpty();
+  }
+}
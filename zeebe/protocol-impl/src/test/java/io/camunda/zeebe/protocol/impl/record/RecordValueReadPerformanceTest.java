@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast the largest record values are read from their serialized form, as happens for
+ * every record during processing, replay and export.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class RecordValueReadPerformanceTest {
+  private static final DirectBuffer VARIABLES =
+      new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"foo\":\"bar\",\"baz\":[1,2,3]}"));
+
+  private final JobRecord jobRecord = new JobRecord();
+  private final UserTaskRecord userTaskRecord = new UserTaskRecord();
+  private final ProcessInstanceRecord processInstanceRecord = new ProcessInstanceRecord();
+
+  private DirectBuffer serializedJobRecord;
+  private DirectBuffer serializedUserTaskRecord;
+  private DirectBuffer serializedProcessInstanceRecord;
+
+  @Setup
+  public void setup() {
+    serializedJobRecord =
+        serialize(
+            new JobRecord()
+                .setType("payment")
+                .setWorker("payment-worker")
+                .setBpmnProcessId("order-process")
+                .setElementId("charge-credit-card")
+                .setVariables(VARIABLES));
+    serializedUserTaskRecord =
+        serialize(
+            new UserTaskRecord()
+                .setAssignee("demo")
+                .setCandidateGroupsList(List.of("sales", "accounting"))
+                .setBpmnProcessId("order-process")
+                .setElementId("review-order")
+                .setVariables(VARIABLES));
+    serializedProcessInstanceRecord =
+        serialize(
+            new ProcessInstanceRecord()
+                .setBpmnProcessId("order-process")
+                .setElementId("charge-credit-card")
+                .setProcessInstanceKey(1L));
+  }
+
+  @JMHTest("readJobRecord")
+  void shouldReadJobRecord(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("readUserTaskRecord")
+  void shouldReadUserTaskRecord(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 700_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("readProcessInstanceRecord")
+  void shouldReadProcessInstanceRecord(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public JobRecord readJobRecord() {
+    jobRecord.wrap(serializedJobRecord);
+    return jobRecord;
+  }
+
+  @Benchmark
+  public UserTaskRecord readUserTaskRecord() {
+    userTaskRecord.wrap(serializedUserTaskRecord);
+    return userTaskRecord;
+  }
+
+  @Benchmark
+  public ProcessInstanceRecord readProcessInstanceRecord() {
+    processInstanceRecord.wrap(serializedProcessInstanceRecord);
+    return processInstanceRecord;
+  }
+
+  private static DirectBuffer serialize(final UnpackedObject record) {
+    final var buffer = new UnsafeBuffer(new byte[record.getLength()]);
+    record.write(buffer, 0);
+    return buffer;
+  }
+}
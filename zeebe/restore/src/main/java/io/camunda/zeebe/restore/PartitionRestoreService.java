@@ -15,6 +15,7 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
+import io.camunda.zeebe.backup.metrics.BackupManagerMetrics;
 import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
@@ -27,6 +28,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +46,7 @@ public class PartitionRestoreService {
   private final RaftPartition partition;
   private final int brokerId;
   private final CRC32CChecksumProvider checksumProvider;
+  private final BackupManagerMetrics metrics;
 
   public PartitionRestoreService(
       final BackupStore backupStore,
@@ -56,6 +59,7 @@ public class PartitionRestoreService {
     this.partition = partition;
     this.brokerId = brokerId;
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
+    metrics = new BackupManagerMetrics(partitionId);
   }
 
   /**
@@ -213,7 +217,15 @@ public class PartitionRestoreService {
         .thenCompose(
             backup -> {
               LOG.info("Downloading backup {} to {}", backup, tempRestoringDirectory);
-              return backupStore.restore(backup, tempRestoringDirectory);
+              final var startTime = System.nanoTime();
+              return backupStore
+                  .restore(backup, tempRestoringDirectory)
+                  .thenApply(
+                      restored -> {
+                        metrics.observeBackupRestored(
+                            restored, Duration.ofNanos(System.nanoTime() - startTime));
+                        return restored;
+                      });
             });
   }
 
@@ -8,6 +8,9 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +33,30 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Returns the chunks of an already persisted snapshot which could be reused for this snapshot,
+   * by chunk name and checksum. The sender can skip the chunks which are identical in its
+   * snapshot, and announce them via {@link #reuse(Collection)} instead.
+   *
+   * @return the reusable chunks by name and checksum; empty if nothing can be reused
+   */
+  default ActorFuture<Map<String, Long>> reusableChunks() {
+    return CompletableActorFuture.completed(Map.of());
+  }
+
+  /**
+   * Takes over the given chunks, which were offered by {@link #reusableChunks()}, from the
+   * persisted snapshot they belong to. In case of failure, the future will be completed with a
+   * SnapshotWriteException.
+   *
+   * @param chunkNames the names of the chunks which were not sent because they can be reused
+   */
+  default ActorFuture<Void> reuse(final Collection<String> chunkNames) {
+    if (chunkNames.isEmpty()) {
+      return CompletableActorFuture.completed(null);
+    }
+    return CompletableActorFuture.completedExceptionally(
+        new UnsupportedOperationException("Expected to reuse chunks, but this is not supported"));
+  }
 }
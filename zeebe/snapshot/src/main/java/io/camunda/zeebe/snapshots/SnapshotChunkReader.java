@@ -10,6 +10,10 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -19,6 +23,33 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
 
   void reset();
 
+  /**
+   * Reads the next chunk like {@link #next()}, but on the given executor, such that the calling
+   * thread does not block on reading it. The reader advances right away: {@link #hasNext()} and
+   * {@link #nextId()} already refer to the chunk after it, which can be read before this read is
+   * completed. Reads of the same reader complete in the order in which they were started.
+   *
+   * <p>The content of the chunk may be held in a buffer which the reader reuses for its next read,
+   * so it is only valid while the given function runs, which must copy what it needs.
+   *
+   * <p>By default, the chunk is read on the calling thread, and only the function runs on the
+   * executor.
+   *
+   * @param executor the executor on which the chunk is read and mapped
+   * @param mapper maps the chunk, e.g. by serializing it
+   * @return a future which completes with the mapped chunk, or fails if it could not be read
+   */
+  default <T> CompletableFuture<T> nextAsync(
+      final Executor executor, final Function<SnapshotChunk, T> mapper) {
+    final SnapshotChunk chunk;
+    try {
+      chunk = next();
+    } catch (final RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return CompletableFuture.supplyAsync(() -> mapper.apply(chunk), executor);
+  }
+
   /**
    * Skips all chunks up to the one with the given ID, inclusively, such that the next chunk would
    * be the chunk right after it (if any). If no ID is given then should not do anything.
@@ -41,4 +72,20 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Excludes the given chunks from the remaining chunks, e.g. because the receiver already has
+   * identical ones. Chunks which were already read, or which were already announced via {@link
+   * #nextId()}, are not excluded, since the receiver may already expect them.
+   *
+   * @param chunkNames the names of the chunks to exclude
+   */
+  default void skip(final Set<String> chunkNames) {}
+
+  /**
+   * @return the names of all chunks which were excluded via {@link #skip(Set)}
+   */
+  default Set<String> skippedChunks() {
+    return Set.of();
+  }
 }
@@ -14,13 +14,19 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotId;
+import io.camunda.zeebe.snapshots.SnapshotReservation;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +46,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private PersistedSnapshot reusableSnapshot;
+  private SnapshotReservation reusableSnapshotReservation;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -115,6 +123,120 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Offers the files of the latest persisted snapshot for reuse. Files with equal name and checksum
+   * in the sender's snapshot don't have to be transferred, since snapshot files are immutable.
+   *
+   * <p>The offered snapshot is reserved, such that it's not deleted while its files may still be
+   * reused; the reservation is released once this snapshot is persisted or aborted.
+   */
+  @Override
+  public ActorFuture<Map<String, Long>> reusableChunks() {
+    final CompletableActorFuture<Map<String, Long>> future = new CompletableActorFuture<>();
+    actor.run(
+        () -> {
+          releaseReusableSnapshot();
+          final var latestSnapshot = snapshotStore.getLatestSnapshot().orElse(null);
+          if (latestSnapshot == null) {
+            future.complete(Map.of());
+            return;
+          }
+
+          actor.runOnCompletion(
+              latestSnapshot.reserve(),
+              (reservation, error) -> {
+                if (error != null) {
+                  // the snapshot was deleted in the meantime, so there is nothing to reuse
+                  LOGGER.debug(
+                      "Failed to reserve snapshot {} for reuse", latestSnapshot.getId(), error);
+                  future.complete(Map.of());
+                  return;
+                }
+
+                reusableSnapshot = latestSnapshot;
+                reusableSnapshotReservation = reservation;
+
+                final var reusableChunks =
+                    new HashMap<>(latestSnapshot.getChecksums().getChecksums());
+                // the metadata is specific to each snapshot
+                reusableChunks.remove(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+                future.complete(reusableChunks);
+              });
+        });
+    return future;
+  }
+
+  @Override
+  public ActorFuture<Void> reuse(final Collection<String> chunkNames) {
+    return actor.call(
+        () -> {
+          reuseInternal(chunkNames);
+          return null;
+        });
+  }
+
+  private void reuseInternal(final Collection<String> chunkNames) throws SnapshotWriteException {
+    if (chunkNames.isEmpty() || snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
+      return;
+    }
+
+    if (reusableSnapshot == null) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse chunks %s for snapshot %s, but no snapshot was offered for reuse",
+              chunkNames, snapshotId));
+    }
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    final var checksums = reusableSnapshot.getChecksums().getChecksums();
+    for (final var chunkName : chunkNames) {
+      final Long checksum = checksums.get(chunkName);
+      if (checksum == null) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse chunk %s from snapshot %s, but it has no such chunk",
+                chunkName, reusableSnapshot.getId()));
+      }
+
+      final var source = reusableSnapshot.getPath().resolve(chunkName);
+      final var target = directory.resolve(chunkName);
+      linkOrCopy(source, target);
+      checksumCollection.updateFromChecksum(target, checksum);
+    }
+
+    LOGGER.debug(
+        "Reused {} chunks of snapshot {} for snapshot {}",
+        chunkNames.size(),
+        reusableSnapshot.getId(),
+        snapshotId);
+  }
+
+  private void linkOrCopy(final Path source, final Path target) throws SnapshotWriteException {
+    try {
+      Files.deleteIfExists(target);
+      Files.createLink(target, source);
+    } catch (final UnsupportedOperationException | IOException linkError) {
+      LOGGER.trace("Failed to link {} to {}, copying it instead", target, source, linkError);
+      try {
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        FileUtil.flush(target);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse snapshot file %s as %s", source, target), e);
+      }
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
@@ -227,7 +349,23 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return directory;
   }
 
+  /**
+   * Releases the snapshot offered for reuse, if any. Once released, it may be deleted with the next
+   * persisted snapshot.
+   */
+  private ActorFuture<Void> releaseReusableSnapshot() {
+    final var reservation = reusableSnapshotReservation;
+    reusableSnapshot = null;
+    reusableSnapshotReservation = null;
+    if (reservation == null) {
+      return CompletableActorFuture.completed(null);
+    }
+
+    return reservation.release();
+  }
+
   private void abortInternal() {
+    releaseReusableSnapshot();
     try {
       LOGGER.debug("Aborting received snapshot in dir {}", directory);
       FileUtil.deleteFolderIfExists(directory);
@@ -239,6 +377,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void persistInternal(final CompletableActorFuture<PersistedSnapshot> future) {
+    // all reused files were linked or copied already; releasing the reused snapshot first allows
+    // the store to delete it together with the other older snapshots once this one is persisted
+    actor.runOnCompletion(
+        releaseReusableSnapshot(), (ok, error) -> persistReleasedSnapshot(future));
+  }
+
+  private void persistReleasedSnapshot(final CompletableActorFuture<PersistedSnapshot> future) {
     if (snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
       abortInternal();
       future.complete(snapshotStore.getLatestSnapshot().orElseThrow());
@@ -9,23 +9,41 @@ package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>Chunks are read with positional reads from a channel which is kept open until all chunks of
+ * the file were read, so splitting a large file into many chunks does not reopen it for each one.
+ * The sizes of all files are collected up front, so that the reader can advance to the next chunk
+ * without any I/O, while the chunk itself may be read asynchronously via {@link
+ * #nextAsync(Executor, Function)}. Asynchronous reads run one after another, and reuse the same
+ * buffer for all chunks of the same size.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> fileSizes = new HashMap<>();
+  private final Set<String> skippedChunks = new TreeSet<>();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -33,6 +51,12 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final String snapshotID;
   private long maximumChunkSize;
 
+  // only accessed by reads, which never run concurrently
+  private String currentFileName;
+  private FileChannel currentFile;
+  private byte[] readBuffer;
+  private CompletableFuture<?> pendingRead = CompletableFuture.completedFuture(null);
+
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
     this(directory, Long.MAX_VALUE);
   }
@@ -52,7 +76,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
     final var set = new TreeSet<>(CharSequence::compare);
     try (final var stream = Files.list(directory).sorted()) {
-      stream.map(directory::relativize).map(Path::toString).forEach(set::add);
+      for (final var file : stream.toList()) {
+        final var fileName = directory.relativize(file).toString();
+        set.add(fileName);
+        fileSizes.put(fileName, Files.size(file));
+      }
     }
     return set;
   }
@@ -89,10 +117,37 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void skip(final Set<String> chunkNames) {
+    if (chunksView.isEmpty()) {
+      return;
+    }
+
+    // the next chunk may already be announced to the receiver, so only later ones can be skipped
+    final var nextChunk = chunksView.first();
+    for (final var chunkName : chunkNames) {
+      if (CharSequence.compare(chunkName, nextChunk) <= 0) {
+        continue;
+      }
+
+      if (chunks.remove(chunkName)) {
+        chunksView.remove(chunkName);
+        skippedChunks.add(chunkName);
+      }
+    }
+  }
+
+  @Override
+  public Set<String> skippedChunks() {
+    return Collections.unmodifiableSet(skippedChunks);
+  }
+
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    // reads which are still pending may use the current file
+    pendingRead.whenComplete((ignored, error) -> closeCurrentFile());
   }
 
   @Override
@@ -102,27 +157,107 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
+    final var position = advance();
+    return read(position, new byte[position.length()]);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> nextAsync(
+      final Executor executor, final Function<SnapshotChunk, T> mapper) {
+    final var position = advance();
+    final var read =
+        pendingRead.handleAsync(
+            (ignored, previousError) -> mapper.apply(read(position, readBuffer(position))),
+            executor);
+    pendingRead = read;
+    return read;
+  }
+
+  /** Moves on to the next chunk, and returns the position of the chunk it moved past. */
+  private ChunkPosition advance() {
     final var fileName = chunksView.first().toString();
-    final var filePath = directory.resolve(fileName).toString();
+    final long fileLength = fileSizes.get(fileName);
+    final var position =
+        new ChunkPosition(
+            fileName, offset, (int) Math.min(maximumChunkSize, fileLength - offset), fileLength);
 
-    try (final var file = new RandomAccessFile(filePath, "r")) {
-      final var fileLength = file.length();
-      final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
-      final byte[] buffer = new byte[(int) bytesToRead];
-      file.seek(offset);
-      file.readFully(buffer);
-
-      final var fileBlockPosition = offset;
-      offset += bytesToRead;
-      if (offset == fileLength) {
-        offset = 0;
-        chunksView.pollFirst();
+    offset += position.length();
+    if (offset == fileLength) {
+      offset = 0;
+      chunksView.pollFirst();
+    }
+    return position;
+  }
+
+  private SnapshotChunk read(final ChunkPosition position, final byte[] buffer) {
+    try {
+      final var file = openFile(position.fileName());
+      readFully(file, ByteBuffer.wrap(buffer), position.offset());
+      if (position.offset() + position.length() == position.fileLength()) {
+        closeCurrentFile();
       }
 
       return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
-          snapshotID, totalCount, fileName, buffer, fileBlockPosition, fileLength);
+          snapshotID,
+          totalCount,
+          position.fileName(),
+          buffer,
+          position.offset(),
+          position.fileLength());
     } catch (final IOException e) {
+      closeCurrentFile();
       throw new UncheckedIOException(e);
     }
   }
+
+  private byte[] readBuffer(final ChunkPosition position) {
+    // all but the last chunk of a file have the same size, so the buffer is mostly reused
+    if (readBuffer == null || readBuffer.length != position.length()) {
+      readBuffer = new byte[position.length()];
+    }
+    return readBuffer;
+  }
+
+  private FileChannel openFile(final String fileName) throws IOException {
+    if (fileName.equals(currentFileName)) {
+      return currentFile;
+    }
+
+    closeCurrentFile();
+    final var filePath = directory.resolve(fileName).toString();
+    // closing the channel also closes the file
+    @SuppressWarnings("resource")
+    final var file = new RandomAccessFile(filePath, "r").getChannel();
+    currentFile = file;
+    currentFileName = fileName;
+    return file;
+  }
+
+  private static void readFully(final FileChannel file, final ByteBuffer buffer, final long offset)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (file.read(buffer, offset + buffer.position()) < 0) {
+        throw new EOFException(
+            "Expected to read %d bytes at offset %d, but reached the end of the file"
+                .formatted(buffer.limit(), offset));
+      }
+    }
+  }
+
+  private void closeCurrentFile() {
+    if (currentFile == null) {
+      return;
+    }
+
+    try {
+      currentFile.close();
+    } catch (final IOException ignored) {
+      // the file is only read, so there is nothing which could be lost
+    } finally {
+      currentFile = null;
+      currentFileName = null;
+    }
+  }
+
+  private record ChunkPosition(String fileName, long offset, int length, long fileLength) {}
 }
@@ -26,8 +26,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
@@ -348,6 +352,120 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseIdenticalChunksOfLatestSnapshot() throws IOException {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var reusableChunks = receivedSnapshot.reusableChunks().join();
+    final var senderChecksums = persistedSnapshot.getChecksums().getChecksums();
+    final var identicalChunks =
+        reusableChunks.entrySet().stream()
+            .filter(e -> e.getValue().equals(senderChecksums.get(e.getKey())))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+
+    final Set<String> skippedChunks;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      // the first chunk is always sent, since the receiver only offers chunks in response to it
+      snapshotChunkReader.skip(identicalChunks);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+      skippedChunks = Set.copyOf(snapshotChunkReader.skippedChunks());
+    }
+    receivedSnapshot.reuse(skippedChunks).join();
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(reusableChunks)
+        .containsOnlyKeys(SNAPSHOT_FILE_CONTENTS.keySet().toArray(String[]::new));
+    assertThat(skippedChunks).containsExactly("file2");
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file2"))
+        .hasBinaryContent(Files.readAllBytes(persistedSnapshot.getPath().resolve("file2")));
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .containsEntry("file2", senderChecksums.get("file2"));
+  }
+
+  @Test
+  public void shouldNotReuseChunksWhichWereNotOffered() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when - then
+    assertThatCode(() -> receivedSnapshot.reuse(List.of("file2")).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class)
+        .hasMessageContaining("no snapshot was offered for reuse");
+  }
+
+  @Test
+  public void shouldReserveSnapshotOfferedForReuse() {
+    // given
+    final var latestSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(takePersistedSnapshot(2L).getId()).join();
+
+    // when
+    receivedSnapshot.reusableChunks().join();
+
+    // then
+    assertThat(latestSnapshot.isReserved()).isTrue();
+  }
+
+  @Test
+  public void shouldReleaseSnapshotOfferedForReuseOnPersist() {
+    // given
+    final var latestSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var receivedSnapshot = receiveSnapshot(takePersistedSnapshot(2L));
+    receivedSnapshot.reusableChunks().join();
+
+    // when
+    receivedSnapshot.persist().join();
+
+    // then
+    assertThat(latestSnapshot.isReserved()).isFalse();
+    assertThat(latestSnapshot.getPath()).doesNotExist();
+  }
+
+  @Test
+  public void shouldReleaseSnapshotOfferedForReuseOnAbort() {
+    // given
+    final var latestSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(takePersistedSnapshot(2L).getId()).join();
+    receivedSnapshot.reusableChunks().join();
+
+    // when
+    receivedSnapshot.abort().join();
+
+    // then
+    assertThat(latestSnapshot.isReserved()).isFalse();
+    assertThat(latestSnapshot.getPath()).exists();
+  }
+
+  @Test
+  public void shouldNotDeleteSnapshotOfferedForReuseWhenNewerSnapshotIsPersisted() {
+    // given
+    final var latestSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(takePersistedSnapshot(3L).getId()).join();
+    receivedSnapshot.reusableChunks().join();
+
+    // when
+    receiveSnapshot(takePersistedSnapshot(2L)).persist().join();
+
+    // then
+    assertThat(latestSnapshot.getPath()).exists();
+    assertThat(receivedSnapshot.reuse(List.of("file2"))).succeedsWithin(Duration.ofSeconds(5));
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
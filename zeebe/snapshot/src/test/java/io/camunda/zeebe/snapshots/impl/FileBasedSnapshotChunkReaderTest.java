@@ -19,13 +19,18 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.junit.Rule;
@@ -164,6 +169,66 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
   }
 
+  @Test
+  public void shouldSkipChunks() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+
+      // when
+      snapshotChunkReader.skip(Set.of("file3", "unknown"));
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+
+      // then
+      assertThat(snapshotChunkReader.skippedChunks()).containsExactly("file3");
+    }
+    assertThat(snapshotChunkIds).containsExactly("file1", "file2");
+  }
+
+  @Test
+  public void shouldNotSkipAlreadyAnnouncedChunks() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+
+      // when
+      snapshotChunkReader.skip(Set.of("file1", "file2"));
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+
+      // then
+      assertThat(snapshotChunkReader.skippedChunks()).isEmpty();
+    }
+    assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
+  }
+
+  @Test
+  public void shouldKeepSkippedChunksOnReset() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.next();
+      snapshotChunkReader.skip(Set.of("file3"));
+
+      // when
+      snapshotChunkReader.reset();
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file1", "file2");
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
@@ -178,6 +243,75 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThatThrownBy(snapshotChunkReader::next).isInstanceOf(NoSuchElementException.class);
   }
 
+  @Test
+  public void shouldReadChunksAsynchronously() throws IOException {
+    // given
+    final var reader = newReader(3);
+    final var expectedChunks = getAllChunks(newReader(3));
+    final var futures = new ArrayList<CompletableFuture<ChunkContent>>();
+
+    // when
+    while (reader.hasNext()) {
+      futures.add(
+          reader.nextAsync(
+              Runnable::run,
+              chunk ->
+                  new ChunkContent(
+                      chunk.getChunkName(),
+                      chunk.getFileBlockPosition(),
+                      chunk.getContent().clone())));
+    }
+
+    // then
+    assertThat(futures)
+        .map(CompletableFuture::join)
+        .containsExactlyElementsOf(
+            expectedChunks.stream()
+                .map(
+                    chunk ->
+                        new ChunkContent(
+                            chunk.getChunkName(),
+                            chunk.getFileBlockPosition(),
+                            chunk.getContent()))
+                .toList());
+  }
+
+  @Test
+  public void shouldAdvanceBeforeAsynchronousReadIsCompleted() throws IOException {
+    // given
+    final var reader = newReader();
+    final var executor = new ArrayList<Runnable>();
+
+    // when
+    final var read = reader.nextAsync(executor::add, SnapshotChunk::getChunkName);
+
+    // then
+    assertThat(read).isNotDone();
+    assertThat(reader.nextId()).isEqualTo(new SnapshotChunkId("file2", 0).id());
+
+    // when
+    executor.forEach(Runnable::run);
+
+    // then
+    assertThat(read).isCompletedWithValue("file1");
+  }
+
+  @Test
+  public void shouldFailAsynchronousReadWhenChunkFileDoesNotExist() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    Files.delete(snapshotDirectory.resolve("file1"));
+
+    // then
+    assertThat(reader.nextAsync(Runnable::run, SnapshotChunk::getChunkName))
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .havingRootCause()
+        .isInstanceOf(FileNotFoundException.class);
+  }
+
   @Test
   public void shouldSplitFileContentsIntoChunks() throws IOException {
     // given
@@ -342,6 +476,21 @@ public final class FileBasedSnapshotChunkReaderTest {
     return snapshotChunks;
   }
 
+  private record ChunkContent(String name, long position, byte[] content) {
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof final ChunkContent other
+          && name.equals(other.name)
+          && position == other.position
+          && Arrays.equals(content, other.content);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, position, Arrays.hashCode(content));
+    }
+  }
+
   private ByteBuffer asByteBuffer(final String string) {
     return ByteBuffer.wrap(string.getBytes()).order(Protocol.ENDIANNESS);
   }
@@ -351,8 +500,9 @@ public final class FileBasedSnapshotChunkReaderTest {
 
     for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
       final var path = snapshotDirectory.resolve(chunk);
-      Files.createFile(path);
-      Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
+      if (Files.notExists(path)) {
+        Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
+      }
     }
 
     return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize);
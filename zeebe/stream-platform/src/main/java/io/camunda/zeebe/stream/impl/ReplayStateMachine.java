@@ -308,9 +308,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   }
 
   private TypedRecord<?> readRecordValue(final LoggedEvent currentEvent) {
-    final UnifiedRecordValue value =
-        recordValues.readRecordValue(currentEvent, metadata.getValueType());
-    typedEvent.wrap(currentEvent, metadata, value);
+    // the value is only read if the applier needs it, many events don't change the state at all
+    final UnifiedRecordValue value = recordValues.getRecordValue(metadata.getValueType());
+    typedEvent.wrapLazily(currentEvent, metadata, value);
     return typedEvent;
   }
 
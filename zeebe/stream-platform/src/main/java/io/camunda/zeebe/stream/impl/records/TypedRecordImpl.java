@@ -26,6 +26,7 @@ public final class TypedRecordImpl implements TypedRecord {
   private LoggedEvent rawEvent;
   private RecordMetadata metadata;
   private UnifiedRecordValue value;
+  private boolean isValueRead;
 
   public TypedRecordImpl(final int partitionId) {
     this.partitionId = partitionId;
@@ -36,6 +37,22 @@ public final class TypedRecordImpl implements TypedRecord {
     this.rawEvent = rawEvent;
     this.metadata = metadata;
     this.value = value;
+    isValueRead = true;
+  }
+
+  /**
+   * Wraps the given event, but reads its value only on the first access. Use this when the record
+   * may be skipped based on its metadata alone, to avoid decoding values which are never used.
+   *
+   * <p>The given value instance is reset and read into on the first access, so it must not be
+   * shared with anything else until the next wrap. The raw event must stay valid until then too.
+   */
+  public void wrapLazily(
+      final LoggedEvent rawEvent, final RecordMetadata metadata, final UnifiedRecordValue value) {
+    this.rawEvent = rawEvent;
+    this.metadata = metadata;
+    this.value = value;
+    isValueRead = false;
   }
 
   @JsonIgnore
@@ -120,6 +137,11 @@ public final class TypedRecordImpl implements TypedRecord {
 
   @Override
   public UnifiedRecordValue getValue() {
+    if (!isValueRead && value != null) {
+      value.reset();
+      rawEvent.readValue(value);
+      isValueRead = true;
+    }
     return value;
   }
 
@@ -138,7 +160,7 @@ public final class TypedRecordImpl implements TypedRecord {
   @Override
   @JsonIgnore
   public int getLength() {
-    return metadata.getLength() + value.getLength();
+    return metadata.getLength() + getValue().getLength();
   }
 
   @Override
@@ -152,7 +174,7 @@ public final class TypedRecordImpl implements TypedRecord {
         + "metadata="
         + metadata
         + ", value="
-        + StringUtil.limitString(value.toString(), 1024)
+        + StringUtil.limitString(getValue().toString(), 1024)
         + '}';
   }
 }
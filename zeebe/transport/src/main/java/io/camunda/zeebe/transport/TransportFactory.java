@@ -14,6 +14,7 @@ import io.camunda.zeebe.transport.impl.AtomixClientTransportAdapter;
 import io.camunda.zeebe.transport.impl.AtomixServerTransport;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.ClientStreamService;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchingConfig;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamService;
@@ -56,9 +57,24 @@ public final class TransportFactory {
       final Function<DirectBuffer, M> metadataFactory,
       final RemoteStreamErrorHandler<P> errorHandler,
       final RemoteStreamMetrics metrics) {
+    return createRemoteStreamServer(
+        clusterCommunicationService,
+        metadataFactory,
+        errorHandler,
+        metrics,
+        RemoteStreamBatchingConfig.disabled());
+  }
+
+  public <M, P extends BufferWriter> RemoteStreamService<M, P> createRemoteStreamServer(
+      final ClusterCommunicationService clusterCommunicationService,
+      final Function<DirectBuffer, M> metadataFactory,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamBatchingConfig batching) {
     final RemoteStreamRegistry<M> registry = new RemoteStreamRegistry<>(metrics);
     return new RemoteStreamServiceImpl<>(
-        new RemoteStreamerImpl<>(clusterCommunicationService, registry, errorHandler, metrics),
+        new RemoteStreamerImpl<>(
+            clusterCommunicationService, registry, errorHandler, metrics, batching),
         new RemoteStreamTransport<>(
             clusterCommunicationService, new RemoteStreamApiHandler<>(registry, metadataFactory)),
         registry);
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.transport.stream.api;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 /**
@@ -25,4 +27,46 @@ public interface ClientStreamConsumer {
    * @param payload the data to be consumed by the client
    */
   ActorFuture<Void> push(DirectBuffer payload);
+
+  /**
+   * Consumes several payloads which were pushed together, e.g. to forward them to the client in a
+   * single message. Unlike {@link #push(DirectBuffer)} for each payload, the batch is consumed as a
+   * whole: if the returned future fails, none of the payloads was consumed.
+   *
+   * <p>Only called if {@link #acceptsBatches()} returns true.
+   *
+   * @param payloads the data to be consumed by the client, in order
+   */
+  default ActorFuture<Void> pushBatch(final List<DirectBuffer> payloads) {
+    return CompletableActorFuture.completedExceptionally(
+        new UnsupportedOperationException(
+            "Expected to push a batch of %d payloads, but the consumer does not accept batches"
+                .formatted(payloads.size())));
+  }
+
+  /**
+   * @return true if this consumer can consume several payloads at once via {@link
+   *     #pushBatch(List)}
+   */
+  default boolean acceptsBatches() {
+    return false;
+  }
+
+  /**
+   * Returns how many more payloads this consumer is willing to accept, i.e. its remaining credits.
+   * Pushers prefer consumers with more credits, and skip consumers without any. Consumers which
+   * don't track their capacity have unlimited credits.
+   *
+   * @return the remaining credits, or {@link Integer#MAX_VALUE} if unlimited
+   */
+  default int availableCredits() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * @return the count of payloads pushed to this consumer which were not processed yet, if tracked
+   */
+  default int inFlight() {
+    return 0;
+  }
 }
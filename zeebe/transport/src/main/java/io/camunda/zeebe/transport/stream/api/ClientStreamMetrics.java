@@ -40,6 +40,21 @@ public interface ClientStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /**
+   * Invoked after a payload was pushed to a client with limited credits, with the credits which
+   * remain afterwards. The expected implementation is a histogram.
+   */
+  default void observeClientCredits(final int credits) {}
+
+  /**
+   * Invoked after a payload was pushed to a client, with the count of payloads which are in flight
+   * for that client. The expected implementation is a histogram.
+   */
+  default void observeClientInFlight(final int inFlight) {}
+
+  /** Invoked when a payload could not be pushed because no client had any credits left */
+  default void pushSkippedWithoutCredits() {}
+
   static ClientStreamMetrics noop() {
     return new ClientStreamMetrics() {};
   }
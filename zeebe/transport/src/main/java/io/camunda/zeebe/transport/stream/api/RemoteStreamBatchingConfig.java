@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures how payloads pushed to the same remote stream consumer are batched into a single
+ * request. A batch is sent out as soon as it reaches either of the limits, or once the linger time
+ * has elapsed since its first payload was added.
+ *
+ * <p>Batching requires the receivers to understand batched push requests; it's therefore disabled
+ * by default, i.e. with a {@code maxCount} of 1 every payload is sent on its own.
+ *
+ * @param maxCount the maximum number of payloads in a single batch, at most {@link #MAX_COUNT}
+ * @param maxBytes the size in bytes after which a batch is sent out, regardless of its count
+ * @param linger how long to wait for more payloads before sending out an incomplete batch; with
+ *     zero, only payloads which were pushed while the batch was already pending are batched
+ */
+public record RemoteStreamBatchingConfig(int maxCount, int maxBytes, Duration linger) {
+
+  /** Failed payloads of a batch are reported by their index, which is encoded as uint16. */
+  public static final int MAX_COUNT = 65_535;
+
+  private static final RemoteStreamBatchingConfig DISABLED =
+      new RemoteStreamBatchingConfig(1, Integer.MAX_VALUE, Duration.ZERO);
+
+  public RemoteStreamBatchingConfig {
+    Objects.requireNonNull(linger, "must specify a linger time");
+    if (maxCount < 1) {
+      throw new IllegalArgumentException(
+          "Expected the max batch count to be at least 1, but got %d".formatted(maxCount));
+    }
+
+    if (maxCount > MAX_COUNT) {
+      throw new IllegalArgumentException(
+          "Expected the max batch count to be at most %d, but got %d"
+              .formatted(MAX_COUNT, maxCount));
+    }
+
+    if (maxBytes < 1) {
+      throw new IllegalArgumentException(
+          "Expected the max batch size to be at least 1 byte, but got %d".formatted(maxBytes));
+    }
+
+    if (linger.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected the batch linger time to be positive or zero, but got %s".formatted(linger));
+    }
+  }
+
+  public boolean isEnabled() {
+    return maxCount > 1;
+  }
+
+  public static RemoteStreamBatchingConfig disabled() {
+    return DISABLED;
+  }
+}
@@ -30,6 +30,13 @@ public interface RemoteStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /**
+   * Invoked when multiple payloads are sent out to a stream with a single request
+   *
+   * @param size the count of payloads in the batch
+   */
+  default void pushBatchSent(final int size) {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
@@ -11,9 +11,13 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponse;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.collections.ArrayUtil;
@@ -38,6 +42,48 @@ final class ClientStreamApiHandler {
     return responseFuture;
   }
 
+  /**
+   * Pushes the payloads of the batch, as a whole to a client which accepts batches if possible, and
+   * responds once all of them were either pushed or failed. The response only lists the failed
+   * payloads, such that the sender can retry or handle them without affecting the ones which were
+   * delivered.
+   */
+  CompletableFuture<StreamResponse> handlePushBatchRequest(final PushStreamBatchRequest request) {
+    final CompletableFuture<StreamResponse> responseFuture = new CompletableFuture<>();
+    final var payloads = request.payloads();
+    if (payloads.isEmpty()) {
+      responseFuture.complete(new PushStreamBatchResponse());
+      return responseFuture;
+    }
+
+    final List<ActorFuture<Void>> payloadsPushed = new ArrayList<>(payloads.size());
+    for (int i = 0; i < payloads.size(); i++) {
+      payloadsPushed.add(new CompletableActorFuture<>());
+    }
+
+    final var response = new PushStreamBatchResponse();
+    final var pending = new int[] {payloads.size()};
+    clientStreamManager.onPayloadsReceived(request.streamId(), payloads, payloadsPushed);
+    for (int i = 0; i < payloadsPushed.size(); i++) {
+      final var index = i;
+      payloadsPushed
+          .get(i)
+          .onComplete(
+              (ok, error) -> {
+                if (error != null) {
+                  response.addFailure(index, toErrorResponse(error));
+                }
+
+                if (--pending[0] == 0) {
+                  responseFuture.complete(response);
+                }
+              },
+              executor);
+    }
+
+    return responseFuture;
+  }
+
   byte[] handleRestartRequest(final MemberId sender, final byte[] ignored) {
     clientStreamManager.onServerRemoved(MemberId.from(sender.id()));
     clientStreamManager.onServerJoined(MemberId.from(sender.id()));
@@ -51,12 +97,16 @@ final class ClientStreamApiHandler {
       return;
     }
 
+    response.complete(toErrorResponse(error));
+  }
+
+  private static ErrorResponse toErrorResponse(final Throwable error) {
     final var errorResponse =
         new ErrorResponse().code(ErrorResponse.mapErrorToCode(error)).message(error.getMessage());
     for (final var detail : error.getSuppressed()) {
       errorResponse.addDetail(ErrorResponse.mapErrorToCode(detail), detail.getMessage());
     }
 
-    response.complete(errorResponse);
+    return errorResponse;
   }
 }
@@ -16,7 +16,9 @@ import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -88,25 +90,51 @@ final class ClientStreamManager<M extends BufferWriter> {
 
   public void onPayloadReceived(
       final PushStreamRequest pushStreamRequest, final ActorFuture<Void> responseFuture) {
-    final var streamId = pushStreamRequest.streamId();
-    final var payload = pushStreamRequest.payload();
+    onPayloadsReceived(
+        pushStreamRequest.streamId(),
+        List.of(pushStreamRequest.payload()),
+        List.of(responseFuture));
+  }
 
-    responseFuture.onComplete(
-        (ok, error) -> {
-          if (error != null) {
-            metrics.pushFailed();
-          } else {
-            metrics.pushSucceeded();
-          }
-        });
+  /**
+   * Pushes the given payloads to the stream, completing the response future at the same index once
+   * the respective payload was pushed or failed to be pushed. Several payloads are forwarded as a
+   * single batch to a client which accepts batches, if possible, and independently otherwise.
+   */
+  public void onPayloadsReceived(
+      final UUID streamId,
+      final List<DirectBuffer> payloads,
+      final List<ActorFuture<Void>> responseFutures) {
+    responseFutures.forEach(
+        responseFuture ->
+            responseFuture.onComplete(
+                (ok, error) -> {
+                  if (error != null) {
+                    metrics.pushFailed();
+                  } else {
+                    metrics.pushSucceeded();
+                  }
+                }));
 
     final var clientStream = registry.get(streamId);
     clientStream.ifPresentOrElse(
         stream -> {
-          try {
-            streamPusher.push(stream, payload, responseFuture);
-          } catch (final Exception e) {
-            responseFuture.completeExceptionally(e);
+          if (payloads.size() > 1) {
+            try {
+              streamPusher.pushBatch(stream, payloads, responseFutures);
+            } catch (final Exception e) {
+              responseFutures.forEach(responseFuture -> responseFuture.completeExceptionally(e));
+            }
+            return;
+          }
+
+          for (int i = 0; i < payloads.size(); i++) {
+            final var responseFuture = responseFutures.get(i);
+            try {
+              streamPusher.push(stream, payloads.get(i), responseFuture);
+            } catch (final Exception e) {
+              responseFuture.completeExceptionally(e);
+            }
           }
         },
         () -> {
@@ -115,10 +143,11 @@ final class ClientStreamManager<M extends BufferWriter> {
           // we do not retry. Otherwise, it is possible that we send it multiple times unnecessary.
           requestManager.removeUnreliable(streamId, servers);
           LOG.warn("Expected to push payload to stream {}, but no stream found.", streamId);
-          responseFuture.completeExceptionally(
+          final var error =
               new NoSuchStreamException(
                   "Cannot forward pushed payload as chosen client stream %s was already closed"
-                      .formatted(streamId)));
+                      .formatted(streamId));
+          responseFutures.forEach(responseFuture -> responseFuture.completeExceptionally(error));
         });
   }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.transport.stream.impl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
 import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
@@ -18,6 +19,7 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -29,6 +31,15 @@ import org.slf4j.LoggerFactory;
 /**
  * Handles forwarding pushed payloads to aggregated client streams. It will try each underlying
  * stream once until either one succeeds or it exhausts all of them.
+ *
+ * <p>Streams are tried in order of their remaining credits (see {@link
+ * ClientStreamConsumer#availableCredits()}), such that payloads go to the least busy clients first;
+ * streams with equal credits are tried in random order. Streams without any credits are skipped,
+ * and if no stream has credits left, the push fails with a {@link ClientStreamBlockedException},
+ * which lets the server fall back to other clients or to polling.
+ *
+ * <p>Payloads which were pushed together can be forwarded as a whole to a single client which
+ * accepts batches, see {@link #pushBatch(AggregatedClientStream, List, List)}.
  */
 final class ClientStreamPusher {
   private static final Logger LOGGER = LoggerFactory.getLogger(ClientStreamPusher.class);
@@ -70,29 +81,114 @@ final class ClientStreamPusher {
       return;
     }
 
-    final LinkedList<ClientStreamImpl<?>> targets = new LinkedList<>(streams);
-    Collections.shuffle(targets);
+    final List<ClientStreamImpl<?>> candidates = new ArrayList<>(streams);
+    Collections.shuffle(candidates);
 
+    // credits are read once per stream, as they may change concurrently while sorting
+    final LinkedList<Target> targets = new LinkedList<>();
+    for (final var candidate : candidates) {
+      final int credits = availableCredits(candidate);
+      if (credits > 0) {
+        targets.add(new Target(candidate, credits));
+      }
+    }
+
+    if (targets.isEmpty()) {
+      metrics.pushSkippedWithoutCredits();
+      future.completeExceptionally(
+          new ClientStreamBlockedException(
+              "Cannot forward remote payload as none of the %d client streams of aggregated stream %s has credits left"
+                  .formatted(candidates.size(), stream.logicalId())));
+      return;
+    }
+
+    // a stable sort keeps the random order of streams with the same credits
+    targets.sort(Comparator.comparingInt(Target::credits).reversed());
     tryPush(stream.streamId(), targets, payload, future, new ArrayList<>());
   }
 
+  /**
+   * Pushes the given payloads as a single batch to any of the stream's clients which accepts
+   * batches and has enough credits for all of them. If there is no such client, or all of them
+   * failed, each payload is pushed on its own as with {@link #push(AggregatedClientStream,
+   * DirectBuffer, ActorFuture)}.
+   *
+   * @param stream the stream to push to
+   * @param payloads the payloads to push
+   * @param futures the futures to complete for each payload, at the same index
+   */
+  void pushBatch(
+      final AggregatedClientStream<?> stream,
+      final List<DirectBuffer> payloads,
+      final List<ActorFuture<Void>> futures) {
+    final List<ClientStreamImpl<?>> candidates = new ArrayList<>(stream.clientStreams().values());
+    Collections.shuffle(candidates);
+
+    final LinkedList<Target> targets = new LinkedList<>();
+    for (final var candidate : candidates) {
+      final int credits = availableCredits(candidate);
+      if (credits >= payloads.size() && acceptsBatches(candidate)) {
+        targets.add(new Target(candidate, credits));
+      }
+    }
+
+    targets.sort(Comparator.comparingInt(Target::credits).reversed());
+    tryPushBatch(stream, targets, payloads, futures);
+  }
+
+  private void tryPushBatch(
+      final AggregatedClientStream<?> stream,
+      final Queue<Target> targets,
+      final List<DirectBuffer> payloads,
+      final List<ActorFuture<Void>> futures) {
+    final var target = targets.poll();
+    if (target == null) {
+      for (int i = 0; i < payloads.size(); i++) {
+        push(stream, payloads.get(i), futures.get(i));
+      }
+      return;
+    }
+
+    final var clientStream = target.stream();
+    LOGGER.trace(
+        "Pushing batch of {} payloads from stream [{}] to client [{}]",
+        payloads.size(),
+        stream.streamId(),
+        clientStream.streamId());
+    pushBatch(clientStream, payloads)
+        .onComplete(
+            (ok, pushFailed) -> {
+              if (pushFailed == null) {
+                observeClientLoad(clientStream.clientStreamConsumer());
+                futures.forEach(future -> future.complete(null));
+                return;
+              }
+
+              logFailedPush(pushFailed, clientStream);
+              metrics.pushTryFailed(ErrorResponse.mapErrorToCode(pushFailed));
+              tryPushBatch(stream, targets, payloads, futures);
+            });
+  }
+
   private void tryPush(
       final UUID streamId,
-      final Queue<ClientStreamImpl<?>> targets,
+      final Queue<Target> targets,
       final DirectBuffer buffer,
       final ActorFuture<Void> future,
       final List<Throwable> errors) {
-    final var clientStream = targets.poll();
-    if (clientStream == null) {
+    final var target = targets.poll();
+    if (target == null) {
       failOnStreamExhausted(future, errors);
       return;
     }
 
+    final var clientStream = target.stream();
     LOGGER.trace("Pushing data from stream [{}] to client [{}]", streamId, clientStream.streamId());
     push(clientStream, buffer)
         .onComplete(
             (ok, pushFailed) -> {
               if (pushFailed == null) {
+                observeClientLoad(clientStream.clientStreamConsumer());
                 future.complete(null);
                 return;
               }
@@ -104,6 +200,32 @@ final class ClientStreamPusher {
             });
   }
 
+  private int availableCredits(final ClientStreamImpl<?> stream) {
+    try {
+      return stream.clientStreamConsumer().availableCredits();
+    } catch (final Exception e) {
+      LOGGER.debug("Failed to get available credits of client [{}]", stream.streamId(), e);
+      return 0;
+    }
+  }
+
+  private boolean acceptsBatches(final ClientStreamImpl<?> stream) {
+    try {
+      return stream.clientStreamConsumer().acceptsBatches();
+    } catch (final Exception e) {
+      LOGGER.debug("Failed to check if client [{}] accepts batches", stream.streamId(), e);
+      return false;
+    }
+  }
+
+  private void observeClientLoad(final ClientStreamConsumer consumer) {
+    final int credits = consumer.availableCredits();
+    if (credits != Integer.MAX_VALUE) {
+      metrics.observeClientCredits(credits);
+    }
+    metrics.observeClientInFlight(consumer.inFlight());
+  }
+
   private ActorFuture<Void> push(final ClientStreamImpl<?> stream, final DirectBuffer payload) {
     try {
       return stream.clientStreamConsumer().push(payload);
@@ -112,6 +234,15 @@ final class ClientStreamPusher {
     }
   }
 
+  private ActorFuture<Void> pushBatch(
+      final ClientStreamImpl<?> stream, final List<DirectBuffer> payloads) {
+    try {
+      return stream.clientStreamConsumer().pushBatch(payloads);
+    } catch (final Exception e) {
+      return CompletableActorFuture.completedExceptionally(e);
+    }
+  }
+
   private void failOnStreamExhausted(final ActorFuture<Void> future, final List<Throwable> errors) {
     final StreamExhaustedException error =
         new StreamExhaustedException(
@@ -131,4 +262,6 @@ final class ClientStreamPusher {
           pushFailed);
     }
   }
+
+  private record Target(ClientStreamImpl<?> stream, int credits) {}
 }
@@ -14,7 +14,9 @@ import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsu
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,25 +58,31 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     streamer.pushAsync(payload, retryHandler, initialConsumer.id());
   }
 
+  /**
+   * Picks the consumer with the fewest pushes in flight, i.e. the least loaded one; ties are broken
+   * randomly so the load is still spread evenly between idle consumers.
+   */
   private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
+    // take a snapshot, as the consumers may be modified concurrently while we're picking one
+    final List<StreamConsumer<M>> consumers = List.copyOf(stream.streamConsumers());
+    if (consumers.isEmpty()) {
+      return null;
+    }
+
+    final var random = ThreadLocalRandom.current();
+    final int offset = random.nextInt(consumers.size());
+    StreamConsumer<M> leastLoaded = null;
+    int leastInFlight = Integer.MAX_VALUE;
+    for (int i = 0; i < consumers.size(); i++) {
+      final var consumer = consumers.get((offset + i) % consumers.size());
+      final int inFlight = streamer.inFlight(consumer.id());
+      if (inFlight < leastInFlight) {
+        leastLoaded = consumer;
+        leastInFlight = inFlight;
       }
     }
 
-    return null;
+    return leastLoaded;
   }
 
   private final class RetryHandler implements RemoteStreamErrorHandler<P> {
@@ -98,6 +106,7 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
 
       consumers.remove(initialConsumer);
       Collections.shuffle(consumers);
+      consumers.sort(Comparator.comparingInt(consumer -> streamer.inFlight(consumer.id())));
       final var iterator = consumers.iterator();
       retry(error, data, iterator);
     }
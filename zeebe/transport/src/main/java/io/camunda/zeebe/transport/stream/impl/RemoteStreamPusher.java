@@ -8,19 +8,27 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchingConfig;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +37,13 @@ import org.slf4j.LoggerFactory;
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>It keeps track of the pushes which are in flight per stream, i.e. which were not acknowledged
+ * yet, such that callers can prefer the least loaded streams.
+ *
+ * <p>If batching is enabled, payloads pushed to the same stream are collected and sent out with a
+ * single request, bounded by the {@link RemoteStreamBatchingConfig}. The receiver reports failures
+ * per payload, so only the payloads which could not be pushed are reported to their error handler.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
@@ -38,15 +53,36 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private final ThrottledLogger pushErrorLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
   private final ThrottledLogger pushWarnLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
+  private final Map<StreamId, Integer> inFlight = new ConcurrentHashMap<>();
+  // only accessed from the executor
+  private final Map<StreamId, PendingBatch<P>> pendingBatches = new HashMap<>();
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final Scheduler scheduler;
+  private final RemoteStreamBatchingConfig batching;
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(
+        transport,
+        executor,
+        (delay, task) -> executor.execute(task),
+        metrics,
+        RemoteStreamBatchingConfig.disabled());
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final Scheduler scheduler,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamBatchingConfig batching) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+    this.scheduler = Objects.requireNonNull(scheduler, "must provide a scheduler");
+    this.batching = Objects.requireNonNull(batching, "must specify a batching configuration");
   }
 
   public void pushAsync(
@@ -55,13 +91,82 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
+      acquire(streamId);
       executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+          () -> enqueue(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
     } catch (final Exception e) {
+      release(streamId, 1);
       errorHandler.handleError(e, payload);
     }
   }
 
+  /**
+   * Sends out all pending batches right away, e.g. when shutting down. Must be called from the
+   * executor.
+   */
+  void flushAll() {
+    for (final var entry : List.copyOf(pendingBatches.entrySet())) {
+      flush(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * @return the count of pushes to the given stream which were not acknowledged yet
+   */
+  int inFlight(final StreamId streamId) {
+    return inFlight.getOrDefault(streamId, 0);
+  }
+
+  private void acquire(final StreamId streamId) {
+    inFlight.merge(streamId, 1, Integer::sum);
+  }
+
+  private void release(final StreamId streamId, final int pushes) {
+    // drop the entry when nothing is in flight anymore, so removed streams don't leak
+    inFlight.computeIfPresent(streamId, (id, count) -> count > pushes ? count - pushes : null);
+  }
+
+  private void enqueue(
+      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    if (!batching.isEnabled()) {
+      push(payload, errorHandler, streamId);
+      return;
+    }
+
+    final var length = payload.getLength();
+    var batch = pendingBatches.get(streamId);
+    if (batch != null && batch.bytes + length > batching.maxBytes()) {
+      flush(streamId, batch);
+      batch = null;
+    }
+
+    if (batch == null) {
+      final var newBatch = new PendingBatch<P>();
+      pendingBatches.put(streamId, newBatch);
+      scheduler.schedule(batching.linger(), () -> flush(streamId, newBatch));
+      batch = newBatch;
+    }
+
+    batch.add(payload, length, errorHandler);
+    if (batch.payloads.size() >= batching.maxCount() || batch.bytes >= batching.maxBytes()) {
+      flush(streamId, batch);
+    }
+  }
+
+  private void flush(final StreamId streamId, final PendingBatch<P> batch) {
+    // the batch may have already been sent out, e.g. because it was full before it timed out
+    if (!pendingBatches.remove(streamId, batch)) {
+      return;
+    }
+
+    // single payloads are sent as a regular push, which every receiver understands
+    if (batch.payloads.size() == 1) {
+      push(batch.payloads.getFirst(), batch.errorHandlers.getFirst(), streamId);
+    } else {
+      pushBatch(batch, streamId);
+    }
+  }
+
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
       final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
     return (error, payload) -> {
@@ -110,13 +215,71 @@ final class RemoteStreamPusher<P extends BufferWriter> {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> {
+                release(streamId, 1);
+                onPush(payload, errorHandler, response, error);
+              },
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
+      release(streamId, 1);
       errorHandler.handleError(e, payload);
     }
   }
 
+  private void pushBatch(final PendingBatch<P> batch, final StreamId streamId) {
+    final var size = batch.payloads.size();
+    final var request = new PushStreamBatchRequest().streamId(streamId.streamId());
+    batch.payloads.forEach(request::addPayload);
+
+    try {
+      transport
+          .sendBatch(request, streamId.receiver())
+          .whenCompleteAsync(
+              (response, error) -> {
+                release(streamId, size);
+                onPushBatch(batch, response, error);
+              },
+              executor);
+      metrics.pushBatchSent(size);
+      LOG.trace("Pushed batch of {} payloads to stream {}", size, streamId);
+    } catch (final Exception e) {
+      release(streamId, size);
+      batch.fail(e);
+    }
+  }
+
+  private void onPushBatch(
+      final PendingBatch<P> batch, final byte[] responseBuffer, final Throwable error) {
+    if (error != null) {
+      batch.fail(error);
+      return;
+    }
+
+    responseDecoder
+        .decode(responseBuffer, new PushStreamBatchResponse())
+        .ifRightOrLeft(
+            response -> onBatchPushed(batch, response),
+            failure -> batch.fail(failure.asException()));
+  }
+
+  private void onBatchPushed(final PendingBatch<P> batch, final PushStreamBatchResponse response) {
+    final var failures = new Throwable[batch.payloads.size()];
+    for (final var failure : response.failures()) {
+      if (failure.index() < failures.length) {
+        failures[failure.index()] = failure.error().asException();
+      }
+    }
+
+    for (int i = 0; i < failures.length; i++) {
+      if (failures[i] == null) {
+        metrics.pushSucceeded();
+      } else {
+        batch.errorHandlers.get(i).handleError(failures[i], batch.payloads.get(i));
+      }
+    }
+  }
+
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
@@ -153,5 +316,48 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      */
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
+
+    /**
+     * Sends the given batch request out to the given receiver. May throw errors, e.g.
+     * serialization errors.
+     *
+     * @param request the batch request to send
+     * @param receiver the expected target
+     * @return a future which is completed when the request has been acknowledged by the receiver,
+     *     or an error occurred
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception;
+  }
+
+  /** Schedules tasks on the pusher's executor, used to send out batches after their linger time */
+  @FunctionalInterface
+  interface Scheduler {
+
+    /**
+     * Runs the given task on the executor after the given delay. A zero delay should run the task
+     * after any task which was already submitted to the executor.
+     */
+    void schedule(final Duration delay, final Runnable task);
+  }
+
+  private static final class PendingBatch<P extends BufferWriter> {
+    private final List<P> payloads = new ArrayList<>();
+    private final List<RemoteStreamErrorHandler<P>> errorHandlers = new ArrayList<>();
+    private int bytes;
+
+    private void add(
+        final P payload, final int length, final RemoteStreamErrorHandler<P> errorHandler) {
+      payloads.add(payload);
+      errorHandlers.add(errorHandler);
+      bytes += length;
+    }
+
+    private void fail(final Throwable error) {
+      for (int i = 0; i < payloads.size(); i++) {
+        errorHandlers.get(i).handleError(error, payloads.get(i));
+      }
+    }
   }
 }
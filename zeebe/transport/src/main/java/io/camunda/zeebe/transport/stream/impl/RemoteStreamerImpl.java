@@ -11,9 +11,11 @@ import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchingConfig;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -52,11 +54,28 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
       final ImmutableStreamRegistry<M> registry,
       final RemoteStreamErrorHandler<P> errorHandler,
       final RemoteStreamMetrics metrics) {
+    this(transport, registry, errorHandler, metrics, RemoteStreamBatchingConfig.disabled());
+  }
+
+  public RemoteStreamerImpl(
+      final ClusterCommunicationService transport,
+      final ImmutableStreamRegistry<M> registry,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamBatchingConfig batching) {
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher =
+        new RemoteStreamPusher<>(
+            new PushTransport(), actor::run, this::schedule, metrics, batching);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    // pending batches would otherwise never be sent, leaving their payloads unhandled
+    remoteStreamPusher.flushAll();
   }
 
   @Override
@@ -75,27 +94,73 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
         .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
   }
 
+  /**
+   * Picks the stream with the fewest pushes in flight over all of its consumers, such that work is
+   * directed to the least loaded streams; streams with the same load are picked randomly.
+   */
   private Optional<AggregatedRemoteStream<M>> pickStream(
       final Set<AggregatedRemoteStream<M>> consumers) {
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    AggregatedRemoteStream<M> leastLoaded = null;
+    int leastInFlight = Integer.MAX_VALUE;
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+      if (target.streamConsumers().isEmpty()) {
+        continue;
+      }
+
+      final int inFlight = inFlight(target);
+      if (inFlight < leastInFlight) {
+        leastLoaded = target;
+        leastInFlight = inFlight;
       }
     }
 
-    return Optional.empty();
+    return Optional.ofNullable(leastLoaded);
   }
 
-  private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
-    return transport.send(
-        StreamTopics.PUSH.topic(),
-        request,
-        BufferUtil::bufferAsArray,
-        Function.identity(),
-        receiver,
-        REQUEST_TIMEOUT);
+  private int inFlight(final AggregatedRemoteStream<M> stream) {
+    int inFlight = 0;
+    for (final var consumer : stream.streamConsumers()) {
+      inFlight += remoteStreamPusher.inFlight(consumer.id());
+    }
+    return inFlight;
+  }
+
+  private void schedule(final Duration delay, final Runnable task) {
+    // submitting queues the task after any pushes which are already waiting to be batched
+    if (delay.isZero()) {
+      actor.submit(task);
+    } else {
+      actor.schedule(delay, task);
+    }
+  }
+
+  private final class PushTransport implements RemoteStreamPusher.Transport {
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH_BATCH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
   }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class RemoteStreamBatchingConfigTest {
+
+  @Test
+  void shouldAcceptMaxCountWhichFitsIntoFailureIndex() {
+    // when
+    final var config =
+        new RemoteStreamBatchingConfig(
+            RemoteStreamBatchingConfig.MAX_COUNT, Integer.MAX_VALUE, Duration.ZERO);
+
+    // then
+    assertThat(config.isEnabled()).isTrue();
+  }
+
+  @Test
+  void shouldRejectMaxCountWhichExceedsFailureIndex() {
+    // when - then
+    assertThatCode(
+            () ->
+                new RemoteStreamBatchingConfig(
+                    RemoteStreamBatchingConfig.MAX_COUNT + 1, Integer.MAX_VALUE, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("at most 65535");
+  }
+}
@@ -8,10 +8,13 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
@@ -19,11 +22,19 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException.ErrorDetail;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Stream;
+import org.agrona.ExpandableArrayBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
@@ -77,6 +88,69 @@ final class ClientStreamApiHandlerTest {
         .containsExactly(testCase.code());
   }
 
+  @Test
+  void shouldOnlyReportFailedPayloadsOfBatch() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var request = batchRequest("foo", "bar", "baz");
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<ActorFuture<Void>>> payloadsPushed =
+        ArgumentCaptor.forClass(List.class);
+    doNothing()
+        .when(clientStreamManager)
+        .onPayloadsReceived(eq(request.streamId()), anyList(), payloadsPushed.capture());
+
+    // when
+    final var response = apiHandler.handlePushBatchRequest(request);
+    payloadsPushed.getValue().get(0).complete(null);
+    payloadsPushed.getValue().get(1).completeExceptionally(new ClientStreamBlockedException("no"));
+    payloadsPushed.getValue().get(2).complete(null);
+
+    // then
+    assertThat(response)
+        .succeedsWithin(Duration.ZERO)
+        .asInstanceOf(InstanceOfAssertFactories.type(PushStreamBatchResponse.class))
+        .extracting(PushStreamBatchResponse::failures, InstanceOfAssertFactories.LIST)
+        .singleElement()
+        .asInstanceOf(InstanceOfAssertFactories.type(PushStreamBatchResponse.Failure.class))
+        .returns(1, PushStreamBatchResponse.Failure::index)
+        .returns(ErrorCode.BLOCKED, f -> f.error().code());
+  }
+
+  @Test
+  void shouldRespondToBatchOnlyOnceAllPayloadsArePushed() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var request = batchRequest("foo", "bar");
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<ActorFuture<Void>>> payloadsPushed =
+        ArgumentCaptor.forClass(List.class);
+    doNothing()
+        .when(clientStreamManager)
+        .onPayloadsReceived(any(), anyList(), payloadsPushed.capture());
+
+    // when
+    final var response = apiHandler.handlePushBatchRequest(request);
+    payloadsPushed.getValue().getFirst().complete(null);
+
+    // then
+    assertThat(response).isNotDone();
+  }
+
+  private static PushStreamBatchRequest batchRequest(final String... payloads) {
+    final var request = new PushStreamBatchRequest().streamId(UUID.randomUUID());
+    for (final var payload : payloads) {
+      request.addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString(payload)));
+    }
+
+    // read it back, as the handler only deals with received requests
+    final var buffer = new ExpandableArrayBuffer();
+    request.write(buffer, 0);
+    final var received = new PushStreamBatchRequest();
+    received.wrap(buffer, 0, request.getLength());
+    return received;
+  }
+
   private static Stream<ExceptionErrorCase> provideExceptionToErrorMap() {
     return Stream.of(
         new ExceptionErrorCase(new StreamExhaustedException("failed"), ErrorCode.EXHAUSTED),
@@ -9,6 +9,7 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
@@ -25,6 +26,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -132,6 +134,44 @@ final class ClientStreamPusherTest {
         .containsExactlyInAnyOrderElementsOf(expected);
   }
 
+  @Test
+  void shouldPushToClientWithMostCredits() {
+    // given
+    final List<ClientStreamId> executedClients = new ArrayList<>();
+    addClientWithCredits(1, executedClients::add);
+    final var expected = addClientWithCredits(5, executedClients::add);
+    addClientWithCredits(3, executedClients::add);
+
+    // when
+    final TestActorFuture<Void> future = new TestActorFuture<>();
+    streamPusher.push(stream, null, future);
+
+    // then
+    assertThat(future).succeedsWithin(Duration.ofMillis(100));
+    assertThat(executedClients).containsExactly(expected);
+  }
+
+  @Test
+  void shouldNotPushToClientsWithoutCredits() {
+    // given
+    final List<ClientStreamId> executedClients = new ArrayList<>();
+    addClientWithCredits(0, executedClients::add);
+    addClientWithCredits(0, executedClients::add);
+
+    // when
+    final TestActorFuture<Void> future = new TestActorFuture<>();
+    streamPusher.push(stream, null, future);
+
+    // then
+    assertThat(future)
+        .failsWithin(Duration.ofMillis(100))
+        .withThrowableThat()
+        .havingCause()
+        .isInstanceOf(ClientStreamBlockedException.class);
+    assertThat(executedClients).isEmpty();
+    assertThat(metrics.getPushSkippedWithoutCredits()).isOne();
+  }
+
   @ParameterizedTest
   @MethodSource("provideExceptionToErrorMap")
   void shouldTrackFailedPushTry(final ExceptionErrorCase testCase) {
@@ -146,6 +186,79 @@ final class ClientStreamPusherTest {
     assertThat(metrics.getFailedPushTry(testCase.code)).isOne();
   }
 
+  @Test
+  void shouldPushBatchToClientWhichAcceptsBatches() {
+    // given
+    final List<DirectBuffer> payloads =
+        List.of(BufferUtil.wrapString("a"), BufferUtil.wrapString("b"));
+    final List<List<DirectBuffer>> batches = new ArrayList<>();
+    addBatchClient(Integer.MAX_VALUE, batches::add, null);
+    final List<ActorFuture<Void>> futures =
+        List.of(new TestActorFuture<>(), new TestActorFuture<>());
+
+    // when
+    streamPusher.pushBatch(stream, payloads, futures);
+
+    // then
+    assertThat(batches).containsExactly(payloads);
+    assertThat(futures).allSatisfy(future -> assertThat(future).succeedsWithin(Duration.ZERO));
+  }
+
+  @Test
+  void shouldPushPayloadsOnTheirOwnIfNoClientAcceptsBatches() {
+    // given
+    final List<DirectBuffer> payloads =
+        List.of(BufferUtil.wrapString("a"), BufferUtil.wrapString("b"));
+    final List<ClientStreamId> executedClients = new ArrayList<>();
+    final var client = addClientWithCredits(Integer.MAX_VALUE, executedClients::add);
+    final List<ActorFuture<Void>> futures =
+        List.of(new TestActorFuture<>(), new TestActorFuture<>());
+
+    // when
+    streamPusher.pushBatch(stream, payloads, futures);
+
+    // then
+    assertThat(executedClients).containsExactly(client, client);
+    assertThat(futures).allSatisfy(future -> assertThat(future).succeedsWithin(Duration.ZERO));
+  }
+
+  @Test
+  void shouldNotPushBatchToClientWithoutCreditsForAllPayloads() {
+    // given
+    final List<DirectBuffer> payloads =
+        List.of(BufferUtil.wrapString("a"), BufferUtil.wrapString("b"));
+    final List<List<DirectBuffer>> batches = new ArrayList<>();
+    addBatchClient(1, batches::add, null);
+    final List<ActorFuture<Void>> futures =
+        List.of(new TestActorFuture<>(), new TestActorFuture<>());
+
+    // when
+    streamPusher.pushBatch(stream, payloads, futures);
+
+    // then - each payload is pushed on its own, as a batch of one
+    assertThat(batches).containsExactly(List.of(payloads.get(0)), List.of(payloads.get(1)));
+  }
+
+  @Test
+  void shouldPushPayloadsOnTheirOwnIfBatchPushFails() {
+    // given
+    final List<DirectBuffer> payloads =
+        List.of(BufferUtil.wrapString("a"), BufferUtil.wrapString("b"));
+    addBatchClient(2, ignored -> {}, new ClientStreamBlockedException("blocked"));
+    final List<ClientStreamId> executedClients = new ArrayList<>();
+    final var client = addClientWithCredits(Integer.MAX_VALUE, executedClients::add);
+    final List<ActorFuture<Void>> futures =
+        List.of(new TestActorFuture<>(), new TestActorFuture<>());
+
+    // when
+    streamPusher.pushBatch(stream, payloads, futures);
+
+    // then
+    assertThat(executedClients).containsExactly(client, client);
+    assertThat(futures).allSatisfy(future -> assertThat(future).succeedsWithin(Duration.ZERO));
+    assertThat(metrics.getFailedPushTry(ErrorCode.BLOCKED)).isOne();
+  }
+
   private ClientStreamIdImpl getNextStreamId() {
     return new ClientStreamIdImpl(stream.streamId(), stream.nextLocalId());
   }
@@ -167,6 +280,62 @@ final class ClientStreamPusherTest {
     return streamId;
   }
 
+  private ClientStreamId addClientWithCredits(
+      final int credits, final Consumer<ClientStreamId> consumer) {
+    final ClientStreamIdImpl streamId = getNextStreamId();
+    addClient(
+        streamId,
+        new ClientStreamConsumer() {
+          @Override
+          public ActorFuture<Void> push(final DirectBuffer payload) {
+            consumer.accept(streamId);
+            return CompletableActorFuture.completed(null);
+          }
+
+          @Override
+          public int availableCredits() {
+            return credits;
+          }
+        });
+    return streamId;
+  }
+
+  /**
+   * Adds a client which accepts batches; single payloads are pushed to it as batches of one. If a
+   * failure is given, pushing a batch of several payloads fails with it.
+   */
+  private void addBatchClient(
+      final int credits, final Consumer<List<DirectBuffer>> consumer, final Throwable failure) {
+    addClient(
+        getNextStreamId(),
+        new ClientStreamConsumer() {
+          @Override
+          public ActorFuture<Void> push(final DirectBuffer payload) {
+            return pushBatch(List.of(payload));
+          }
+
+          @Override
+          public ActorFuture<Void> pushBatch(final List<DirectBuffer> payloads) {
+            if (failure != null && payloads.size() > 1) {
+              return CompletableActorFuture.completedExceptionally(failure);
+            }
+
+            consumer.accept(payloads);
+            return CompletableActorFuture.completed(null);
+          }
+
+          @Override
+          public boolean acceptsBatches() {
+            return true;
+          }
+
+          @Override
+          public int availableCredits() {
+            return credits;
+          }
+        });
+  }
+
   private void addClient(final ClientStreamIdImpl streamId, final ClientStreamConsumer consumer) {
     stream.addClient(new ClientStreamImpl<>(streamId, stream, streamType, metadata, consumer));
   }
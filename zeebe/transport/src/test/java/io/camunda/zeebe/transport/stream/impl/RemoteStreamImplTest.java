@@ -16,6 +16,7 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -119,5 +120,12 @@ class RemoteStreamImplTest {
       }
       return CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
     }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return CompletableFuture.failedFuture(
+          new UnsupportedOperationException("batching is disabled"));
+    }
   }
 }
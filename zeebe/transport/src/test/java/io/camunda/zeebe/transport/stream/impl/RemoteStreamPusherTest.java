@@ -11,22 +11,27 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamBatchingConfig;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.MutableDirectBuffer;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.condition.VerboseCondition;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -40,6 +45,14 @@ final class RemoteStreamPusherTest {
   private final TestRemoteStreamMetrics metrics = new TestRemoteStreamMetrics();
   private final RemoteStreamPusher<Payload> pusher =
       new RemoteStreamPusher<>(transport, executor, metrics);
+  private final List<Runnable> scheduledTasks = new ArrayList<>();
+  private final RemoteStreamPusher<Payload> batchingPusher =
+      new RemoteStreamPusher<>(
+          transport,
+          executor,
+          (delay, task) -> scheduledTasks.add(task),
+          metrics,
+          new RemoteStreamBatchingConfig(3, 1024, Duration.ofMillis(5)));
 
   @Test
   void shouldPushPayload() {
@@ -149,6 +162,130 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Test
+  void shouldPushBatchOnceFull() {
+    // given
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+
+    // when
+    payloads.forEach(payload -> batchingPusher.pushAsync(payload, errorHandler, streamId));
+
+    // then
+    assertThat(transport.message).isNull();
+    assertThat(transport.batches).hasSize(1);
+    final var sentBatch = transport.batches.getFirst();
+    assertThat(sentBatch.request.streamId()).isEqualTo(streamId.streamId());
+    assertThat(sentBatch.request.payloadWriters()).containsExactlyElementsOf(payloads);
+    assertThat(sentBatch.receiver).isEqualTo(streamId.receiver());
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(metrics.getPushSucceeded()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldPushPendingBatchAfterLinger() {
+    // given
+    final var errorHandler = new TestErrorHandler();
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+
+    // when
+    scheduledTasks.forEach(Runnable::run);
+
+    // then
+    assertThat(transport.batches)
+        .singleElement()
+        .extracting(batch -> batch.request.payloadWriters())
+        .isEqualTo(List.of(new Payload(1), new Payload(2)));
+  }
+
+  @Test
+  void shouldPushBatchOnceMaxBytesReached() {
+    // given
+    final var errorHandler = new TestErrorHandler();
+    final var pusher =
+        new RemoteStreamPusher<Payload>(
+            transport,
+            executor,
+            (delay, task) -> scheduledTasks.add(task),
+            metrics,
+            new RemoteStreamBatchingConfig(10, 2 * Integer.BYTES, Duration.ofMillis(5)));
+
+    // when
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+    pusher.pushAsync(new Payload(2), errorHandler, streamId);
+
+    // then
+    assertThat(transport.batches)
+        .singleElement()
+        .extracting(batch -> batch.request.size())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldPushSinglePayloadAsRegularRequest() {
+    // given
+    final var payload = new Payload(1);
+    final var errorHandler = new TestErrorHandler();
+    batchingPusher.pushAsync(payload, errorHandler, streamId);
+
+    // when
+    scheduledTasks.forEach(Runnable::run);
+
+    // then
+    assertThat(transport.batches).isEmpty();
+    assertThat(transport.message).isNotNull();
+    assertThat(transport.message.request.payloadWriter()).isEqualTo(payload);
+  }
+
+  @Test
+  void shouldOnlyReportFailedPayloadsOfBatch() {
+    // given
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+    final var response =
+        new PushStreamBatchResponse()
+            .addFailure(1, new ErrorResponse().code(ErrorCode.BLOCKED).message("blocked"));
+    transport.batchResponse = CompletableFuture.completedFuture(BufferUtil.bufferAsArray(response));
+
+    // when
+    payloads.forEach(payload -> batchingPusher.pushAsync(payload, errorHandler, streamId));
+
+    // then
+    assertThat(errorHandler.errors)
+        .singleElement()
+        .satisfies(
+            error -> {
+              assertThat(error.payload()).isEqualTo(new Payload(2));
+              assertThat(error.error())
+                  .asInstanceOf(InstanceOfAssertFactories.type(StreamResponseException.class))
+                  .returns(ErrorCode.BLOCKED, StreamResponseException::code);
+            });
+    assertThat(metrics.getPushSucceeded()).isEqualTo(2);
+    assertThat(metrics.getPushFailed()).isOne();
+  }
+
+  @Test
+  void shouldReportAllPayloadsOfBatchOnTransportError() {
+    // given
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+    final var failure = new RuntimeException("Async failure");
+    transport.batchResponse = CompletableFuture.failedFuture(failure);
+
+    // when
+    payloads.forEach(payload -> batchingPusher.pushAsync(payload, errorHandler, streamId));
+
+    // then
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::payload)
+        .containsExactlyElementsOf(payloads);
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::error)
+        .containsOnly(failure);
+    assertThat(batchingPusher.inFlight(streamId)).isZero();
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -179,6 +316,9 @@ final class RemoteStreamPusherTest {
   private static final class TestTransport implements Transport {
     private CompletableFuture<byte[]> response =
         CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+    private CompletableFuture<byte[]> batchResponse =
+        CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
+    private final List<BatchMessage> batches = new ArrayList<>();
     private Message message;
     private Exception synchronousException;
 
@@ -193,6 +333,19 @@ final class RemoteStreamPusherTest {
       return response;
     }
 
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
+      if (synchronousException != null) {
+        throw synchronousException;
+      }
+
+      batches.add(new BatchMessage(request, receiver));
+      return batchResponse;
+    }
+
     private record Message(PushStreamRequest request, MemberId receiver) {}
+
+    private record BatchMessage(PushStreamBatchRequest request, MemberId receiver) {}
   }
 }
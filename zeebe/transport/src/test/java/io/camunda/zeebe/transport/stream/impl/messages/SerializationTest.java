@@ -140,6 +140,58 @@ final class SerializationTest {
         .doesNotThrowAnyException();
   }
 
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("bar")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.streamId()).isEqualTo(streamId);
+    assertThat(deserialized.payloads())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+    assertThat(deserialized.getLength()).isEqualTo(request.getLength());
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var response =
+        new PushStreamBatchResponse()
+            .addFailure(
+                1,
+                new ErrorResponse()
+                    .code(ErrorCode.BLOCKED)
+                    .message("Stream is blocked")
+                    .addDetail(ErrorCode.NOT_FOUND, "Stream not found"))
+            .addFailure(3, new ErrorResponse().code(ErrorCode.INTERNAL).message("failure"));
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.failures())
+        .extracting(
+            PushStreamBatchResponse.Failure::index,
+            f -> f.error().code(),
+            f -> f.error().message(),
+            f -> f.error().details().size())
+        .containsExactly(
+            Tuple.tuple(1, ErrorCode.BLOCKED, "Stream is blocked", 1),
+            Tuple.tuple(3, ErrorCode.INTERNAL, "failure", 0));
+  }
+
   @Test
   void shouldSerializeErrorResponse() {
     // given